@@ -0,0 +1,10 @@
+package co.kirikiri.common.cache;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationBus {
+
+    void publish(final CacheInvalidationMessage message);
+
+    void subscribe(final Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,12 @@
+package co.kirikiri.common.cache;
+
+public record CacheInvalidationMessage(
+        String originId,
+        String cacheName,
+        Object key
+) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
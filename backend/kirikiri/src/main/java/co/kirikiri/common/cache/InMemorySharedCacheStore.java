@@ -0,0 +1,46 @@
+package co.kirikiri.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Cache<Object, Object>> stores = new ConcurrentHashMap<>();
+    private final long maximumSize;
+    private final Duration timeToLive;
+
+    public InMemorySharedCacheStore(final long maximumSize, final Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Object get(final String cacheName, final Object key) {
+        return findStore(cacheName).getIfPresent(key);
+    }
+
+    @Override
+    public void put(final String cacheName, final Object key, final Object value) {
+        findStore(cacheName).put(key, value);
+    }
+
+    @Override
+    public void evict(final String cacheName, final Object key) {
+        findStore(cacheName).invalidate(key);
+    }
+
+    @Override
+    public void clear(final String cacheName) {
+        findStore(cacheName).invalidateAll();
+    }
+
+    private Cache<Object, Object> findStore(final String cacheName) {
+        return stores.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build());
+    }
+}
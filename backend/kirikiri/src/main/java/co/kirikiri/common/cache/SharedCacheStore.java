@@ -0,0 +1,12 @@
+package co.kirikiri.common.cache;
+
+public interface SharedCacheStore {
+
+    Object get(final String cacheName, final Object key);
+
+    void put(final String cacheName, final Object key, final Object value);
+
+    void evict(final String cacheName, final Object key);
+
+    void clear(final String cacheName);
+}
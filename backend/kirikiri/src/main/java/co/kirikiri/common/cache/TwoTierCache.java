@@ -0,0 +1,127 @@
+package co.kirikiri.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final String SHARED_GETS_METRIC = "cache.shared.gets";
+
+    private final String name;
+    private final String nodeId;
+    private final Cache<Object, Object> nearCache;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Counter sharedHitCounter;
+    private final Counter sharedMissCounter;
+
+    public TwoTierCache(final String name, final String nodeId, final Cache<Object, Object> nearCache,
+                        final SharedCacheStore sharedCacheStore, final CacheInvalidationBus cacheInvalidationBus,
+                        final MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.nodeId = nodeId;
+        this.nearCache = nearCache;
+        this.sharedCacheStore = sharedCacheStore;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.sharedHitCounter = makeSharedGetsCounter(meterRegistry, "hit");
+        this.sharedMissCounter = makeSharedGetsCounter(meterRegistry, "miss");
+    }
+
+    private Counter makeSharedGetsCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(SHARED_GETS_METRIC)
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        final Object nearValue = nearCache.getIfPresent(key);
+        if (nearValue != null) {
+            return nearValue;
+        }
+        final Object sharedValue = findSharedValue(key);
+        if (sharedValue != null) {
+            nearCache.put(key, sharedValue);
+        }
+        return sharedValue;
+    }
+
+    private Object findSharedValue(final Object key) {
+        final Object sharedValue = sharedCacheStore.get(name, key);
+        if (sharedValue == null) {
+            sharedMissCounter.increment();
+            return null;
+        }
+        sharedHitCounter.increment();
+        return sharedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        return (T) fromStoreValue(nearCache.get(key, ignored -> loadValue(key, valueLoader)));
+    }
+
+    private Object loadValue(final Object key, final Callable<?> valueLoader) {
+        final Object sharedValue = findSharedValue(key);
+        if (sharedValue != null) {
+            return sharedValue;
+        }
+        final Object storeValue = toStoreValue(callValueLoader(key, valueLoader));
+        sharedCacheStore.put(name, key, storeValue);
+        return storeValue;
+    }
+
+    private Object callValueLoader(final Object key, final Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (final Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        final Object storeValue = toStoreValue(value);
+        sharedCacheStore.put(name, key, storeValue);
+        nearCache.put(key, storeValue);
+        cacheInvalidationBus.publish(new CacheInvalidationMessage(nodeId, name, key));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        sharedCacheStore.evict(name, key);
+        nearCache.invalidate(key);
+        cacheInvalidationBus.publish(new CacheInvalidationMessage(nodeId, name, key));
+    }
+
+    @Override
+    public void clear() {
+        sharedCacheStore.clear(name);
+        nearCache.invalidateAll();
+        cacheInvalidationBus.publish(new CacheInvalidationMessage(nodeId, name, null));
+    }
+
+    public void invalidateNearCache(final CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            nearCache.invalidateAll();
+            return;
+        }
+        nearCache.invalidate(message.key());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nearCache;
+    }
+}
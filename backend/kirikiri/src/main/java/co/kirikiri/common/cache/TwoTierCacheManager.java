@@ -0,0 +1,66 @@
+package co.kirikiri.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.CacheManager;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final long nearCacheMaximumSize;
+    private final Duration nearCacheTimeToLive;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(final long nearCacheMaximumSize, final Duration nearCacheTimeToLive,
+                               final SharedCacheStore sharedCacheStore,
+                               final CacheInvalidationBus cacheInvalidationBus,
+                               final MeterRegistry meterRegistry) {
+        this.nearCacheMaximumSize = nearCacheMaximumSize;
+        this.nearCacheTimeToLive = nearCacheTimeToLive;
+        this.sharedCacheStore = sharedCacheStore;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.meterRegistry = meterRegistry;
+        cacheInvalidationBus.subscribe(this::handleInvalidation);
+    }
+
+    @Override
+    public TwoTierCache getCache(final String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    private TwoTierCache createCache(final String name) {
+        final Cache<Object, Object> nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTimeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, name);
+        return new TwoTierCache(name, nodeId, nearCache, sharedCacheStore, cacheInvalidationBus, meterRegistry);
+    }
+
+    private void handleInvalidation(final CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originId())) {
+            return;
+        }
+        final TwoTierCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            cache.invalidateNearCache(message);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
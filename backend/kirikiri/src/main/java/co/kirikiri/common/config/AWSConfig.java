@@ -1,25 +1,41 @@
 package co.kirikiri.common.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
 public class AWSConfig {
 
     private final Regions region;
+    private final int connectionTimeout;
+    private final int socketTimeout;
+    private final int clientExecutionTimeout;
 
-    public AWSConfig(@Value("${cloud.aws.region.static}") final String region) {
+    public AWSConfig(@Value("${cloud.aws.region.static}") final String region,
+                     @Value("${cloud.aws.s3.connection-timeout:1000}") final int connectionTimeout,
+                     @Value("${cloud.aws.s3.socket-timeout:5000}") final int socketTimeout,
+                     @Value("${cloud.aws.s3.client-execution-timeout:10000}") final int clientExecutionTimeout) {
         this.region = Regions.fromName(region);
+        this.connectionTimeout = connectionTimeout;
+        this.socketTimeout = socketTimeout;
+        this.clientExecutionTimeout = clientExecutionTimeout;
     }
 
     @Bean
     public AmazonS3 amazonS3() {
         return AmazonS3ClientBuilder.standard()
                 .withRegion(region)
+                .withClientConfiguration(new ClientConfiguration()
+                        .withConnectionTimeout(connectionTimeout)
+                        .withSocketTimeout(socketTimeout)
+                        .withClientExecutionTimeout(clientExecutionTimeout))
                 .build();
     }
 }
@@ -1,10 +1,49 @@
 package co.kirikiri.common.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    public static final String TASK_EXECUTOR = "taskExecutor";
+    public static final String FILE_UPLOAD_EXECUTOR = "fileUploadExecutor";
+
+    private static final String TASK_THREAD_NAME_PREFIX = "async-";
+    private static final String FILE_UPLOAD_THREAD_NAME_PREFIX = "file-upload-";
+    private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+    @Bean(name = TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor taskExecutor(
+            @Value("${async.executor.core-pool-size:2}") final int corePoolSize,
+            @Value("${async.executor.max-pool-size:4}") final int maxPoolSize,
+            @Value("${async.executor.queue-capacity:100}") final int queueCapacity) {
+        return makeExecutor(corePoolSize, maxPoolSize, queueCapacity, TASK_THREAD_NAME_PREFIX);
+    }
+
+    @Bean(name = FILE_UPLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor fileUploadExecutor(
+            @Value("${file.upload.executor.core-pool-size:4}") final int corePoolSize,
+            @Value("${file.upload.executor.max-pool-size:8}") final int maxPoolSize,
+            @Value("${file.upload.executor.queue-capacity:100}") final int queueCapacity) {
+        return makeExecutor(corePoolSize, maxPoolSize, queueCapacity, FILE_UPLOAD_THREAD_NAME_PREFIX);
+    }
+
+    private ThreadPoolTaskExecutor makeExecutor(final int corePoolSize, final int maxPoolSize,
+                                                final int queueCapacity, final String threadNamePrefix) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
 }
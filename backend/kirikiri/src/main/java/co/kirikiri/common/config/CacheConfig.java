@@ -0,0 +1,41 @@
+package co.kirikiri.common.config;
+
+import co.kirikiri.common.cache.CacheInvalidationBus;
+import co.kirikiri.common.cache.InMemoryCacheInvalidationBus;
+import co.kirikiri.common.cache.InMemorySharedCacheStore;
+import co.kirikiri.common.cache.SharedCacheStore;
+import co.kirikiri.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public SharedCacheStore sharedCacheStore(
+            @Value("${cache.shared.maximum-size:100000}") final long maximumSize,
+            @Value("${cache.shared.time-to-live:1800000}") final long timeToLive) {
+        return new InMemorySharedCacheStore(maximumSize, Duration.ofMillis(timeToLive));
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.near.maximum-size:10000}") final long nearCacheMaximumSize,
+            @Value("${cache.near.time-to-live:600000}") final long nearCacheTimeToLive,
+            final SharedCacheStore sharedCacheStore, final CacheInvalidationBus cacheInvalidationBus,
+            final MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(nearCacheMaximumSize, Duration.ofMillis(nearCacheTimeToLive),
+                sharedCacheStore, cacheInvalidationBus, meterRegistry);
+    }
+}
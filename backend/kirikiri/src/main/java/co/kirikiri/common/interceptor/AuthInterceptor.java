@@ -14,6 +14,8 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
+    public static final String MEMBER_IDENTIFIER_ATTRIBUTE = AuthInterceptor.class.getName() + ".memberIdentifier";
+
     private static final String BEARER = "Bearer ";
 
     private final AuthService authService;
@@ -29,6 +31,7 @@ public class AuthInterceptor implements HandlerInterceptor {
             checkHeader(authorizationHeader);
             final String token = authorizationHeader.substring(BEARER.length());
             checkTokenCertify(token);
+            request.setAttribute(MEMBER_IDENTIFIER_ATTRIBUTE, authService.findIdentifierByToken(token));
         }
         return true;
     }
@@ -1,5 +1,6 @@
 package co.kirikiri.common.resolver;
 
+import co.kirikiri.common.interceptor.AuthInterceptor;
 import co.kirikiri.exception.AuthenticationException;
 import co.kirikiri.service.AuthService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -28,6 +30,11 @@ public class MemberIdentifierArgumentResolver implements HandlerMethodArgumentRe
     @Override
     public String resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
                                   final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        final Object certifiedIdentifier = webRequest.getAttribute(AuthInterceptor.MEMBER_IDENTIFIER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (certifiedIdentifier instanceof final String identifier) {
+            return identifier;
+        }
         final String authorizationHeader = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
         checkHeader(authorizationHeader);
         final String token = authorizationHeader.substring(BEARER.length());
@@ -0,0 +1,131 @@
+package co.kirikiri.controller;
+
+import co.kirikiri.infra.LocalDiskFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+@RestController
+@RequestMapping(LocalDiskFileService.DOWNLOAD_PATH)
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+@RequiredArgsConstructor
+public class FileController {
+
+    private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    private static final String ACCEPT_RANGES_BYTES = "bytes";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final LocalDiskFileService localDiskFileService;
+
+    @GetMapping("/**")
+    public void download(@RequestParam(LocalDiskFileService.EXPIRES_PARAMETER) final Long expires,
+                         @RequestParam(LocalDiskFileService.SIGNATURE_PARAMETER) final String signature,
+                         final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final String path = URL_PATH_HELPER.getPathWithinApplication(request)
+                .substring(LocalDiskFileService.DOWNLOAD_PATH.length());
+        final Path file = localDiskFileService.findFile(path, expires, signature);
+        try (final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long fileSize = fileChannel.size();
+            final ByteRange byteRange = findByteRange(request, fileSize);
+            if (byteRange == null) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                return;
+            }
+            writeHeaders(response, file, byteRange, fileSize);
+            if (expires == LocalDiskFileService.PUBLIC_EXPIRES) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+            }
+            writeBody(request, response, fileChannel, file, byteRange);
+        }
+    }
+
+    private ByteRange findByteRange(final HttpServletRequest request, final long fileSize) {
+        final List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (final IllegalArgumentException exception) {
+            return null;
+        }
+        if (httpRanges.size() != 1) {
+            return new ByteRange(0, fileSize, false);
+        }
+        try {
+            final HttpRange httpRange = httpRanges.get(0);
+            final long start = httpRange.getRangeStart(fileSize);
+            final long end = httpRange.getRangeEnd(fileSize);
+            if (start > end) {
+                return null;
+            }
+            return new ByteRange(start, end - start + 1, true);
+        } catch (final IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private void writeHeaders(final HttpServletResponse response, final Path file, final ByteRange byteRange,
+                              final long fileSize) {
+        final MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES_BYTES);
+        response.setContentLengthLong(byteRange.length());
+        if (byteRange.partial()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + byteRange.start() + "-" + byteRange.end() + "/" + fileSize);
+        }
+    }
+
+    private void writeBody(final HttpServletRequest request, final HttpServletResponse response,
+                           final FileChannel fileChannel, final Path file, final ByteRange byteRange)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, byteRange.start());
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, byteRange.start() + byteRange.length());
+            return;
+        }
+        final WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = byteRange.start();
+        long remaining = byteRange.length();
+        while (remaining > 0) {
+            final long transferred = fileChannel.transferTo(position, remaining, target);
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    private record ByteRange(
+            long start,
+            long length,
+            boolean partial
+    ) {
+
+        long end() {
+            return start + length - 1;
+        }
+    }
+}
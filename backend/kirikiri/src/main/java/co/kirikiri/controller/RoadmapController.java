@@ -12,10 +12,12 @@ import co.kirikiri.service.dto.roadmap.request.RoadmapSaveRequest;
 import co.kirikiri.service.dto.roadmap.request.RoadmapSearchRequest;
 import co.kirikiri.service.dto.roadmap.response.MemberRoadmapResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapCategoryResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapForListResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapForListResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapGoalRoomResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapReviewResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapSearchSuggestionResponse;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
@@ -85,6 +87,14 @@ public class RoadmapController {
         return ResponseEntity.ok(roadmapResponses);
     }
 
+    @GetMapping("/search/suggestions")
+    public ResponseEntity<RoadmapSearchSuggestionResponse> findSearchSuggestions(
+            @RequestParam(value = "keyword", required = false) final String keyword
+    ) {
+        final RoadmapSearchSuggestionResponse response = roadmapReadService.findSearchSuggestions(keyword);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/categories")
     public ResponseEntity<List<RoadmapCategoryResponse>> findAllRoadmapCategories() {
         final List<RoadmapCategoryResponse> roadmapCategoryResponses = roadmapReadService.findAllRoadmapCategories();
@@ -110,6 +120,12 @@ public class RoadmapController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/{roadmapId}/similar")
+    public ResponseEntity<List<RoadmapForListResponse>> findSimilarRoadmaps(@PathVariable final Long roadmapId) {
+        final List<RoadmapForListResponse> responses = roadmapReadService.findSimilarRoadmaps(roadmapId);
+        return ResponseEntity.ok(responses);
+    }
+
     @GetMapping("/{roadmapId}/reviews")
     public ResponseEntity<List<RoadmapReviewResponse>> findRoadmapReviews(
             @PathVariable final Long roadmapId,
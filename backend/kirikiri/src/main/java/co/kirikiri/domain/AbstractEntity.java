@@ -0,0 +1,38 @@
+package co.kirikiri.domain;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import java.util.Objects;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class AbstractEntity {
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || findPersistentClass(this) != findPersistentClass(o)) {
+            return false;
+        }
+        final AbstractEntity that = (AbstractEntity) o;
+        return Objects.equals(getId(), that.getId());
+    }
+
+    private static Class<?> findPersistentClass(final Object object) {
+        if (object instanceof HibernateProxy hibernateProxy) {
+            return hibernateProxy.getHibernateLazyInitializer().getPersistentClass();
+        }
+        return object.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public abstract Long getId();
+}
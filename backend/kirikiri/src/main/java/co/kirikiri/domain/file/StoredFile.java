@@ -0,0 +1,69 @@
+package co.kirikiri.domain.file;
+
+import co.kirikiri.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile extends BaseEntity {
+
+    @Column(length = 64, nullable = false)
+    private String digest;
+
+    @Column(nullable = false, unique = true)
+    private String serverFilePath;
+
+    private String thumbnailFilePath;
+
+    private String mediumFilePath;
+
+    @Column(nullable = false)
+    private Integer referenceCount;
+
+    @Column(nullable = false)
+    private Boolean uploaded;
+
+    private LocalDateTime releasedAt;
+
+    public StoredFile(final String digest, final String serverFilePath, final String thumbnailFilePath,
+                      final String mediumFilePath, final Integer referenceCount, final Boolean uploaded) {
+        this.digest = digest;
+        this.serverFilePath = serverFilePath;
+        this.thumbnailFilePath = thumbnailFilePath;
+        this.mediumFilePath = mediumFilePath;
+        this.referenceCount = referenceCount;
+        this.uploaded = uploaded;
+    }
+
+    public boolean isUploaded() {
+        return uploaded;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public String getServerFilePath() {
+        return serverFilePath;
+    }
+
+    public String getThumbnailFilePath() {
+        return thumbnailFilePath;
+    }
+
+    public String getMediumFilePath() {
+        return mediumFilePath;
+    }
+
+    public Integer getReferenceCount() {
+        return referenceCount;
+    }
+
+    public LocalDateTime getReleasedAt() {
+        return releasedAt;
+    }
+}
@@ -1,6 +1,6 @@
 package co.kirikiri.domain.goalroom;
 
-import co.kirikiri.domain.BaseCreatedTimeEntity;
+import co.kirikiri.domain.BaseSequenceCreatedTimeEntity;
 import co.kirikiri.domain.ImageContentType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CheckFeed extends BaseCreatedTimeEntity {
+public class CheckFeed extends BaseSequenceCreatedTimeEntity {
 
     @Column(nullable = false)
     private String serverFilePath;
@@ -30,6 +30,14 @@ public class CheckFeed extends BaseCreatedTimeEntity {
 
     private String description;
 
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private CheckFeedImageStatus imageStatus = CheckFeedImageStatus.PENDING;
+
+    private String thumbnailFilePath;
+
+    private String mediumFilePath;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "goal_room_roadmap_node_id", nullable = false)
     private GoalRoomRoadmapNode goalRoomRoadmapNode;
@@ -58,10 +66,28 @@ public class CheckFeed extends BaseCreatedTimeEntity {
         this.createdAt = createdAt;
     }
 
+    public boolean isImageReady() {
+        return imageStatus == CheckFeedImageStatus.READY;
+    }
+
     public String getServerFilePath() {
         return serverFilePath;
     }
 
+    public String getThumbnailFilePath() {
+        if (thumbnailFilePath == null) {
+            return serverFilePath;
+        }
+        return thumbnailFilePath;
+    }
+
+    public String getMediumFilePath() {
+        if (mediumFilePath == null) {
+            return serverFilePath;
+        }
+        return mediumFilePath;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -0,0 +1,5 @@
+package co.kirikiri.domain.goalroom;
+
+public enum CheckFeedImageStatus {
+    PENDING, READY, FAILED
+}
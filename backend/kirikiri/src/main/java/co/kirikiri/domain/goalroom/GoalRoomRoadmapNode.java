@@ -1,6 +1,6 @@
 package co.kirikiri.domain.goalroom;
 
-import co.kirikiri.domain.BaseEntity;
+import co.kirikiri.domain.BaseSequenceEntity;
 import co.kirikiri.domain.goalroom.vo.Period;
 import co.kirikiri.domain.roadmap.RoadmapNode;
 import co.kirikiri.exception.BadRequestException;
@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class GoalRoomRoadmapNode extends BaseEntity {
+public class GoalRoomRoadmapNode extends BaseSequenceEntity {
 
     private static final int MIN_CHECK_COUNT = 0;
 
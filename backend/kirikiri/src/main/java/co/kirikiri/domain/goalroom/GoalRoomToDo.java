@@ -1,6 +1,6 @@
 package co.kirikiri.domain.goalroom;
 
-import co.kirikiri.domain.BaseUpdatedTimeEntity;
+import co.kirikiri.domain.BaseSequenceUpdatedTimeEntity;
 import co.kirikiri.domain.goalroom.vo.GoalRoomTodoContent;
 import co.kirikiri.domain.goalroom.vo.Period;
 import jakarta.persistence.Embedded;
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class GoalRoomToDo extends BaseUpdatedTimeEntity {
+public class GoalRoomToDo extends BaseSequenceUpdatedTimeEntity {
 
     @Embedded
     private GoalRoomTodoContent content;
@@ -7,12 +7,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class MemberImage extends BaseEntity {
 
     @Column(length = 100, nullable = false)
@@ -25,6 +23,27 @@ public class MemberImage extends BaseEntity {
     @Column(length = 10, nullable = false)
     private ImageContentType imageContentType;
 
+    @Enumerated(value = EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private MemberImageType imageType;
+
+    public MemberImage(final String originalFileName, final String serverFilePath,
+                       final ImageContentType imageContentType) {
+        this(originalFileName, serverFilePath, imageContentType, MemberImageType.UPLOADED);
+    }
+
+    public MemberImage(final String originalFileName, final String serverFilePath,
+                       final ImageContentType imageContentType, final MemberImageType imageType) {
+        this.originalFileName = originalFileName;
+        this.serverFilePath = serverFilePath;
+        this.imageContentType = imageContentType;
+        this.imageType = imageType;
+    }
+
+    public boolean isDefault() {
+        return imageType == MemberImageType.DEFAULT;
+    }
+
     public String getServerFilePath() {
         return serverFilePath;
     }
@@ -0,0 +1,7 @@
+package co.kirikiri.domain.member;
+
+public enum MemberImageType {
+
+    DEFAULT,
+    UPLOADED,
+}
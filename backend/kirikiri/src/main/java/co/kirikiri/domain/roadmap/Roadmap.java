@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.AccessLevel;
@@ -46,6 +47,8 @@ public class Roadmap extends BaseCreatedTimeEntity {
     @Column(length = 10, nullable = false)
     private RoadmapStatus status = RoadmapStatus.CREATED;
 
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false, updatable = false)
     private Member creator;
@@ -149,6 +152,7 @@ public class Roadmap extends BaseCreatedTimeEntity {
 
     public void delete() {
         this.status = RoadmapStatus.DELETED;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public Optional<RoadmapContent> findLastRoadmapContent() {
@@ -1,6 +1,6 @@
 package co.kirikiri.domain.roadmap;
 
-import co.kirikiri.domain.BaseEntity;
+import co.kirikiri.domain.BaseSequenceEntity;
 import co.kirikiri.domain.ImageContentType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RoadmapNodeImage extends BaseEntity {
+public class RoadmapNodeImage extends BaseSequenceEntity {
 
     @Column(length = 100, nullable = false)
     private String originalFileName;
@@ -23,6 +23,10 @@ public class RoadmapNodeImage extends BaseEntity {
     @Column(length = 10, nullable = false)
     private ImageContentType imageContentType;
 
+    private String thumbnailFilePath;
+
+    private String mediumFilePath;
+
     public RoadmapNodeImage(final String originalFileName, final String serverFilePath,
                             final ImageContentType imageContentType) {
         this(null, originalFileName, serverFilePath, imageContentType);
@@ -36,7 +40,25 @@ public class RoadmapNodeImage extends BaseEntity {
         this.imageContentType = imageContentType;
     }
 
+    public void updateFilePaths(final String serverFilePath, final String thumbnailFilePath,
+                                final String mediumFilePath) {
+        this.serverFilePath = serverFilePath;
+        this.thumbnailFilePath = thumbnailFilePath;
+        this.mediumFilePath = mediumFilePath;
+    }
+
     public String getServerFilePath() {
         return serverFilePath;
     }
+
+    public String getMediumFilePath() {
+        if (mediumFilePath == null) {
+            return serverFilePath;
+        }
+        return mediumFilePath;
+    }
+
+    public ImageContentType getImageContentType() {
+        return imageContentType;
+    }
 }
@@ -0,0 +1,67 @@
+package co.kirikiri.domain.roadmap;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoadmapStats {
+
+    @Id
+    private Long roadmapId;
+
+    @Column(nullable = false)
+    private Long goalRoomCount = 0L;
+
+    @Column(nullable = false)
+    private Long participantCount = 0L;
+
+    @Column(nullable = false)
+    private Double reviewSum = 0.0;
+
+    @Column(nullable = false)
+    private Long reviewCount = 0L;
+
+    @Column(nullable = false)
+    private Double reviewRate = 0.0;
+
+    public RoadmapStats(final Long roadmapId) {
+        this.roadmapId = roadmapId;
+    }
+
+    public void update(final Long goalRoomCount, final Long participantCount, final Double reviewSum,
+                       final Long reviewCount) {
+        this.goalRoomCount = goalRoomCount;
+        this.participantCount = participantCount;
+        this.reviewSum = reviewSum;
+        this.reviewCount = reviewCount;
+        this.reviewRate = reviewCount == 0 ? 0.0 : reviewSum / reviewCount;
+    }
+
+    public Long getRoadmapId() {
+        return roadmapId;
+    }
+
+    public Long getGoalRoomCount() {
+        return goalRoomCount;
+    }
+
+    public Long getParticipantCount() {
+        return participantCount;
+    }
+
+    public Double getReviewSum() {
+        return reviewSum;
+    }
+
+    public Long getReviewCount() {
+        return reviewCount;
+    }
+
+    public Double getReviewRate() {
+        return reviewRate;
+    }
+}
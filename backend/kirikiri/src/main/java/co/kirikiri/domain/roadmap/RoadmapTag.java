@@ -1,6 +1,6 @@
 package co.kirikiri.domain.roadmap;
 
-import co.kirikiri.domain.BaseEntity;
+import co.kirikiri.domain.BaseSequenceEntity;
 import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RoadmapTag extends BaseEntity {
+public class RoadmapTag extends BaseSequenceEntity {
 
     @Embedded
     private RoadmapTagName name;
@@ -7,28 +7,43 @@ import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
 public class AmazonS3FileService implements FileService {
 
     private static final String ROOT_DIRECTORY_PROPERTY = "cloud.aws.s3.root-directory";
     private static final String SUB_DIRECTORY_PROPERTY = "cloud.aws.s3.sub-directory";
     private static final String BUCKET_PROPERTY = "cloud.aws.s3.bucket";
     private static final String EXPIRATION_PROPERTY = "cloud.aws.s3.url-expiration";
+    private static final String PLACEHOLDER_URL_PROPERTY = "file.storage.placeholder-url";
     private static final String DIRECTORY_SEPARATOR = "/";
 
     private final AmazonS3 amazonS3;
     private final Environment environment;
+    private final PresignedUrlCache presignedUrlCache;
+    private final StorageCallGuard storageCallGuard;
+    private final Map<String, URL> publicUrls = new ConcurrentHashMap<>();
 
-    public AmazonS3FileService(final AmazonS3 amazonS3, final Environment environment) {
+    public AmazonS3FileService(final AmazonS3 amazonS3, final Environment environment,
+                               final PresignedUrlCache presignedUrlCache, final StorageCallGuard storageCallGuard) {
         this.amazonS3 = amazonS3;
         this.environment = environment;
+        this.presignedUrlCache = presignedUrlCache;
+        this.storageCallGuard = storageCallGuard;
     }
 
     @Override
@@ -56,7 +71,17 @@ public class AmazonS3FileService implements FileService {
 
     private void putObjectToS3(final String key, final InputStream inputStream, final ObjectMetadata objectMetadata) {
         try {
-            amazonS3.putObject(getBucketName(), key, inputStream, objectMetadata);
+            storageCallGuard.run(() -> amazonS3.putObject(getBucketName(), key, inputStream, objectMetadata));
+        } catch (final SdkClientException sdkClientException) {
+            throw new ServerException(sdkClientException.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(final String path) {
+        final String key = makeKey(path);
+        try {
+            storageCallGuard.run(() -> amazonS3.deleteObject(getBucketName(), key));
         } catch (final SdkClientException sdkClientException) {
             throw new ServerException(sdkClientException.getMessage());
         }
@@ -68,17 +93,82 @@ public class AmazonS3FileService implements FileService {
 
     @Override
     public URL generateUrl(final String path, final HttpMethod httpMethod) {
-        final String key = makeKey(path);
+        try {
+            return presignedUrlCache.get(path, httpMethod,
+                    () -> generatePresignedUrl(path, makePresignContext(httpMethod)));
+        } catch (final ServerException exception) {
+            return findPlaceholderUrl(exception);
+        }
+    }
+
+    @Override
+    public Map<String, URL> generateUrls(final Collection<String> paths, final HttpMethod httpMethod) {
+        if (paths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final PresignContext presignContext = makePresignContext(httpMethod);
+        try {
+            return presignedUrlCache.getAll(paths, httpMethod, path -> generatePresignedUrl(path, presignContext));
+        } catch (final ServerException exception) {
+            return makeDegradedUrls(paths, httpMethod, exception);
+        }
+    }
+
+    @Override
+    public URL generatePublicUrl(final String path) {
+        return publicUrls.computeIfAbsent(path, key -> amazonS3.getUrl(getBucketName(), makeKey(key)));
+    }
+
+    private Map<String, URL> makeDegradedUrls(final Collection<String> paths, final HttpMethod httpMethod,
+                                              final ServerException exception) {
+        final URL placeholderUrl = findPlaceholderUrl(exception);
+        final Map<String, URL> urls = new HashMap<>(presignedUrlCache.getAllPresent(paths, httpMethod));
+        paths.forEach(path -> urls.putIfAbsent(path, placeholderUrl));
+        return urls;
+    }
+
+    private URL findPlaceholderUrl(final ServerException exception) {
+        final String placeholderUrl = findProperty(PLACEHOLDER_URL_PROPERTY);
+        if (placeholderUrl == null) {
+            throw exception;
+        }
+        try {
+            return new URL(placeholderUrl);
+        } catch (final MalformedURLException malformedURLException) {
+            throw new ServerException(malformedURLException.getMessage());
+        }
+    }
+
+    private PresignContext makePresignContext(final HttpMethod httpMethod) {
+        final String keyPrefix = makeKey("");
         final Date expiration = createExpiration(Long.parseLong(findProperty(EXPIRATION_PROPERTY)));
+        return new PresignContext(getBucketName(), keyPrefix, expiration,
+                com.amazonaws.HttpMethod.valueOf(httpMethod.name()));
+    }
+
+    private URL generatePresignedUrl(final String path, final PresignContext presignContext) {
         final GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(getBucketName(), key)
-                        .withMethod(com.amazonaws.HttpMethod.valueOf(httpMethod.name()))
-                        .withExpiration(expiration);
-        return amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
+                new GeneratePresignedUrlRequest(presignContext.bucketName(), presignContext.keyPrefix() + path)
+                        .withMethod(presignContext.httpMethod())
+                        .withExpiration(presignContext.expiration());
+        try {
+            return amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
+        } catch (final SdkClientException sdkClientException) {
+            throw new ServerException(sdkClientException.getMessage());
+        }
     }
 
     private Date createExpiration(final Long validity) {
         final long now = new Date().getTime();
         return new Date(now + validity);
     }
+
+    private record PresignContext(
+            String bucketName,
+            String keyPrefix,
+            Date expiration,
+            com.amazonaws.HttpMethod httpMethod
+    ) {
+
+    }
 }
@@ -0,0 +1,143 @@
+package co.kirikiri.infra;
+
+import co.kirikiri.exception.BadRequestException;
+import co.kirikiri.exception.NotFoundException;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.FileService;
+import co.kirikiri.service.dto.FileInformation;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalDiskFileService implements FileService {
+
+    public static final String DOWNLOAD_PATH = "/files";
+    public static final String EXPIRES_PARAMETER = "expires";
+    public static final String SIGNATURE_PARAMETER = "signature";
+    public static final long PUBLIC_EXPIRES = Long.MAX_VALUE;
+
+    private static final String DIRECTORY_SEPARATOR = "/";
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    private final Path rootDirectory;
+    private final String baseUrl;
+    private final Long urlExpiration;
+    private final LocalFileUrlSigner localFileUrlSigner;
+    private final Map<String, URL> publicUrls = new ConcurrentHashMap<>();
+
+    public LocalDiskFileService(@Value("${file.local.root-directory}") final String rootDirectory,
+                                @Value("${file.local.base-url}") final String baseUrl,
+                                @Value("${file.local.url-expiration}") final Long urlExpiration,
+                                final LocalFileUrlSigner localFileUrlSigner) {
+        this.rootDirectory = Path.of(rootDirectory).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        this.urlExpiration = urlExpiration;
+        this.localFileUrlSigner = localFileUrlSigner;
+    }
+
+    @Override
+    public void save(final String path, final FileInformation fileInformation) {
+        final Path target = resolve(path);
+        try {
+            Files.createDirectories(target.getParent());
+            writeFile(target, fileInformation);
+        } catch (final IOException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    private void writeFile(final Path target, final FileInformation fileInformation) throws IOException {
+        try (final ReadableByteChannel source = Channels.newChannel(fileInformation.inputStream());
+             final FileChannel destination = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = destination.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    @Override
+    public void delete(final String path) {
+        try {
+            Files.deleteIfExists(resolve(path));
+        } catch (final IOException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    @Override
+    public URL generateUrl(final String path, final HttpMethod httpMethod) {
+        return makeSignedUrl(path, httpMethod, createExpires());
+    }
+
+    @Override
+    public Map<String, URL> generateUrls(final Collection<String> paths, final HttpMethod httpMethod) {
+        final long expires = createExpires();
+        return paths.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), path -> makeSignedUrl(path, httpMethod, expires)));
+    }
+
+    @Override
+    public URL generatePublicUrl(final String path) {
+        return publicUrls.computeIfAbsent(path, key -> makeSignedUrl(key, HttpMethod.GET, PUBLIC_EXPIRES));
+    }
+
+    private long createExpires() {
+        return System.currentTimeMillis() + urlExpiration;
+    }
+
+    private URL makeSignedUrl(final String path, final HttpMethod httpMethod, final long expires) {
+        try {
+            return UriComponentsBuilder.fromHttpUrl(baseUrl)
+                    .path(DOWNLOAD_PATH)
+                    .path(path)
+                    .queryParam(EXPIRES_PARAMETER, expires)
+                    .queryParam(SIGNATURE_PARAMETER, localFileUrlSigner.sign(path, httpMethod, expires))
+                    .encode()
+                    .build()
+                    .toUri()
+                    .toURL();
+        } catch (final MalformedURLException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    public Path findFile(final String path, final long expires, final String signature) {
+        localFileUrlSigner.verify(path, HttpMethod.GET, expires, signature);
+        final Path file = resolve(path);
+        if (!Files.isRegularFile(file)) {
+            throw new NotFoundException("존재하지 않는 파일입니다. path = " + path);
+        }
+        return file;
+    }
+
+    private Path resolve(final String path) {
+        final String relativePath = path.startsWith(DIRECTORY_SEPARATOR) ? path.substring(1) : path;
+        final Path resolved = rootDirectory.resolve(relativePath).normalize();
+        if (!resolved.startsWith(rootDirectory) || resolved.equals(rootDirectory)) {
+            throw new BadRequestException("잘못된 파일 경로입니다.");
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,62 @@
+package co.kirikiri.infra;
+
+import co.kirikiri.exception.ForbiddenException;
+import co.kirikiri.exception.ServerException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalFileUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PAYLOAD_DELIMITER = "\n";
+
+    private final ThreadLocal<Mac> mac;
+
+    public LocalFileUrlSigner(@Value("${file.local.secret-key}") final String secretKey) {
+        final SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> createMac(keySpec));
+    }
+
+    private Mac createMac(final SecretKeySpec keySpec) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (final GeneralSecurityException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    public String sign(final String path, final HttpMethod httpMethod, final long expires) {
+        final byte[] payload = makePayload(path, httpMethod, expires);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(mac.get().doFinal(payload));
+    }
+
+    public void verify(final String path, final HttpMethod httpMethod, final long expires, final String signature) {
+        if (expires < System.currentTimeMillis()) {
+            throw new ForbiddenException("만료된 파일 URL입니다.");
+        }
+        final byte[] expected = sign(path, httpMethod, expires).getBytes(StandardCharsets.US_ASCII);
+        final byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new ForbiddenException("유효하지 않은 파일 URL입니다.");
+        }
+    }
+
+    private byte[] makePayload(final String path, final HttpMethod httpMethod, final long expires) {
+        return (httpMethod.name() + PAYLOAD_DELIMITER + path + PAYLOAD_DELIMITER + expires)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
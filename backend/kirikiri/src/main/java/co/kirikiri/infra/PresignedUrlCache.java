@@ -0,0 +1,77 @@
+package co.kirikiri.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
+public class PresignedUrlCache {
+
+    private static final String CACHE_NAME = "presignedUrl";
+    private static final long EXPIRATION_DIVISOR = 2;
+
+    private final Cache<PresignedUrlKey, URL> cache;
+
+    public PresignedUrlCache(@Value("${cloud.aws.s3.url-expiration}") final Long urlExpiration,
+                             @Value("${cloud.aws.s3.url-cache.maximum-size:10000}") final Long maximumSize,
+                             final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(urlExpiration / EXPIRATION_DIVISOR))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public URL get(final String path, final HttpMethod httpMethod, final Supplier<URL> urlGenerator) {
+        return cache.get(new PresignedUrlKey(path, httpMethod), key -> urlGenerator.get());
+    }
+
+    public Map<String, URL> getAll(final Collection<String> paths, final HttpMethod httpMethod,
+                                   final Function<String, URL> urlGenerator) {
+        final Set<PresignedUrlKey> keys = paths.stream()
+                .map(path -> new PresignedUrlKey(path, httpMethod))
+                .collect(Collectors.toSet());
+        return cache.getAll(keys, missingKeys -> generateUrls(missingKeys, urlGenerator))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().path(), Map.Entry::getValue));
+    }
+
+    public Map<String, URL> getAllPresent(final Collection<String> paths, final HttpMethod httpMethod) {
+        final Set<PresignedUrlKey> keys = paths.stream()
+                .map(path -> new PresignedUrlKey(path, httpMethod))
+                .collect(Collectors.toSet());
+        return cache.getAllPresent(keys)
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().path(), Map.Entry::getValue));
+    }
+
+    private Map<PresignedUrlKey, URL> generateUrls(final Set<? extends PresignedUrlKey> keys,
+                                                   final Function<String, URL> urlGenerator) {
+        return keys.stream()
+                .collect(Collectors.toMap(Function.identity(), key -> urlGenerator.apply(key.path())));
+    }
+
+    private record PresignedUrlKey(
+            String path,
+            HttpMethod httpMethod
+    ) {
+
+    }
+}
@@ -0,0 +1,140 @@
+package co.kirikiri.infra;
+
+import co.kirikiri.exception.ServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
+public class StorageCallGuard {
+
+    private static final String CALLS_METRIC = "file.storage.calls";
+    private static final String CIRCUIT_STATE_METRIC = "file.storage.circuit.state";
+    private static final String BULKHEAD_AVAILABLE_METRIC = "file.storage.bulkhead.available";
+    private static final String RESULT_TAG = "result";
+
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final AtomicReference<CircuitState> circuitState = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public StorageCallGuard(@Value("${file.storage.bulkhead.max-concurrent-calls:16}") final int maxConcurrentCalls,
+                            @Value("${file.storage.bulkhead.max-wait-millis:100}") final long maxWaitMillis,
+                            @Value("${file.storage.circuit.failure-threshold:5}") final int failureThreshold,
+                            @Value("${file.storage.circuit.open-duration-millis:30000}") final long openDurationMillis,
+                            final MeterRegistry meterRegistry) {
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWaitMillis = maxWaitMillis;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.successCounter = Counter.builder(CALLS_METRIC).tag(RESULT_TAG, "success").register(meterRegistry);
+        this.failureCounter = Counter.builder(CALLS_METRIC).tag(RESULT_TAG, "failure").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(CALLS_METRIC).tag(RESULT_TAG, "rejected").register(meterRegistry);
+        Gauge.builder(CIRCUIT_STATE_METRIC, circuitState, state -> state.get().ordinal())
+                .register(meterRegistry);
+        Gauge.builder(BULKHEAD_AVAILABLE_METRIC, bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    public void run(final Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(final Supplier<T> call) {
+        acquireBulkhead();
+        try {
+            acquirePermission();
+            return call(call);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        throw new ServerException("파일 저장소 요청이 너무 많습니다.");
+    }
+
+    private void acquirePermission() {
+        final CircuitState state = circuitState.get();
+        if (state == CircuitState.CLOSED) {
+            return;
+        }
+        if (state == CircuitState.OPEN && isOpenDurationElapsed()
+                && circuitState.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+            return;
+        }
+        rejectedCounter.increment();
+        throw new ServerException("파일 저장소가 일시적으로 응답하지 않습니다.");
+    }
+
+    private boolean isOpenDurationElapsed() {
+        return System.currentTimeMillis() - openedAt.get() >= openDurationMillis;
+    }
+
+    private <T> T call(final Supplier<T> call) {
+        try {
+            final T result = call.get();
+            onSuccess();
+            return result;
+        } catch (final RuntimeException exception) {
+            onFailure();
+            throw exception;
+        }
+    }
+
+    private void onSuccess() {
+        successCounter.increment();
+        consecutiveFailures.set(0);
+        circuitState.set(CircuitState.CLOSED);
+    }
+
+    private void onFailure() {
+        failureCounter.increment();
+        if (circuitState.get() == CircuitState.HALF_OPEN
+                || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt.set(System.currentTimeMillis());
+        circuitState.set(CircuitState.OPEN);
+    }
+
+    public CircuitState getCircuitState() {
+        return circuitState.get();
+    }
+
+    public enum CircuitState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -1,6 +1,7 @@
 package co.kirikiri.persistence;
 
 import co.kirikiri.exception.ServerException;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.PathBuilder;
@@ -60,6 +61,10 @@ public abstract class QuerydslRepositorySupporter {
         return getQueryFactory().select(expr);
     }
 
+    protected JPAQuery<Tuple> select(final Expression<?>... exprs) {
+        return getQueryFactory().select(exprs);
+    }
+
     protected <T> JPAQuery<T> selectFrom(final EntityPath<T> from) {
         return getQueryFactory().selectFrom(from);
     }
@@ -0,0 +1,9 @@
+package co.kirikiri.persistence.dto;
+
+public record GoalRoomParticipationDto(
+        Long goalRoomMemberId,
+        Long memberId,
+        Long roadmapId
+) {
+
+}
@@ -0,0 +1,9 @@
+package co.kirikiri.persistence.dto;
+
+public record GoalRoomStartDto(
+        Long goalRoomId,
+        Long roadmapId,
+        Long participantCount
+) {
+
+}
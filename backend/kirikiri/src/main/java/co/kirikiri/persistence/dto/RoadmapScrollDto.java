@@ -0,0 +1,10 @@
+package co.kirikiri.persistence.dto;
+
+import co.kirikiri.domain.roadmap.Roadmap;
+
+public record RoadmapScrollDto(
+        Roadmap roadmap,
+        ScrollCursor cursor
+) {
+
+}
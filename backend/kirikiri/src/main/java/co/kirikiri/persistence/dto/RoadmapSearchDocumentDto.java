@@ -0,0 +1,9 @@
+package co.kirikiri.persistence.dto;
+
+public record RoadmapSearchDocumentDto(
+        Long roadmapId,
+        String title,
+        String introduction
+) {
+
+}
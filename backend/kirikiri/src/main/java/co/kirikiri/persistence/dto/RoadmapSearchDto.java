@@ -1,5 +1,7 @@
 package co.kirikiri.persistence.dto;
 
+import java.util.List;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,18 +12,34 @@ public class RoadmapSearchDto {
 
     private final RoadmapSearchCreatorNickname creatorName;
     private final RoadmapSearchTitle title;
-    private final RoadmapSearchTagName tagName;
+    private final List<RoadmapSearchTagName> tagNames;
+    private final Set<Long> roadmapIds;
 
-    public static RoadmapSearchDto create(final String creatorName, final String title, final String tagName) {
+    public static RoadmapSearchDto create(final String creatorName, final String title,
+                                          final List<String> tagNames) {
         if (creatorName != null) {
-            return new RoadmapSearchDto(new RoadmapSearchCreatorNickname(creatorName), null, null);
+            return new RoadmapSearchDto(new RoadmapSearchCreatorNickname(creatorName), null, null, null);
         }
         if (title != null) {
-            return new RoadmapSearchDto(null, new RoadmapSearchTitle(title), null);
+            return new RoadmapSearchDto(null, new RoadmapSearchTitle(title), null, null);
         }
-        if (tagName != null) {
-            return new RoadmapSearchDto(null, null, new RoadmapSearchTagName(tagName));
+        if (tagNames != null && !tagNames.isEmpty()) {
+            return new RoadmapSearchDto(null, null, makeRoadmapSearchTagNames(tagNames), null);
         }
-        return new RoadmapSearchDto(null, null, null);
+        return new RoadmapSearchDto(null, null, null, null);
+    }
+
+    private static List<RoadmapSearchTagName> makeRoadmapSearchTagNames(final List<String> tagNames) {
+        return tagNames.stream()
+                .map(RoadmapSearchTagName::new)
+                .toList();
+    }
+
+    public RoadmapSearchDto withRoadmapIds(final Set<Long> roadmapIds) {
+        return new RoadmapSearchDto(creatorName, title, tagNames, roadmapIds);
+    }
+
+    public boolean hasNoMatchingRoadmap() {
+        return roadmapIds != null && roadmapIds.isEmpty();
     }
 }
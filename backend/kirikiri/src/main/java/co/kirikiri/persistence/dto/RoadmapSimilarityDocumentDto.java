@@ -0,0 +1,8 @@
+package co.kirikiri.persistence.dto;
+
+public record RoadmapSimilarityDocumentDto(
+        Long roadmapId,
+        Long categoryId
+) {
+
+}
@@ -0,0 +1,12 @@
+package co.kirikiri.persistence.dto;
+
+public record RoadmapSortKeyDto(
+        Long roadmapId,
+        Long goalRoomCount,
+        Long participantCount,
+        Double reviewSum,
+        Long reviewCount,
+        Double reviewRate
+) {
+
+}
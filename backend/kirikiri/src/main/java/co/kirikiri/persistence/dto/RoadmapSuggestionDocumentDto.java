@@ -0,0 +1,9 @@
+package co.kirikiri.persistence.dto;
+
+public record RoadmapSuggestionDocumentDto(
+        Long roadmapId,
+        String creatorNickname,
+        Long participantCount
+) {
+
+}
@@ -0,0 +1,8 @@
+package co.kirikiri.persistence.dto;
+
+public record RoadmapTagNameDto(
+        Long roadmapId,
+        String tagName
+) {
+
+}
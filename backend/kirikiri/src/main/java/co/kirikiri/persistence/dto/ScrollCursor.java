@@ -0,0 +1,49 @@
+package co.kirikiri.persistence.dto;
+
+import co.kirikiri.exception.BadRequestException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+public record ScrollCursor(
+        String sortKey,
+        Long id
+) {
+
+    public static ScrollCursor from(final Long lastId) {
+        return new ScrollCursor(null, lastId);
+    }
+
+    public static ScrollCursor of(final Object sortKey, final Long id) {
+        return new ScrollCursor(String.valueOf(sortKey), id);
+    }
+
+    public boolean hasSortKey() {
+        return sortKey != null;
+    }
+
+    public Long longSortKey() {
+        return parseSortKey(Long::valueOf);
+    }
+
+    public Double doubleSortKey() {
+        return parseSortKey(Double::valueOf);
+    }
+
+    public LocalDateTime dateTimeSortKey() {
+        return parseSortKey(LocalDateTime::parse);
+    }
+
+    public LocalDate dateSortKey() {
+        return parseSortKey(LocalDate::parse);
+    }
+
+    private <T> T parseSortKey(final Function<String, T> parser) {
+        try {
+            return parser.apply(sortKey);
+        } catch (final NumberFormatException | DateTimeParseException exception) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package co.kirikiri.persistence.file;
+
+import co.kirikiri.domain.file.StoredFile;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByServerFilePath(final String serverFilePath);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoredFile sf"
+            + " SET sf.referenceCount = sf.referenceCount + 1"
+            + " WHERE sf.serverFilePath = :serverFilePath")
+    int increaseReferenceCount(final String serverFilePath);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoredFile sf"
+            + " SET sf.referenceCount = sf.referenceCount - 1, sf.releasedAt = :releasedAt"
+            + " WHERE sf.serverFilePath = :serverFilePath"
+            + " AND sf.referenceCount > 0")
+    void decreaseReferenceCount(final String serverFilePath, final LocalDateTime releasedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoredFile sf"
+            + " SET sf.uploaded = true, sf.thumbnailFilePath = :thumbnailFilePath, sf.mediumFilePath = :mediumFilePath"
+            + " WHERE sf.serverFilePath = :serverFilePath")
+    void updateUploaded(final String serverFilePath, final String thumbnailFilePath, final String mediumFilePath);
+
+    @Query("SELECT sf FROM StoredFile sf"
+            + " WHERE sf.referenceCount = 0"
+            + " AND sf.releasedAt < :releasedAt"
+            + " AND sf.id > :lastId"
+            + " ORDER BY sf.id")
+    List<StoredFile> findReleasedBefore(final LocalDateTime releasedAt, final Long lastId, final Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StoredFile sf"
+            + " WHERE sf.id = :id"
+            + " AND sf.referenceCount = 0"
+            + " AND sf.releasedAt < :releasedAt")
+    int deleteReleasedBefore(final Long id, final LocalDateTime releasedAt);
+}
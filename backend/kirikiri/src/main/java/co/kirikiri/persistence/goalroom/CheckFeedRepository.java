@@ -1,6 +1,7 @@
 package co.kirikiri.persistence.goalroom;
 
 import co.kirikiri.domain.goalroom.CheckFeed;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
 import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.goalroom.GoalRoomMember;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
@@ -8,7 +9,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CheckFeedRepository extends JpaRepository<CheckFeed, Long>, CheckFeedQueryRepository {
 
@@ -39,4 +43,28 @@ public interface CheckFeedRepository extends JpaRepository<CheckFeed, Long>, Che
     List<CheckFeed> findByGoalRoom(final GoalRoom goalRoom);
 
     List<CheckFeed> findByGoalRoomRoadmapNode(final GoalRoomRoadmapNode goalRoomRoadmapNode);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CheckFeed cf"
+            + " SET cf.imageStatus = :imageStatus"
+            + " WHERE cf.id = :checkFeedId")
+    void updateImageStatus(final Long checkFeedId, final CheckFeedImageStatus imageStatus);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CheckFeed cf"
+            + " SET cf.thumbnailFilePath = :thumbnailFilePath, cf.mediumFilePath = :mediumFilePath"
+            + " WHERE cf.id = :checkFeedId")
+    void updateDerivativeFilePaths(final Long checkFeedId, final String thumbnailFilePath,
+                                   final String mediumFilePath);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CheckFeed cf"
+            + " SET cf.imageStatus = :newImageStatus"
+            + " WHERE cf.imageStatus = :imageStatus"
+            + " AND cf.createdAt < :createdAt")
+    int updateImageStatusCreatedBefore(final CheckFeedImageStatus imageStatus, final LocalDateTime createdAt,
+                                       final CheckFeedImageStatus newImageStatus);
 }
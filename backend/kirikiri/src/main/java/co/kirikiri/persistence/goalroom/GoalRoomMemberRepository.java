@@ -3,9 +3,12 @@ package co.kirikiri.persistence.goalroom;
 import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.goalroom.GoalRoomMember;
 import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.persistence.dto.GoalRoomParticipationDto;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -25,4 +28,23 @@ public interface GoalRoomMemberRepository extends JpaRepository<GoalRoomMember,
             + "where g=:goalRoom "
             + "and gm.member = m")
     List<GoalRoomMember> findAllByGoalRoom(@Param("goalRoom") final GoalRoom goalRoom);
+
+    @Query("select new co.kirikiri.persistence.dto.GoalRoomParticipationDto(gm.id, m.id, r.id) "
+            + "from GoalRoomMember gm "
+            + "join gm.member m "
+            + "join gm.goalRoom g "
+            + "join g.roadmapContent rc "
+            + "join rc.roadmap r "
+            + "where gm.id > :lastId "
+            + "order by gm.id")
+    List<GoalRoomParticipationDto> findParticipationsAfter(@Param("lastId") final Long lastId,
+                                                           final Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into goal_room_member (accomplishment_rate, role, joined_at, goal_room_id, member_id) "
+            + "select 0, gp.role, gp.joined_at, gp.goal_room_id, gp.member_id "
+            + "from goal_room_pending_member gp "
+            + "where gp.goal_room_id in (:goalRoomIds) "
+            + "order by gp.id", nativeQuery = true)
+    int insertAllFromPendingMembers(@Param("goalRoomIds") final List<Long> goalRoomIds);
 }
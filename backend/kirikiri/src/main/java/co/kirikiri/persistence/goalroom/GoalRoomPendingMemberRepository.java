@@ -6,6 +6,7 @@ import co.kirikiri.domain.member.vo.Identifier;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +29,9 @@ public interface GoalRoomPendingMemberRepository extends JpaRepository<GoalRoomP
             + "where g=:goalRoom "
             + "and gp.member = m")
     List<GoalRoomPendingMember> findAllByGoalRoom(@Param("goalRoom") final GoalRoom goalRoom);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GoalRoomPendingMember gp "
+            + "where gp.goalRoom.id in :goalRoomIds")
+    int deleteAllByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
 }
@@ -4,6 +4,7 @@ import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.goalroom.GoalRoomStatus;
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
 import java.util.List;
 import java.util.Optional;
@@ -16,7 +17,7 @@ public interface GoalRoomQueryRepository {
 
     List<GoalRoom> findGoalRoomsWithPendingMembersByRoadmapAndCond(final Roadmap roadmap,
                                                                    final RoadmapGoalRoomsOrderType filterType,
-                                                                   final Long lastId,
+                                                                   final ScrollCursor cursor,
                                                                    final int pageSize);
 
     Optional<GoalRoom> findByIdWithTodos(final Long goalRoomId);
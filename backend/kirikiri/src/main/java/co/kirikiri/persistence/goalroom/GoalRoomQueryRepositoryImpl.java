@@ -11,18 +11,28 @@ import static co.kirikiri.domain.roadmap.QRoadmapContent.roadmapContent;
 
 import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.domain.goalroom.QGoalRoom;
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.persistence.QuerydslRepositorySupporter;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public class GoalRoomQueryRepositoryImpl extends QuerydslRepositorySupporter implements GoalRoomQueryRepository {
 
     private static final int LIMIT_OFFSET = 1;
+    private static final QGoalRoom LAST_GOAL_ROOM = new QGoalRoom("lastGoalRoom");
 
     public GoalRoomQueryRepositoryImpl() {
         super(GoalRoom.class);
@@ -51,7 +61,7 @@ public class GoalRoomQueryRepositoryImpl extends QuerydslRepositorySupporter imp
     @Override
     public List<GoalRoom> findGoalRoomsWithPendingMembersByRoadmapAndCond(final Roadmap roadmap,
                                                                           final RoadmapGoalRoomsOrderType orderType,
-                                                                          final Long lastId,
+                                                                          final ScrollCursor cursor,
                                                                           final int pageSize) {
         return selectFrom(goalRoom)
                 .innerJoin(goalRoom.roadmapContent, roadmapContent)
@@ -64,7 +74,7 @@ public class GoalRoomQueryRepositoryImpl extends QuerydslRepositorySupporter imp
                 .fetchJoin()
                 .where(
                         statusCond(GoalRoomStatus.RECRUITING),
-                        lessThanLastId(lastId, orderType),
+                        afterCursor(cursor, orderType),
                         roadmapCond(roadmap))
                 .limit(pageSize + LIMIT_OFFSET)
                 .orderBy(sortCond(orderType))
@@ -82,25 +92,39 @@ public class GoalRoomQueryRepositoryImpl extends QuerydslRepositorySupporter imp
 
     @Override
     public List<GoalRoom> findByMember(final Member member) {
+        final Set<Long> goalRoomIds = findGoalRoomIdsByMember(member);
+        if (goalRoomIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         return selectFrom(goalRoom)
-                .leftJoin(goalRoom.goalRoomPendingMembers.values, goalRoomPendingMember)
-                .leftJoin(goalRoom.goalRoomMembers.values, goalRoomMember)
-                .where(goalRoomPendingMember.member.eq(member)
-                        .or(goalRoomMember.member.eq(member)))
+                .where(goalRoom.id.in(goalRoomIds))
                 .fetch();
     }
 
     @Override
     public List<GoalRoom> findByMemberAndStatus(final Member member, final GoalRoomStatus goalRoomStatus) {
+        final Set<Long> goalRoomIds = findGoalRoomIdsByMember(member);
+        if (goalRoomIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         return selectFrom(goalRoom)
-                .leftJoin(goalRoom.goalRoomPendingMembers.values, goalRoomPendingMember)
-                .leftJoin(goalRoom.goalRoomMembers.values, goalRoomMember)
-                .where(goalRoomPendingMember.member.eq(member)
-                        .or(goalRoomMember.member.eq(member)))
-                .where(statusCond(goalRoomStatus))
+                .where(goalRoom.id.in(goalRoomIds),
+                        statusCond(goalRoomStatus))
                 .fetch();
     }
 
+    private Set<Long> findGoalRoomIdsByMember(final Member member) {
+        final Set<Long> goalRoomIds = new HashSet<>(select(goalRoomPendingMember.goalRoom.id)
+                .from(goalRoomPendingMember)
+                .where(goalRoomPendingMember.member.eq(member))
+                .fetch());
+        goalRoomIds.addAll(select(goalRoomMember.goalRoom.id)
+                .from(goalRoomMember)
+                .where(goalRoomMember.member.eq(member))
+                .fetch());
+        return goalRoomIds;
+    }
+
     @Override
     public Optional<GoalRoom> findByIdWithNodes(final Long goalRoomId) {
         return Optional.ofNullable(selectFrom(goalRoom)
@@ -126,28 +150,31 @@ public class GoalRoomQueryRepositoryImpl extends QuerydslRepositorySupporter imp
         return goalRoom.status.eq(status);
     }
 
-    private OrderSpecifier<?> sortCond(final RoadmapGoalRoomsOrderType orderType) {
+    private OrderSpecifier<?>[] sortCond(final RoadmapGoalRoomsOrderType orderType) {
         if (orderType == RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE) {
-            return goalRoom.startDate.asc();
+            return new OrderSpecifier<?>[]{goalRoom.startDate.asc(), goalRoom.id.asc()};
         }
-        return goalRoom.createdAt.desc();
+        return new OrderSpecifier<?>[]{goalRoom.createdAt.desc(), goalRoom.id.desc()};
     }
 
-    private BooleanExpression lessThanLastId(final Long lastId, final RoadmapGoalRoomsOrderType orderType) {
-        if (lastId == null) {
+    private BooleanExpression afterCursor(final ScrollCursor cursor, final RoadmapGoalRoomsOrderType orderType) {
+        if (cursor == null) {
             return null;
         }
         if (orderType == RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE) {
-            return select(goalRoom.startDate)
-                    .from(goalRoom)
-                    .where(goalRoom.id.eq(lastId))
-                    .lt(goalRoom.startDate);
+            final Expression<LocalDate> lastStartDate = cursor.hasSortKey()
+                    ? Expressions.constant(cursor.dateSortKey())
+                    : select(LAST_GOAL_ROOM.startDate).from(LAST_GOAL_ROOM).where(LAST_GOAL_ROOM.id.eq(cursor.id()));
+            return goalRoom.startDate.gt(lastStartDate)
+                    .or(goalRoom.startDate.eq(lastStartDate)
+                            .and(goalRoom.id.gt(cursor.id())));
         }
-        return goalRoom.createdAt.lt(
-                select(goalRoom.createdAt)
-                        .from(goalRoom)
-                        .where(goalRoom.id.eq(lastId))
-        );
+        final Expression<LocalDateTime> lastCreatedAt = cursor.hasSortKey()
+                ? Expressions.constant(cursor.dateTimeSortKey())
+                : select(LAST_GOAL_ROOM.createdAt).from(LAST_GOAL_ROOM).where(LAST_GOAL_ROOM.id.eq(cursor.id()));
+        return goalRoom.createdAt.lt(lastCreatedAt)
+                .or(goalRoom.createdAt.eq(lastCreatedAt)
+                        .and(goalRoom.id.lt(cursor.id())));
     }
 
     private BooleanExpression roadmapCond(final Roadmap roadmap) {
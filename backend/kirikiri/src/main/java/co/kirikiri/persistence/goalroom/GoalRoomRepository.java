@@ -1,16 +1,100 @@
 package co.kirikiri.persistence.goalroom;
 
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
 import co.kirikiri.domain.goalroom.GoalRoom;
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.persistence.dto.GoalRoomStartDto;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GoalRoomRepository extends JpaRepository<GoalRoom, Long>, GoalRoomQueryRepository {
 
     @Override
     Optional<GoalRoom> findById(final Long goalRoomId);
 
-    List<GoalRoom> findAllByStartDate(final LocalDate startDate);
-    List<GoalRoom> findAllByEndDate(final LocalDate endDate);
+    @Query("select new co.kirikiri.persistence.dto.GoalRoomStartDto(g.id, rc.roadmap.id, "
+            + "(select count(gp) from GoalRoomPendingMember gp where gp.goalRoom = g)) "
+            + "from GoalRoom g "
+            + "join g.roadmapContent rc "
+            + "where g.startDate <= :startDate "
+            + "and g.status = :status")
+    List<GoalRoomStartDto> findStartTargets(@Param("startDate") final LocalDate startDate,
+                                            @Param("status") final GoalRoomStatus status,
+                                            final Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GoalRoom g "
+            + "set g.status = :status, g.updatedAt = :updatedAt "
+            + "where g.id in :goalRoomIds")
+    int updateStatus(@Param("goalRoomIds") final List<Long> goalRoomIds,
+                     @Param("status") final GoalRoomStatus status,
+                     @Param("updatedAt") final LocalDateTime updatedAt);
+
+    @Query("select distinct rc.roadmap.id "
+            + "from GoalRoom g "
+            + "join g.roadmapContent rc "
+            + "where g.endDate = :endDate "
+            + "and g.status <> :status")
+    List<Long> findRoadmapIdsByEndDateAndStatusNot(@Param("endDate") final LocalDate endDate,
+                                                   @Param("status") final GoalRoomStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GoalRoom g "
+            + "set g.status = :status, g.updatedAt = :updatedAt "
+            + "where g.endDate = :endDate "
+            + "and g.status <> :status")
+    int updateStatusByEndDate(@Param("endDate") final LocalDate endDate,
+                              @Param("status") final GoalRoomStatus status,
+                              @Param("updatedAt") final LocalDateTime updatedAt);
+
+    @Query("select g.id from GoalRoom g "
+            + "join g.roadmapContent rc "
+            + "where rc.roadmap.id in :roadmapIds")
+    List<Long> findIdsByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GoalRoomToDoCheck gc "
+            + "where gc.goalRoomMember.id in "
+            + "(select gm.id from GoalRoomMember gm where gm.goalRoom.id in :goalRoomIds)")
+    int deleteToDoChecksByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
+
+    @Query("select cf.serverFilePath from CheckFeed cf "
+            + "join cf.goalRoomMember gm "
+            + "where gm.goalRoom.id in :goalRoomIds "
+            + "and cf.imageStatus = :imageStatus")
+    List<String> findCheckFeedFilePathsByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds,
+                                                     @Param("imageStatus") final CheckFeedImageStatus imageStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CheckFeed cf "
+            + "where cf.goalRoomMember.id in "
+            + "(select gm.id from GoalRoomMember gm where gm.goalRoom.id in :goalRoomIds)")
+    int deleteCheckFeedsByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GoalRoomMember gm "
+            + "where gm.goalRoom.id in :goalRoomIds")
+    int deleteMembersByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from goal_room_to_do "
+            + "where goal_room_id in :goalRoomIds", nativeQuery = true)
+    int deleteToDosByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from goal_room_roadmap_node "
+            + "where goal_room_id in :goalRoomIds", nativeQuery = true)
+    int deleteRoadmapNodesByGoalRoomIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GoalRoom g "
+            + "where g.id in :goalRoomIds")
+    int deleteAllByIds(@Param("goalRoomIds") final List<Long> goalRoomIds);
 }
@@ -4,11 +4,20 @@ import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.member.vo.Identifier;
 import co.kirikiri.domain.member.vo.Nickname;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberQueryRepository {
 
+    String MEMBER_ID_CACHE = "memberId";
+
     Optional<Member> findByIdentifier(final Identifier identifier);
 
+    @Cacheable(cacheNames = MEMBER_ID_CACHE, key = "#identifier.value", unless = "#result == null")
+    @Query("select m.id from Member m where m.identifier = :identifier")
+    Optional<Long> findIdByIdentifier(@Param("identifier") final Identifier identifier);
+
     Optional<Member> findByNickname(final Nickname nickname);
 }
@@ -3,9 +3,11 @@ package co.kirikiri.persistence.roadmap;
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapCategory;
-import co.kirikiri.domain.roadmap.RoadmapStatus;
 import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapScrollDto;
 import co.kirikiri.persistence.dto.RoadmapSearchDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,21 +15,21 @@ public interface RoadmapQueryRepository {
 
     Optional<Roadmap> findRoadmapById(final Long roadmapId);
 
-    List<Roadmap> findRoadmapsByCategory(final RoadmapCategory category,
-                                         final RoadmapOrderType orderType,
-                                         final Long lastId,
-                                         final int pageSize);
+    List<RoadmapScrollDto> findRoadmapsByCategory(final RoadmapCategory category,
+                                                  final RoadmapOrderType orderType,
+                                                  final ScrollCursor cursor,
+                                                  final int pageSize);
 
-    List<Roadmap> findRoadmapsByCond(final RoadmapSearchDto searchRequest,
-                                     final RoadmapOrderType orderType,
-                                     final Long lastId,
-                                     final int pageSize);
+    List<RoadmapScrollDto> findRoadmapsByCond(final RoadmapSearchDto searchRequest,
+                                              final RoadmapOrderType orderType,
+                                              final ScrollCursor cursor,
+                                              final int pageSize);
+
+    List<Roadmap> findRoadmapsByIds(final Collection<Long> roadmapIds);
 
     List<Roadmap> findRoadmapsWithCategoryByMemberOrderByLatest(final Member member,
-                                                                final Long lastId,
+                                                                final ScrollCursor cursor,
                                                                 final int pageSize);
 
     Optional<Roadmap> findByIdAndMemberIdentifier(final Long roadmapId, final String identifier);
-
-    List<Roadmap> findWithRoadmapContentByStatus(final RoadmapStatus status);
 }
@@ -1,38 +1,41 @@
 package co.kirikiri.persistence.roadmap;
 
-import static co.kirikiri.domain.goalroom.QGoalRoom.goalRoom;
-import static co.kirikiri.domain.goalroom.QGoalRoomMember.goalRoomMember;
 import static co.kirikiri.domain.member.QMember.member;
 import static co.kirikiri.domain.roadmap.QRoadmap.roadmap;
 import static co.kirikiri.domain.roadmap.QRoadmapCategory.roadmapCategory;
-import static co.kirikiri.domain.roadmap.QRoadmapContent.roadmapContent;
-import static co.kirikiri.domain.roadmap.QRoadmapReview.roadmapReview;
+import static co.kirikiri.domain.roadmap.QRoadmapStats.roadmapStats;
 import static co.kirikiri.domain.roadmap.QRoadmapTag.roadmapTag;
 
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.domain.roadmap.QRoadmap;
+import co.kirikiri.domain.roadmap.QRoadmapStats;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapCategory;
 import co.kirikiri.domain.roadmap.RoadmapStatus;
 import co.kirikiri.persistence.QuerydslRepositorySupporter;
 import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapScrollDto;
 import co.kirikiri.persistence.dto.RoadmapSearchCreatorNickname;
 import co.kirikiri.persistence.dto.RoadmapSearchDto;
-import co.kirikiri.persistence.dto.RoadmapSearchTagName;
-import co.kirikiri.persistence.dto.RoadmapSearchTitle;
-import com.querydsl.core.types.Order;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter implements RoadmapQueryRepository {
 
     private static final int LIMIT_OFFSET = 1;
+    private static final QRoadmap LAST_ROADMAP = new QRoadmap("lastRoadmap");
+    private static final QRoadmapStats LAST_ROADMAP_STATS = new QRoadmapStats("lastRoadmapStats");
 
     public RoadmapQueryRepositoryImpl() {
         super(Roadmap.class);
@@ -51,47 +54,68 @@ public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter impl
     }
 
     @Override
-    public List<Roadmap> findRoadmapsByCategory(final RoadmapCategory category, final RoadmapOrderType orderType,
-                                                final Long lastId, final int pageSize) {
-
-        return selectFrom(roadmap)
+    public List<RoadmapScrollDto> findRoadmapsByCategory(final RoadmapCategory category,
+                                                         final RoadmapOrderType orderType,
+                                                         final ScrollCursor cursor, final int pageSize) {
+        final Expression<?> sortKey = sortKey(orderType);
+        final JPAQuery<Tuple> query = select(roadmap, sortKey)
+                .from(roadmap)
                 .innerJoin(roadmap.category, roadmapCategory)
                 .fetchJoin()
                 .innerJoin(roadmap.creator, member)
                 .fetchJoin()
-                .leftJoin(roadmap.tags.values, roadmapTag)
+                .leftJoin(roadmap.tags.values, roadmapTag);
+        final List<Tuple> roadmaps = joinRoadmapStats(query, orderType)
                 .where(
-                        lessThanLastId(lastId, orderType),
+                        afterCursor(cursor, orderType),
                         statusCond(RoadmapStatus.CREATED),
                         categoryCond(category))
                 .limit(pageSize + LIMIT_OFFSET)
                 .orderBy(sortCond(orderType))
                 .fetch();
+        return makeRoadmapScrollDtos(roadmaps, sortKey);
     }
 
     @Override
-    public List<Roadmap> findRoadmapsByCond(final RoadmapSearchDto searchRequest, final RoadmapOrderType orderType,
-                                            final Long lastId, final int pageSize) {
-        return selectFrom(roadmap)
+    public List<RoadmapScrollDto> findRoadmapsByCond(final RoadmapSearchDto searchRequest,
+                                                     final RoadmapOrderType orderType,
+                                                     final ScrollCursor cursor, final int pageSize) {
+        final Expression<?> sortKey = sortKey(orderType);
+        final JPAQuery<Tuple> query = select(roadmap, sortKey)
+                .from(roadmap)
                 .innerJoin(roadmap.category, roadmapCategory)
                 .fetchJoin()
                 .innerJoin(roadmap.creator, member)
                 .fetchJoin()
-                .leftJoin(roadmap.tags.values, roadmapTag)
+                .leftJoin(roadmap.tags.values, roadmapTag);
+        final List<Tuple> roadmaps = joinRoadmapStats(query, orderType)
                 .where(
-                        lessThanLastId(lastId, orderType),
+                        afterCursor(cursor, orderType),
                         statusCond(RoadmapStatus.CREATED),
-                        titleCond(searchRequest.getTitle()),
-                        creatorNicknameCond(searchRequest.getCreatorName()),
-                        tagCond(searchRequest.getTagName()))
+                        roadmapIdsCond(searchRequest.getRoadmapIds()),
+                        creatorNicknameCond(searchRequest.getCreatorName()))
                 .limit(pageSize + LIMIT_OFFSET)
                 .orderBy(sortCond(orderType))
                 .fetch();
+        return makeRoadmapScrollDtos(roadmaps, sortKey);
+    }
+
+    @Override
+    public List<Roadmap> findRoadmapsByIds(final Collection<Long> roadmapIds) {
+        return selectFrom(roadmap)
+                .innerJoin(roadmap.category, roadmapCategory)
+                .fetchJoin()
+                .innerJoin(roadmap.creator, member)
+                .fetchJoin()
+                .where(
+                        statusCond(RoadmapStatus.CREATED),
+                        roadmapIdsCond(roadmapIds))
+                .fetch();
     }
 
     @Override
     public List<Roadmap> findRoadmapsWithCategoryByMemberOrderByLatest(final Member member,
-                                                                       final Long lastId,
+                                                                       final ScrollCursor cursor,
                                                                        final int pageSize) {
         final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
         return selectFrom(roadmap)
@@ -99,7 +123,7 @@ public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter impl
                 .fetchJoin()
                 .where(
                         creatorIdCond(member.getId()),
-                        lessThanLastId(lastId, orderType))
+                        afterCursor(cursor, orderType))
                 .limit(pageSize + LIMIT_OFFSET)
                 .orderBy(sortCond(orderType))
                 .fetch();
@@ -113,15 +137,6 @@ public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter impl
                 .fetchOne());
     }
 
-    @Override
-    public List<Roadmap> findWithRoadmapContentByStatus(final RoadmapStatus status) {
-        return selectFrom(roadmap)
-                .innerJoin(roadmap.contents.values, roadmapContent)
-                .fetchJoin()
-                .where(statusCond(status))
-                .fetch();
-    }
-
     private BooleanExpression roadmapCond(final Long roadmapId) {
         return roadmap.id.eq(roadmapId);
     }
@@ -137,15 +152,11 @@ public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter impl
         return roadmap.status.eq(status);
     }
 
-    private BooleanExpression titleCond(final RoadmapSearchTitle title) {
-        if (title == null) {
+    private BooleanExpression roadmapIdsCond(final Collection<Long> roadmapIds) {
+        if (roadmapIds == null) {
             return null;
         }
-        return removeBlank(roadmap.title).containsIgnoreCase(title.value());
-    }
-
-    private StringExpression removeBlank(final StringExpression field) {
-        return Expressions.stringTemplate("REPLACE({0}, ' ', '')", field);
+        return roadmap.id.in(roadmapIds);
     }
 
     private BooleanExpression creatorIdCond(final Long creatorId) {
@@ -162,80 +173,91 @@ public class RoadmapQueryRepositoryImpl extends QuerydslRepositorySupporter impl
         return roadmap.creator.nickname.value.eq(creatorName.value());
     }
 
-    private BooleanExpression tagCond(final RoadmapSearchTagName tagName) {
-        if (tagName == null) {
-            return null;
+    private List<RoadmapScrollDto> makeRoadmapScrollDtos(final List<Tuple> roadmaps, final Expression<?> sortKey) {
+        return roadmaps.stream()
+                .map(tuple -> {
+                    final Roadmap foundRoadmap = tuple.get(roadmap);
+                    return new RoadmapScrollDto(foundRoadmap,
+                            ScrollCursor.of(tuple.get(sortKey), foundRoadmap.getId()));
+                })
+                .toList();
+    }
+
+    private JPAQuery<Tuple> joinRoadmapStats(final JPAQuery<Tuple> query, final RoadmapOrderType orderType) {
+        if (orderType == RoadmapOrderType.LATEST) {
+            return query;
         }
-        return roadmap.tags.values
-                .any()
-                .name.value
-                .equalsIgnoreCase(tagName.value());
+        return query.innerJoin(roadmapStats)
+                .on(roadmapStats.roadmapId.eq(roadmap.id));
     }
 
-    private OrderSpecifier<?> sortCond(final RoadmapOrderType orderType) {
+    private Expression<?> sortKey(final RoadmapOrderType orderType) {
         if (orderType == RoadmapOrderType.GOAL_ROOM_COUNT) {
-            return new OrderSpecifier<>(
-                    Order.DESC,
-                    goalRoomCountCond(goalRoom.roadmapContent.roadmap.eq(roadmap))
-            );
+            return roadmapStats.goalRoomCount;
         }
         if (orderType == RoadmapOrderType.PARTICIPANT_COUNT) {
-            return new OrderSpecifier<>(
-                    Order.DESC,
-                    participantCountCond(goalRoomMember.goalRoom.roadmapContent.roadmap.eq(roadmap))
-            );
+            return roadmapStats.participantCount;
         }
         if (orderType == RoadmapOrderType.REVIEW_RATE) {
-            return new OrderSpecifier<>(
-                    Order.DESC,
-                    reviewRateCond(roadmapReview.roadmap.eq(roadmap))
-            );
+            return roadmapStats.reviewRate;
         }
-        return roadmap.createdAt.desc();
+        return roadmap.createdAt;
     }
 
-    private JPAQuery<Long> goalRoomCountCond(final BooleanExpression isSatisfiedRoadmap) {
-        return select(goalRoom.count())
-                .from(goalRoom)
-                .where(isSatisfiedRoadmap);
-    }
-
-    private JPAQuery<Long> participantCountCond(final BooleanExpression isSatisfiedRoadmap) {
-        return select(goalRoomMember.count())
-                .from(goalRoomMember)
-                .where(isSatisfiedRoadmap);
-    }
-
-    private JPAQuery<Double> reviewRateCond(final BooleanExpression isSatisfiedRoadmap) {
-        return select(roadmapReview.rate.avg())
-                .from(roadmapReview)
-                .where(isSatisfiedRoadmap);
+    private OrderSpecifier<?>[] sortCond(final RoadmapOrderType orderType) {
+        if (orderType == RoadmapOrderType.GOAL_ROOM_COUNT) {
+            return new OrderSpecifier<?>[]{roadmapStats.goalRoomCount.desc(), roadmapStats.roadmapId.asc()};
+        }
+        if (orderType == RoadmapOrderType.PARTICIPANT_COUNT) {
+            return new OrderSpecifier<?>[]{roadmapStats.participantCount.desc(), roadmapStats.roadmapId.asc()};
+        }
+        if (orderType == RoadmapOrderType.REVIEW_RATE) {
+            return new OrderSpecifier<?>[]{roadmapStats.reviewRate.desc(), roadmapStats.roadmapId.asc()};
+        }
+        return new OrderSpecifier<?>[]{roadmap.createdAt.desc(), roadmap.id.desc()};
     }
 
-    private BooleanExpression lessThanLastId(final Long lastId, final RoadmapOrderType orderType) {
-        if (lastId == null) {
+    private BooleanExpression afterCursor(final ScrollCursor cursor, final RoadmapOrderType orderType) {
+        if (cursor == null) {
             return null;
         }
         if (orderType == RoadmapOrderType.GOAL_ROOM_COUNT) {
-            final NumberPath<Long> goalRoomRoadmapId = goalRoom.roadmapContent.roadmap.id;
-            return goalRoomCountCond(goalRoomRoadmapId.eq(roadmap.id))
-                    .lt(goalRoomCountCond(goalRoomRoadmapId.eq(lastId)));
+            final Expression<Long> lastGoalRoomCount = cursor.hasSortKey()
+                    ? Expressions.constant(cursor.longSortKey())
+                    : findLastRoadmapStats(LAST_ROADMAP_STATS.goalRoomCount, cursor.id());
+            return roadmapStats.goalRoomCount.lt(lastGoalRoomCount)
+                    .or(roadmapStats.goalRoomCount.eq(lastGoalRoomCount)
+                            .and(roadmapStats.roadmapId.gt(cursor.id())));
         }
         if (orderType == RoadmapOrderType.PARTICIPANT_COUNT) {
-            final NumberPath<Long> goalRoomMemberRoadmapId = goalRoomMember.goalRoom.roadmapContent.roadmap.id;
-            return participantCountCond(goalRoomMemberRoadmapId.eq(roadmap.id))
-                    .lt(participantCountCond(goalRoomMemberRoadmapId.eq(lastId)));
+            final Expression<Long> lastParticipantCount = cursor.hasSortKey()
+                    ? Expressions.constant(cursor.longSortKey())
+                    : findLastRoadmapStats(LAST_ROADMAP_STATS.participantCount, cursor.id());
+            return roadmapStats.participantCount.lt(lastParticipantCount)
+                    .or(roadmapStats.participantCount.eq(lastParticipantCount)
+                            .and(roadmapStats.roadmapId.gt(cursor.id())));
         }
         if (orderType == RoadmapOrderType.REVIEW_RATE) {
-            final NumberPath<Long> roadmapReviewRoadmapId = roadmapReview.roadmap.id;
-            return reviewRateCond(roadmapReviewRoadmapId.eq(roadmap.id))
-                    .lt(reviewRateCond(roadmapReviewRoadmapId.eq(lastId)));
+            final Expression<Double> lastReviewRate = cursor.hasSortKey()
+                    ? Expressions.constant(cursor.doubleSortKey())
+                    : findLastRoadmapStats(LAST_ROADMAP_STATS.reviewRate, cursor.id());
+            return roadmapStats.reviewRate.lt(lastReviewRate)
+                    .or(roadmapStats.reviewRate.eq(lastReviewRate)
+                            .and(roadmapStats.roadmapId.gt(cursor.id())));
         }
-        return roadmap.createdAt.lt(
-                select(roadmap.createdAt)
-                        .from(roadmap)
-                        .where(roadmap.id.eq(lastId))
-        );
+        final Expression<LocalDateTime> lastCreatedAt = cursor.hasSortKey()
+                ? Expressions.constant(cursor.dateTimeSortKey())
+                : select(LAST_ROADMAP.createdAt).from(LAST_ROADMAP).where(LAST_ROADMAP.id.eq(cursor.id()));
+        return roadmap.createdAt.lt(lastCreatedAt)
+                .or(roadmap.createdAt.eq(lastCreatedAt)
+                        .and(roadmap.id.lt(cursor.id())));
+    }
+
+    private <T extends Number & Comparable<?>> JPAQuery<T> findLastRoadmapStats(final NumberPath<T> sortKey,
+                                                                               final Long roadmapId) {
+        return select(sortKey)
+                .from(LAST_ROADMAP_STATS)
+                .where(LAST_ROADMAP_STATS.roadmapId.eq(roadmapId));
     }
 
     private BooleanExpression creatorIdentifierCond(final String identifier) {
@@ -1,8 +1,127 @@
 package co.kirikiri.persistence.roadmap;
 
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
 import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.dto.RoadmapSearchDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapSuggestionDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoadmapRepository extends JpaRepository<Roadmap, Long>, RoadmapQueryRepository {
 
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSearchDocumentDto(r.id, r.title, r.introduction) "
+            + "from Roadmap r "
+            + "where r.status = :status and r.id > :lastId "
+            + "order by r.id")
+    List<RoadmapSearchDocumentDto> findSearchDocumentsAfter(@Param("status") final RoadmapStatus status,
+                                                            @Param("lastId") final Long lastId,
+                                                            final Pageable pageable);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSearchDocumentDto(r.id, r.title, r.introduction) "
+            + "from Roadmap r "
+            + "where r.status = :status and r.createdAt >= :createdAt and r.id > :lastId "
+            + "order by r.id")
+    List<RoadmapSearchDocumentDto> findSearchDocumentsCreatedSince(@Param("status") final RoadmapStatus status,
+                                                                   @Param("createdAt") final LocalDateTime createdAt,
+                                                                   @Param("lastId") final Long lastId,
+                                                                   final Pageable pageable);
+
+    @Query("select r.id "
+            + "from Roadmap r "
+            + "where r.status = :status and r.deletedAt >= :deletedAt and r.id > :lastId "
+            + "order by r.id")
+    List<Long> findIdsDeletedSince(@Param("status") final RoadmapStatus status,
+                                   @Param("deletedAt") final LocalDateTime deletedAt,
+                                   @Param("lastId") final Long lastId, final Pageable pageable);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto(r.id, r.category.id) "
+            + "from Roadmap r "
+            + "where r.status = :status and r.id > :lastId "
+            + "order by r.id")
+    List<RoadmapSimilarityDocumentDto> findSimilarityDocumentsAfter(@Param("status") final RoadmapStatus status,
+                                                                    @Param("lastId") final Long lastId,
+                                                                    final Pageable pageable);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto(r.id, r.category.id) "
+            + "from Roadmap r "
+            + "where r.status = :status and r.createdAt >= :createdAt and r.id > :lastId "
+            + "order by r.id")
+    List<RoadmapSimilarityDocumentDto> findSimilarityDocumentsCreatedSince(
+            @Param("status") final RoadmapStatus status, @Param("createdAt") final LocalDateTime createdAt,
+            @Param("lastId") final Long lastId, final Pageable pageable);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapTagNameDto(r.id, t.name.value) "
+            + "from Roadmap r "
+            + "join r.tags.values t "
+            + "where r.id in :roadmapIds")
+    List<RoadmapTagNameDto> findTagNamesByRoadmapIds(@Param("roadmapIds") final Collection<Long> roadmapIds);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSuggestionDocumentDto("
+            + "r.id, c.nickname.value, coalesce(s.participantCount, 0L)) "
+            + "from Roadmap r "
+            + "join r.creator c "
+            + "left join RoadmapStats s on s.roadmapId = r.id "
+            + "where r.id in :roadmapIds")
+    List<RoadmapSuggestionDocumentDto> findSuggestionDocumentsByRoadmapIds(
+            @Param("roadmapIds") final Collection<Long> roadmapIds);
+
+    @Query("select r.id from Roadmap r "
+            + "where r.status = :status "
+            + "and not exists (select g.id from GoalRoom g "
+            + "join g.roadmapContent rc "
+            + "where rc.roadmap = r "
+            + "and (g.status <> :completedStatus or g.endDate >= :deletableEndDate))")
+    List<Long> findPurgeTargets(@Param("status") final RoadmapStatus status,
+                                @Param("completedStatus") final GoalRoomStatus completedStatus,
+                                @Param("deletableEndDate") final LocalDate deletableEndDate,
+                                final Pageable pageable);
+
+    @Query(value = "select i.server_file_path from roadmap_node_image i "
+            + "inner join roadmap_node rn on i.roadmap_node_id = rn.id "
+            + "inner join roadmap_content rc on rn.roadmap_content_id = rc.id "
+            + "where rc.roadmap_id in :roadmapIds", nativeQuery = true)
+    List<String> findNodeImageFilePathsByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from roadmap_node_image "
+            + "where roadmap_node_id in (select rn.id from roadmap_node rn "
+            + "inner join roadmap_content rc on rn.roadmap_content_id = rc.id "
+            + "where rc.roadmap_id in :roadmapIds)", nativeQuery = true)
+    int deleteNodeImagesByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RoadmapNode rn "
+            + "where rn.roadmapContent.id in "
+            + "(select rc.id from RoadmapContent rc where rc.roadmap.id in :roadmapIds)")
+    int deleteNodesByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RoadmapContent rc "
+            + "where rc.roadmap.id in :roadmapIds")
+    int deleteContentsByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from roadmap_tag "
+            + "where roadmap_id in :roadmapIds", nativeQuery = true)
+    int deleteTagsByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RoadmapReview rv "
+            + "where rv.roadmap.id in :roadmapIds")
+    int deleteReviewsByRoadmapIds(@Param("roadmapIds") final List<Long> roadmapIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Roadmap r "
+            + "where r.id in :roadmapIds")
+    int deleteAllByIds(@Param("roadmapIds") final List<Long> roadmapIds);
 }
@@ -2,11 +2,12 @@ package co.kirikiri.persistence.roadmap;
 
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapReview;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import java.util.List;
 
 public interface RoadmapReviewQueryRepository {
 
     List<RoadmapReview> findRoadmapReviewWithMemberByRoadmapOrderByLatest(final Roadmap roadmap,
-                                                                          final Long lastId,
+                                                                          final ScrollCursor cursor,
                                                                           final int pageSize);
 }
@@ -3,31 +3,36 @@ package co.kirikiri.persistence.roadmap;
 import static co.kirikiri.domain.member.QMember.member;
 import static co.kirikiri.domain.roadmap.QRoadmapReview.roadmapReview;
 
+import co.kirikiri.domain.roadmap.QRoadmapReview;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapReview;
 import co.kirikiri.persistence.QuerydslRepositorySupporter;
-import com.querydsl.core.types.OrderSpecifier;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public class RoadmapReviewQueryRepositoryImpl extends QuerydslRepositorySupporter implements
         RoadmapReviewQueryRepository {
 
+    private static final QRoadmapReview LAST_ROADMAP_REVIEW = new QRoadmapReview("lastRoadmapReview");
+
     public RoadmapReviewQueryRepositoryImpl() {
         super(RoadmapReview.class);
     }
 
     @Override
     public List<RoadmapReview> findRoadmapReviewWithMemberByRoadmapOrderByLatest(final Roadmap roadmap,
-                                                                                 final Long lastId,
+                                                                                 final ScrollCursor cursor,
                                                                                  final int pageSize) {
         return selectFrom(roadmapReview)
                 .innerJoin(roadmapReview.member, member)
                 .fetchJoin()
-                .where(roadmapCond(roadmap), lessThanLastId(lastId))
+                .where(roadmapCond(roadmap), lessThanCursor(cursor))
                 .limit(pageSize)
-                .orderBy(orderByCreatedAtDesc())
+                .orderBy(roadmapReview.createdAt.desc(), roadmapReview.id.desc())
                 .fetch();
     }
 
@@ -35,16 +40,17 @@ public class RoadmapReviewQueryRepositoryImpl extends QuerydslRepositorySupporte
         return roadmapReview.roadmap.eq(roadmap);
     }
 
-    private BooleanExpression lessThanLastId(final Long lastId) {
-        if (lastId == null) {
+    private BooleanExpression lessThanCursor(final ScrollCursor cursor) {
+        if (cursor == null) {
             return null;
         }
-        return roadmapReview.createdAt.lt(
-                select(roadmapReview.createdAt).from(roadmapReview).where(roadmapReview.id.eq(lastId))
-        );
-    }
-
-    private OrderSpecifier<LocalDateTime> orderByCreatedAtDesc() {
-        return roadmapReview.createdAt.desc();
+        final Expression<LocalDateTime> lastCreatedAt = cursor.hasSortKey()
+                ? Expressions.constant(cursor.dateTimeSortKey())
+                : select(LAST_ROADMAP_REVIEW.createdAt)
+                        .from(LAST_ROADMAP_REVIEW)
+                        .where(LAST_ROADMAP_REVIEW.id.eq(cursor.id()));
+        return roadmapReview.createdAt.lt(lastCreatedAt)
+                .or(roadmapReview.createdAt.eq(lastCreatedAt)
+                        .and(roadmapReview.id.lt(cursor.id())));
     }
 }
@@ -0,0 +1,85 @@
+package co.kirikiri.persistence.roadmap;
+
+import co.kirikiri.domain.roadmap.RoadmapStats;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RoadmapStatsRepository extends JpaRepository<RoadmapStats, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RoadmapStats rs "
+            + "set rs.goalRoomCount = rs.goalRoomCount + 1 "
+            + "where rs.roadmapId = :roadmapId")
+    int increaseGoalRoomCount(@Param("roadmapId") final Long roadmapId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RoadmapStats rs "
+            + "set rs.participantCount = rs.participantCount + :participantCount "
+            + "where rs.roadmapId = :roadmapId")
+    int increaseParticipantCount(@Param("roadmapId") final Long roadmapId,
+                                 @Param("participantCount") final long participantCount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update roadmap_stats "
+            + "set review_rate = (review_sum + :rate) / (review_count + 1), "
+            + "review_sum = review_sum + :rate, "
+            + "review_count = review_count + 1 "
+            + "where roadmap_id = :roadmapId", nativeQuery = true)
+    int addReview(@Param("roadmapId") final Long roadmapId, @Param("rate") final Double rate);
+
+    @Query("select new co.kirikiri.persistence.dto.RoadmapSortKeyDto(rs.roadmapId, rs.goalRoomCount, "
+            + "rs.participantCount, rs.reviewSum, rs.reviewCount, rs.reviewRate) "
+            + "from RoadmapStats rs "
+            + "where rs.roadmapId > :lastId "
+            + "order by rs.roadmapId")
+    List<RoadmapSortKeyDto> findSortKeysAfter(@Param("lastId") final Long lastId, final Pageable pageable);
+
+    @Query("select r.id "
+            + "from Roadmap r "
+            + "where r.id > :lastId "
+            + "and r.id <= :maxId "
+            + "order by r.id")
+    List<Long> findRoadmapIdsAfter(@Param("lastId") final Long lastId, @Param("maxId") final Long maxId,
+                                   final Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into roadmap_stats "
+            + "(roadmap_id, goal_room_count, participant_count, review_sum, review_count, review_rate) "
+            + "select r.id, 0, 0, 0, 0, 0 "
+            + "from roadmap r "
+            + "where r.id > :lastId "
+            + "and r.id <= :toId "
+            + "and not exists (select 1 from roadmap_stats rs where rs.roadmap_id = r.id)", nativeQuery = true)
+    int insertMissingStats(@Param("lastId") final Long lastId, @Param("toId") final Long toId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update roadmap_stats rs "
+            + "set rs.goal_room_count = (select count(*) from goal_room g "
+            + "inner join roadmap_content rc on g.roadmap_content_id = rc.id "
+            + "where rc.roadmap_id = rs.roadmap_id), "
+            + "rs.participant_count = (select count(*) from goal_room_member gm "
+            + "inner join goal_room g on gm.goal_room_id = g.id "
+            + "inner join roadmap_content rc on g.roadmap_content_id = rc.id "
+            + "where rc.roadmap_id = rs.roadmap_id), "
+            + "rs.review_sum = (select coalesce(sum(rv.rate), 0) from roadmap_review rv "
+            + "where rv.roadmap_id = rs.roadmap_id), "
+            + "rs.review_count = (select count(*) from roadmap_review rv where rv.roadmap_id = rs.roadmap_id), "
+            + "rs.review_rate = (select coalesce(avg(rv.rate), 0) from roadmap_review rv "
+            + "where rv.roadmap_id = rs.roadmap_id) "
+            + "where rs.roadmap_id > :lastId "
+            + "and rs.roadmap_id <= :toId", nativeQuery = true)
+    int reconcileBetween(@Param("lastId") final Long lastId, @Param("toId") final Long toId);
+
+    @Query("select coalesce(max(r.id), 0) from Roadmap r")
+    long findMaxRoadmapId();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RoadmapStats rs "
+            + "where not exists (select r.id from Roadmap r where r.id = rs.roadmapId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,40 @@
+package co.kirikiri.persistence.scheduler;
+
+import co.kirikiri.domain.scheduler.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update scheduler_lease "
+            + "set owner = :owner, locked_at = current_timestamp(6), "
+            + "locked_until = timestampadd(MICROSECOND, :lockMicros, current_timestamp(6)) "
+            + "where name = :name "
+            + "and locked_until <= current_timestamp(6)", nativeQuery = true)
+    int acquire(@Param("name") final String name, @Param("owner") final String owner,
+                @Param("lockMicros") final long lockMicros);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into scheduler_lease (name, owner, locked_at, locked_until) "
+            + "values (:name, :owner, current_timestamp(6), "
+            + "timestampadd(MICROSECOND, :lockMicros, current_timestamp(6)))", nativeQuery = true)
+    int create(@Param("name") final String name, @Param("owner") final String owner,
+               @Param("lockMicros") final long lockMicros);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update scheduler_lease "
+            + "set locked_until = greatest(current_timestamp(6), "
+            + "timestampadd(MICROSECOND, :minimumLockMicros, locked_at)) "
+            + "where name = :name "
+            + "and owner = :owner", nativeQuery = true)
+    int release(@Param("name") final String name, @Param("owner") final String owner,
+                @Param("minimumLockMicros") final long minimumLockMicros);
+}
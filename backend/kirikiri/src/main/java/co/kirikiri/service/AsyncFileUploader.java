@@ -0,0 +1,112 @@
+package co.kirikiri.service;
+
+import co.kirikiri.common.config.AsyncConfig;
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import co.kirikiri.service.dto.UploadedImage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AsyncFileUploader {
+
+    private static final String IN_FLIGHT_METRIC = "file.upload.in-flight";
+    private static final String QUEUED_METRIC = "file.upload.queued";
+
+    private final FileService fileService;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+    private final AtomicInteger inFlightUploads = new AtomicInteger();
+
+    public AsyncFileUploader(final FileService fileService, final ImageDerivativeGenerator imageDerivativeGenerator,
+                             final ContentAddressedFileStore contentAddressedFileStore,
+                             @Qualifier(AsyncConfig.FILE_UPLOAD_EXECUTOR) final ThreadPoolTaskExecutor fileUploadExecutor,
+                             final MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.contentAddressedFileStore = contentAddressedFileStore;
+        this.fileUploadExecutor = fileUploadExecutor;
+        Gauge.builder(IN_FLIGHT_METRIC, inFlightUploads, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_METRIC, fileUploadExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<UploadedImage> uploadImage(final String path, final ImageDirType imageDirType,
+                                                        final ImageContentType imageContentType,
+                                                        final FileInformation fileInformation) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> saveWithDerivatives(path, imageDirType, imageContentType, fileInformation),
+                    fileUploadExecutor);
+        } catch (final TaskRejectedException exception) {
+            return CompletableFuture.failedFuture(new ServerException("업로드 대기열이 가득 차 이미지를 업로드하지 못했습니다."));
+        }
+    }
+
+    private UploadedImage saveWithDerivatives(final String path, final ImageDirType imageDirType,
+                                              final ImageContentType imageContentType,
+                                              final FileInformation fileInformation) {
+        final MessageDigest messageDigest = ContentAddressedFileStore.createMessageDigest();
+        final byte[] source = readAllBytes(fileInformation, messageDigest);
+        if (!contentAddressedFileStore.isEnabled()) {
+            return saveWithDerivatives(path, imageDirType, imageContentType, fileInformation, source);
+        }
+        final String digest = ContentAddressedFileStore.toDigest(messageDigest);
+        final String contentAddressedPath = contentAddressedFileStore.makeFilePath(digest, imageContentType);
+        final StoredFile storedFile = contentAddressedFileStore.acquire(digest, contentAddressedPath);
+        if (storedFile.isUploaded()) {
+            return new UploadedImage(contentAddressedPath,
+                    new ImageDerivatives(storedFile.getThumbnailFilePath(), storedFile.getMediumFilePath()));
+        }
+        try {
+            final UploadedImage uploadedImage = saveWithDerivatives(contentAddressedPath, imageDirType,
+                    imageContentType, fileInformation, source);
+            contentAddressedFileStore.markUploaded(contentAddressedPath, uploadedImage.imageDerivatives());
+            return uploadedImage;
+        } catch (final RuntimeException exception) {
+            contentAddressedFileStore.release(contentAddressedPath);
+            throw exception;
+        }
+    }
+
+    private UploadedImage saveWithDerivatives(final String path, final ImageDirType imageDirType,
+                                              final ImageContentType imageContentType,
+                                              final FileInformation fileInformation, final byte[] source) {
+        save(path, new FileInformation(fileInformation.originalFileName(), source.length,
+                fileInformation.contentType(), new ByteArrayInputStream(source)));
+        return new UploadedImage(path, imageDerivativeGenerator.generate(path, imageDirType, imageContentType, source));
+    }
+
+    private byte[] readAllBytes(final FileInformation fileInformation, final MessageDigest messageDigest) {
+        try (final InputStream inputStream = new DigestInputStream(fileInformation.inputStream(), messageDigest)) {
+            return inputStream.readAllBytes();
+        } catch (final IOException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    private void save(final String path, final FileInformation fileInformation) {
+        inFlightUploads.incrementAndGet();
+        try {
+            fileService.save(path, fileInformation);
+        } finally {
+            inFlightUploads.decrementAndGet();
+        }
+    }
+}
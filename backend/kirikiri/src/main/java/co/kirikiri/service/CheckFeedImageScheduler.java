@@ -0,0 +1,71 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.persistence.goalroom.CheckFeedRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CheckFeedImageScheduler {
+
+    private static final String FAIL_PENDING_JOB_NAME = "check-feed.fail-pending-images";
+    private static final String JOB_DURATION_METRIC = "scheduler.job.duration";
+    private static final String FAILED_METRIC = "check-feed.image-failed";
+    private static final String JOB_TAG = "job";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final CheckFeedRepository checkFeedRepository;
+    private final FileSpooler fileSpooler;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final Duration pendingTimeout;
+    private final Timer failPendingTimer;
+    private final Counter failedCounter;
+
+    public CheckFeedImageScheduler(final CheckFeedRepository checkFeedRepository, final FileSpooler fileSpooler,
+                                   final SchedulerLeaseManager schedulerLeaseManager,
+                                   @Value("${check-feed.image.pending-timeout-minutes:30}") final long pendingTimeoutMinutes,
+                                   final MeterRegistry meterRegistry) {
+        this.checkFeedRepository = checkFeedRepository;
+        this.fileSpooler = fileSpooler;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.pendingTimeout = Duration.ofMinutes(pendingTimeoutMinutes);
+        this.failPendingTimer = Timer.builder(JOB_DURATION_METRIC).tag(JOB_TAG, FAIL_PENDING_JOB_NAME)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_METRIC).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 */10 * * * *")
+    public void cleanUpPendingImages() {
+        schedulerLeaseManager.runExclusively(FAIL_PENDING_JOB_NAME,
+                () -> failPendingTimer.record(this::failExpiredPendingImages));
+        deleteExpiredSpoolFiles();
+    }
+
+    private void failExpiredPendingImages() {
+        final int failedCount = checkFeedRepository.updateImageStatusCreatedBefore(CheckFeedImageStatus.PENDING,
+                LocalDateTime.now().minus(pendingTimeout), CheckFeedImageStatus.FAILED);
+        failedCounter.increment(failedCount);
+        if (failedCount > 0) {
+            log.warn(String.format("업로드가 끝나지 않은 인증 피드 이미지 %d개를 실패로 변경했습니다.", failedCount));
+        }
+    }
+
+    private void deleteExpiredSpoolFiles() {
+        final int deletedCount = fileSpooler.deleteExpired(Instant.now().minus(pendingTimeout));
+        if (deletedCount > 0) {
+            log.info(String.format("만료된 임시 파일 %d개를 삭제했습니다.", deletedCount));
+        }
+    }
+}
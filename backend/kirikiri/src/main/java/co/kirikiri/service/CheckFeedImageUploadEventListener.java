@@ -0,0 +1,166 @@
+package co.kirikiri.service;
+
+import co.kirikiri.common.config.AsyncConfig;
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.persistence.goalroom.CheckFeedRepository;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import co.kirikiri.service.dto.SpooledFile;
+import co.kirikiri.service.event.CheckFeedImageUploadEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class CheckFeedImageUploadEventListener {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final FileService fileService;
+    private final FileSpooler fileSpooler;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final CheckFeedRepository checkFeedRepository;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final TaskExecutor fileUploadExecutor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public CheckFeedImageUploadEventListener(final FileService fileService, final FileSpooler fileSpooler,
+                                             final ImageDerivativeGenerator imageDerivativeGenerator,
+                                             final CheckFeedRepository checkFeedRepository,
+                                             final ContentAddressedFileStore contentAddressedFileStore,
+                                             @Qualifier(AsyncConfig.FILE_UPLOAD_EXECUTOR) final TaskExecutor fileUploadExecutor,
+                                             @Value("${file.upload.max-attempts:3}") final int maxAttempts,
+                                             @Value("${file.upload.retry-backoff-millis:500}") final long retryBackoffMillis) {
+        this.fileService = fileService;
+        this.fileSpooler = fileSpooler;
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.checkFeedRepository = checkFeedRepository;
+        this.contentAddressedFileStore = contentAddressedFileStore;
+        this.fileUploadExecutor = fileUploadExecutor;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @TransactionalEventListener
+    public void handleCheckFeedImageUpload(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        try {
+            fileUploadExecutor.execute(() -> uploadCheckFeedImage(checkFeedImageUploadEvent));
+        } catch (final TaskRejectedException exception) {
+            log.warn("업로드 대기열이 가득 차 인증 피드 이미지를 업로드하지 못했습니다. checkFeedId = "
+                    + checkFeedImageUploadEvent.checkFeedId(), exception);
+            fileSpooler.delete(checkFeedImageUploadEvent.spooledFile());
+            checkFeedRepository.updateImageStatus(checkFeedImageUploadEvent.checkFeedId(),
+                    CheckFeedImageStatus.FAILED);
+        }
+    }
+
+    private void uploadCheckFeedImage(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        try {
+            if (contentAddressedFileStore.isEnabled()) {
+                uploadContentAddressed(checkFeedImageUploadEvent);
+                return;
+            }
+            final CheckFeedImageStatus imageStatus = upload(checkFeedImageUploadEvent);
+            if (imageStatus == CheckFeedImageStatus.READY) {
+                generateDerivatives(checkFeedImageUploadEvent);
+            }
+            checkFeedRepository.updateImageStatus(checkFeedImageUploadEvent.checkFeedId(), imageStatus);
+        } finally {
+            fileSpooler.delete(checkFeedImageUploadEvent.spooledFile());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleCheckFeedRollback(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        fileSpooler.delete(checkFeedImageUploadEvent.spooledFile());
+    }
+
+    private void uploadContentAddressed(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        final Long checkFeedId = checkFeedImageUploadEvent.checkFeedId();
+        final String serverFilePath = checkFeedImageUploadEvent.serverFilePath();
+        final StoredFile storedFile = contentAddressedFileStore.acquire(
+                checkFeedImageUploadEvent.spooledFile().digest(), serverFilePath);
+        if (storedFile.isUploaded()) {
+            updateDerivativeFilePaths(checkFeedId, new ImageDerivatives(storedFile.getThumbnailFilePath(),
+                    storedFile.getMediumFilePath()));
+            checkFeedRepository.updateImageStatus(checkFeedId, CheckFeedImageStatus.READY);
+            return;
+        }
+        final CheckFeedImageStatus imageStatus = upload(checkFeedImageUploadEvent);
+        if (imageStatus == CheckFeedImageStatus.READY) {
+            contentAddressedFileStore.markUploaded(serverFilePath, generateDerivatives(checkFeedImageUploadEvent));
+        } else {
+            contentAddressedFileStore.release(serverFilePath);
+        }
+        checkFeedRepository.updateImageStatus(checkFeedId, imageStatus);
+    }
+
+    private CheckFeedImageStatus upload(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                uploadSpooledFile(checkFeedImageUploadEvent);
+                return CheckFeedImageStatus.READY;
+            } catch (final IOException | RuntimeException exception) {
+                log.warn("인증 피드 이미지 업로드에 실패했습니다. checkFeedId = " + checkFeedImageUploadEvent.checkFeedId()
+                        + ", attempt = " + attempt, exception);
+            }
+            if (attempt < maxAttempts && !waitForRetry(attempt)) {
+                break;
+            }
+        }
+        return CheckFeedImageStatus.FAILED;
+    }
+
+    private void uploadSpooledFile(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) throws IOException {
+        final FileInformation fileInformation = fileSpooler.open(checkFeedImageUploadEvent.spooledFile());
+        try {
+            fileService.save(checkFeedImageUploadEvent.serverFilePath(), fileInformation);
+        } finally {
+            fileInformation.inputStream().close();
+        }
+    }
+
+    private ImageDerivatives generateDerivatives(final CheckFeedImageUploadEvent checkFeedImageUploadEvent) {
+        final SpooledFile spooledFile = checkFeedImageUploadEvent.spooledFile();
+        try {
+            final byte[] source = Files.readAllBytes(spooledFile.path());
+            final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate(
+                    checkFeedImageUploadEvent.serverFilePath(), ImageDirType.CHECK_FEED,
+                    ImageContentType.findImageContentType(spooledFile.contentType()), source);
+            updateDerivativeFilePaths(checkFeedImageUploadEvent.checkFeedId(), imageDerivatives);
+            return imageDerivatives;
+        } catch (final IOException exception) {
+            log.warn("인증 피드 이미지 파생본 생성에 실패했습니다. checkFeedId = "
+                    + checkFeedImageUploadEvent.checkFeedId(), exception);
+            return ImageDerivatives.empty();
+        }
+    }
+
+    private void updateDerivativeFilePaths(final Long checkFeedId, final ImageDerivatives imageDerivatives) {
+        if (!imageDerivatives.isEmpty()) {
+            checkFeedRepository.updateDerivativeFilePaths(checkFeedId, imageDerivatives.thumbnailFilePath(),
+                    imageDerivatives.mediumFilePath());
+        }
+    }
+
+    private boolean waitForRetry(final int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package co.kirikiri.service;
+
+import co.kirikiri.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CheckFeedPlaceholderImage {
+
+    private final String serverFilePath;
+
+    public CheckFeedPlaceholderImage(@Value("${image.placeholder.serverFilePath}") final String serverFilePath) {
+        validateServerFilePath(serverFilePath);
+        this.serverFilePath = serverFilePath;
+    }
+
+    private void validateServerFilePath(final String serverFilePath) {
+        if (serverFilePath == null || serverFilePath.isBlank()) {
+            throw new ServerException("인증 피드 대체 이미지 경로가 설정되지 않았습니다.");
+        }
+    }
+
+    public String getServerFilePath() {
+        return serverFilePath;
+    }
+}
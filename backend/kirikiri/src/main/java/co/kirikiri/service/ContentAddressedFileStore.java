@@ -0,0 +1,78 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.persistence.file.StoredFileRepository;
+import co.kirikiri.service.dto.ImageDerivatives;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ContentAddressedFileStore {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String CONTENT_DIR_NAME = "content";
+    private static final String DIRECTORY_SEPARATOR = "/";
+    private static final String EXTENSION_SEPARATOR = ".";
+
+    private final StoredFileRepository storedFileRepository;
+    private final boolean enabled;
+
+    public ContentAddressedFileStore(final StoredFileRepository storedFileRepository,
+                                     @Value("${file.content-addressed.enabled:false}") final boolean enabled) {
+        this.storedFileRepository = storedFileRepository;
+        this.enabled = enabled;
+    }
+
+    public static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    public static String toDigest(final MessageDigest messageDigest) {
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String makeFilePath(final String digest, final ImageContentType imageContentType) {
+        return DIRECTORY_SEPARATOR + CONTENT_DIR_NAME + DIRECTORY_SEPARATOR + digest.substring(0, 2)
+                + DIRECTORY_SEPARATOR + digest + EXTENSION_SEPARATOR + imageContentType.name().toLowerCase();
+    }
+
+    public StoredFile acquire(final String digest, final String serverFilePath) {
+        if (storedFileRepository.increaseReferenceCount(serverFilePath) == 0) {
+            saveOrIncrease(digest, serverFilePath);
+        }
+        return storedFileRepository.findByServerFilePath(serverFilePath)
+                .orElseThrow(() -> new ServerException("저장된 파일 정보가 존재하지 않습니다. path = " + serverFilePath));
+    }
+
+    private void saveOrIncrease(final String digest, final String serverFilePath) {
+        try {
+            storedFileRepository.saveAndFlush(new StoredFile(digest, serverFilePath, null, null, 1, false));
+        } catch (final DataIntegrityViolationException exception) {
+            storedFileRepository.increaseReferenceCount(serverFilePath);
+        }
+    }
+
+    public void markUploaded(final String serverFilePath, final ImageDerivatives imageDerivatives) {
+        storedFileRepository.updateUploaded(serverFilePath, imageDerivatives.thumbnailFilePath(),
+                imageDerivatives.mediumFilePath());
+    }
+
+    public void release(final String serverFilePath) {
+        storedFileRepository.decreaseReferenceCount(serverFilePath, LocalDateTime.now());
+    }
+}
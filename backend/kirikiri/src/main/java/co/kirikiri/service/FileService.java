@@ -3,10 +3,25 @@ package co.kirikiri.service;
 import co.kirikiri.service.dto.FileInformation;
 import org.springframework.http.HttpMethod;
 import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
 
 public interface FileService {
 
     void save(final String path, final FileInformation fileInformation);
 
+    void delete(final String path);
+
     URL generateUrl(final String path, final HttpMethod httpMethod);
+
+    Map<String, URL> generateUrls(final Collection<String> paths, final HttpMethod httpMethod);
+
+    URL generatePublicUrl(final String path);
+
+    default URL generateMemberImageUrl(final String path, final boolean defaultImage) {
+        if (defaultImage) {
+            return generatePublicUrl(path);
+        }
+        return generateUrl(path, HttpMethod.GET);
+    }
 }
@@ -0,0 +1,85 @@
+package co.kirikiri.service;
+
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.SpooledFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileSpooler {
+
+    private static final String SPOOL_FILE_PREFIX = "spool-";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Path spoolDirectory;
+
+    public FileSpooler(@Value("${file.spool-directory:${java.io.tmpdir}/kirikiri-spool}") final String spoolDirectory) {
+        this.spoolDirectory = Path.of(spoolDirectory);
+    }
+
+    public SpooledFile spool(final FileInformation fileInformation) {
+        final MessageDigest messageDigest = ContentAddressedFileStore.createMessageDigest();
+        try (final InputStream inputStream = new DigestInputStream(fileInformation.inputStream(), messageDigest)) {
+            Files.createDirectories(spoolDirectory);
+            final Path spoolFile = Files.createTempFile(spoolDirectory, SPOOL_FILE_PREFIX, null);
+            Files.copy(inputStream, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            return new SpooledFile(spoolFile, fileInformation.originalFileName(), fileInformation.size(),
+                    fileInformation.contentType(), ContentAddressedFileStore.toDigest(messageDigest));
+        } catch (final IOException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    public FileInformation open(final SpooledFile spooledFile) throws IOException {
+        return new FileInformation(spooledFile.originalFileName(), spooledFile.size(), spooledFile.contentType(),
+                Files.newInputStream(spooledFile.path()));
+    }
+
+    public void delete(final SpooledFile spooledFile) {
+        try {
+            Files.deleteIfExists(spooledFile.path());
+        } catch (final IOException exception) {
+            log.warn("임시 파일 삭제에 실패했습니다. path = " + spooledFile.path(), exception);
+        }
+    }
+
+    public int deleteExpired(final Instant expiredAt) {
+        if (!Files.isDirectory(spoolDirectory)) {
+            return 0;
+        }
+        int deletedCount = 0;
+        try (final DirectoryStream<Path> spoolFiles = Files.newDirectoryStream(spoolDirectory,
+                SPOOL_FILE_PREFIX + "*")) {
+            for (final Path spoolFile : spoolFiles) {
+                if (deleteIfExpired(spoolFile, expiredAt)) {
+                    deletedCount++;
+                }
+            }
+        } catch (final IOException exception) {
+            log.warn("만료된 임시 파일 조회에 실패했습니다. directory = " + spoolDirectory, exception);
+        }
+        return deletedCount;
+    }
+
+    private boolean deleteIfExpired(final Path spoolFile, final Instant expiredAt) {
+        try {
+            return Files.getLastModifiedTime(spoolFile).toInstant().isBefore(expiredAt)
+                    && Files.deleteIfExists(spoolFile);
+        } catch (final IOException exception) {
+            log.warn("만료된 임시 파일 삭제에 실패했습니다. path = " + spoolFile, exception);
+            return false;
+        }
+    }
+}
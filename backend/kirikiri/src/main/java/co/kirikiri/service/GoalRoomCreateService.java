@@ -22,17 +22,22 @@ import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomToDoCheckRepository;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
 import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.SpooledFile;
 import co.kirikiri.service.dto.goalroom.GoalRoomCreateDto;
 import co.kirikiri.service.dto.goalroom.GoalRoomRoadmapNodeDto;
 import co.kirikiri.service.dto.goalroom.request.CheckFeedRequest;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomCreateRequest;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomTodoRequest;
 import co.kirikiri.service.dto.goalroom.response.GoalRoomToDoCheckResponse;
+import co.kirikiri.service.event.CheckFeedImageUploadEvent;
+import co.kirikiri.service.event.GoalRoomCreatedEvent;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapChangedEvent;
 import co.kirikiri.service.mapper.GoalRoomMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,14 +52,19 @@ import java.util.List;
 public class GoalRoomCreateService {
 
     private final FileService fileService;
+    private final FileSpooler fileSpooler;
+    private final ImageHeaderValidator imageHeaderValidator;
     private final FilePathGenerator filePathGenerator;
-    private final MemberRepository memberRepository;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final MemberReferenceResolver memberReferenceResolver;
     private final GoalRoomRepository goalRoomRepository;
     private final RoadmapContentRepository roadmapContentRepository;
     private final GoalRoomMemberRepository goalRoomMemberRepository;
     private final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository;
     private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
     private final CheckFeedRepository checkFeedRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CheckFeedPlaceholderImage checkFeedPlaceholderImage;
 
     public Long create(final GoalRoomCreateRequest goalRoomCreateRequest, final String memberIdentifier) {
         final GoalRoomCreateDto goalRoomCreateDto = GoalRoomMapper.convertToGoalRoomCreateDto(goalRoomCreateRequest);
@@ -69,7 +79,10 @@ public class GoalRoomCreateService {
                 roadmapContent, leader);
         goalRoom.addAllGoalRoomRoadmapNodes(goalRoomRoadmapNodes);
         goalRoom.addGoalRoomTodo(goalRoomCreateDto.goalRoomToDo());
-        return goalRoomRepository.save(goalRoom).getId();
+        final Long goalRoomId = goalRoomRepository.save(goalRoom).getId();
+        applicationEventPublisher.publishEvent(new GoalRoomCreatedEvent(roadmapContent.getRoadmap().getId()));
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapContent.getRoadmap().getId()));
+        return goalRoomId;
     }
 
     private RoadmapContent findRoadmapContentById(final Long roadmapContentId) {
@@ -110,7 +123,7 @@ public class GoalRoomCreateService {
     }
 
     private Member findMemberByIdentifier(final String memberIdentifier) {
-        return memberRepository.findByIdentifier(new Identifier(memberIdentifier))
+        return memberReferenceResolver.findByIdentifier(new Identifier(memberIdentifier))
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
     }
 
@@ -198,11 +211,27 @@ public class GoalRoomCreateService {
         validateCheckCount(currentMemberCheckCount, goalRoomMember, currentNode);
         updateAccomplishmentRate(goalRoom, goalRoomMember, currentMemberCheckCount);
 
-        final String path = filePathGenerator.makeFilePath(ImageDirType.CHECK_FEED,
-                fileInformation.originalFileName());
-        saveCheckFeed(checkFeedRequest, checkFeedImage, goalRoomMember, currentNode, path);
-        fileService.save(path, fileInformation);
-        return fileService.generateUrl(path, HttpMethod.GET).toExternalForm();
+        final ImageContentType imageContentType = imageHeaderValidator.validate(checkFeedImage);
+        final SpooledFile spooledFile = fileSpooler.spool(fileInformation);
+        try {
+            final String path = makeCheckFeedImagePath(spooledFile, imageContentType);
+            final CheckFeed checkFeed = makeCheckFeed(checkFeedRequest, checkFeedImage, imageContentType,
+                    goalRoomMember, currentNode, path);
+            final Long checkFeedId = checkFeedRepository.save(checkFeed).getId();
+            applicationEventPublisher.publishEvent(new CheckFeedImageUploadEvent(checkFeedId, path, spooledFile));
+        } catch (final RuntimeException exception) {
+            fileSpooler.delete(spooledFile);
+            throw exception;
+        }
+        return fileService.generateUrl(checkFeedPlaceholderImage.getServerFilePath(), HttpMethod.GET)
+                .toExternalForm();
+    }
+
+    private String makeCheckFeedImagePath(final SpooledFile spooledFile, final ImageContentType imageContentType) {
+        if (contentAddressedFileStore.isEnabled()) {
+            return contentAddressedFileStore.makeFilePath(spooledFile.digest(), imageContentType);
+        }
+        return filePathGenerator.makeFilePath(ImageDirType.CHECK_FEED, spooledFile.originalFileName());
     }
 
     private void validateEmptyImage(final MultipartFile image) {
@@ -256,13 +285,11 @@ public class GoalRoomCreateService {
         goalRoomMember.updateAccomplishmentRate(accomplishmentRate);
     }
 
-    private void saveCheckFeed(final CheckFeedRequest checkFeedRequest, final MultipartFile checkFeedImage,
-                               final GoalRoomMember goalRoomMember, final GoalRoomRoadmapNode currentNode,
-                               final String path) {
-        checkFeedRepository.save(
-                new CheckFeed(path, ImageContentType.findImageContentType(checkFeedImage.getContentType()),
-                        checkFeedImage.getOriginalFilename(),
-                        checkFeedRequest.description(), currentNode, goalRoomMember));
+    private CheckFeed makeCheckFeed(final CheckFeedRequest checkFeedRequest, final MultipartFile checkFeedImage,
+                                    final ImageContentType imageContentType, final GoalRoomMember goalRoomMember,
+                                    final GoalRoomRoadmapNode currentNode, final String path) {
+        return new CheckFeed(path, imageContentType, checkFeedImage.getOriginalFilename(),
+                checkFeedRequest.description(), currentNode, goalRoomMember);
     }
 
     public void startGoalRoom(final String memberIdentifier, final Long goalRoomId) {
@@ -271,8 +298,12 @@ public class GoalRoomCreateService {
         checkGoalRoomLeader(member, goalRoom, "골룸의 리더만 골룸을 시작할 수 있습니다.");
         validateGoalRoomStart(goalRoom);
         final List<GoalRoomPendingMember> goalRoomPendingMembers = goalRoom.getGoalRoomPendingMembers().getValues();
+        final int participantCount = goalRoomPendingMembers.size();
         saveGoalRoomMemberFromPendingMembers(goalRoomPendingMembers, goalRoom);
         goalRoom.start();
+        final Long roadmapId = goalRoom.getRoadmapContent().getRoadmap().getId();
+        applicationEventPublisher.publishEvent(new GoalRoomStartedEvent(roadmapId, participantCount));
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapId));
     }
 
     private void validateGoalRoomStart(final GoalRoom goalRoom) {
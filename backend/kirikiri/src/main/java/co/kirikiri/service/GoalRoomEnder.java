@@ -0,0 +1,32 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class GoalRoomEnder {
+
+    private final GoalRoomRepository goalRoomRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public int endGoalRooms(final LocalDate endDate) {
+        final List<Long> roadmapIds = goalRoomRepository.findRoadmapIdsByEndDateAndStatusNot(endDate,
+                GoalRoomStatus.COMPLETED);
+        final int completedCount = goalRoomRepository.updateStatusByEndDate(endDate, GoalRoomStatus.COMPLETED,
+                LocalDateTime.now());
+        for (final Long roadmapId : roadmapIds) {
+            applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapId));
+        }
+        return completedCount;
+    }
+}
@@ -10,6 +10,7 @@ import co.kirikiri.domain.goalroom.GoalRoomStatus;
 import co.kirikiri.domain.goalroom.GoalRoomToDoCheck;
 import co.kirikiri.domain.goalroom.GoalRoomToDos;
 import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberImage;
 import co.kirikiri.domain.member.vo.Identifier;
 import co.kirikiri.exception.ForbiddenException;
 import co.kirikiri.exception.NotFoundException;
@@ -19,7 +20,6 @@ import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomToDoCheckRepository;
 import co.kirikiri.persistence.goalroom.dto.GoalRoomMemberSortType;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.service.dto.goalroom.CheckFeedDto;
 import co.kirikiri.service.dto.goalroom.GoalRoomCheckFeedDto;
 import co.kirikiri.service.dto.goalroom.GoalRoomMemberDto;
@@ -38,8 +38,11 @@ import co.kirikiri.service.dto.member.response.MemberGoalRoomResponse;
 import co.kirikiri.service.mapper.GoalRoomMapper;
 import java.net.URL;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -52,13 +55,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GoalRoomReadService {
 
-    private final MemberRepository memberRepository;
+    private final MemberReferenceResolver memberReferenceResolver;
     private final GoalRoomRepository goalRoomRepository;
     private final GoalRoomMemberRepository goalRoomMemberRepository;
     private final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository;
     private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
     private final CheckFeedRepository checkFeedRepository;
     private final FileService fileService;
+    private final CheckFeedPlaceholderImage checkFeedPlaceholderImage;
 
     public GoalRoomResponse findGoalRoom(final Long goalRoomId) {
         final GoalRoom goalRoom = findGoalRoomWithRoadmapContentById(goalRoomId);
@@ -115,7 +119,7 @@ public class GoalRoomReadService {
     private GoalRoomMemberDto makeGoalRoomMemberDtoWithAccomplishmentRateZero(
             final GoalRoomPendingMember goalRoomPendingMember) {
         final Member member = goalRoomPendingMember.getMember();
-        final URL memberImageUrl = fileService.generateUrl(member.getImage().getServerFilePath(), HttpMethod.GET);
+        final URL memberImageUrl = generateMemberImageUrl(member.getImage());
         return new GoalRoomMemberDto(member.getId(), member.getNickname().getValue(),
                 memberImageUrl.toExternalForm(), 0D);
     }
@@ -129,7 +133,7 @@ public class GoalRoomReadService {
 
     private GoalRoomMemberDto makeGoalRoomMemberDto(final GoalRoomMember goalRoomMember) {
         final Member member = goalRoomMember.getMember();
-        final URL memberImageUrl = fileService.generateUrl(member.getImage().getServerFilePath(), HttpMethod.GET);
+        final URL memberImageUrl = generateMemberImageUrl(member.getImage());
         return new GoalRoomMemberDto(member.getId(), member.getNickname().getValue(),
                 memberImageUrl.toExternalForm(), goalRoomMember.getAccomplishmentRate());
     }
@@ -177,7 +181,26 @@ public class GoalRoomReadService {
     }
 
     private CheckFeedDto makeCheckFeedDto(final CheckFeed checkFeed) {
-        final URL checkFeedImageUrl = fileService.generateUrl(checkFeed.getServerFilePath(), HttpMethod.GET);
+        final URL checkFeedImageUrl = fileService.generateUrl(findCheckFeedThumbnailPath(checkFeed),
+                HttpMethod.GET);
+        return makeCheckFeedDto(checkFeed, checkFeedImageUrl);
+    }
+
+    private String findCheckFeedThumbnailPath(final CheckFeed checkFeed) {
+        if (checkFeed.isImageReady()) {
+            return checkFeed.getThumbnailFilePath();
+        }
+        return checkFeedPlaceholderImage.getServerFilePath();
+    }
+
+    private String findCheckFeedMediumPath(final CheckFeed checkFeed) {
+        if (checkFeed.isImageReady()) {
+            return checkFeed.getMediumFilePath();
+        }
+        return checkFeedPlaceholderImage.getServerFilePath();
+    }
+
+    private CheckFeedDto makeCheckFeedDto(final CheckFeed checkFeed, final URL checkFeedImageUrl) {
         return new CheckFeedDto(checkFeed.getId(), checkFeedImageUrl.toExternalForm(),
                 checkFeed.getDescription(), checkFeed.getCreatedAt());
     }
@@ -188,7 +211,7 @@ public class GoalRoomReadService {
     }
 
     private Member findMemberByIdentifier(final Identifier identifier) {
-        return memberRepository.findByIdentifier(identifier)
+        return memberReferenceResolver.findByIdentifier(identifier)
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
     }
 
@@ -228,7 +251,7 @@ public class GoalRoomReadService {
 
     private MemberGoalRoomForListDto makeMemberGoalRoomForListDto(final GoalRoom goalRoom) {
         final Member leader = goalRoom.findGoalRoomLeader();
-        final URL leaderImageUrl = fileService.generateUrl(leader.getImage().getServerFilePath(), HttpMethod.GET);
+        final URL leaderImageUrl = generateMemberImageUrl(leader.getImage());
         return new MemberGoalRoomForListDto(goalRoom.getId(), goalRoom.getName().getValue(),
                 goalRoom.getStatus().name(), goalRoom.getCurrentMemberCount(),
                 goalRoom.getLimitedMemberCount().getValue(),
@@ -293,18 +316,45 @@ public class GoalRoomReadService {
 
     public List<GoalRoomCheckFeedDto> makeGoalRoomCheckFeedDtos(
             final List<CheckFeed> checkFeeds) {
+        final Map<String, URL> imageUrls = generateCheckFeedImageUrls(checkFeeds);
         return checkFeeds.stream()
-                .map(this::makeGoalRoomCheckFeedDto)
+                .map(checkFeed -> makeGoalRoomCheckFeedDto(checkFeed, imageUrls))
                 .toList();
     }
 
-    private GoalRoomCheckFeedDto makeGoalRoomCheckFeedDto(final CheckFeed checkFeed) {
+    private Map<String, URL> generateCheckFeedImageUrls(final List<CheckFeed> checkFeeds) {
+        final List<String> imagePaths = new ArrayList<>();
+        final List<MemberImage> defaultMemberImages = new ArrayList<>();
+        for (final CheckFeed checkFeed : checkFeeds) {
+            final MemberImage memberImage = checkFeed.getGoalRoomMember().getMember().getImage();
+            if (memberImage.isDefault()) {
+                defaultMemberImages.add(memberImage);
+            } else {
+                imagePaths.add(memberImage.getServerFilePath());
+            }
+            imagePaths.add(findCheckFeedMediumPath(checkFeed));
+        }
+        final Map<String, URL> imageUrls = new HashMap<>(fileService.generateUrls(imagePaths, HttpMethod.GET));
+        for (final MemberImage memberImage : defaultMemberImages) {
+            imageUrls.put(memberImage.getServerFilePath(),
+                    fileService.generatePublicUrl(memberImage.getServerFilePath()));
+        }
+        return imageUrls;
+    }
+
+    private URL generateMemberImageUrl(final MemberImage memberImage) {
+        return fileService.generateMemberImageUrl(memberImage.getServerFilePath(), memberImage.isDefault());
+    }
+
+    private GoalRoomCheckFeedDto makeGoalRoomCheckFeedDto(final CheckFeed checkFeed,
+                                                          final Map<String, URL> imageUrls) {
         final GoalRoomMember goalRoomMember = checkFeed.getGoalRoomMember();
         final Member member = goalRoomMember.getMember();
 
-        final URL memberImageUrl = fileService.generateUrl(member.getImage().getServerFilePath(), HttpMethod.GET);
+        final URL memberImageUrl = imageUrls.get(member.getImage().getServerFilePath());
+        final URL checkFeedImageUrl = imageUrls.get(findCheckFeedMediumPath(checkFeed));
 
         return new GoalRoomCheckFeedDto(new MemberDto(member.getId(), member.getNickname().getValue(),
-                memberImageUrl.toExternalForm()), makeCheckFeedDto(checkFeed));
+                memberImageUrl.toExternalForm()), makeCheckFeedDto(checkFeed, checkFeedImageUrl));
     }
 }
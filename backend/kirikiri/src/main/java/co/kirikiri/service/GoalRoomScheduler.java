@@ -1,55 +1,84 @@
 package co.kirikiri.service;
 
-import co.kirikiri.domain.goalroom.GoalRoom;
-import co.kirikiri.domain.goalroom.GoalRoomMember;
-import co.kirikiri.domain.goalroom.GoalRoomPendingMember;
-import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
-@Transactional
-@RequiredArgsConstructor
 public class GoalRoomScheduler {
 
-    private final GoalRoomRepository goalRoomRepository;
+    private static final String START_JOB_NAME = "goal-room.start";
+    private static final String END_JOB_NAME = "goal-room.end";
+    private static final String JOB_DURATION_METRIC = "scheduler.job.duration";
+    private static final String STARTED_METRIC = "goal-room.started";
+    private static final String COMPLETED_METRIC = "goal-room.completed";
+    private static final String JOB_TAG = "job";
 
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final GoalRoomStarter goalRoomStarter;
+    private final GoalRoomEnder goalRoomEnder;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final int startChunkSize;
+    private final Timer startTimer;
+    private final Timer endTimer;
+    private final Counter startedCounter;
+    private final Counter completedCounter;
+
+    public GoalRoomScheduler(final GoalRoomStarter goalRoomStarter, final GoalRoomEnder goalRoomEnder,
+                             final SchedulerLeaseManager schedulerLeaseManager,
+                             @Value("${goal-room.start.chunk-size:100}") final int startChunkSize,
+                             final MeterRegistry meterRegistry) {
+        this.goalRoomStarter = goalRoomStarter;
+        this.goalRoomEnder = goalRoomEnder;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.startChunkSize = startChunkSize;
+        this.startTimer = Timer.builder(JOB_DURATION_METRIC).tag(JOB_TAG, START_JOB_NAME).register(meterRegistry);
+        this.endTimer = Timer.builder(JOB_DURATION_METRIC).tag(JOB_TAG, END_JOB_NAME).register(meterRegistry);
+        this.startedCounter = Counter.builder(STARTED_METRIC).register(meterRegistry);
+        this.completedCounter = Counter.builder(COMPLETED_METRIC).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
     @Scheduled(cron = "0 0 0 * * *")
     public void startGoalRooms() {
-        final List<GoalRoom> goalRoomsToStart = goalRoomRepository.findAllByStartDate(LocalDate.now());
-        for (final GoalRoom goalRoom : goalRoomsToStart) {
-            final List<GoalRoomPendingMember> goalRoomPendingMembers = goalRoom.getGoalRoomPendingMembers().getValues();
-            saveGoalRoomMemberFromPendingMembers(goalRoomPendingMembers, goalRoom);
-            goalRoom.start();
-        }
+        schedulerLeaseManager.runExclusively(START_JOB_NAME, () -> startTimer.record(this::startTodayGoalRooms));
     }
 
-    private void saveGoalRoomMemberFromPendingMembers(final List<GoalRoomPendingMember> goalRoomPendingMembers,
-                                                      final GoalRoom goalRoom) {
-        final List<GoalRoomMember> goalRoomMembers = makeGoalRoomMembers(goalRoomPendingMembers);
-        goalRoom.addAllGoalRoomMembers(goalRoomMembers);
-        goalRoom.deleteAllPendingMembers();
+    private void startTodayGoalRooms() {
+        final LocalDate today = LocalDate.now();
+        int startedCount = 0;
+        int chunkCount = goalRoomStarter.startNextChunk(today, startChunkSize);
+        while (chunkCount > 0) {
+            startedCount += chunkCount;
+            startedCounter.increment(chunkCount);
+            chunkCount = goalRoomStarter.startNextChunk(today, startChunkSize);
+        }
+        logCount("골룸 %d개를 시작했습니다.", startedCount);
     }
 
-    private List<GoalRoomMember> makeGoalRoomMembers(final List<GoalRoomPendingMember> goalRoomPendingMembers) {
-        return goalRoomPendingMembers.stream()
-                .map(this::makeGoalRoomMember)
-                .toList();
+    @Scheduled(cron = "0 0 4 * * *")
+    public void endGoalRooms() {
+        schedulerLeaseManager.runExclusively(END_JOB_NAME, () -> endTimer.record(this::endYesterdayGoalRooms));
     }
 
-    private GoalRoomMember makeGoalRoomMember(final GoalRoomPendingMember goalRoomPendingMember) {
-        return new GoalRoomMember(goalRoomPendingMember.getRole(),
-                goalRoomPendingMember.getJoinedAt(), goalRoomPendingMember.getGoalRoom(),
-                goalRoomPendingMember.getMember());
+    private void endYesterdayGoalRooms() {
+        final int completedCount = goalRoomEnder.endGoalRooms(LocalDate.now().minusDays(1));
+        completedCounter.increment(completedCount);
+        logCount("골룸 %d개를 종료했습니다.", completedCount);
     }
 
-    @Scheduled(cron = "0 0 4 * * *")
-    public void endGoalRooms() {
-        final List<GoalRoom> goalRoomsToEnd = goalRoomRepository.findAllByEndDate(LocalDate.now().minusDays(1));
-        goalRoomsToEnd.forEach(GoalRoom::complete);
+    private void logCount(final String message, final int count) {
+        if (count == 0) {
+            return;
+        }
+        log.info(String.format(message, count));
     }
 }
@@ -0,0 +1,60 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.persistence.dto.GoalRoomStartDto;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class GoalRoomStarter {
+
+    private final GoalRoomRepository goalRoomRepository;
+    private final GoalRoomMemberRepository goalRoomMemberRepository;
+    private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public int startNextChunk(final LocalDate startDate, final int chunkSize) {
+        final List<GoalRoomStartDto> goalRoomsToStart = goalRoomRepository.findStartTargets(startDate,
+                GoalRoomStatus.RECRUITING, PageRequest.ofSize(chunkSize));
+        if (goalRoomsToStart.isEmpty()) {
+            return 0;
+        }
+        final List<Long> goalRoomIds = goalRoomsToStart.stream()
+                .map(GoalRoomStartDto::goalRoomId)
+                .toList();
+        saveGoalRoomMembersFromPendingMembers(goalRoomIds);
+        goalRoomRepository.updateStatus(goalRoomIds, GoalRoomStatus.RUNNING, LocalDateTime.now());
+        publishGoalRoomStartedEvents(goalRoomsToStart);
+        return goalRoomsToStart.size();
+    }
+
+    private void saveGoalRoomMembersFromPendingMembers(final List<Long> goalRoomIds) {
+        goalRoomMemberRepository.insertAllFromPendingMembers(goalRoomIds);
+        goalRoomPendingMemberRepository.deleteAllByGoalRoomIds(goalRoomIds);
+    }
+
+    private void publishGoalRoomStartedEvents(final List<GoalRoomStartDto> startedGoalRooms) {
+        final Map<Long, Integer> participantCountsByRoadmapId = startedGoalRooms.stream()
+                .collect(Collectors.groupingBy(GoalRoomStartDto::roadmapId,
+                        Collectors.summingInt(startedGoalRoom -> startedGoalRoom.participantCount().intValue())));
+        participantCountsByRoadmapId.forEach((roadmapId, participantCount) -> {
+            applicationEventPublisher.publishEvent(new GoalRoomStartedEvent(roadmapId, participantCount));
+            applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapId));
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final String DIRECTORY_SEPARATOR = "/";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final FileService fileService;
+
+    public ImageDerivatives generate(final String serverFilePath, final ImageDirType imageDirType,
+                                     final ImageContentType imageContentType, final byte[] source) {
+        final DerivativeFormat derivativeFormat = findDerivativeFormat(imageContentType);
+        if (derivativeFormat == null || imageDirType.getDerivativeTypes().isEmpty()) {
+            return ImageDerivatives.empty();
+        }
+        try {
+            return generate(serverFilePath, imageDirType, derivativeFormat, source);
+        } catch (final IOException | RuntimeException exception) {
+            log.warn("이미지 파생본 생성에 실패했습니다. path = " + serverFilePath, exception);
+            return ImageDerivatives.empty();
+        }
+    }
+
+    private DerivativeFormat findDerivativeFormat(final ImageContentType imageContentType) {
+        return switch (imageContentType) {
+            case JPG, JPEG -> new DerivativeFormat("jpg", "image/jpeg", BufferedImage.TYPE_INT_RGB);
+            case PNG -> new DerivativeFormat("png", "image/png", BufferedImage.TYPE_INT_ARGB);
+            case WEBP -> null;
+        };
+    }
+
+    private ImageDerivatives generate(final String serverFilePath, final ImageDirType imageDirType,
+                                      final DerivativeFormat derivativeFormat, final byte[] source)
+            throws IOException {
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+        if (image == null) {
+            return ImageDerivatives.empty();
+        }
+        final Map<ImageDerivativeType, String> derivativeFilePaths = new EnumMap<>(ImageDerivativeType.class);
+        for (final ImageDerivativeType derivativeType : imageDirType.getDerivativeTypes()) {
+            final byte[] derivative = encode(resize(image, derivativeType.getMaxLength(), derivativeFormat),
+                    derivativeFormat);
+            final String derivativeFilePath = derivativeType.makeFilePath(serverFilePath);
+            fileService.save(derivativeFilePath, new FileInformation(findFileName(derivativeFilePath),
+                    derivative.length, derivativeFormat.contentType(), new ByteArrayInputStream(derivative)));
+            derivativeFilePaths.put(derivativeType, derivativeFilePath);
+        }
+        return new ImageDerivatives(derivativeFilePaths.get(ImageDerivativeType.THUMBNAIL),
+                derivativeFilePaths.get(ImageDerivativeType.MEDIUM));
+    }
+
+    private BufferedImage resize(final BufferedImage image, final int maxLength,
+                                 final DerivativeFormat derivativeFormat) {
+        final double ratio = Math.min(1.0, (double) maxLength / Math.max(image.getWidth(), image.getHeight()));
+        final int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        final int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        final BufferedImage resized = new BufferedImage(width, height, derivativeFormat.imageType());
+        final Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(final BufferedImage image, final DerivativeFormat derivativeFormat) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, derivativeFormat.formatName(), outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private String findFileName(final String filePath) {
+        return filePath.substring(filePath.lastIndexOf(DIRECTORY_SEPARATOR) + 1);
+    }
+
+    private record DerivativeFormat(
+            String formatName,
+            String contentType,
+            int imageType
+    ) {
+
+    }
+}
@@ -0,0 +1,31 @@
+package co.kirikiri.service;
+
+public enum ImageDerivativeType {
+    THUMBNAIL("thumbnail", 240),
+    MEDIUM("medium", 960);
+
+    private static final String SUFFIX_SEPARATOR = "_";
+    private static final String EXTENSION_SEPARATOR = ".";
+    private static final String DIRECTORY_SEPARATOR = "/";
+
+    private final String suffix;
+    private final int maxLength;
+
+    ImageDerivativeType(final String suffix, final int maxLength) {
+        this.suffix = suffix;
+        this.maxLength = maxLength;
+    }
+
+    public String makeFilePath(final String serverFilePath) {
+        final int extensionIndex = serverFilePath.lastIndexOf(EXTENSION_SEPARATOR);
+        if (extensionIndex < serverFilePath.lastIndexOf(DIRECTORY_SEPARATOR)) {
+            return serverFilePath + SUFFIX_SEPARATOR + suffix;
+        }
+        return serverFilePath.substring(0, extensionIndex) + SUFFIX_SEPARATOR + suffix
+                + serverFilePath.substring(extensionIndex);
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
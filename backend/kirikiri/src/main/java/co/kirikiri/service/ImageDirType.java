@@ -1,17 +1,25 @@
 package co.kirikiri.service;
 
+import java.util.List;
+
 public enum ImageDirType {
-    CHECK_FEED("goalroom/checkfeed"),
-    ROADMAP_NODE("roadmap"),
+    CHECK_FEED("goalroom/checkfeed", ImageDerivativeType.THUMBNAIL, ImageDerivativeType.MEDIUM),
+    ROADMAP_NODE("roadmap", ImageDerivativeType.THUMBNAIL, ImageDerivativeType.MEDIUM),
     USER_PROFILE("member/profile");
 
     private final String dirName;
+    private final List<ImageDerivativeType> derivativeTypes;
 
-    ImageDirType(final String dirName) {
+    ImageDirType(final String dirName, final ImageDerivativeType... derivativeTypes) {
         this.dirName = dirName;
+        this.derivativeTypes = List.of(derivativeTypes);
     }
 
     public String getDirName() {
         return dirName;
     }
+
+    public List<ImageDerivativeType> getDerivativeTypes() {
+        return derivativeTypes;
+    }
 }
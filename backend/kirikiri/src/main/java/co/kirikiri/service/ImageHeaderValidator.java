@@ -0,0 +1,133 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.exception.BadRequestException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Component
+public class ImageHeaderValidator {
+
+    private static final int HEADER_LENGTH = 12;
+
+    private final long maxFileSize;
+    private final long maxPixels;
+
+    public ImageHeaderValidator(@Value("${image.validation.max-file-size:10485760}") final long maxFileSize,
+                                @Value("${image.validation.max-pixels:40000000}") final long maxPixels) {
+        this.maxFileSize = maxFileSize;
+        this.maxPixels = maxPixels;
+    }
+
+    public ImageContentType validate(final MultipartFile image) {
+        final ImageContentType imageContentType = ImageContentType.findImageContentType(image.getContentType());
+        if (image.getSize() > maxFileSize) {
+            throw new BadRequestException("이미지 파일의 크기가 너무 큽니다. 최대 크기 = " + maxFileSize + "bytes");
+        }
+        try (final InputStream inputStream = image.getInputStream();
+             final ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            final ImageFormat imageFormat = ImageFormat.find(readHeader(imageInputStream));
+            if (!imageFormat.supports(imageContentType)) {
+                throw new BadRequestException("이미지 파일의 형식이 확장자와 일치하지 않습니다.");
+            }
+            if (imageFormat.isDecodable()) {
+                validateDimensions(imageInputStream);
+            }
+        } catch (final IOException exception) {
+            throw new BadRequestException("이미지 파일을 읽을 수 없습니다.");
+        }
+        return imageContentType;
+    }
+
+    private byte[] readHeader(final ImageInputStream imageInputStream) throws IOException {
+        final byte[] header = new byte[HEADER_LENGTH];
+        imageInputStream.mark();
+        final int length = imageInputStream.read(header);
+        imageInputStream.reset();
+        return Arrays.copyOf(header, Math.max(length, 0));
+    }
+
+    private void validateDimensions(final ImageInputStream imageInputStream) throws IOException {
+        final Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+        if (!imageReaders.hasNext()) {
+            throw new BadRequestException("이미지 파일의 형식이 올바르지 않습니다.");
+        }
+        final ImageReader imageReader = imageReaders.next();
+        try {
+            imageReader.setInput(imageInputStream, true, true);
+            final long width = imageReader.getWidth(0);
+            final long height = imageReader.getHeight(0);
+            if (width <= 0 || height <= 0 || width * height > maxPixels) {
+                throw new BadRequestException("이미지의 해상도가 허용 범위를 벗어났습니다. 최대 픽셀 수 = " + maxPixels);
+            }
+        } finally {
+            imageReader.dispose();
+        }
+    }
+
+    private enum ImageFormat {
+        JPEG(true, List.of(ImageContentType.JPG, ImageContentType.JPEG),
+                new Signature(0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})),
+        PNG(true, List.of(ImageContentType.PNG),
+                new Signature(0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})),
+        WEBP(false, List.of(ImageContentType.WEBP),
+                new Signature(0, "RIFF".getBytes(StandardCharsets.US_ASCII)),
+                new Signature(8, "WEBP".getBytes(StandardCharsets.US_ASCII))),
+        ;
+
+        private final boolean decodable;
+        private final List<ImageContentType> imageContentTypes;
+        private final List<Signature> signatures;
+
+        ImageFormat(final boolean decodable, final List<ImageContentType> imageContentTypes,
+                    final Signature... signatures) {
+            this.decodable = decodable;
+            this.imageContentTypes = imageContentTypes;
+            this.signatures = List.of(signatures);
+        }
+
+        private static ImageFormat find(final byte[] header) {
+            return Arrays.stream(values())
+                    .filter(it -> it.matches(header))
+                    .findAny()
+                    .orElseThrow(() -> new BadRequestException("이미지 파일의 형식이 올바르지 않습니다."));
+        }
+
+        private boolean matches(final byte[] header) {
+            return signatures.stream()
+                    .allMatch(it -> it.matches(header));
+        }
+
+        private boolean supports(final ImageContentType imageContentType) {
+            return imageContentTypes.contains(imageContentType);
+        }
+
+        private boolean isDecodable() {
+            return decodable;
+        }
+    }
+
+    private record Signature(
+            int offset,
+            byte[] bytes
+    ) {
+
+        private boolean matches(final byte[] header) {
+            if (header.length < offset + bytes.length) {
+                return false;
+            }
+            return Arrays.equals(header, offset, offset + bytes.length, bytes, 0, bytes.length);
+        }
+    }
+}
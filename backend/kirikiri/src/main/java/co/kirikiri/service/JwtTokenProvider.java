@@ -1,19 +1,28 @@
 package co.kirikiri.service;
 
 import co.kirikiri.exception.AuthenticationException;
+import co.kirikiri.exception.ServerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -24,16 +33,29 @@ public class JwtTokenProvider implements TokenProvider {
     private static final String TYPE_CLAIM_KEY = "type";
     private static final String UUID_CLAIM_KEY = "UUID";
 
-    private final String secretKey;
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
     private final Long accessTokenValidityInSeconds;
     private final Long refreshTokenValidityInSeconds;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(@Value("${jwt.secret-key}") final String secretKey,
                             @Value("#{T(Long).parseLong('${jwt.access-token-validity-in-seconds}')}") final Long accessTokenValidityInSeconds,
-                            @Value("#{T(Long).parseLong('${jwt.refresh-token-validity-in-seconds}')}") final Long refreshTokenValidityInSeconds) {
-        this.secretKey = secretKey;
+                            @Value("#{T(Long).parseLong('${jwt.refresh-token-validity-in-seconds}')}") final Long refreshTokenValidityInSeconds,
+                            @Value("${jwt.verified-token-cache.maximum-size:10000}") final Long verifiedTokenCacheMaximumSize,
+                            @Value("${jwt.verified-token-cache.maximum-ttl:300000}") final Long verifiedTokenCacheMaximumTtl) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
         this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaximumSize)
+                .expireAfter(new VerifiedTokenExpiry(Duration.ofMillis(verifiedTokenCacheMaximumTtl)))
+                .build();
     }
 
     @Override
@@ -58,7 +80,6 @@ public class JwtTokenProvider implements TokenProvider {
 
     private String createToken(final Long tokenValidityInSeconds, final String subject,
                                final Map<String, Object> claims) {
-        final SecretKey signingKey = createKey();
         final Date expiration = createExpiration(tokenValidityInSeconds);
         return Jwts.builder()
                 .signWith(signingKey)
@@ -68,11 +89,6 @@ public class JwtTokenProvider implements TokenProvider {
                 .compact();
     }
 
-    private SecretKey createKey() {
-        final byte[] secretKeyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(secretKeyBytes);
-    }
-
     private Date createExpiration(final Long validity) {
         final long now = new Date().getTime();
         return new Date(now + validity);
@@ -80,29 +96,37 @@ public class JwtTokenProvider implements TokenProvider {
 
     @Override
     public boolean isValidToken(final String token) {
+        verify(token);
+        return true;
+    }
+
+    private VerifiedToken verify(final String token) {
+        return verifiedTokens.get(hash(token), ignored -> parseToVerifiedToken(token));
+    }
+
+    private String hash(final String token) {
         try {
-            parseToClaimsJws(token);
+            final MessageDigest messageDigest = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new ServerException(exception.getMessage());
+        }
+    }
+
+    private VerifiedToken parseToVerifiedToken(final String token) {
+        try {
+            final Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration());
         } catch (final ExpiredJwtException expiredJwtException) {
             throw new AuthenticationException("Expired Token");
-        } catch (final JwtException jwtException) {
+        } catch (final JwtException | IllegalArgumentException exception) {
             throw new AuthenticationException("Invalid Token");
         }
-        return true;
-    }
-
-    private Jws<Claims> parseToClaimsJws(final String token) {
-        final SecretKey signingKey = createKey();
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token);
     }
 
     @Override
     public LocalDateTime findTokenExpiredAt(final String token) {
-        final Jws<Claims> claimsJws = parseToClaimsJws(token);
-        final Date expiration = claimsJws.getBody()
-                .getExpiration();
+        final Date expiration = verify(token).expiration();
         return expiration.toInstant()
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime();
@@ -110,8 +134,36 @@ public class JwtTokenProvider implements TokenProvider {
 
     @Override
     public String findSubject(final String token) {
-        final Jws<Claims> claimsJws = parseToClaimsJws(token);
-        return claimsJws.getBody()
-                .getSubject();
+        return verify(token).subject();
+    }
+
+    private record VerifiedToken(
+            String subject,
+            Date expiration
+    ) {
+
+    }
+
+    private record VerifiedTokenExpiry(
+            Duration maximumTtl
+    ) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken verifiedToken, final long currentTime) {
+            final long untilExpiration = verifiedToken.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(untilExpiration, maximumTtl.toMillis())));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedToken verifiedToken, final long currentTime,
+                                      final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedToken verifiedToken, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
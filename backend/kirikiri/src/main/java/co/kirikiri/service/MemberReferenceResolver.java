@@ -0,0 +1,20 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.persistence.member.MemberRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MemberReferenceResolver {
+
+    private final MemberRepository memberRepository;
+
+    public Optional<Member> findByIdentifier(final Identifier identifier) {
+        return memberRepository.findIdByIdentifier(identifier)
+                .map(memberRepository::getReferenceById);
+    }
+}
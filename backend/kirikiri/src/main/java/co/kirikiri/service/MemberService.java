@@ -4,6 +4,7 @@ import co.kirikiri.domain.ImageContentType;
 import co.kirikiri.domain.member.EncryptedPassword;
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.member.MemberImage;
+import co.kirikiri.domain.member.MemberImageType;
 import co.kirikiri.domain.member.MemberProfile;
 import co.kirikiri.domain.member.vo.Identifier;
 import co.kirikiri.domain.member.vo.Nickname;
@@ -19,8 +20,8 @@ import co.kirikiri.service.dto.member.response.MemberInformationResponse;
 import co.kirikiri.service.mapper.MemberMapper;
 import java.net.URL;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.core.env.Environment;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +41,7 @@ public class MemberService {
     private final FileService fileService;
 
     @Transactional
+    @CacheEvict(cacheNames = MemberRepository.MEMBER_ID_CACHE, key = "#memberJoinRequest.identifier()")
     public Long join(final MemberJoinRequest memberJoinRequest) {
         final MemberJoinDto memberJoinDto = MemberMapper.convertToMemberJoinDto(memberJoinRequest);
         checkIdentifierDuplicate(memberJoinDto.identifier());
@@ -73,7 +75,7 @@ public class MemberService {
         final int randomImageNumber = numberGenerator.generate();
         return new MemberImage(defaultOriginalFileName + randomImageNumber,
                 defaultServerFilePath + randomImageNumber + defaultExtension,
-                ImageContentType.valueOf(defaultImageContentType));
+                ImageContentType.valueOf(defaultImageContentType), MemberImageType.DEFAULT);
     }
 
     public MemberInformationResponse findMemberInformation(final String identifier) {
@@ -85,12 +87,16 @@ public class MemberService {
     public MemberInformationDto makeMemberInformationDto(final Member member) {
         final MemberImage memberImage = member.getImage();
         final MemberProfile memberProfile = member.getMemberProfile();
-        final URL imageUrl = fileService.generateUrl(memberImage.getServerFilePath(), HttpMethod.GET);
+        final URL imageUrl = generateMemberImageUrl(memberImage);
         return new MemberInformationDto(member.getId(), member.getNickname().getValue(),
                 imageUrl.toExternalForm(), memberProfile.getGender().name(), member.getIdentifier().getValue(),
                 memberProfile.getPhoneNumber(), memberProfile.getBirthday());
     }
 
+    private URL generateMemberImageUrl(final MemberImage memberImage) {
+        return fileService.generateMemberImageUrl(memberImage.getServerFilePath(), memberImage.isDefault());
+    }
+
     private Member findMemberInformationByIdentifier(final String identifier) {
         return memberRepository.findWithMemberProfileAndImageByIdentifier(identifier)
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
@@ -98,8 +104,7 @@ public class MemberService {
 
     public MemberInformationForPublicResponse findMemberInformationForPublic(final Long memberId) {
         final Member memberWithPublicInfo = findMemberInformationByMemberId(memberId);
-        final URL memberimageURl = fileService.generateUrl(memberWithPublicInfo.getImage().getServerFilePath(),
-                HttpMethod.GET);
+        final URL memberimageURl = generateMemberImageUrl(memberWithPublicInfo.getImage());
         final MemberInformationForPublicDto memberInformationForPublicDto =
                 new MemberInformationForPublicDto(memberWithPublicInfo.getNickname().getValue(),
                         memberimageURl.toExternalForm(),
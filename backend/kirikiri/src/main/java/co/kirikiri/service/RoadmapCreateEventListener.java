@@ -1,5 +1,6 @@
 package co.kirikiri.service;
 
+import co.kirikiri.common.config.AsyncConfig;
 import co.kirikiri.domain.ImageContentType;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapContent;
@@ -11,37 +12,56 @@ import co.kirikiri.exception.ServerException;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
 import co.kirikiri.service.dto.FileInformation;
 import co.kirikiri.service.dto.roadmap.RoadmapNodeSaveDto;
+import co.kirikiri.service.event.RoadmapChangedEvent;
 import co.kirikiri.service.event.RoadmapCreateEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 public class RoadmapCreateEventListener {
 
     private final RoadmapContentRepository roadmapContentRepository;
-    private final FileService fileService;
+    private final AsyncFileUploader asyncFileUploader;
     private final FilePathGenerator filePathGenerator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    @Async
+    @Async(AsyncConfig.TASK_EXECUTOR)
     @TransactionalEventListener
-    @Transactional
     public void handleRoadmapCreate(final RoadmapCreateEvent roadmapCreateEvent) {
         saveRoadmapNodeImage(roadmapCreateEvent);
     }
 
     private void saveRoadmapNodeImage(final RoadmapCreateEvent roadmapCreateEvent) {
         final RoadmapContent lastRoadmapContent = findLastRoadmapContent(roadmapCreateEvent.roadmap());
+        final List<CompletableFuture<Void>> uploads = new ArrayList<>();
         for (final RoadmapNodeSaveDto roadmapNodeSaveDto : roadmapCreateEvent.roadmapSaveDto().roadmapNodes()) {
             final RoadmapNode roadmapNode = findRoadmapNodeByTitle(lastRoadmapContent, roadmapNodeSaveDto);
-            final RoadmapNodeImages roadmapNodeImages = makeRoadmapNodeImages(roadmapNodeSaveDto, roadmapNode);
+            final RoadmapNodeImages roadmapNodeImages = makeRoadmapNodeImages(roadmapNodeSaveDto, roadmapNode,
+                    uploads);
             roadmapNode.addImages(roadmapNodeImages);
         }
+        waitForUploads(uploads);
         roadmapContentRepository.save(lastRoadmapContent);
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapCreateEvent.roadmap().getId()));
+    }
+
+    private void waitForUploads(final List<CompletableFuture<Void>> uploads) {
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException(exception.getMessage());
+        }
     }
 
     private RoadmapContent findLastRoadmapContent(final Roadmap roadmap) {
@@ -57,13 +77,18 @@ public class RoadmapCreateEventListener {
     }
 
     private RoadmapNodeImages makeRoadmapNodeImages(final RoadmapNodeSaveDto roadmapNodeSaveDto,
-                                                    final RoadmapNode roadmapNode) {
+                                                    final RoadmapNode roadmapNode,
+                                                    final List<CompletableFuture<Void>> uploads) {
         final List<FileInformation> fileInformations = roadmapNodeSaveDto.fileInformations();
         final RoadmapNodeImages roadmapNodeImages = new RoadmapNodeImages();
         for (final FileInformation fileInformation : fileInformations) {
             final RoadmapNodeImage roadmapNodeImage = makeRoadmapNodeImage(fileInformation);
             roadmapNodeImages.add(roadmapNodeImage);
-            fileService.save(roadmapNodeImage.getServerFilePath(), fileInformation);
+            uploads.add(asyncFileUploader.uploadImage(roadmapNodeImage.getServerFilePath(), ImageDirType.ROADMAP_NODE,
+                            roadmapNodeImage.getImageContentType(), fileInformation)
+                    .thenAccept(uploadedImage -> roadmapNodeImage.updateFilePaths(uploadedImage.serverFilePath(),
+                            uploadedImage.imageDerivatives().thumbnailFilePath(),
+                            uploadedImage.imageDerivatives().mediumFilePath())));
         }
         roadmapNode.addImages(roadmapNodeImages);
         return roadmapNodeImages;
@@ -21,7 +21,6 @@ import co.kirikiri.exception.ForbiddenException;
 import co.kirikiri.exception.NotFoundException;
 import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
 import co.kirikiri.persistence.roadmap.RoadmapRepository;
 import co.kirikiri.persistence.roadmap.RoadmapReviewRepository;
@@ -29,14 +28,19 @@ import co.kirikiri.service.dto.roadmap.RoadmapNodeSaveDto;
 import co.kirikiri.service.dto.roadmap.RoadmapReviewDto;
 import co.kirikiri.service.dto.roadmap.RoadmapSaveDto;
 import co.kirikiri.service.dto.roadmap.RoadmapTagSaveDto;
+import co.kirikiri.service.dto.roadmap.request.RoadmapNodeSaveRequest;
 import co.kirikiri.service.dto.roadmap.request.RoadmapReviewSaveRequest;
 import co.kirikiri.service.dto.roadmap.request.RoadmapSaveRequest;
+import co.kirikiri.service.event.RoadmapChangedEvent;
 import co.kirikiri.service.event.RoadmapCreateEvent;
+import co.kirikiri.service.event.RoadmapDeletedEvent;
+import co.kirikiri.service.event.RoadmapReviewCreatedEvent;
 import co.kirikiri.service.mapper.RoadmapMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 @Service
@@ -44,28 +48,39 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoadmapCreateService {
 
-    private final MemberRepository memberRepository;
+    private final MemberReferenceResolver memberReferenceResolver;
     private final RoadmapRepository roadmapRepository;
     private final RoadmapReviewRepository roadmapReviewRepository;
     private final GoalRoomRepository goalRoomRepository;
     private final GoalRoomMemberRepository goalRoomMemberRepository;
     private final RoadmapCategoryRepository roadmapCategoryRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final ImageHeaderValidator imageHeaderValidator;
 
     public Long create(final RoadmapSaveRequest request, final String identifier) {
         final Member member = findMemberByIdentifier(identifier);
         final RoadmapCategory roadmapCategory = findRoadmapCategoryById(request.categoryId());
+        validateRoadmapNodeImages(request);
         final RoadmapSaveDto roadmapSaveDto = RoadmapMapper.convertToRoadmapSaveDto(request);
         final Roadmap roadmap = createRoadmap(member, roadmapSaveDto, roadmapCategory);
         final Roadmap savedRoadmap = roadmapRepository.save(roadmap);
 
         applicationEventPublisher.publishEvent(new RoadmapCreateEvent(savedRoadmap, roadmapSaveDto));
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(savedRoadmap.getId()));
 
         return savedRoadmap.getId();
     }
 
+    private void validateRoadmapNodeImages(final RoadmapSaveRequest request) {
+        for (final RoadmapNodeSaveRequest roadmapNode : request.roadmapNodes()) {
+            for (final MultipartFile image : roadmapNode.getImages()) {
+                imageHeaderValidator.validate(image);
+            }
+        }
+    }
+
     private Member findMemberByIdentifier(final String identifier) {
-        return memberRepository.findByIdentifier(new Identifier(identifier))
+        return memberReferenceResolver.findByIdentifier(new Identifier(identifier))
                 .orElseThrow(() -> new AuthenticationException("존재하지 않는 회원입니다."));
     }
 
@@ -124,6 +139,8 @@ public class RoadmapCreateService {
         final RoadmapReview roadmapReview = new RoadmapReview(roadmapReviewDto.content(), roadmapReviewDto.rate(),
                 roadmapReviewDto.member());
         roadmap.addReview(roadmapReview);
+        applicationEventPublisher.publishEvent(new RoadmapReviewCreatedEvent(roadmapId, roadmapReviewDto.rate()));
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapId));
     }
 
     private Roadmap findRoadmapById(final Long id) {
@@ -155,6 +172,8 @@ public class RoadmapCreateService {
     public void deleteRoadmap(final String identifier, final Long roadmapId) {
         final Roadmap roadmap = findRoadmapById(roadmapId);
         validateRoadmapCreator(roadmapId, identifier);
+        applicationEventPublisher.publishEvent(new RoadmapChangedEvent(roadmapId));
+        applicationEventPublisher.publishEvent(new RoadmapDeletedEvent(roadmapId));
         final List<GoalRoom> goalRooms = goalRoomRepository.findByRoadmap(roadmap);
         if (goalRooms.isEmpty()) {
             roadmapRepository.delete(roadmap);
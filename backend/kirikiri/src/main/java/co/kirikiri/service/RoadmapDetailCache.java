@@ -0,0 +1,25 @@
+package co.kirikiri.service;
+
+import co.kirikiri.service.dto.roadmap.CachedRoadmapDto;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import java.util.function.Function;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RoadmapDetailCache {
+
+    public static final String ROADMAP_DETAIL_CACHE = "roadmapDetail";
+
+    @Cacheable(cacheNames = ROADMAP_DETAIL_CACHE, key = "#roadmapId", sync = true)
+    public CachedRoadmapDto get(final Long roadmapId, final Function<Long, CachedRoadmapDto> loader) {
+        return loader.apply(roadmapId);
+    }
+
+    @CacheEvict(cacheNames = ROADMAP_DETAIL_CACHE, key = "#roadmapChangedEvent.roadmapId()")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(final RoadmapChangedEvent roadmapChangedEvent) {
+    }
+}
@@ -0,0 +1,79 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class RoadmapPurger {
+
+    private static final int DELETE_AFTER_MONTH = 3;
+
+    private final RoadmapRepository roadmapRepository;
+    private final GoalRoomRepository goalRoomRepository;
+    private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+
+    public int purgeNextChunk(final LocalDate today, final int chunkSize) {
+        final List<Long> roadmapIds = roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED,
+                GoalRoomStatus.COMPLETED, today.minusMonths(DELETE_AFTER_MONTH), PageRequest.ofSize(chunkSize));
+        if (roadmapIds.isEmpty()) {
+            return 0;
+        }
+        deleteGoalRooms(goalRoomRepository.findIdsByRoadmapIds(roadmapIds));
+        deleteRoadmaps(roadmapIds);
+        return roadmapIds.size();
+    }
+
+    private void deleteGoalRooms(final List<Long> goalRoomIds) {
+        if (goalRoomIds.isEmpty()) {
+            return;
+        }
+        if (contentAddressedFileStore.isEnabled()) {
+            releaseCheckFeedImages(goalRoomIds);
+        }
+        goalRoomRepository.deleteToDoChecksByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteCheckFeedsByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteMembersByGoalRoomIds(goalRoomIds);
+        goalRoomPendingMemberRepository.deleteAllByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteToDosByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteRoadmapNodesByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteAllByIds(goalRoomIds);
+    }
+
+    private void releaseCheckFeedImages(final List<Long> goalRoomIds) {
+        for (final String serverFilePath : goalRoomRepository.findCheckFeedFilePathsByGoalRoomIds(goalRoomIds,
+                CheckFeedImageStatus.READY)) {
+            contentAddressedFileStore.release(serverFilePath);
+        }
+    }
+
+    private void deleteRoadmaps(final List<Long> roadmapIds) {
+        if (contentAddressedFileStore.isEnabled()) {
+            releaseRoadmapNodeImages(roadmapIds);
+        }
+        roadmapRepository.deleteNodeImagesByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteNodesByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteContentsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteTagsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteReviewsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteAllByIds(roadmapIds);
+    }
+
+    private void releaseRoadmapNodeImages(final List<Long> roadmapIds) {
+        for (final String serverFilePath : roadmapRepository.findNodeImageFilePathsByRoadmapIds(roadmapIds)) {
+            contentAddressedFileStore.release(serverFilePath);
+        }
+    }
+}
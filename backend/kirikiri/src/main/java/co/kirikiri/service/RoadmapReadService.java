@@ -2,20 +2,24 @@ package co.kirikiri.service;
 
 import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberImage;
 import co.kirikiri.domain.member.vo.Identifier;
 import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapCategory;
 import co.kirikiri.domain.roadmap.RoadmapContent;
 import co.kirikiri.domain.roadmap.RoadmapNode;
+import co.kirikiri.domain.roadmap.RoadmapNodeImage;
 import co.kirikiri.domain.roadmap.RoadmapNodes;
 import co.kirikiri.domain.roadmap.RoadmapReview;
 import co.kirikiri.domain.roadmap.RoadmapTags;
 import co.kirikiri.exception.NotFoundException;
 import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapScrollDto;
 import co.kirikiri.persistence.dto.RoadmapSearchDto;
+import co.kirikiri.persistence.dto.RoadmapSearchTagName;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
 import co.kirikiri.persistence.roadmap.RoadmapRepository;
@@ -24,6 +28,8 @@ import co.kirikiri.service.dto.CustomScrollRequest;
 import co.kirikiri.service.dto.goalroom.RoadmapGoalRoomDto;
 import co.kirikiri.service.dto.goalroom.RoadmapGoalRoomScrollDto;
 import co.kirikiri.service.dto.member.MemberDto;
+import co.kirikiri.service.dto.roadmap.CachedRoadmapDto;
+import co.kirikiri.service.dto.roadmap.CachedRoadmapNodeDto;
 import co.kirikiri.service.dto.roadmap.RoadmapCategoryDto;
 import co.kirikiri.service.dto.roadmap.RoadmapContentDto;
 import co.kirikiri.service.dto.roadmap.RoadmapDto;
@@ -38,15 +44,26 @@ import co.kirikiri.service.dto.roadmap.request.RoadmapOrderTypeRequest;
 import co.kirikiri.service.dto.roadmap.request.RoadmapSearchRequest;
 import co.kirikiri.service.dto.roadmap.response.MemberRoadmapResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapCategoryResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapForListResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapForListResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapGoalRoomResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapReviewResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapSearchSuggestionResponse;
 import co.kirikiri.service.mapper.GoalRoomMapper;
 import co.kirikiri.service.mapper.RoadmapMapper;
 import co.kirikiri.service.mapper.ScrollResponseMapper;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
@@ -62,50 +79,78 @@ public class RoadmapReadService {
     private final RoadmapContentRepository roadmapContentRepository;
     private final RoadmapReviewRepository roadmapReviewRepository;
     private final GoalRoomRepository goalRoomRepository;
-    private final MemberRepository memberRepository;
+    private final MemberReferenceResolver memberReferenceResolver;
     private final FileService fileService;
+    private final RoadmapDetailCache roadmapDetailCache;
+    private final RoadmapSearchIndex roadmapSearchIndex;
+    private final RoadmapTagIndex roadmapTagIndex;
+    private final RoadmapSuggestionIndex roadmapSuggestionIndex;
+    private final RoadmapSimilarityIndex roadmapSimilarityIndex;
+    private final RoadmapSortKeyIndex roadmapSortKeyIndex;
 
     public RoadmapResponse findRoadmap(final Long id) {
+        final CachedRoadmapDto cachedRoadmapDto = roadmapDetailCache.get(id, this::makeCachedRoadmapDto);
+        final RoadmapDto roadmapDto = signRoadmapDto(cachedRoadmapDto);
+        return RoadmapMapper.convertToRoadmapResponse(roadmapDto, cachedRoadmapDto.goalRoomNumber());
+    }
+
+    private CachedRoadmapDto makeCachedRoadmapDto(final Long id) {
         final Roadmap roadmap = findRoadmapById(id);
         final RoadmapContent recentRoadmapContent = findRecentContent(roadmap);
         final List<GoalRoom> goalRooms = goalRoomRepository.findByRoadmap(roadmap);
         final RoadmapGoalRoomNumberDto roadmapGoalRoomNumberDto = GoalRoomMapper.convertRoadmapGoalRoomDto(goalRooms);
-        final RoadmapDto roadmapDto = makeRoadmapDto(roadmap, recentRoadmapContent);
-        return RoadmapMapper.convertToRoadmapResponse(roadmapDto, roadmapGoalRoomNumberDto);
-    }
-
-    private RoadmapDto makeRoadmapDto(final Roadmap roadmap, final RoadmapContent roadmapContent) {
         final RoadmapCategory category = roadmap.getCategory();
         final Member creator = roadmap.getCreator();
-        final RoadmapContentDto roadmapContentDto = new RoadmapContentDto(
-                roadmapContent.getId(),
-                roadmapContent.getContent(),
-                makeRoadmapNodeDtos(roadmapContent.getNodes()));
-        return new RoadmapDto(roadmap.getId(), new RoadmapCategoryDto(category.getId(), category.getName()),
-                roadmap.getTitle(), roadmap.getIntroduction(), makeMemberDto(creator),
-                roadmapContentDto, roadmap.getDifficulty().name(), roadmap.getRequiredPeriod(),
-                roadmap.getCreatedAt(), makeRoadmapTagDtos(roadmap.getTags()));
+        final MemberImage creatorImage = creator.getImage();
+        return new CachedRoadmapDto(roadmap.getId(), new RoadmapCategoryDto(category.getId(), category.getName()),
+                roadmap.getTitle(), roadmap.getIntroduction(), creator.getId(), creator.getNickname().getValue(),
+                creatorImage.getServerFilePath(), creatorImage.isDefault(), recentRoadmapContent.getId(),
+                recentRoadmapContent.getContent(), makeCachedRoadmapNodeDtos(recentRoadmapContent.getNodes()),
+                roadmap.getDifficulty().name(), roadmap.getRequiredPeriod(), roadmap.getCreatedAt(),
+                makeRoadmapTagDtos(roadmap.getTags()), roadmapGoalRoomNumberDto);
     }
 
-    private MemberDto makeMemberDto(final Member creator) {
-        final URL url = fileService.generateUrl(creator.getImage().getServerFilePath(), HttpMethod.GET);
-        return new MemberDto(creator.getId(), creator.getNickname().getValue(), url.toExternalForm());
-    }
-
-    private List<RoadmapNodeDto> makeRoadmapNodeDtos(final RoadmapNodes nodes) {
+    private List<CachedRoadmapNodeDto> makeCachedRoadmapNodeDtos(final RoadmapNodes nodes) {
         return nodes.getValues()
                 .stream()
-                .map(this::makeRoadmapNodeDto)
+                .map(this::makeCachedRoadmapNodeDto)
                 .toList();
     }
 
-    private RoadmapNodeDto makeRoadmapNodeDto(final RoadmapNode roadmapNode) {
-        final List<String> imageUrls = roadmapNode.getRoadmapNodeImages()
+    private CachedRoadmapNodeDto makeCachedRoadmapNodeDto(final RoadmapNode roadmapNode) {
+        final List<String> nodeImagePaths = roadmapNode.getRoadmapNodeImages()
                 .getValues()
                 .stream()
-                .map(it -> fileService.generateUrl(it.getServerFilePath(), HttpMethod.GET).toExternalForm())
+                .map(RoadmapNodeImage::getMediumFilePath)
+                .toList();
+        return new CachedRoadmapNodeDto(roadmapNode.getId(), roadmapNode.getTitle(), roadmapNode.getContent(),
+                nodeImagePaths);
+    }
+
+    private RoadmapDto signRoadmapDto(final CachedRoadmapDto cachedRoadmapDto) {
+        final URL creatorImageUrl = fileService.generateMemberImageUrl(cachedRoadmapDto.creatorImagePath(),
+                cachedRoadmapDto.defaultCreatorImage());
+        final Map<String, URL> nodeImageUrls = fileService.generateUrls(cachedRoadmapDto.nodes().stream()
+                .flatMap(node -> node.nodeImagePaths().stream())
+                .toList(), HttpMethod.GET);
+        final List<RoadmapNodeDto> nodes = cachedRoadmapDto.nodes().stream()
+                .map(node -> new RoadmapNodeDto(node.id(), node.title(), node.description(), node.nodeImagePaths()
+                        .stream()
+                        .map(path -> nodeImageUrls.get(path).toExternalForm())
+                        .toList()))
                 .toList();
-        return new RoadmapNodeDto(roadmapNode.getId(), roadmapNode.getTitle(), roadmapNode.getContent(), imageUrls);
+        return new RoadmapDto(cachedRoadmapDto.roadmapId(), cachedRoadmapDto.category(),
+                cachedRoadmapDto.roadmapTitle(), cachedRoadmapDto.introduction(),
+                new MemberDto(cachedRoadmapDto.creatorId(), cachedRoadmapDto.creatorName(),
+                        creatorImageUrl.toExternalForm()),
+                new RoadmapContentDto(cachedRoadmapDto.contentId(), cachedRoadmapDto.content(), nodes),
+                cachedRoadmapDto.difficulty(), cachedRoadmapDto.recommendedRoadmapPeriod(),
+                cachedRoadmapDto.createdAt(), cachedRoadmapDto.tags());
+    }
+
+    private MemberDto makeMemberDto(final Member member, final Map<String, URL> memberImageUrls) {
+        final URL url = memberImageUrls.get(member.getImage().getServerFilePath());
+        return new MemberDto(member.getId(), member.getNickname().getValue(), url.toExternalForm());
     }
 
     private List<RoadmapTagDto> makeRoadmapTagDtos(final RoadmapTags roadmapTags) {
@@ -130,8 +175,8 @@ public class RoadmapReadService {
                                                            final CustomScrollRequest scrollRequest) {
         final RoadmapCategory category = findCategoryById(categoryId);
         final RoadmapOrderType orderType = RoadmapMapper.convertRoadmapOrderType(orderTypeRequest);
-        final List<Roadmap> roadmaps = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                scrollRequest.lastId(), scrollRequest.size());
+        final List<RoadmapScrollDto> roadmaps = roadmapRepository.findRoadmapsByCategory(category, orderType,
+                ScrollResponseMapper.convertToScrollCursor(scrollRequest), scrollRequest.size());
         final RoadmapForListScrollDto roadmapForListScrollDto = makeRoadmapForListScrollDto(roadmaps,
                 scrollRequest.size());
         return RoadmapMapper.convertRoadmapResponses(roadmapForListScrollDto);
@@ -145,23 +190,47 @@ public class RoadmapReadService {
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 카테고리입니다. categoryId = " + categoryId));
     }
 
-    public RoadmapForListScrollDto makeRoadmapForListScrollDto(final List<Roadmap> roadmaps, final int requestSize) {
+    public RoadmapForListScrollDto makeRoadmapForListScrollDto(final List<RoadmapScrollDto> roadmapScrollDtos,
+                                                               final int requestSize) {
+        final List<Roadmap> roadmaps = roadmapScrollDtos.stream()
+                .map(RoadmapScrollDto::roadmap)
+                .toList();
+        final Map<String, URL> creatorImageUrls = generateMemberImageUrls(roadmaps.stream()
+                .map(Roadmap::getCreator)
+                .toList());
         final List<RoadmapForListDto> roadmapForListDtos = roadmaps.stream()
-                .map(this::makeRoadmapForListDto)
+                .map(roadmap -> makeRoadmapForListDto(roadmap, creatorImageUrls))
                 .toList();
         final List<RoadmapForListDto> subDtos = ScrollResponseMapper.getSubResponses(roadmapForListDtos, requestSize);
         final boolean hasNext = ScrollResponseMapper.hasNext(roadmapForListDtos.size(), requestSize);
-        return new RoadmapForListScrollDto(subDtos, hasNext);
+        final String nextCursor = ScrollResponseMapper.makeNextCursor(
+                ScrollResponseMapper.getSubResponses(roadmapScrollDtos, requestSize), hasNext,
+                RoadmapScrollDto::cursor);
+        return new RoadmapForListScrollDto(subDtos, hasNext, nextCursor);
     }
 
-    private RoadmapForListDto makeRoadmapForListDto(final Roadmap roadmap) {
+    private Map<String, URL> generateMemberImageUrls(final List<Member> members) {
+        final List<String> uploadedImagePaths = members.stream()
+                .map(Member::getImage)
+                .filter(memberImage -> !memberImage.isDefault())
+                .map(MemberImage::getServerFilePath)
+                .toList();
+        final Map<String, URL> memberImageUrls = new HashMap<>(
+                fileService.generateUrls(uploadedImagePaths, HttpMethod.GET));
+        members.stream()
+                .map(Member::getImage)
+                .filter(MemberImage::isDefault)
+                .forEach(memberImage -> memberImageUrls.put(memberImage.getServerFilePath(),
+                        fileService.generatePublicUrl(memberImage.getServerFilePath())));
+        return memberImageUrls;
+    }
+
+    private RoadmapForListDto makeRoadmapForListDto(final Roadmap roadmap, final Map<String, URL> creatorImageUrls) {
         final RoadmapCategory category = roadmap.getCategory();
         final RoadmapCategoryDto roadmapCategoryDto = new RoadmapCategoryDto(category.getId(),
                 category.getName());
         final Member creator = roadmap.getCreator();
-        final URL creatorImageUrl = fileService.generateUrl(creator.getImage().getServerFilePath(), HttpMethod.GET);
-        final MemberDto memberDto = new MemberDto(creator.getId(), creator.getNickname().getValue(),
-                creatorImageUrl.toExternalForm());
+        final MemberDto memberDto = makeMemberDto(creator, creatorImageUrls);
         final List<RoadmapTagDto> roadmapTagDtos = makeRoadmapTagDto(roadmap.getTags());
 
         return new RoadmapForListDto(
@@ -188,15 +257,109 @@ public class RoadmapReadService {
                                           final RoadmapSearchRequest searchRequest,
                                           final CustomScrollRequest scrollRequest) {
         final RoadmapOrderType orderType = RoadmapMapper.convertRoadmapOrderType(orderTypeRequest);
-        final RoadmapSearchDto roadmapSearchDto = RoadmapSearchDto.create(
-                searchRequest.creatorName(), searchRequest.roadmapTitle(), searchRequest.tagName());
-        final List<Roadmap> roadmaps = roadmapRepository.findRoadmapsByCond(roadmapSearchDto, orderType,
-                scrollRequest.lastId(), scrollRequest.size());
+        final RoadmapSearchDto roadmapSearchDto = makeRoadmapSearchDto(searchRequest);
+        final List<RoadmapScrollDto> roadmaps = findRoadmapsByCond(roadmapSearchDto, orderType, scrollRequest);
         final RoadmapForListScrollDto roadmapForListScrollDto = makeRoadmapForListScrollDto(roadmaps,
                 scrollRequest.size());
         return RoadmapMapper.convertRoadmapResponses(roadmapForListScrollDto);
     }
 
+    private RoadmapSearchDto makeRoadmapSearchDto(final RoadmapSearchRequest searchRequest) {
+        final RoadmapSearchDto roadmapSearchDto = RoadmapSearchDto.create(
+                searchRequest.creatorName(), searchRequest.roadmapTitle(), searchRequest.tagName());
+        if (roadmapSearchDto.getTitle() != null) {
+            return roadmapSearchDto.withRoadmapIds(roadmapSearchIndex.search(roadmapSearchDto.getTitle().value()));
+        }
+        if (roadmapSearchDto.getTagNames() != null) {
+            return roadmapSearchDto.withRoadmapIds(roadmapTagIndex.search(makeTagNames(roadmapSearchDto)));
+        }
+        return roadmapSearchDto;
+    }
+
+    private List<String> makeTagNames(final RoadmapSearchDto roadmapSearchDto) {
+        return roadmapSearchDto.getTagNames()
+                .stream()
+                .map(RoadmapSearchTagName::value)
+                .toList();
+    }
+
+    private List<RoadmapScrollDto> findRoadmapsByCond(final RoadmapSearchDto roadmapSearchDto,
+                                                      final RoadmapOrderType orderType,
+                                                      final CustomScrollRequest scrollRequest) {
+        if (roadmapSearchDto.hasNoMatchingRoadmap()) {
+            return Collections.emptyList();
+        }
+        final ScrollCursor cursor = ScrollResponseMapper.convertToScrollCursor(scrollRequest);
+        if (roadmapSearchDto.getRoadmapIds() == null) {
+            return roadmapRepository.findRoadmapsByCond(roadmapSearchDto, orderType, cursor, scrollRequest.size());
+        }
+        if (orderType == RoadmapOrderType.LATEST) {
+            return findLatestIndexedRoadmaps(roadmapSearchDto, cursor, scrollRequest.size());
+        }
+        return findIndexedRoadmapsByStats(roadmapSearchDto, orderType, cursor, scrollRequest.size());
+    }
+
+    private List<RoadmapScrollDto> findLatestIndexedRoadmaps(final RoadmapSearchDto roadmapSearchDto,
+                                                             final ScrollCursor cursor, final int pageSize) {
+        final List<Long> roadmapIds = roadmapSearchDto.getRoadmapIds()
+                .stream()
+                .filter(roadmapId -> cursor == null || roadmapId < cursor.id())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        final int limit = pageSize + 1;
+        final List<RoadmapScrollDto> roadmaps = new ArrayList<>();
+        int from = 0;
+        while (from < roadmapIds.size() && roadmaps.size() < limit) {
+            final int to = Math.min(from + limit - roadmaps.size(), roadmapIds.size());
+            final Set<Long> pageRoadmapIds = new HashSet<>(roadmapIds.subList(from, to));
+            roadmaps.addAll(roadmapRepository.findRoadmapsByCond(roadmapSearchDto.withRoadmapIds(pageRoadmapIds),
+                    RoadmapOrderType.LATEST, cursor, pageSize));
+            from = to;
+        }
+        return roadmaps;
+    }
+
+    private List<RoadmapScrollDto> findIndexedRoadmapsByStats(final RoadmapSearchDto roadmapSearchDto,
+                                                              final RoadmapOrderType orderType,
+                                                              final ScrollCursor cursor, final int pageSize) {
+        final List<Long> pageRoadmapIds = roadmapSortKeyIndex.findTopRoadmapIds(roadmapSearchDto.getRoadmapIds(),
+                orderType, cursor, pageSize + 1);
+        if (pageRoadmapIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return roadmapRepository.findRoadmapsByCond(roadmapSearchDto.withRoadmapIds(new HashSet<>(pageRoadmapIds)),
+                orderType, cursor, pageSize);
+    }
+
+    public RoadmapSearchSuggestionResponse findSearchSuggestions(final String keyword) {
+        if (keyword == null) {
+            return new RoadmapSearchSuggestionResponse(Collections.emptyList(), Collections.emptyList());
+        }
+        return new RoadmapSearchSuggestionResponse(roadmapSuggestionIndex.findTagNames(keyword),
+                roadmapSuggestionIndex.findCreatorNicknames(keyword));
+    }
+
+    public List<RoadmapForListResponse> findSimilarRoadmaps(final Long roadmapId) {
+        final List<Long> similarRoadmapIds = roadmapSimilarityIndex.findSimilarRoadmapIds(roadmapId);
+        if (similarRoadmapIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<Long, Roadmap> roadmaps = roadmapRepository.findRoadmapsByIds(similarRoadmapIds)
+                .stream()
+                .collect(Collectors.toMap(Roadmap::getId, Function.identity()));
+        final List<Roadmap> similarRoadmaps = similarRoadmapIds.stream()
+                .filter(roadmaps::containsKey)
+                .map(roadmaps::get)
+                .toList();
+        final Map<String, URL> creatorImageUrls = generateMemberImageUrls(similarRoadmaps.stream()
+                .map(Roadmap::getCreator)
+                .toList());
+        final List<RoadmapForListDto> roadmapForListDtos = similarRoadmaps.stream()
+                .map(roadmap -> makeRoadmapForListDto(roadmap, creatorImageUrls))
+                .toList();
+        return RoadmapMapper.convertRoadmapForListResponses(roadmapForListDtos);
+    }
+
     public List<RoadmapCategoryResponse> findAllRoadmapCategories() {
         final List<RoadmapCategory> roadmapCategories = roadmapCategoryRepository.findAll();
         return RoadmapMapper.convertRoadmapCategoryResponses(roadmapCategories);
@@ -206,12 +369,12 @@ public class RoadmapReadService {
                                                         final CustomScrollRequest scrollRequest) {
         final Member member = findMemberByIdentifier(identifier);
         final List<Roadmap> roadmaps = roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(member,
-                scrollRequest.lastId(), scrollRequest.size());
+                ScrollResponseMapper.convertToScrollCursor(scrollRequest), scrollRequest.size());
         return RoadmapMapper.convertMemberRoadmapResponses(roadmaps, scrollRequest.size());
     }
 
     private Member findMemberByIdentifier(final String identifier) {
-        return memberRepository.findByIdentifier(new Identifier(identifier))
+        return memberReferenceResolver.findByIdentifier(new Identifier(identifier))
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
     }
 
@@ -221,50 +384,67 @@ public class RoadmapReadService {
         final Roadmap roadmap = findRoadmapById(roadmapId);
         final RoadmapGoalRoomsOrderType orderType = GoalRoomMapper.convertToGoalRoomOrderType(orderTypeDto);
         final List<GoalRoom> goalRoomsWithPendingMembers = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(
-                roadmap, orderType, scrollRequest.lastId(), scrollRequest.size());
+                roadmap, orderType, ScrollResponseMapper.convertToScrollCursor(scrollRequest), scrollRequest.size());
         final RoadmapGoalRoomScrollDto roadmapGoalRoomScrollDto = makeGoalRoomDtos(goalRoomsWithPendingMembers,
-                scrollRequest.size());
+                scrollRequest.size(), orderType);
         return GoalRoomMapper.convertToRoadmapGoalRoomResponses(roadmapGoalRoomScrollDto);
     }
 
     public RoadmapGoalRoomScrollDto makeGoalRoomDtos(final List<GoalRoom> goalRooms,
-                                                     final int requestSize) {
+                                                     final int requestSize,
+                                                     final RoadmapGoalRoomsOrderType orderType) {
+        final List<Member> goalRoomLeaders = goalRooms.stream()
+                .map(GoalRoom::findGoalRoomLeader)
+                .toList();
+        final Map<String, URL> leaderImageUrls = generateMemberImageUrls(goalRoomLeaders);
         final List<RoadmapGoalRoomDto> roadmapGoalRoomDtos = goalRooms.stream()
-                .map(this::makeGoalRoomDto)
+                .map(goalRoom -> makeGoalRoomDto(goalRoom, leaderImageUrls))
                 .toList();
         final List<RoadmapGoalRoomDto> subDtos = ScrollResponseMapper.getSubResponses(roadmapGoalRoomDtos, requestSize);
         final boolean hasNext = ScrollResponseMapper.hasNext(roadmapGoalRoomDtos.size(), requestSize);
-        return new RoadmapGoalRoomScrollDto(subDtos, hasNext);
+        final String nextCursor = ScrollResponseMapper.makeNextCursor(
+                ScrollResponseMapper.getSubResponses(goalRooms, requestSize), hasNext,
+                goalRoom -> makeGoalRoomCursor(goalRoom, orderType));
+        return new RoadmapGoalRoomScrollDto(subDtos, hasNext, nextCursor);
+    }
+
+    private ScrollCursor makeGoalRoomCursor(final GoalRoom goalRoom, final RoadmapGoalRoomsOrderType orderType) {
+        if (orderType == RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE) {
+            return ScrollCursor.of(goalRoom.getStartDate(), goalRoom.getId());
+        }
+        return ScrollCursor.of(goalRoom.getCreatedAt(), goalRoom.getId());
     }
 
-    private RoadmapGoalRoomDto makeGoalRoomDto(final GoalRoom goalRoom) {
+    private RoadmapGoalRoomDto makeGoalRoomDto(final GoalRoom goalRoom, final Map<String, URL> leaderImageUrls) {
         final Member goalRoomLeader = goalRoom.findGoalRoomLeader();
         return new RoadmapGoalRoomDto(goalRoom.getId(), goalRoom.getName().getValue(),
                 goalRoom.getCurrentMemberCount(), goalRoom.getLimitedMemberCount().getValue(),
                 goalRoom.getCreatedAt(), goalRoom.getStartDate(),
-                goalRoom.getEndDate(), makeMemberDto(goalRoomLeader));
+                goalRoom.getEndDate(), makeMemberDto(goalRoomLeader, leaderImageUrls));
     }
 
     public List<RoadmapReviewResponse> findRoadmapReviews(final Long roadmapId,
                                                           final CustomScrollRequest scrollRequest) {
         final Roadmap roadmap = findRoadmapById(roadmapId);
         final List<RoadmapReview> roadmapReviews = roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(
-                roadmap, scrollRequest.lastId(), scrollRequest.size());
+                roadmap, ScrollResponseMapper.convertToScrollCursor(scrollRequest), scrollRequest.size());
         final List<RoadmapReviewReadDto> roadmapReviewReadDtos = makeRoadmapReviewReadDtos(roadmapReviews);
         return RoadmapMapper.convertToRoadmapReviewResponses(roadmapReviewReadDtos);
     }
 
     public List<RoadmapReviewReadDto> makeRoadmapReviewReadDtos(final List<RoadmapReview> roadmapReviews) {
+        final Map<String, URL> memberImageUrls = generateMemberImageUrls(roadmapReviews.stream()
+                .map(RoadmapReview::getMember)
+                .toList());
         return roadmapReviews.stream()
-                .map(this::makeRoadmapReviewReadDto)
+                .map(review -> makeRoadmapReviewReadDto(review, memberImageUrls))
                 .toList();
     }
 
-    private RoadmapReviewReadDto makeRoadmapReviewReadDto(final RoadmapReview review) {
+    private RoadmapReviewReadDto makeRoadmapReviewReadDto(final RoadmapReview review,
+                                                          final Map<String, URL> memberImageUrls) {
         final Member member = review.getMember();
-        final URL memberImageURl = fileService.generateUrl(member.getImage().getServerFilePath(), HttpMethod.GET);
-        return new RoadmapReviewReadDto(review.getId(),
-                new MemberDto(member.getId(), member.getNickname().getValue(), memberImageURl.toExternalForm()),
+        return new RoadmapReviewReadDto(review.getId(), makeMemberDto(member, memberImageUrls),
                 review.getCreatedAt(), review.getContent(), review.getRate());
     }
 }
@@ -1,54 +1,54 @@
 package co.kirikiri.service;
 
-import co.kirikiri.domain.goalroom.GoalRoom;
-import co.kirikiri.domain.roadmap.Roadmap;
-import co.kirikiri.domain.roadmap.RoadmapStatus;
-import co.kirikiri.persistence.goalroom.GoalRoomRepository;
-import co.kirikiri.persistence.roadmap.RoadmapRepository;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
-@Transactional
-@RequiredArgsConstructor
 public class RoadmapScheduler {
 
-    private static final int DELETE_AFTER_MONTH = 3;
-
-    private final RoadmapRepository roadmapRepository;
-    private final GoalRoomRepository goalRoomRepository;
+    private static final String PURGE_JOB_NAME = "roadmap.purge";
+    private static final String JOB_DURATION_METRIC = "scheduler.job.duration";
+    private static final String PURGED_METRIC = "roadmap.purged";
+    private static final String JOB_TAG = "job";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final RoadmapPurger roadmapPurger;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final int purgeChunkSize;
+    private final Timer purgeTimer;
+    private final Counter purgedCounter;
+
+    public RoadmapScheduler(final RoadmapPurger roadmapPurger, final SchedulerLeaseManager schedulerLeaseManager,
+                            @Value("${roadmap.purge.chunk-size:100}") final int purgeChunkSize,
+                            final MeterRegistry meterRegistry) {
+        this.roadmapPurger = roadmapPurger;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.purgeChunkSize = purgeChunkSize;
+        this.purgeTimer = Timer.builder(JOB_DURATION_METRIC).tag(JOB_TAG, PURGE_JOB_NAME).register(meterRegistry);
+        this.purgedCounter = Counter.builder(PURGED_METRIC).register(meterRegistry);
+    }
 
     @Scheduled(cron = "0 0 4 * * *")
     public void deleteRoadmaps() {
-        final RoadmapStatus status = RoadmapStatus.DELETED;
-        final List<Roadmap> deletedStatusRoadmaps = roadmapRepository.findWithRoadmapContentByStatus(status);
-        for (final Roadmap roadmap : deletedStatusRoadmaps) {
-            delete(roadmap);
-        }
+        schedulerLeaseManager.runExclusively(PURGE_JOB_NAME, () -> purgeTimer.record(this::purgeRoadmaps));
     }
 
-    private void delete(final Roadmap roadmap) {
-        final List<GoalRoom> goalRooms = goalRoomRepository.findByRoadmap(roadmap);
-        final boolean canDelete = canDeleteRoadmapBasedOnGoalRooms(goalRooms);
-        if (canDelete) {
-            deleteGoalRooms(goalRooms);
-            deleteRoadmap(roadmap);
+    private void purgeRoadmaps() {
+        final LocalDate today = LocalDate.now();
+        int deletedCount = 0;
+        int chunkCount = roadmapPurger.purgeNextChunk(today, purgeChunkSize);
+        while (chunkCount > 0) {
+            deletedCount += chunkCount;
+            purgedCounter.increment(chunkCount);
+            log.info(String.format("로드맵 %d개를 삭제했습니다. (누적 %d개)", chunkCount, deletedCount));
+            chunkCount = roadmapPurger.purgeNextChunk(today, purgeChunkSize);
         }
     }
-
-    private boolean canDeleteRoadmapBasedOnGoalRooms(final List<GoalRoom> goalRooms) {
-        return goalRooms.stream()
-                .allMatch(goalRoom -> goalRoom.isCompleted() && goalRoom.isCompletedAfterMonths(DELETE_AFTER_MONTH));
-    }
-
-    private void deleteGoalRooms(final List<GoalRoom> goalRooms) {
-        goalRoomRepository.deleteAll(goalRooms);
-    }
-
-    private void deleteRoadmap(final Roadmap roadmap) {
-        roadmapRepository.delete(roadmap);
-    }
 }
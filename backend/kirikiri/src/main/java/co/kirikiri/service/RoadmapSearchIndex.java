@@ -0,0 +1,136 @@
+package co.kirikiri.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final String BLANK_REGEX = "\\s+";
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, RoadmapSearchDocument> documents = new ConcurrentHashMap<>();
+
+    public synchronized void add(final Long roadmapId, final String title, final String introduction) {
+        final RoadmapSearchDocument document = new RoadmapSearchDocument(normalize(title), normalize(introduction));
+        final RoadmapSearchDocument previous = documents.put(roadmapId, document);
+        if (previous != null) {
+            removePostings(roadmapId, previous);
+        }
+        for (final String token : document.tokens()) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet())
+                    .add(roadmapId);
+        }
+    }
+
+    public synchronized void remove(final Long roadmapId) {
+        final RoadmapSearchDocument document = documents.remove(roadmapId);
+        if (document != null) {
+            removePostings(roadmapId, document);
+        }
+    }
+
+    private void removePostings(final Long roadmapId, final RoadmapSearchDocument document) {
+        for (final String token : document.tokens()) {
+            postings.computeIfPresent(token, (key, roadmapIds) -> {
+                roadmapIds.remove(roadmapId);
+                return roadmapIds.isEmpty() ? null : roadmapIds;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    public Set<Long> search(final String keyword) {
+        final String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final List<Set<Long>> candidates = findCandidates(normalizedKeyword);
+        if (candidates.isEmpty()) {
+            return Collections.emptySet();
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+        return candidates.get(0)
+                .stream()
+                .filter(roadmapId -> containsInAll(candidates, roadmapId))
+                .filter(roadmapId -> matches(roadmapId, normalizedKeyword))
+                .collect(Collectors.toSet());
+    }
+
+    private List<Set<Long>> findCandidates(final String normalizedKeyword) {
+        final List<Set<Long>> candidates = new ArrayList<>();
+        for (final String token : tokenizeKeyword(normalizedKeyword)) {
+            final Set<Long> roadmapIds = postings.get(token);
+            if (roadmapIds == null) {
+                return Collections.emptyList();
+            }
+            candidates.add(roadmapIds);
+        }
+        return candidates;
+    }
+
+    private boolean containsInAll(final List<Set<Long>> candidates, final Long roadmapId) {
+        return candidates.stream()
+                .allMatch(roadmapIds -> roadmapIds.contains(roadmapId));
+    }
+
+    private boolean matches(final Long roadmapId, final String normalizedKeyword) {
+        final RoadmapSearchDocument document = documents.get(roadmapId);
+        return document != null && document.contains(normalizedKeyword);
+    }
+
+    private Set<String> tokenizeKeyword(final String normalizedKeyword) {
+        if (normalizedKeyword.length() < GRAM_SIZE) {
+            return Set.of(normalizedKeyword);
+        }
+        return tokenize(normalizedKeyword, GRAM_SIZE);
+    }
+
+    private static String normalize(final String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll(BLANK_REGEX, "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> tokenize(final String normalizedValue, final int gramSize) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        for (int index = 0; index + gramSize <= normalizedValue.length(); index++) {
+            tokens.add(normalizedValue.substring(index, index + gramSize));
+        }
+        return tokens;
+    }
+
+    private record RoadmapSearchDocument(
+            String title,
+            String introduction
+    ) {
+
+        Set<String> tokens() {
+            final Set<String> tokens = new LinkedHashSet<>();
+            for (final String field : List.of(title, introduction)) {
+                tokens.addAll(tokenize(field, 1));
+                tokens.addAll(tokenize(field, GRAM_SIZE));
+            }
+            return tokens;
+        }
+
+        boolean contains(final String normalizedKeyword) {
+            return title.contains(normalizedKeyword) || introduction.contains(normalizedKeyword);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.dto.RoadmapSearchDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import co.kirikiri.persistence.dto.RoadmapSuggestionDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import co.kirikiri.service.event.GoalRoomCreatedEvent;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapCreateEvent;
+import co.kirikiri.service.event.RoadmapDeletedEvent;
+import co.kirikiri.service.event.RoadmapReviewCreatedEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RoadmapSearchIndexEventListener {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final Duration RESYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final RoadmapRepository roadmapRepository;
+    private final RoadmapStatsRepository roadmapStatsRepository;
+    private final RoadmapSearchIndex roadmapSearchIndex;
+    private final RoadmapTagIndex roadmapTagIndex;
+    private final RoadmapSuggestionIndex roadmapSuggestionIndex;
+    private final RoadmapSimilarityIndex roadmapSimilarityIndex;
+    private final RoadmapSortKeyIndex roadmapSortKeyIndex;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoadmapSearchIndex() {
+        final LocalDateTime syncedAt = LocalDateTime.now();
+        final Map<Long, List<String>> tagNamesByRoadmapId = new HashMap<>();
+        List<RoadmapSearchDocumentDto> searchDocuments = findSearchDocumentsAfter(0L);
+        while (!searchDocuments.isEmpty()) {
+            tagNamesByRoadmapId.putAll(addSearchDocuments(searchDocuments));
+            final Long lastId = searchDocuments.get(searchDocuments.size() - 1).roadmapId();
+            searchDocuments = findSearchDocumentsAfter(lastId);
+        }
+        roadmapTagIndex.addAll(tagNamesByRoadmapId);
+        reloadRoadmapSortKeys();
+        lastSyncedAt = syncedAt;
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void reloadRoadmapSortKeys() {
+        final List<RoadmapSortKeyDto> sortKeys = new ArrayList<>();
+        List<RoadmapSortKeyDto> sortKeyChunk = findSortKeysAfter(0L);
+        while (!sortKeyChunk.isEmpty()) {
+            sortKeys.addAll(sortKeyChunk);
+            sortKeyChunk = findSortKeysAfter(sortKeyChunk.get(sortKeyChunk.size() - 1).roadmapId());
+        }
+        roadmapSortKeyIndex.replaceAll(sortKeys);
+    }
+
+    @Scheduled(fixedDelayString = "${roadmap.search-index.resync-interval:60000}")
+    public void resyncRoadmapSearchIndex() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+        final LocalDateTime syncedAt = LocalDateTime.now();
+        final LocalDateTime changedSince = lastSyncedAt.minus(RESYNC_OVERLAP);
+        final Map<Long, List<String>> tagNamesByRoadmapId = new HashMap<>();
+        List<RoadmapSearchDocumentDto> searchDocuments = findSearchDocumentsCreatedSince(changedSince, 0L);
+        while (!searchDocuments.isEmpty()) {
+            tagNamesByRoadmapId.putAll(addSearchDocuments(searchDocuments));
+            final Long lastId = searchDocuments.get(searchDocuments.size() - 1).roadmapId();
+            searchDocuments = findSearchDocumentsCreatedSince(changedSince, lastId);
+        }
+        roadmapTagIndex.addAll(tagNamesByRoadmapId);
+        List<Long> deletedRoadmapIds = findRoadmapIdsDeletedSince(changedSince, 0L);
+        while (!deletedRoadmapIds.isEmpty()) {
+            deletedRoadmapIds.forEach(this::removeRoadmap);
+            deletedRoadmapIds = findRoadmapIdsDeletedSince(changedSince,
+                    deletedRoadmapIds.get(deletedRoadmapIds.size() - 1));
+        }
+        lastSyncedAt = syncedAt;
+    }
+
+    private Map<Long, List<String>> addSearchDocuments(final List<RoadmapSearchDocumentDto> searchDocuments) {
+        for (final RoadmapSearchDocumentDto searchDocument : searchDocuments) {
+            roadmapSearchIndex.add(searchDocument.roadmapId(), searchDocument.title(),
+                    searchDocument.introduction());
+            roadmapSortKeyIndex.add(searchDocument.roadmapId());
+        }
+        return loadRoadmapSuggestionIndex(searchDocuments);
+    }
+
+    private Map<Long, List<String>> loadRoadmapSuggestionIndex(
+            final List<RoadmapSearchDocumentDto> searchDocuments) {
+        final List<Long> roadmapIds = searchDocuments.stream()
+                .map(RoadmapSearchDocumentDto::roadmapId)
+                .toList();
+        final Map<Long, List<String>> tagNamesByRoadmapId = roadmapRepository.findTagNamesByRoadmapIds(roadmapIds)
+                .stream()
+                .collect(Collectors.groupingBy(RoadmapTagNameDto::roadmapId,
+                        Collectors.mapping(RoadmapTagNameDto::tagName, Collectors.toList())));
+        for (final RoadmapSuggestionDocumentDto suggestionDocument
+                : roadmapRepository.findSuggestionDocumentsByRoadmapIds(roadmapIds)) {
+            final Long roadmapId = suggestionDocument.roadmapId();
+            roadmapSuggestionIndex.add(roadmapId, suggestionDocument.creatorNickname(),
+                    tagNamesByRoadmapId.getOrDefault(roadmapId, List.of()), suggestionDocument.participantCount());
+        }
+        return tagNamesByRoadmapId;
+    }
+
+    private List<RoadmapSearchDocumentDto> findSearchDocumentsAfter(final Long lastId) {
+        return roadmapRepository.findSearchDocumentsAfter(RoadmapStatus.CREATED, lastId,
+                PageRequest.of(0, LOAD_CHUNK_SIZE));
+    }
+
+    private List<RoadmapSearchDocumentDto> findSearchDocumentsCreatedSince(final LocalDateTime createdSince,
+                                                                           final Long lastId) {
+        return roadmapRepository.findSearchDocumentsCreatedSince(RoadmapStatus.CREATED, createdSince, lastId,
+                PageRequest.of(0, LOAD_CHUNK_SIZE));
+    }
+
+    private List<RoadmapSortKeyDto> findSortKeysAfter(final Long lastId) {
+        return roadmapStatsRepository.findSortKeysAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+    }
+
+    private List<Long> findRoadmapIdsDeletedSince(final LocalDateTime deletedSince, final Long lastId) {
+        return roadmapRepository.findIdsDeletedSince(RoadmapStatus.DELETED, deletedSince, lastId,
+                PageRequest.of(0, LOAD_CHUNK_SIZE));
+    }
+
+    @TransactionalEventListener
+    public void handleRoadmapCreate(final RoadmapCreateEvent roadmapCreateEvent) {
+        final Roadmap roadmap = roadmapCreateEvent.roadmap();
+        roadmapSearchIndex.add(roadmap.getId(), roadmap.getTitle(), roadmap.getIntroduction());
+        final List<String> tagNames = makeTagNames(roadmap);
+        roadmapTagIndex.add(roadmap.getId(), tagNames);
+        roadmapSuggestionIndex.add(roadmap.getId(), roadmap.getCreator().getNickname().getValue(), tagNames, 0L);
+        roadmapSortKeyIndex.add(roadmap.getId());
+    }
+
+    private List<String> makeTagNames(final Roadmap roadmap) {
+        return roadmap.getTags()
+                .getValues()
+                .stream()
+                .map(roadmapTag -> roadmapTag.getName().getValue())
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void handleRoadmapDeleted(final RoadmapDeletedEvent roadmapDeletedEvent) {
+        removeRoadmap(roadmapDeletedEvent.roadmapId());
+    }
+
+    private void removeRoadmap(final Long roadmapId) {
+        roadmapSearchIndex.remove(roadmapId);
+        roadmapTagIndex.remove(roadmapId);
+        roadmapSuggestionIndex.remove(roadmapId);
+        roadmapSimilarityIndex.remove(roadmapId);
+        roadmapSortKeyIndex.remove(roadmapId);
+    }
+
+    @TransactionalEventListener
+    public void handleGoalRoomCreated(final GoalRoomCreatedEvent goalRoomCreatedEvent) {
+        roadmapSortKeyIndex.increaseGoalRoomCount(goalRoomCreatedEvent.roadmapId());
+    }
+
+    @TransactionalEventListener
+    public void handleGoalRoomStarted(final GoalRoomStartedEvent goalRoomStartedEvent) {
+        roadmapSuggestionIndex.increasePopularity(goalRoomStartedEvent.roadmapId(),
+                goalRoomStartedEvent.participantCount());
+        roadmapSortKeyIndex.increaseParticipantCount(goalRoomStartedEvent.roadmapId(),
+                goalRoomStartedEvent.participantCount());
+    }
+
+    @TransactionalEventListener
+    public void handleRoadmapReviewCreated(final RoadmapReviewCreatedEvent roadmapReviewCreatedEvent) {
+        roadmapSortKeyIndex.addReview(roadmapReviewCreatedEvent.roadmapId(), roadmapReviewCreatedEvent.rate());
+    }
+}
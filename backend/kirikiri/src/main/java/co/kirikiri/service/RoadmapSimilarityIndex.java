@@ -0,0 +1,218 @@
+package co.kirikiri.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapSimilarityIndex {
+
+    private static final int NEIGHBOUR_SIZE = 10;
+    private static final int TAG_WEIGHT = 3;
+    private static final int PARTICIPANT_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 1;
+    private static final String BLANK_REGEX = "\\s+";
+
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private Map<Long, Long> roadmapCategories = new HashMap<>();
+    private Map<Long, Set<String>> roadmapTagNames = new HashMap<>();
+    private Map<String, Set<Long>> tagNameRoadmaps = new HashMap<>();
+    private Map<Long, Set<Long>> roadmapParticipants = new HashMap<>();
+    private Map<Long, Set<Long>> participantRoadmaps = new HashMap<>();
+    private Set<Long> changedRoadmapIds = new HashSet<>();
+    private volatile Map<Long, Neighbours> neighbours = new ConcurrentHashMap<>();
+    private boolean rebuilding;
+
+    public synchronized void addRoadmap(final Long roadmapId, final Long categoryId,
+                                        final Collection<String> tagNames) {
+        final Set<String> normalizedTagNames = tagNames.stream()
+                .map(RoadmapSimilarityIndex::normalize)
+                .collect(Collectors.toSet());
+        if (Objects.equals(roadmapCategories.get(roadmapId), categoryId)
+                && normalizedTagNames.equals(roadmapTagNames.get(roadmapId))) {
+            return;
+        }
+        removeFromPostings(roadmapTagNames.get(roadmapId), tagNameRoadmaps, roadmapId);
+        roadmapCategories.put(roadmapId, categoryId);
+        roadmapTagNames.put(roadmapId, normalizedTagNames);
+        normalizedTagNames.forEach(tagName -> tagNameRoadmaps.computeIfAbsent(tagName, key -> new HashSet<>())
+                .add(roadmapId));
+        changedRoadmapIds.add(roadmapId);
+    }
+
+    public synchronized void addParticipant(final Long roadmapId, final Long memberId) {
+        if (!roadmapCategories.containsKey(roadmapId)) {
+            return;
+        }
+        if (roadmapParticipants.computeIfAbsent(roadmapId, key -> new HashSet<>()).add(memberId)) {
+            participantRoadmaps.computeIfAbsent(memberId, key -> new HashSet<>()).add(roadmapId);
+            changedRoadmapIds.add(roadmapId);
+        }
+    }
+
+    public synchronized void remove(final Long roadmapId) {
+        if (rebuilding) {
+            removedDuringRebuild.add(roadmapId);
+        }
+        if (roadmapCategories.remove(roadmapId) == null) {
+            return;
+        }
+        removeFromPostings(roadmapTagNames.remove(roadmapId), tagNameRoadmaps, roadmapId);
+        removeFromPostings(roadmapParticipants.remove(roadmapId), participantRoadmaps, roadmapId);
+        changedRoadmapIds.remove(roadmapId);
+        neighbours.remove(roadmapId);
+        neighbours.replaceAll((id, roadmapNeighbours) -> roadmapNeighbours.without(roadmapId));
+    }
+
+    private <T> void removeFromPostings(final Set<T> keys, final Map<T, Set<Long>> postings, final Long roadmapId) {
+        if (keys == null) {
+            return;
+        }
+        for (final T key : keys) {
+            final Set<Long> roadmapIds = postings.get(key);
+            roadmapIds.remove(roadmapId);
+            if (roadmapIds.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    public synchronized void refresh() {
+        for (final Long roadmapId : changedRoadmapIds) {
+            final Map<Long, Integer> scores = calculateScores(roadmapId);
+            neighbours.put(roadmapId, Neighbours.of(scores));
+            scores.forEach((neighbourId, score) -> neighbours.put(neighbourId,
+                    neighbours.getOrDefault(neighbourId, Neighbours.EMPTY).with(roadmapId, score)));
+        }
+        changedRoadmapIds.clear();
+    }
+
+    private Map<Long, Integer> calculateScores(final Long roadmapId) {
+        final Map<Long, Integer> scores = new HashMap<>();
+        addScores(scores, roadmapTagNames.get(roadmapId), tagNameRoadmaps, roadmapId, TAG_WEIGHT);
+        addScores(scores, roadmapParticipants.get(roadmapId), participantRoadmaps, roadmapId, PARTICIPANT_WEIGHT);
+        final Long categoryId = roadmapCategories.get(roadmapId);
+        scores.replaceAll((neighbourId, score) -> Objects.equals(categoryId, roadmapCategories.get(neighbourId))
+                ? score + CATEGORY_WEIGHT
+                : score);
+        return scores;
+    }
+
+    private <T> void addScores(final Map<Long, Integer> scores, final Set<T> keys,
+                               final Map<T, Set<Long>> postings, final Long roadmapId, final int weight) {
+        if (keys == null) {
+            return;
+        }
+        for (final T key : keys) {
+            for (final Long neighbourId : postings.get(key)) {
+                if (!neighbourId.equals(roadmapId)) {
+                    scores.merge(neighbourId, weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    public synchronized void startRebuild() {
+        rebuilding = true;
+        removedDuringRebuild.clear();
+    }
+
+    public synchronized void replaceWith(final RoadmapSimilarityIndex rebuiltIndex) {
+        removedDuringRebuild.forEach(rebuiltIndex::remove);
+        synchronized (rebuiltIndex) {
+            roadmapCategories = rebuiltIndex.roadmapCategories;
+            roadmapTagNames = rebuiltIndex.roadmapTagNames;
+            tagNameRoadmaps = rebuiltIndex.tagNameRoadmaps;
+            roadmapParticipants = rebuiltIndex.roadmapParticipants;
+            participantRoadmaps = rebuiltIndex.participantRoadmaps;
+            changedRoadmapIds = rebuiltIndex.changedRoadmapIds;
+            neighbours = rebuiltIndex.neighbours;
+        }
+        rebuilding = false;
+        removedDuringRebuild.clear();
+    }
+
+    public synchronized void clear() {
+        roadmapCategories.clear();
+        roadmapTagNames.clear();
+        tagNameRoadmaps.clear();
+        roadmapParticipants.clear();
+        participantRoadmaps.clear();
+        changedRoadmapIds.clear();
+        neighbours.clear();
+    }
+
+    public List<Long> findSimilarRoadmapIds(final Long roadmapId) {
+        final Neighbours roadmapNeighbours = neighbours.get(roadmapId);
+        if (roadmapNeighbours == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(roadmapNeighbours.roadmapIds())
+                .boxed()
+                .toList();
+    }
+
+    private static String normalize(final String tagName) {
+        return tagName.replaceAll(BLANK_REGEX, "").toLowerCase(Locale.ROOT);
+    }
+
+    private record Neighbours(
+            long[] roadmapIds,
+            int[] scores
+    ) {
+
+        private static final Neighbours EMPTY = new Neighbours(new long[0], new int[0]);
+        private static final Comparator<Map.Entry<Long, Integer>> ORDER =
+                Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey());
+
+        private static Neighbours of(final Map<Long, Integer> scores) {
+            final List<Map.Entry<Long, Integer>> topScores = scores.entrySet()
+                    .stream()
+                    .sorted(ORDER)
+                    .limit(NEIGHBOUR_SIZE)
+                    .toList();
+            final long[] roadmapIds = new long[topScores.size()];
+            final int[] neighbourScores = new int[topScores.size()];
+            for (int index = 0; index < topScores.size(); index++) {
+                roadmapIds[index] = topScores.get(index).getKey();
+                neighbourScores[index] = topScores.get(index).getValue();
+            }
+            return new Neighbours(roadmapIds, neighbourScores);
+        }
+
+        private Neighbours with(final long roadmapId, final int score) {
+            final Map<Long, Integer> merged = toScores(roadmapId);
+            merged.put(roadmapId, score);
+            return of(merged);
+        }
+
+        private Neighbours without(final long roadmapId) {
+            if (Arrays.stream(roadmapIds).noneMatch(id -> id == roadmapId)) {
+                return this;
+            }
+            return of(toScores(roadmapId));
+        }
+
+        private Map<Long, Integer> toScores(final long excludedRoadmapId) {
+            final Map<Long, Integer> result = new HashMap<>();
+            for (int index = 0; index < roadmapIds.length; index++) {
+                if (roadmapIds[index] != excludedRoadmapId) {
+                    result.put(roadmapIds[index], scores[index]);
+                }
+            }
+            return result;
+        }
+    }
+}
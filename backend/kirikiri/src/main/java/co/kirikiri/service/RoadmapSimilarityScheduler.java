@@ -0,0 +1,121 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.dto.GoalRoomParticipationDto;
+import co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RoadmapSimilarityScheduler {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration RESYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final RoadmapRepository roadmapRepository;
+    private final GoalRoomMemberRepository goalRoomMemberRepository;
+    private final RoadmapSimilarityIndex roadmapSimilarityIndex;
+
+    private LocalDateTime lastSyncedAt;
+    private Long lastGoalRoomMemberId = 0L;
+    private Long previousGoalRoomMemberId = 0L;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 5 * * *")
+    public synchronized void rebuildRoadmapSimilarities() {
+        final LocalDateTime syncedAt = LocalDateTime.now();
+        final RoadmapSimilarityIndex rebuiltIndex = new RoadmapSimilarityIndex();
+        roadmapSimilarityIndex.startRebuild();
+        indexRoadmaps(rebuiltIndex, this::findSimilarityDocumentsAfter);
+        final Long goalRoomMemberId = indexParticipationsAfter(rebuiltIndex, 0L);
+        rebuiltIndex.refresh();
+        roadmapSimilarityIndex.replaceWith(rebuiltIndex);
+        lastSyncedAt = syncedAt;
+        lastGoalRoomMemberId = goalRoomMemberId;
+        previousGoalRoomMemberId = goalRoomMemberId;
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public synchronized void refreshRoadmapSimilarities() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+        final LocalDateTime syncedAt = LocalDateTime.now();
+        final LocalDateTime createdSince = lastSyncedAt.minus(RESYNC_OVERLAP);
+        indexRoadmaps(roadmapSimilarityIndex, lastId -> findSimilarityDocumentsCreatedSince(createdSince, lastId));
+        final Long goalRoomMemberId = indexParticipationsAfter(roadmapSimilarityIndex, previousGoalRoomMemberId);
+        roadmapSimilarityIndex.refresh();
+        lastSyncedAt = syncedAt;
+        previousGoalRoomMemberId = lastGoalRoomMemberId;
+        lastGoalRoomMemberId = Math.max(lastGoalRoomMemberId, goalRoomMemberId);
+    }
+
+    private void indexRoadmaps(final RoadmapSimilarityIndex index,
+                               final Function<Long, List<RoadmapSimilarityDocumentDto>> findSimilarityDocuments) {
+        List<RoadmapSimilarityDocumentDto> similarityDocuments = findSimilarityDocuments.apply(0L);
+        while (!similarityDocuments.isEmpty()) {
+            final Map<Long, List<String>> tagNamesByRoadmapId = findTagNamesByRoadmapIds(similarityDocuments);
+            for (final RoadmapSimilarityDocumentDto similarityDocument : similarityDocuments) {
+                index.addRoadmap(similarityDocument.roadmapId(), similarityDocument.categoryId(),
+                        tagNamesByRoadmapId.getOrDefault(similarityDocument.roadmapId(), List.of()));
+            }
+            final Long lastId = similarityDocuments.get(similarityDocuments.size() - 1).roadmapId();
+            similarityDocuments = findSimilarityDocuments.apply(lastId);
+        }
+    }
+
+    private List<RoadmapSimilarityDocumentDto> findSimilarityDocumentsAfter(final Long lastId) {
+        return roadmapRepository.findSimilarityDocumentsAfter(RoadmapStatus.CREATED, lastId,
+                PageRequest.of(0, CHUNK_SIZE));
+    }
+
+    private List<RoadmapSimilarityDocumentDto> findSimilarityDocumentsCreatedSince(final LocalDateTime createdSince,
+                                                                                   final Long lastId) {
+        return roadmapRepository.findSimilarityDocumentsCreatedSince(RoadmapStatus.CREATED, createdSince, lastId,
+                PageRequest.of(0, CHUNK_SIZE));
+    }
+
+    private Map<Long, List<String>> findTagNamesByRoadmapIds(
+            final List<RoadmapSimilarityDocumentDto> similarityDocuments) {
+        final List<Long> roadmapIds = similarityDocuments.stream()
+                .map(RoadmapSimilarityDocumentDto::roadmapId)
+                .toList();
+        return roadmapRepository.findTagNamesByRoadmapIds(roadmapIds)
+                .stream()
+                .collect(Collectors.groupingBy(RoadmapTagNameDto::roadmapId,
+                        Collectors.mapping(RoadmapTagNameDto::tagName, Collectors.toList())));
+    }
+
+    private Long indexParticipationsAfter(final RoadmapSimilarityIndex index, final Long goalRoomMemberId) {
+        Long lastId = goalRoomMemberId;
+        List<GoalRoomParticipationDto> participations = findParticipationsAfter(lastId);
+        while (!participations.isEmpty()) {
+            for (final GoalRoomParticipationDto participation : participations) {
+                index.addParticipant(participation.roadmapId(), participation.memberId());
+            }
+            lastId = participations.get(participations.size() - 1).goalRoomMemberId();
+            participations = findParticipationsAfter(lastId);
+        }
+        return lastId;
+    }
+
+    private List<GoalRoomParticipationDto> findParticipationsAfter(final Long lastId) {
+        return goalRoomMemberRepository.findParticipationsAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+    }
+}
@@ -0,0 +1,176 @@
+package co.kirikiri.service;
+
+import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapSortKeyIndex {
+
+    private Map<Long, RoadmapSortKey> sortKeys = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void replaceAll(final Collection<RoadmapSortKeyDto> sortKeyDtos) {
+        final Map<Long, RoadmapSortKey> loadedSortKeys = new HashMap<>();
+        for (final RoadmapSortKeyDto sortKeyDto : sortKeyDtos) {
+            loadedSortKeys.put(sortKeyDto.roadmapId(), new RoadmapSortKey(sortKeyDto.goalRoomCount(),
+                    sortKeyDto.participantCount(), sortKeyDto.reviewSum(), sortKeyDto.reviewCount(),
+                    sortKeyDto.reviewRate()));
+        }
+        lock.writeLock().lock();
+        try {
+            sortKeys = loadedSortKeys;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(final Long roadmapId) {
+        lock.writeLock().lock();
+        try {
+            sortKeys.putIfAbsent(roadmapId, RoadmapSortKey.EMPTY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void increaseGoalRoomCount(final Long roadmapId) {
+        lock.writeLock().lock();
+        try {
+            sortKeys.computeIfPresent(roadmapId, (id, sortKey) -> sortKey.increaseGoalRoomCount());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void increaseParticipantCount(final Long roadmapId, final long participantCount) {
+        lock.writeLock().lock();
+        try {
+            sortKeys.computeIfPresent(roadmapId,
+                    (id, sortKey) -> sortKey.increaseParticipantCount(participantCount));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addReview(final Long roadmapId, final double rate) {
+        lock.writeLock().lock();
+        try {
+            sortKeys.computeIfPresent(roadmapId, (id, sortKey) -> sortKey.addReview(rate));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final Long roadmapId) {
+        lock.writeLock().lock();
+        try {
+            sortKeys.remove(roadmapId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        replaceAll(Collections.emptyList());
+    }
+
+    public List<Long> findTopRoadmapIds(final Collection<Long> roadmapIds, final RoadmapOrderType orderType,
+                                        final ScrollCursor cursor, final int limit) {
+        final Comparator<Candidate> order = makeOrder(orderType);
+        lock.readLock().lock();
+        try {
+            final Candidate lastCandidate = findLastCandidate(cursor, orderType);
+            if (cursor != null && lastCandidate == null) {
+                return Collections.emptyList();
+            }
+            final PriorityQueue<Candidate> topCandidates = new PriorityQueue<>(order.reversed());
+            for (final Long roadmapId : roadmapIds) {
+                final Candidate candidate = new Candidate(roadmapId,
+                        sortKeys.getOrDefault(roadmapId, RoadmapSortKey.EMPTY));
+                if (lastCandidate != null && order.compare(candidate, lastCandidate) <= 0) {
+                    continue;
+                }
+                topCandidates.offer(candidate);
+                if (topCandidates.size() > limit) {
+                    topCandidates.poll();
+                }
+            }
+            final List<Candidate> result = new ArrayList<>(topCandidates);
+            result.sort(order);
+            return result.stream()
+                    .map(Candidate::roadmapId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Candidate findLastCandidate(final ScrollCursor cursor, final RoadmapOrderType orderType) {
+        if (cursor == null) {
+            return null;
+        }
+        if (!cursor.hasSortKey()) {
+            final RoadmapSortKey sortKey = sortKeys.get(cursor.id());
+            return sortKey == null ? null : new Candidate(cursor.id(), sortKey);
+        }
+        final RoadmapSortKey sortKey = switch (orderType) {
+            case GOAL_ROOM_COUNT -> new RoadmapSortKey(cursor.longSortKey(), 0L, 0.0, 0L, 0.0);
+            case PARTICIPANT_COUNT -> new RoadmapSortKey(0L, cursor.longSortKey(), 0.0, 0L, 0.0);
+            default -> new RoadmapSortKey(0L, 0L, 0.0, 0L, cursor.doubleSortKey());
+        };
+        return new Candidate(cursor.id(), sortKey);
+    }
+
+    private Comparator<Candidate> makeOrder(final RoadmapOrderType orderType) {
+        final Comparator<Candidate> sortKeyComparator = switch (orderType) {
+            case GOAL_ROOM_COUNT -> Comparator.comparingLong(candidate -> candidate.sortKey().goalRoomCount());
+            case PARTICIPANT_COUNT -> Comparator.comparingLong(candidate -> candidate.sortKey().participantCount());
+            default -> Comparator.comparingDouble(candidate -> candidate.sortKey().reviewRate());
+        };
+        return sortKeyComparator.reversed()
+                .thenComparing(Candidate::roadmapId);
+    }
+
+    private record RoadmapSortKey(
+            long goalRoomCount,
+            long participantCount,
+            double reviewSum,
+            long reviewCount,
+            double reviewRate
+    ) {
+
+        private static final RoadmapSortKey EMPTY = new RoadmapSortKey(0L, 0L, 0.0, 0L, 0.0);
+
+        private RoadmapSortKey increaseGoalRoomCount() {
+            return new RoadmapSortKey(goalRoomCount + 1, participantCount, reviewSum, reviewCount, reviewRate);
+        }
+
+        private RoadmapSortKey increaseParticipantCount(final long count) {
+            return new RoadmapSortKey(goalRoomCount, participantCount + count, reviewSum, reviewCount, reviewRate);
+        }
+
+        private RoadmapSortKey addReview(final double rate) {
+            return new RoadmapSortKey(goalRoomCount, participantCount, reviewSum + rate, reviewCount + 1,
+                    (reviewSum + rate) / (reviewCount + 1));
+        }
+    }
+
+    private record Candidate(
+            Long roadmapId,
+            RoadmapSortKey sortKey
+    ) {
+
+    }
+}
@@ -0,0 +1,40 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.roadmap.RoadmapStats;
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import co.kirikiri.service.event.GoalRoomCreatedEvent;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapCreateEvent;
+import co.kirikiri.service.event.RoadmapReviewCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+public class RoadmapStatsEventListener {
+
+    private final RoadmapStatsRepository roadmapStatsRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleRoadmapCreate(final RoadmapCreateEvent roadmapCreateEvent) {
+        roadmapStatsRepository.save(new RoadmapStats(roadmapCreateEvent.roadmap().getId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleGoalRoomCreated(final GoalRoomCreatedEvent goalRoomCreatedEvent) {
+        roadmapStatsRepository.increaseGoalRoomCount(goalRoomCreatedEvent.roadmapId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleGoalRoomStarted(final GoalRoomStartedEvent goalRoomStartedEvent) {
+        roadmapStatsRepository.increaseParticipantCount(goalRoomStartedEvent.roadmapId(),
+                goalRoomStartedEvent.participantCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleRoadmapReviewCreated(final RoadmapReviewCreatedEvent roadmapReviewCreatedEvent) {
+        roadmapStatsRepository.addReview(roadmapReviewCreatedEvent.roadmapId(), roadmapReviewCreatedEvent.rate());
+    }
+}
@@ -0,0 +1,37 @@
+package co.kirikiri.service;
+
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class RoadmapStatsReconciler {
+
+    private final RoadmapStatsRepository roadmapStatsRepository;
+
+    public int deleteOrphans() {
+        return roadmapStatsRepository.deleteOrphans();
+    }
+
+    @Transactional(readOnly = true)
+    public long findMaxRoadmapId() {
+        return roadmapStatsRepository.findMaxRoadmapId();
+    }
+
+    public long reconcileNextChunk(final long lastId, final long maxId, final int chunkSize) {
+        final List<Long> roadmapIds = roadmapStatsRepository.findRoadmapIdsAfter(lastId, maxId,
+                PageRequest.ofSize(chunkSize));
+        if (roadmapIds.isEmpty()) {
+            return lastId;
+        }
+        final long toId = roadmapIds.get(roadmapIds.size() - 1);
+        roadmapStatsRepository.insertMissingStats(lastId, toId);
+        roadmapStatsRepository.reconcileBetween(lastId, toId);
+        return toId;
+    }
+}
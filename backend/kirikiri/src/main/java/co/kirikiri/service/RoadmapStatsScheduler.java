@@ -0,0 +1,42 @@
+package co.kirikiri.service;
+
+import co.kirikiri.service.dto.IdRange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapStatsScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String DELETE_ORPHANS_JOB_NAME = "roadmap-stats.delete-orphans";
+    private static final String RECONCILE_JOB_NAME = "roadmap-stats.reconcile";
+
+    private final RoadmapStatsReconciler roadmapStatsReconciler;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final long partitionSize;
+
+    public RoadmapStatsScheduler(final RoadmapStatsReconciler roadmapStatsReconciler,
+                                 final SchedulerLeaseManager schedulerLeaseManager,
+                                 @Value("${roadmap.stats.partition-size:100000}") final long partitionSize) {
+        this.roadmapStatsReconciler = roadmapStatsReconciler;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.partitionSize = partitionSize;
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileRoadmapStats() {
+        schedulerLeaseManager.runExclusively(DELETE_ORPHANS_JOB_NAME, roadmapStatsReconciler::deleteOrphans);
+        schedulerLeaseManager.runPartitioned(RECONCILE_JOB_NAME, roadmapStatsReconciler.findMaxRoadmapId(),
+                partitionSize, this::reconcile);
+    }
+
+    private void reconcile(final IdRange idRange) {
+        long lastId = idRange.afterId();
+        long reconciledId = roadmapStatsReconciler.reconcileNextChunk(lastId, idRange.toId(), CHUNK_SIZE);
+        while (reconciledId > lastId) {
+            lastId = reconciledId;
+            reconciledId = roadmapStatsReconciler.reconcileNextChunk(lastId, idRange.toId(), CHUNK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package co.kirikiri.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapSuggestionIndex {
+
+    private static final int SUGGESTION_SIZE = 10;
+    private static final long DEFAULT_POPULARITY = 1L;
+    private static final String BLANK_REGEX = "\\s+";
+
+    private final PrefixTrie tagNameTrie = new PrefixTrie();
+    private final PrefixTrie creatorNicknameTrie = new PrefixTrie();
+    private final Map<Long, RoadmapSuggestion> roadmapSuggestions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(final Long roadmapId, final String creatorNickname, final Collection<String> tagNames,
+                    final long participantCount) {
+        lock.writeLock().lock();
+        try {
+            removeRoadmap(roadmapId);
+            final Map<String, String> normalizedTagNames = new LinkedHashMap<>();
+            for (final String tagName : tagNames) {
+                normalizedTagNames.putIfAbsent(normalize(tagName), tagName);
+            }
+            final RoadmapSuggestion roadmapSuggestion = new RoadmapSuggestion(creatorNickname, normalizedTagNames,
+                    DEFAULT_POPULARITY + participantCount);
+            updateWeights(roadmapSuggestion, roadmapSuggestion.popularity());
+            roadmapSuggestions.put(roadmapId, roadmapSuggestion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void increasePopularity(final Long roadmapId, final long participantCount) {
+        lock.writeLock().lock();
+        try {
+            final RoadmapSuggestion roadmapSuggestion = roadmapSuggestions.get(roadmapId);
+            if (roadmapSuggestion == null) {
+                return;
+            }
+            updateWeights(roadmapSuggestion, participantCount);
+            roadmapSuggestions.put(roadmapId, roadmapSuggestion.increase(participantCount));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final Long roadmapId) {
+        lock.writeLock().lock();
+        try {
+            removeRoadmap(roadmapId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            tagNameTrie.clear();
+            creatorNicknameTrie.clear();
+            roadmapSuggestions.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> findTagNames(final String keyword) {
+        return find(tagNameTrie, keyword);
+    }
+
+    public List<String> findCreatorNicknames(final String keyword) {
+        return find(creatorNicknameTrie, keyword);
+    }
+
+    private List<String> find(final PrefixTrie prefixTrie, final String keyword) {
+        final String prefix = normalize(keyword);
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            return prefixTrie.find(prefix);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeRoadmap(final Long roadmapId) {
+        final RoadmapSuggestion roadmapSuggestion = roadmapSuggestions.remove(roadmapId);
+        if (roadmapSuggestion != null) {
+            updateWeights(roadmapSuggestion, -roadmapSuggestion.popularity());
+        }
+    }
+
+    private void updateWeights(final RoadmapSuggestion roadmapSuggestion, final long weight) {
+        roadmapSuggestion.tagNames()
+                .forEach((key, tagName) -> tagNameTrie.update(key, tagName, weight));
+        final String creatorNickname = roadmapSuggestion.creatorNickname();
+        creatorNicknameTrie.update(normalize(creatorNickname), creatorNickname, weight);
+    }
+
+    private static String normalize(final String value) {
+        return value.replaceAll(BLANK_REGEX, "").toLowerCase(Locale.ROOT);
+    }
+
+    private record RoadmapSuggestion(
+            String creatorNickname,
+            Map<String, String> tagNames,
+            long popularity
+    ) {
+
+        private RoadmapSuggestion increase(final long participantCount) {
+            return new RoadmapSuggestion(creatorNickname, tagNames, popularity + participantCount);
+        }
+    }
+
+    private record Suggestion(
+            String value,
+            long weight
+    ) {
+
+        private static final Comparator<Suggestion> ORDER = Comparator.comparingLong(Suggestion::weight)
+                .reversed()
+                .thenComparing(Suggestion::value);
+    }
+
+    private static class PrefixTrie {
+
+        private final Node root = new Node("");
+
+        private void update(final String key, final String value, final long weight) {
+            if (key.isEmpty()) {
+                return;
+            }
+            final List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            String rest = key;
+            while (!rest.isEmpty()) {
+                Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    child = new Node(rest);
+                    node.children.put(rest.charAt(0), child);
+                }
+                final int commonLength = commonPrefixLength(child.label, rest);
+                if (commonLength < child.label.length()) {
+                    child = split(node, child, commonLength);
+                }
+                path.add(child);
+                node = child;
+                rest = rest.substring(commonLength);
+            }
+            node.weight += weight;
+            if (node.value == null) {
+                node.value = value;
+            }
+            if (node.weight <= 0) {
+                node.value = null;
+                node.weight = 0;
+            }
+            path.forEach(pathNode -> pathNode.suggestions = null);
+            compact(path);
+        }
+
+        private Node split(final Node parent, final Node child, final int splitIndex) {
+            final Node middle = new Node(child.label.substring(0, splitIndex));
+            child.label = child.label.substring(splitIndex);
+            middle.children.put(child.label.charAt(0), child);
+            parent.children.put(middle.label.charAt(0), middle);
+            return middle;
+        }
+
+        private void compact(final List<Node> path) {
+            for (int index = path.size() - 1; index > 0; index--) {
+                final Node node = path.get(index);
+                if (node.value != null) {
+                    return;
+                }
+                if (node.children.isEmpty()) {
+                    path.get(index - 1).children.remove(node.label.charAt(0));
+                    continue;
+                }
+                if (node.children.size() == 1) {
+                    final Node onlyChild = node.children.values().iterator().next();
+                    node.label = node.label + onlyChild.label;
+                    node.value = onlyChild.value;
+                    node.weight = onlyChild.weight;
+                    node.children = onlyChild.children;
+                    node.suggestions = onlyChild.suggestions;
+                }
+                return;
+            }
+        }
+
+        private List<String> find(final String prefix) {
+            Node node = root;
+            String rest = prefix;
+            while (!rest.isEmpty()) {
+                final Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    return Collections.emptyList();
+                }
+                final int commonLength = commonPrefixLength(child.label, rest);
+                if (commonLength == rest.length()) {
+                    node = child;
+                    break;
+                }
+                if (commonLength < child.label.length()) {
+                    return Collections.emptyList();
+                }
+                node = child;
+                rest = rest.substring(commonLength);
+            }
+            return node.findSuggestions()
+                    .stream()
+                    .map(Suggestion::value)
+                    .toList();
+        }
+
+        private void clear() {
+            root.children.clear();
+            root.suggestions = null;
+        }
+
+        private int commonPrefixLength(final String label, final String key) {
+            final int maxLength = Math.min(label.length(), key.length());
+            int length = 0;
+            while (length < maxLength && label.charAt(length) == key.charAt(length)) {
+                length++;
+            }
+            return length;
+        }
+    }
+
+    private static class Node {
+
+        private String label;
+        private String value;
+        private long weight;
+        private Map<Character, Node> children = new HashMap<>();
+        private volatile List<Suggestion> suggestions;
+
+        private Node(final String label) {
+            this.label = label;
+        }
+
+        private List<Suggestion> findSuggestions() {
+            List<Suggestion> cachedSuggestions = suggestions;
+            if (cachedSuggestions == null) {
+                cachedSuggestions = collectSuggestions();
+                suggestions = cachedSuggestions;
+            }
+            return cachedSuggestions;
+        }
+
+        private List<Suggestion> collectSuggestions() {
+            final PriorityQueue<Suggestion> topSuggestions = new PriorityQueue<>(Suggestion.ORDER.reversed());
+            collect(this, topSuggestions);
+            final List<Suggestion> result = new ArrayList<>(topSuggestions);
+            result.sort(Suggestion.ORDER);
+            return List.copyOf(result);
+        }
+
+        private void collect(final Node node, final PriorityQueue<Suggestion> topSuggestions) {
+            if (node.value != null) {
+                topSuggestions.offer(new Suggestion(node.value, node.weight));
+                if (topSuggestions.size() > SUGGESTION_SIZE) {
+                    topSuggestions.poll();
+                }
+            }
+            for (final Node child : node.children.values()) {
+                collect(child, topSuggestions);
+            }
+        }
+    }
+}
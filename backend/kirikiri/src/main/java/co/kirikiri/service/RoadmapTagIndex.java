@@ -0,0 +1,177 @@
+package co.kirikiri.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoadmapTagIndex {
+
+    private static final long[] EMPTY_POSTING = new long[0];
+    private static final String BLANK_REGEX = "\\s+";
+
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> roadmapTagNames = new HashMap<>();
+
+    public synchronized void add(final Long roadmapId, final Collection<String> tagNames) {
+        remove(roadmapId);
+        final Set<String> normalizedTagNames = normalize(tagNames);
+        for (final String tagName : normalizedTagNames) {
+            postings.put(tagName, insert(postings.getOrDefault(tagName, EMPTY_POSTING), roadmapId));
+        }
+        roadmapTagNames.put(roadmapId, normalizedTagNames);
+    }
+
+    public synchronized void addAll(final Map<Long, ? extends Collection<String>> tagNamesByRoadmapId) {
+        final Map<String, List<Long>> addedRoadmapIds = new HashMap<>();
+        final Map<String, Set<Long>> removedRoadmapIds = new HashMap<>();
+        tagNamesByRoadmapId.forEach((roadmapId, tagNames) -> {
+            final Set<String> normalizedTagNames = normalize(tagNames);
+            final Set<String> previousTagNames = roadmapTagNames.put(roadmapId, normalizedTagNames);
+            if (previousTagNames != null) {
+                previousTagNames.forEach(tagName -> removedRoadmapIds.computeIfAbsent(tagName,
+                        key -> new HashSet<>()).add(roadmapId));
+            }
+            normalizedTagNames.forEach(tagName -> addedRoadmapIds.computeIfAbsent(tagName,
+                    key -> new ArrayList<>()).add(roadmapId));
+        });
+        final Set<String> changedTagNames = new HashSet<>(addedRoadmapIds.keySet());
+        changedTagNames.addAll(removedRoadmapIds.keySet());
+        for (final String tagName : changedTagNames) {
+            final long[] posting = merge(postings.getOrDefault(tagName, EMPTY_POSTING),
+                    removedRoadmapIds.getOrDefault(tagName, Collections.emptySet()),
+                    addedRoadmapIds.getOrDefault(tagName, Collections.emptyList()));
+            if (posting.length == 0) {
+                postings.remove(tagName);
+                continue;
+            }
+            postings.put(tagName, posting);
+        }
+    }
+
+    public synchronized void remove(final Long roadmapId) {
+        final Set<String> tagNames = roadmapTagNames.remove(roadmapId);
+        if (tagNames == null) {
+            return;
+        }
+        for (final String tagName : tagNames) {
+            final long[] posting = delete(postings.get(tagName), roadmapId);
+            if (posting.length == 0) {
+                postings.remove(tagName);
+                continue;
+            }
+            postings.put(tagName, posting);
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        roadmapTagNames.clear();
+    }
+
+    public Set<Long> search(final Collection<String> tagNames) {
+        final List<long[]> candidates = tagNames.stream()
+                .map(RoadmapTagIndex::normalize)
+                .distinct()
+                .map(tagName -> postings.getOrDefault(tagName, EMPTY_POSTING))
+                .sorted(Comparator.comparingInt(posting -> posting.length))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Collections.emptySet();
+        }
+        long[] result = candidates.get(0);
+        for (int index = 1; index < candidates.size() && result.length > 0; index++) {
+            result = intersect(result, candidates.get(index));
+        }
+        return Arrays.stream(result)
+                .boxed()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private long[] insert(final long[] posting, final long roadmapId) {
+        final int index = Arrays.binarySearch(posting, roadmapId);
+        if (index >= 0) {
+            return posting;
+        }
+        final int insertionIndex = -index - 1;
+        final long[] inserted = new long[posting.length + 1];
+        System.arraycopy(posting, 0, inserted, 0, insertionIndex);
+        inserted[insertionIndex] = roadmapId;
+        System.arraycopy(posting, insertionIndex, inserted, insertionIndex + 1, posting.length - insertionIndex);
+        return inserted;
+    }
+
+    private long[] delete(final long[] posting, final long roadmapId) {
+        final int index = Arrays.binarySearch(posting, roadmapId);
+        if (index < 0) {
+            return posting;
+        }
+        final long[] deleted = new long[posting.length - 1];
+        System.arraycopy(posting, 0, deleted, 0, index);
+        System.arraycopy(posting, index + 1, deleted, index, posting.length - index - 1);
+        return deleted;
+    }
+
+    private long[] merge(final long[] posting, final Set<Long> removedRoadmapIds,
+                         final List<Long> addedRoadmapIds) {
+        final long[] merged = new long[posting.length + addedRoadmapIds.size()];
+        int size = 0;
+        for (final long roadmapId : posting) {
+            if (!removedRoadmapIds.contains(roadmapId)) {
+                merged[size++] = roadmapId;
+            }
+        }
+        for (final Long roadmapId : addedRoadmapIds) {
+            merged[size++] = roadmapId;
+        }
+        Arrays.sort(merged, 0, size);
+        int distinctSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (distinctSize == 0 || merged[distinctSize - 1] != merged[index]) {
+                merged[distinctSize++] = merged[index];
+            }
+        }
+        return Arrays.copyOf(merged, distinctSize);
+    }
+
+    private long[] intersect(final long[] shorter, final long[] longer) {
+        final long[] intersection = new long[shorter.length];
+        int size = 0;
+        int from = 0;
+        for (final long roadmapId : shorter) {
+            final int index = Arrays.binarySearch(longer, from, longer.length, roadmapId);
+            if (index >= 0) {
+                intersection[size++] = roadmapId;
+                from = index + 1;
+                continue;
+            }
+            from = -index - 1;
+            if (from == longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(intersection, size);
+    }
+
+    private static Set<String> normalize(final Collection<String> tagNames) {
+        return tagNames.stream()
+                .map(RoadmapTagIndex::normalize)
+                .collect(Collectors.toSet());
+    }
+
+    private static String normalize(final String tagName) {
+        return tagName.replaceAll(BLANK_REGEX, "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,85 @@
+package co.kirikiri.service;
+
+import co.kirikiri.persistence.scheduler.SchedulerLeaseRepository;
+import co.kirikiri.service.dto.IdRange;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SchedulerLeaseManager {
+
+    private static final String PARTITION_DELIMITER = "#";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final String instanceName;
+
+    public SchedulerLeaseManager(final SchedulerLeaseRepository schedulerLeaseRepository,
+                                 @Value("${scheduler.lease.lock-at-most-for:3600000}") final long lockAtMostFor,
+                                 @Value("${scheduler.lease.lock-at-least-for:60000}") final long lockAtLeastFor) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostFor);
+        this.lockAtLeastFor = Duration.ofMillis(lockAtLeastFor);
+        this.instanceName = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    public boolean runExclusively(final String jobName, final Runnable job) {
+        final String owner = instanceName + ":" + UUID.randomUUID();
+        if (!acquire(jobName, owner)) {
+            log.info(String.format("다른 인스턴스가 실행 중이거나 이미 실행한 작업이라 건너뜁니다. (%s)", jobName));
+            return false;
+        }
+        try {
+            job.run();
+        } finally {
+            schedulerLeaseRepository.release(jobName, owner, toMicros(lockAtLeastFor));
+        }
+        return true;
+    }
+
+    public int runPartitioned(final String jobName, final long maxId, final long partitionSize,
+                              final Consumer<IdRange> job) {
+        final long partitionCount = Math.max((maxId + partitionSize - 1) / partitionSize, 1);
+        int executedCount = 0;
+        for (long partition = 0; partition < partitionCount; partition++) {
+            final IdRange idRange = toIdRange(partition, partitionCount, partitionSize);
+            if (runExclusively(jobName + PARTITION_DELIMITER + partition, () -> job.accept(idRange))) {
+                executedCount++;
+            }
+        }
+        return executedCount;
+    }
+
+    private IdRange toIdRange(final long partition, final long partitionCount, final long partitionSize) {
+        final long afterId = partition * partitionSize;
+        if (partition == partitionCount - 1) {
+            return new IdRange(afterId, Long.MAX_VALUE);
+        }
+        return new IdRange(afterId, afterId + partitionSize);
+    }
+
+    private boolean acquire(final String jobName, final String owner) {
+        final long lockMicros = toMicros(lockAtMostFor);
+        if (schedulerLeaseRepository.acquire(jobName, owner, lockMicros) > 0) {
+            return true;
+        }
+        try {
+            return schedulerLeaseRepository.create(jobName, owner, lockMicros) > 0;
+        } catch (final DataIntegrityViolationException exception) {
+            return false;
+        }
+    }
+
+    private long toMicros(final Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+}
@@ -0,0 +1,41 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.persistence.file.StoredFileRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class StoredFileCollector {
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileService fileService;
+
+    @Transactional(readOnly = true)
+    public List<StoredFile> findCollectTargets(final LocalDateTime releasedBefore, final Long lastId,
+                                              final int chunkSize) {
+        return storedFileRepository.findReleasedBefore(releasedBefore, lastId, PageRequest.ofSize(chunkSize));
+    }
+
+    public boolean collect(final StoredFile storedFile, final LocalDateTime releasedBefore) {
+        if (storedFileRepository.deleteReleasedBefore(storedFile.getId(), releasedBefore) == 0) {
+            return false;
+        }
+        fileService.delete(storedFile.getServerFilePath());
+        deleteIfPresent(storedFile.getThumbnailFilePath());
+        deleteIfPresent(storedFile.getMediumFilePath());
+        return true;
+    }
+
+    private void deleteIfPresent(final String path) {
+        if (path != null) {
+            fileService.delete(path);
+        }
+    }
+}
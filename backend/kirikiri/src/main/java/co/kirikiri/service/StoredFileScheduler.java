@@ -0,0 +1,79 @@
+package co.kirikiri.service;
+
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StoredFileScheduler {
+
+    private static final String COLLECT_JOB_NAME = "stored-file.collect";
+    private static final String JOB_DURATION_METRIC = "scheduler.job.duration";
+    private static final String COLLECTED_METRIC = "stored-file.collected";
+    private static final String JOB_TAG = "job";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final StoredFileCollector storedFileCollector;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final Duration gracePeriod;
+    private final int collectChunkSize;
+    private final Timer collectTimer;
+    private final Counter collectedCounter;
+
+    public StoredFileScheduler(final StoredFileCollector storedFileCollector,
+                               final SchedulerLeaseManager schedulerLeaseManager,
+                               @Value("${file.content-addressed.grace-period-minutes:60}") final long gracePeriodMinutes,
+                               @Value("${file.content-addressed.collect.chunk-size:100}") final int collectChunkSize,
+                               final MeterRegistry meterRegistry) {
+        this.storedFileCollector = storedFileCollector;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+        this.collectChunkSize = collectChunkSize;
+        this.collectTimer = Timer.builder(JOB_DURATION_METRIC).tag(JOB_TAG, COLLECT_JOB_NAME).register(meterRegistry);
+        this.collectedCounter = Counter.builder(COLLECTED_METRIC).register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void collectStoredFiles() {
+        schedulerLeaseManager.runExclusively(COLLECT_JOB_NAME, () -> collectTimer.record(this::collectReleasedFiles));
+    }
+
+    private void collectReleasedFiles() {
+        final LocalDateTime releasedBefore = LocalDateTime.now().minus(gracePeriod);
+        int collectedCount = 0;
+        List<StoredFile> storedFiles = storedFileCollector.findCollectTargets(releasedBefore, 0L, collectChunkSize);
+        while (!storedFiles.isEmpty()) {
+            for (final StoredFile storedFile : storedFiles) {
+                if (collect(storedFile, releasedBefore)) {
+                    collectedCount++;
+                    collectedCounter.increment();
+                }
+            }
+            final Long lastId = storedFiles.get(storedFiles.size() - 1).getId();
+            storedFiles = storedFileCollector.findCollectTargets(releasedBefore, lastId, collectChunkSize);
+        }
+        if (collectedCount > 0) {
+            log.info(String.format("참조되지 않는 파일 %d개를 삭제했습니다.", collectedCount));
+        }
+    }
+
+    private boolean collect(final StoredFile storedFile, final LocalDateTime releasedBefore) {
+        try {
+            return storedFileCollector.collect(storedFile, releasedBefore);
+        } catch (final ServerException exception) {
+            log.warn(String.format("참조되지 않는 파일을 삭제하지 못했습니다. path = %s, message = %s",
+                    storedFile.getServerFilePath(), exception.getMessage()));
+            return false;
+        }
+    }
+}
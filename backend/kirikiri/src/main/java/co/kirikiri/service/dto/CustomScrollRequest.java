@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotNull;
 
 public record CustomScrollRequest(
         Long lastId,
+        String cursor,
         @NotNull(message = "사이즈를 입력해 주세요.")
         Integer size
 ) {
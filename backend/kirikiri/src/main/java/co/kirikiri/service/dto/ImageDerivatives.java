@@ -0,0 +1,15 @@
+package co.kirikiri.service.dto;
+
+public record ImageDerivatives(
+        String thumbnailFilePath,
+        String mediumFilePath
+) {
+
+    public static ImageDerivatives empty() {
+        return new ImageDerivatives(null, null);
+    }
+
+    public boolean isEmpty() {
+        return thumbnailFilePath == null && mediumFilePath == null;
+    }
+}
@@ -0,0 +1,13 @@
+package co.kirikiri.service.dto;
+
+import java.nio.file.Path;
+
+public record SpooledFile(
+        Path path,
+        String originalFileName,
+        long size,
+        String contentType,
+        String digest
+) {
+
+}
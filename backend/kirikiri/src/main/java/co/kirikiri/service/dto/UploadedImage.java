@@ -0,0 +1,8 @@
+package co.kirikiri.service.dto;
+
+public record UploadedImage(
+        String serverFilePath,
+        ImageDerivatives imageDerivatives
+) {
+
+}
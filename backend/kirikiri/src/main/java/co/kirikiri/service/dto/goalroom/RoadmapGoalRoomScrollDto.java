@@ -4,7 +4,8 @@ import java.util.List;
 
 public record RoadmapGoalRoomScrollDto(
         List<RoadmapGoalRoomDto> roadmapGoalRoomDtos,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 
 }
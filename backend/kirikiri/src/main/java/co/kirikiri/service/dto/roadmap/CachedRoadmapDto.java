@@ -0,0 +1,25 @@
+package co.kirikiri.service.dto.roadmap;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CachedRoadmapDto(
+        Long roadmapId,
+        RoadmapCategoryDto category,
+        String roadmapTitle,
+        String introduction,
+        long creatorId,
+        String creatorName,
+        String creatorImagePath,
+        boolean defaultCreatorImage,
+        Long contentId,
+        String content,
+        List<CachedRoadmapNodeDto> nodes,
+        String difficulty,
+        int recommendedRoadmapPeriod,
+        LocalDateTime createdAt,
+        List<RoadmapTagDto> tags,
+        RoadmapGoalRoomNumberDto goalRoomNumber
+) {
+
+}
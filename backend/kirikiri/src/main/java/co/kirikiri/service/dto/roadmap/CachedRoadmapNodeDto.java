@@ -0,0 +1,12 @@
+package co.kirikiri.service.dto.roadmap;
+
+import java.util.List;
+
+public record CachedRoadmapNodeDto(
+        Long id,
+        String title,
+        String description,
+        List<String> nodeImagePaths
+) {
+
+}
@@ -4,7 +4,8 @@ import java.util.List;
 
 public record RoadmapForListScrollDto(
         List<RoadmapForListDto> dtos,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 
 }
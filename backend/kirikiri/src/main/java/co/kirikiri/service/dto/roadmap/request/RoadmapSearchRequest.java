@@ -1,9 +1,11 @@
 package co.kirikiri.service.dto.roadmap.request;
 
+import java.util.List;
+
 public record RoadmapSearchRequest(
         String roadmapTitle,
         String creatorName,
-        String tagName
+        List<String> tagName
 ) {
 
 }
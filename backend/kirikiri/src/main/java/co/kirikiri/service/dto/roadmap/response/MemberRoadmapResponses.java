@@ -4,7 +4,8 @@ import java.util.List;
 
 public record MemberRoadmapResponses(
         List<MemberRoadmapResponse> responses,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 
 }
@@ -4,7 +4,8 @@ import java.util.List;
 
 public record RoadmapForListResponses(
         List<RoadmapForListResponse> responses,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 
 }
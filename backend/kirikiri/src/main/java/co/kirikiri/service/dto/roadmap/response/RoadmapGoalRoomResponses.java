@@ -4,7 +4,8 @@ import java.util.List;
 
 public record RoadmapGoalRoomResponses(
         List<RoadmapGoalRoomResponse> responses,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
 
 }
@@ -0,0 +1,10 @@
+package co.kirikiri.service.dto.roadmap.response;
+
+import java.util.List;
+
+public record RoadmapSearchSuggestionResponse(
+        List<String> tagNames,
+        List<String> creatorNames
+) {
+
+}
@@ -0,0 +1,11 @@
+package co.kirikiri.service.event;
+
+import co.kirikiri.service.dto.SpooledFile;
+
+public record CheckFeedImageUploadEvent(
+        Long checkFeedId,
+        String serverFilePath,
+        SpooledFile spooledFile
+) {
+
+}
@@ -0,0 +1,7 @@
+package co.kirikiri.service.event;
+
+public record GoalRoomCreatedEvent(
+        Long roadmapId
+) {
+
+}
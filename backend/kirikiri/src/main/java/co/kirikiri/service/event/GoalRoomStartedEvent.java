@@ -0,0 +1,8 @@
+package co.kirikiri.service.event;
+
+public record GoalRoomStartedEvent(
+        Long roadmapId,
+        int participantCount
+) {
+
+}
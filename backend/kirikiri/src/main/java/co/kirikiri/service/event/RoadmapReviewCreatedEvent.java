@@ -0,0 +1,8 @@
+package co.kirikiri.service.event;
+
+public record RoadmapReviewCreatedEvent(
+        Long roadmapId,
+        Double rate
+) {
+
+}
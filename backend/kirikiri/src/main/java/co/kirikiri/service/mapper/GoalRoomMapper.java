@@ -131,7 +131,8 @@ public class GoalRoomMapper {
                 .stream()
                 .map(GoalRoomMapper::convertToRoadmapGoalRoomResponse)
                 .toList();
-        return new RoadmapGoalRoomResponses(responses, roadmapGoalRoomScrollDto.hasNext());
+        return new RoadmapGoalRoomResponses(responses, roadmapGoalRoomScrollDto.hasNext(),
+                roadmapGoalRoomScrollDto.nextCursor());
     }
 
     private static RoadmapGoalRoomResponse convertToRoadmapGoalRoomResponse(
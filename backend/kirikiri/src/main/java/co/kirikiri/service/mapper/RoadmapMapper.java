@@ -5,6 +5,7 @@ import co.kirikiri.domain.roadmap.Roadmap;
 import co.kirikiri.domain.roadmap.RoadmapCategory;
 import co.kirikiri.exception.ServerException;
 import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.service.dto.FileInformation;
 import co.kirikiri.service.dto.member.MemberDto;
 import co.kirikiri.service.dto.member.response.MemberResponse;
@@ -140,7 +141,15 @@ public final class RoadmapMapper {
                 .stream()
                 .map(RoadmapMapper::convertRoadmapResponse)
                 .toList();
-        return new RoadmapForListResponses(responses, roadmapForListScrollDto.hasNext());
+        return new RoadmapForListResponses(responses, roadmapForListScrollDto.hasNext(),
+                roadmapForListScrollDto.nextCursor());
+    }
+
+    public static List<RoadmapForListResponse> convertRoadmapForListResponses(
+            final List<RoadmapForListDto> roadmapForListDtos) {
+        return roadmapForListDtos.stream()
+                .map(RoadmapMapper::convertRoadmapResponse)
+                .toList();
     }
 
     private static RoadmapForListResponse convertRoadmapResponse(final RoadmapForListDto roadmapForListDto) {
@@ -185,7 +194,10 @@ public final class RoadmapMapper {
 
         final List<MemberRoadmapResponse> subResponses = ScrollResponseMapper.getSubResponses(responses, requestSize);
         final boolean hasNext = ScrollResponseMapper.hasNext(responses.size(), requestSize);
-        return new MemberRoadmapResponses(subResponses, hasNext);
+        final String nextCursor = ScrollResponseMapper.makeNextCursor(
+                ScrollResponseMapper.getSubResponses(roadmaps, requestSize), hasNext,
+                roadmap -> ScrollCursor.of(roadmap.getCreatedAt(), roadmap.getId()));
+        return new MemberRoadmapResponses(subResponses, hasNext, nextCursor);
     }
 
     private static MemberRoadmapResponse convertMemberRoadmapResponse(final Roadmap roadmap) {
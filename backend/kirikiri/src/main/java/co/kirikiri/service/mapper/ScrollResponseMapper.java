@@ -1,12 +1,20 @@
 package co.kirikiri.service.mapper;
 
+import co.kirikiri.exception.BadRequestException;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import co.kirikiri.service.dto.CustomScrollRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ScrollResponseMapper {
 
+    private static final String CURSOR_DELIMITER = ",";
+
     public static <T> List<T> getSubResponses(final List<T> responses, final int requestSize) {
         final int endIndex = Math.min(responses.size(), requestSize);
         return responses.subList(0, endIndex);
@@ -15,4 +23,37 @@ public final class ScrollResponseMapper {
     public static boolean hasNext(final int responseSize, final int requestSize) {
         return responseSize > requestSize;
     }
+
+    public static <T> String makeNextCursor(final List<T> subResponses, final boolean hasNext,
+                                            final Function<T, ScrollCursor> cursorMapper) {
+        if (!hasNext) {
+            return null;
+        }
+        final ScrollCursor lastCursor = cursorMapper.apply(subResponses.get(subResponses.size() - 1));
+        final String cursor = lastCursor.sortKey() + CURSOR_DELIMITER + lastCursor.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollCursor convertToScrollCursor(final CustomScrollRequest scrollRequest) {
+        if (scrollRequest.cursor() != null) {
+            return decodeCursor(scrollRequest.cursor());
+        }
+        if (scrollRequest.lastId() != null) {
+            return ScrollCursor.from(scrollRequest.lastId());
+        }
+        return null;
+    }
+
+    private static ScrollCursor decodeCursor(final String encodedCursor) {
+        try {
+            final String cursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            final int delimiterIndex = cursor.lastIndexOf(CURSOR_DELIMITER);
+            return new ScrollCursor(cursor.substring(0, delimiterIndex),
+                    Long.valueOf(cursor.substring(delimiterIndex + 1)));
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
 }
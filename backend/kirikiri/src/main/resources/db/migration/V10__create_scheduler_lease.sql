@@ -0,0 +1,8 @@
+create table scheduler_lease
+(
+    name         varchar(100) not null,
+    owner        varchar(255) not null,
+    locked_at    datetime(6)  not null,
+    locked_until datetime(6)  not null,
+    primary key (name)
+) engine=InnoDB;
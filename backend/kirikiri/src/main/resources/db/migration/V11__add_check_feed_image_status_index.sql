@@ -0,0 +1 @@
+create index IDX_check_feed_image_status_created_at on check_feed (image_status, created_at);
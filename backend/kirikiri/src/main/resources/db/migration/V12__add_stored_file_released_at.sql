@@ -0,0 +1,8 @@
+alter table stored_file
+    add column released_at datetime(6);
+
+update stored_file
+set released_at = now(6)
+where reference_count = 0;
+
+create index IDX_stored_file_reference_count on stored_file (reference_count);
@@ -0,0 +1,8 @@
+alter table roadmap
+    add column deleted_at datetime(6);
+
+update roadmap
+set deleted_at = now(6)
+where status = 'DELETED';
+
+create index IDX_roadmap_status_deleted_at on roadmap (status, deleted_at);
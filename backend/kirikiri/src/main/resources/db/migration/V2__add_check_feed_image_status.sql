@@ -0,0 +1,2 @@
+alter table check_feed
+    add column image_status varchar(255) not null default 'READY';
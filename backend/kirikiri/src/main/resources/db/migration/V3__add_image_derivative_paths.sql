@@ -0,0 +1,7 @@
+alter table check_feed
+    add column thumbnail_file_path varchar(255),
+    add column medium_file_path    varchar(255);
+
+alter table roadmap_node_image
+    add column thumbnail_file_path varchar(255),
+    add column medium_file_path    varchar(255);
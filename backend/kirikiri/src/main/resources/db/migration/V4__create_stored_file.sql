@@ -0,0 +1,12 @@
+create table stored_file
+(
+    id                  bigint       not null auto_increment,
+    digest              varchar(64)  not null,
+    server_file_path    varchar(255) not null,
+    thumbnail_file_path varchar(255),
+    medium_file_path    varchar(255),
+    reference_count     integer      not null,
+    uploaded            bit          not null,
+    primary key (id),
+    constraint UK_stored_file_server_file_path unique (server_file_path)
+) engine=InnoDB;
@@ -0,0 +1,2 @@
+alter table member_image
+    add column image_type varchar(10) not null default 'DEFAULT';
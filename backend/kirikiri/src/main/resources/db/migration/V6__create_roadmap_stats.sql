@@ -0,0 +1,26 @@
+create table roadmap_stats
+(
+    roadmap_id        bigint    not null,
+    goal_room_count   bigint    not null,
+    participant_count bigint    not null,
+    review_sum        float(53) not null,
+    review_count      bigint    not null,
+    review_rate       float(53) not null,
+    primary key (roadmap_id)
+) engine=InnoDB;
+
+insert into roadmap_stats (roadmap_id, goal_room_count, participant_count, review_sum, review_count, review_rate)
+select r.id,
+       (select count(*)
+        from goal_room g
+                 inner join roadmap_content rc on g.roadmap_content_id = rc.id
+        where rc.roadmap_id = r.id),
+       (select count(*)
+        from goal_room_member gm
+                 inner join goal_room g on gm.goal_room_id = g.id
+                 inner join roadmap_content rc on g.roadmap_content_id = rc.id
+        where rc.roadmap_id = r.id),
+       (select coalesce(sum(rv.rate), 0) from roadmap_review rv where rv.roadmap_id = r.id),
+       (select count(*) from roadmap_review rv where rv.roadmap_id = r.id),
+       (select coalesce(avg(rv.rate), 0) from roadmap_review rv where rv.roadmap_id = r.id)
+from roadmap r;
@@ -0,0 +1,8 @@
+create index IDX_roadmap_created_at_id on roadmap (created_at, id);
+create index IDX_roadmap_member_id_created_at_id on roadmap (member_id, created_at, id);
+create index IDX_roadmap_review_roadmap_id_created_at_id on roadmap_review (roadmap_id, created_at, id);
+create index IDX_goal_room_roadmap_content_id_created_at_id on goal_room (roadmap_content_id, created_at, id);
+create index IDX_goal_room_roadmap_content_id_start_date_id on goal_room (roadmap_content_id, start_date, id);
+create index IDX_roadmap_stats_goal_room_count_roadmap_id on roadmap_stats (goal_room_count desc, roadmap_id);
+create index IDX_roadmap_stats_participant_count_roadmap_id on roadmap_stats (participant_count desc, roadmap_id);
+create index IDX_roadmap_stats_review_rate_roadmap_id on roadmap_stats (review_rate desc, roadmap_id);
@@ -0,0 +1,8 @@
+create index IDX_goal_room_start_date_status on goal_room (start_date, status);
+create index IDX_goal_room_end_date_status on goal_room (end_date, status);
+create index IDX_check_feed_goal_room_member_id_created_at on check_feed (goal_room_member_id, created_at);
+create index IDX_check_feed_goal_room_roadmap_node_id_created_at on check_feed (goal_room_roadmap_node_id, created_at);
+create index IDX_roadmap_content_roadmap_id_created_at on roadmap_content (roadmap_id, created_at);
+create index IDX_refresh_token_token on refresh_token (token);
+create index IDX_roadmap_status_category_id_created_at_id on roadmap (status, category_id, created_at, id);
+create index IDX_roadmap_tag_name on roadmap_tag (name);
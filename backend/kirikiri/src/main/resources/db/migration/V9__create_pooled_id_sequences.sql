@@ -0,0 +1,62 @@
+create table goal_room_roadmap_node_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into goal_room_roadmap_node_seq (next_val)
+select coalesce(max(id), 0) + 50
+from goal_room_roadmap_node;
+
+create table goal_room_to_do_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into goal_room_to_do_seq (next_val)
+select coalesce(max(id), 0) + 50
+from goal_room_to_do;
+
+create table roadmap_node_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into roadmap_node_seq (next_val)
+select coalesce(max(id), 0) + 50
+from roadmap_node;
+
+create table roadmap_tag_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into roadmap_tag_seq (next_val)
+select coalesce(max(id), 0) + 50
+from roadmap_tag;
+
+create table roadmap_node_image_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into roadmap_node_image_seq (next_val)
+select coalesce(max(id), 0) + 50
+from roadmap_node_image;
+
+create table check_feed_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into check_feed_seq (next_val)
+select coalesce(max(id), 0) + 50
+from check_feed;
+
+create table goal_room_to_do_check_seq
+(
+    next_val bigint
+) engine=InnoDB;
+
+insert into goal_room_to_do_check_seq (next_val)
+select coalesce(max(id), 0) + 50
+from goal_room_to_do_check;
@@ -0,0 +1,186 @@
+package co.kirikiri.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueRetrievalException;
+
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "member";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SharedCacheStore sharedCacheStore = new InMemorySharedCacheStore(100, Duration.ofMinutes(10));
+    private final CacheInvalidationBus cacheInvalidationBus = new InMemoryCacheInvalidationBus();
+    private final TwoTierCacheManager firstNode = 캐시_매니저를_생성한다();
+    private final TwoTierCacheManager secondNode = 캐시_매니저를_생성한다();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void 값을_한_번만_불러와_캐싱한다() {
+        //given
+        final Cache cache = firstNode.getCache(CACHE_NAME);
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.get("key", () -> "value" + loadCount.incrementAndGet());
+        final String result = cache.get("key", () -> "value" + loadCount.incrementAndGet());
+
+        //then
+        assertThat(result).isEqualTo("value1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(firstNode.getCacheNames()).containsExactly(CACHE_NAME);
+    }
+
+    @Test
+    void 다른_노드가_불러온_값은_공유_캐시에서_가져온다() {
+        //given
+        firstNode.getCache(CACHE_NAME).get("key", () -> "value");
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        final String result = secondNode.getCache(CACHE_NAME).get("key", () -> {
+            loadCount.incrementAndGet();
+            return "other";
+        });
+
+        //then
+        assertThat(result).isEqualTo("value");
+        assertThat(loadCount.get()).isZero();
+        assertThat(meterRegistry.get("cache.shared.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 공유_캐시에만_있는_값을_조회하면_근거리_캐시에_채운다() {
+        //given
+        sharedCacheStore.put(CACHE_NAME, "key", "value");
+        final Cache cache = firstNode.getCache(CACHE_NAME);
+
+        //when
+        final Cache.ValueWrapper first = cache.get("key");
+        sharedCacheStore.evict(CACHE_NAME, "key");
+        final Cache.ValueWrapper second = cache.get("key");
+
+        //then
+        assertThat(first.get()).isEqualTo("value");
+        assertThat(second.get()).isEqualTo("value");
+        assertThat(cache.get("missing")).isNull();
+    }
+
+    @Test
+    void 다른_노드에서_값을_변경하면_근거리_캐시를_무효화한다() {
+        //given
+        final Cache firstCache = firstNode.getCache(CACHE_NAME);
+        final Cache secondCache = secondNode.getCache(CACHE_NAME);
+        secondCache.get("key", () -> "old");
+
+        //when
+        firstCache.put("key", "new");
+
+        //then
+        assertThat(secondCache.get("key", String.class)).isEqualTo("new");
+        assertThat(firstCache.get("key", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    void 다른_노드에서_값을_삭제하면_근거리_캐시에서도_삭제된다() {
+        //given
+        final Cache firstCache = firstNode.getCache(CACHE_NAME);
+        final Cache secondCache = secondNode.getCache(CACHE_NAME);
+        secondCache.get("key", () -> "value");
+        secondCache.get("other", () -> "value");
+
+        //when
+        firstCache.evict("key");
+        firstCache.clear();
+
+        //then
+        assertThat(secondCache.get("key")).isNull();
+        assertThat(secondCache.get("other")).isNull();
+    }
+
+    @Test
+    void null_값도_캐싱한다() {
+        //given
+        final Cache cache = firstNode.getCache(CACHE_NAME);
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            return null;
+        });
+        final Object result = cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            return "value";
+        });
+
+        //then
+        assertThat(result).isNull();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 값을_불러오다_실패하면_예외가_발생하고_캐싱하지_않는다() {
+        //given
+        final Cache cache = firstNode.getCache(CACHE_NAME);
+
+        //when
+        //then
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(ValueRetrievalException.class);
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void 같은_키를_동시에_요청해도_값은_한_번만_불러온다() throws Exception {
+        //given
+        final Cache cache = firstNode.getCache(CACHE_NAME);
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<String>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return cache.get("key", () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(50);
+                    return "value";
+                });
+            }));
+        }
+        startLatch.countDown();
+        for (final Future<String> future : futures) {
+            assertThat(future.get()).isEqualTo("value");
+        }
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    private TwoTierCacheManager 캐시_매니저를_생성한다() {
+        return new TwoTierCacheManager(100, Duration.ofMinutes(1), sharedCacheStore, cacheInvalidationBus,
+                meterRegistry);
+    }
+}
@@ -47,12 +47,14 @@ class AuthInterceptorTest {
                 .thenReturn(true);
         request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer test-token");
         when(authService.isCertified(anyString())).thenReturn(true);
+        when(authService.findIdentifierByToken("test-token")).thenReturn("identifier");
 
         //when
         final boolean result = authInterceptor.preHandle(request, response, handlerMethod);
 
         //then
         assertThat(result).isTrue();
+        assertThat(request.getAttribute(AuthInterceptor.MEMBER_IDENTIFIER_ATTRIBUTE)).isEqualTo("identifier");
     }
 
     @Test
@@ -3,8 +3,11 @@ package co.kirikiri.common.resolver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import co.kirikiri.common.interceptor.AuthInterceptor;
 import co.kirikiri.exception.AuthenticationException;
 import co.kirikiri.service.AuthService;
 import java.util.List;
@@ -18,6 +21,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +109,21 @@ class MemberIdentifierArgumentResolverTest {
         assertThat(actualIdentifier).isEqualTo(expectedIdentifier);
     }
 
+    @Test
+    void 인터셉터에서_인증한_아이디가_있으면_토큰을_다시_파싱하지_않는다() {
+        // given
+        when(webRequest.getAttribute(AuthInterceptor.MEMBER_IDENTIFIER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                .thenReturn("identifier");
+
+        // when
+        final String actualIdentifier = memberIdentifierArgumentResolver.resolveArgument(parameter, mavContainer,
+                webRequest, binderFactory);
+
+        // then
+        assertThat(actualIdentifier).isEqualTo("identifier");
+        verify(authService, never()).findIdentifierByToken(anyString());
+    }
+
     @Test
     void AUTHORIZATION_HEADER에_BEARER이_안붙은_경우_예외를_터트린다() {
         // given
@@ -0,0 +1,173 @@
+package co.kirikiri.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.infra.LocalDiskFileService;
+import co.kirikiri.infra.LocalFileUrlSigner;
+import co.kirikiri.service.dto.FileInformation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FileControllerTest {
+
+    private static final String PATH = "/2023/0815/checkFeed/uuid_originalFilename.png";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    private Path rootDirectory;
+
+    private LocalFileUrlSigner localFileUrlSigner;
+    private FileController fileController;
+
+    @BeforeEach
+    void setUp() {
+        localFileUrlSigner = new LocalFileUrlSigner("secret-key");
+        final LocalDiskFileService localDiskFileService = new LocalDiskFileService(rootDirectory.toString(),
+                "http://localhost:8080/api", 60000L, localFileUrlSigner);
+        final byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        localDiskFileService.save(PATH, new FileInformation("originalFilename.png", content.length, "image/png",
+                new ByteArrayInputStream(content)));
+        fileController = new FileController(localDiskFileService);
+    }
+
+    @Test
+    void 파일_전체를_내려받는다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 공개_URL로_내려받으면_장기_캐싱_헤더를_설정한다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = LocalDiskFileService.PUBLIC_EXPIRES;
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=31536000, immutable");
+    }
+
+    @Test
+    void Range_헤더로_파일의_일부를_내려받는다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void 파일_크기를_벗어난_Range_요청은_416을_반환한다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void 잘못된_형식의_Range_요청은_416을_반환한다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        request.addHeader(HttpHeaders.RANGE, "bytes=invalid");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(416);
+    }
+
+    @Test
+    void 여러_구간의_Range_요청은_파일_전체를_반환한다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 서블릿_컨테이너가_sendfile을_지원하면_컨테이너에_전송을_위임한다() throws IOException {
+        //given
+        final MockHttpServletRequest request = 다운로드_요청을_생성한다();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final long expires = 만료_시간을_생성한다();
+
+        //when
+        fileController.download(expires, 서명한다(expires), request, response);
+
+        //then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(rootDirectory.resolve(PATH.substring(1)).toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletRequest 다운로드_요청을_생성한다() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files" + PATH);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private long 만료_시간을_생성한다() {
+        return System.currentTimeMillis() + 60000L;
+    }
+
+    private String 서명한다(final long expires) {
+        return localFileUrlSigner.sign(PATH, HttpMethod.GET, expires);
+    }
+}
@@ -36,6 +36,7 @@ import co.kirikiri.service.dto.roadmap.response.RoadmapGoalRoomResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapNodeResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapReviewResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapSearchSuggestionResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapTagResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.LocalDate;
@@ -156,6 +157,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 로드맵 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("한 페이지에서 받아올 로드맵의 수")),
                                 responseFields(
                                         fieldWithPath("responses[0].roadmapId").description("로드맵 아이디"),
@@ -172,7 +176,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         fieldWithPath("responses[0].category.name").description("로드맵 카테고리 이름"),
                                         fieldWithPath("responses[0].tags[0].id").description("로드맵 태그 아이디"),
                                         fieldWithPath("responses[0].tags[0].name").description("로드맵 태그 이름"),
-                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부")
+                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부"),
+                                        fieldWithPath("nextCursor").description("다음 페이지 요청에 사용할 커서 (다음 요소가 없으면 null)")
+                                                .optional()
                                 )))
                 .andReturn().getResponse()
                 .getContentAsString();
@@ -300,7 +306,7 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                                 .optional(),
                                         parameterWithName("creatorName").description("크리에이터 닉네임")
                                                 .optional(),
-                                        parameterWithName("tagName").description("로드맵 태그 이름")
+                                        parameterWithName("tagName").description("로드맵 태그 이름 (여러 번 전달하면 모든 태그를 가진 로드맵을 검색)")
                                                 .attributes(new Attributes.Attribute(RESTRICT, "- 길이: 1자 이상"))
                                                 .optional(),
                                         parameterWithName("filterCond").description(
@@ -309,6 +315,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 로드맵 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("한 페이지에서 받아올 로드맵의 수")),
                                 responseFields(
                                         fieldWithPath("responses[0].roadmapId").description("로드맵 아이디"),
@@ -325,7 +334,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         fieldWithPath("responses[0].category.name").description("로드맵 카테고리 이름"),
                                         fieldWithPath("responses[0].tags[0].id").description("로드맵 태그 아이디"),
                                         fieldWithPath("responses[0].tags[0].name").description("로드맵 태그 이름"),
-                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부")
+                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부"),
+                                        fieldWithPath("nextCursor").description("다음 페이지 요청에 사용할 커서 (다음 요소가 없으면 null)")
+                                                .optional()
                                 )))
                 .andReturn().getResponse()
                 .getContentAsString();
@@ -361,6 +372,41 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void 로드맵_검색어_추천_목록을_조회한다() throws Exception {
+        // given
+        final RoadmapSearchSuggestionResponse expected = new RoadmapSearchSuggestionResponse(
+                List.of("자바", "자바스크립트"), List.of("자바왕"));
+        when(roadmapReadService.findSearchSuggestions("자"))
+                .thenReturn(expected);
+
+        // when
+        final String response = mockMvc.perform(
+                        get(API_PREFIX + "/roadmaps/search/suggestions")
+                                .param("keyword", "자")
+                                .contextPath(API_PREFIX))
+                .andExpect(status().isOk())
+                .andDo(
+                        documentationResultHandler.document(
+                                queryParameters(
+                                        parameterWithName("keyword").description("검색어 (공백과 대소문자는 무시)")
+                                                .optional()),
+                                responseFields(
+                                        fieldWithPath("tagNames[]").description("검색어로 시작하는 태그 이름 (인기순 최대 10개)"),
+                                        fieldWithPath("creatorNames[]").description(
+                                                "검색어로 시작하는 크리에이터 닉네임 (인기순 최대 10개)")
+                                )))
+                .andReturn().getResponse()
+                .getContentAsString();
+
+        // then
+        final RoadmapSearchSuggestionResponse roadmapSearchSuggestionResponse = objectMapper.readValue(response,
+                RoadmapSearchSuggestionResponse.class);
+
+        assertThat(roadmapSearchSuggestionResponse)
+                .isEqualTo(expected);
+    }
+
     @Test
     void 사용자가_생성한_로드맵을_조회한다() throws Exception {
         // given
@@ -385,6 +431,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 로드맵 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("한 페이지에서 받아올 로드맵의 수")),
                                 responseFields(
                                         fieldWithPath("responses[0].roadmapId").description("로드맵 아이디"),
@@ -393,7 +442,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         fieldWithPath("responses[0].createdAt").description("로드맵 생성날짜"),
                                         fieldWithPath("responses[0].category.id").description("로드맵 카테고리 아이디"),
                                         fieldWithPath("responses[0].category.name").description("로드맵 카테고리 이름"),
-                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부")
+                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부"),
+                                        fieldWithPath("nextCursor").description("다음 페이지 요청에 사용할 커서 (다음 요소가 없으면 null)")
+                                                .optional()
                                 )))
                 .andReturn().getResponse()
                 .getContentAsString();
@@ -430,6 +481,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 로드맵 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("한 페이지에서 받아올 로드맵의 수")),
                                 responseFields(fieldWithPath("message").description("예외 메시지"))))
                 .andReturn().getResponse()
@@ -467,6 +521,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 골룸 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("받아올 골룸의 수")),
                                 responseFields(
                                         fieldWithPath("responses[0].goalRoomId").description("골룸 아이디"),
@@ -481,7 +538,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         fieldWithPath("responses[0].goalRoomLeader.name").description("골룸 리더의 닉네임"),
                                         fieldWithPath("responses[0].goalRoomLeader.imageUrl").description(
                                                 "골룸 리더의 프로필 이미지 경로"),
-                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부")
+                                        fieldWithPath("hasNext").description("다음 요소의 존재 여부"),
+                                        fieldWithPath("nextCursor").description("다음 페이지 요청에 사용할 커서 (다음 요소가 없으면 null)")
+                                                .optional()
                                 )
                         )
                 )
@@ -525,6 +584,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                         parameterWithName("lastId")
                                                 .description("이전 요청에서 받은 응답 중 가장 마지막 골룸 아이디 (첫 요청 시 미전송)")
                                                 .optional(),
+                                        parameterWithName("cursor")
+                                                .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                                .optional(),
                                         parameterWithName("size").description("받아올 골룸의 수")),
                                 responseFields(fieldWithPath("message").description("예외 메시지")))
                 )
@@ -537,6 +599,49 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void 유사한_로드맵_목록을_조회한다() throws Exception {
+        // given
+        final List<RoadmapForListResponse> expected = 로드맵_리스트_응답을_생성한다().responses();
+        when(roadmapReadService.findSimilarRoadmaps(1L))
+                .thenReturn(expected);
+
+        // when
+        final String response = mockMvc.perform(
+                        get(API_PREFIX + "/roadmaps/{roadmapId}/similar", 1L)
+                                .contextPath(API_PREFIX))
+                .andExpect(status().isOk())
+                .andDo(documentationResultHandler.document(
+                        pathParameters(
+                                parameterWithName("roadmapId").description("로드맵 아이디")
+                        ),
+                        responseFields(
+                                fieldWithPath("[0].roadmapId").description("로드맵 아이디"),
+                                fieldWithPath("[0].roadmapTitle").description("로드맵 제목"),
+                                fieldWithPath("[0].introduction").description("로드맵 소개글"),
+                                fieldWithPath("[0].difficulty").description("로드맵 난이도"),
+                                fieldWithPath("[0].recommendedRoadmapPeriod").description("로드맵 추천 기간"),
+                                fieldWithPath("[0].createdAt").description("로드맵 생성 시간"),
+                                fieldWithPath("[0].creator.id").description("로드맵 크리에이터 아이디"),
+                                fieldWithPath("[0].creator.name").description("로드맵 크리에이터 이름"),
+                                fieldWithPath("[0].creator.imageUrl").description("로드맵 크리에이터 프로필 이미지 경로"),
+                                fieldWithPath("[0].category.id").description("로드맵 카테고리 아이디"),
+                                fieldWithPath("[0].category.name").description("로드맵 카테고리 이름"),
+                                fieldWithPath("[0].tags[0].id").description("로드맵 태그 아이디"),
+                                fieldWithPath("[0].tags[0].name").description("로드맵 태그 이름")
+                        )))
+                .andReturn().getResponse()
+                .getContentAsString();
+
+        // then
+        final List<RoadmapForListResponse> roadmapForListResponses = objectMapper.readValue(response,
+                new TypeReference<>() {
+                });
+
+        assertThat(roadmapForListResponses)
+                .isEqualTo(expected);
+    }
+
     @Test
     void 로드맵의_리뷰들을_조회한다() throws Exception {
         // given
@@ -566,6 +671,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                 parameterWithName("lastId")
                                         .description("이전 요청에서 받은 응답 중 가장 마지막 리뷰 아이디 (첫 요청 시 미전송)")
                                         .optional(),
+                                parameterWithName("cursor")
+                                        .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                        .optional(),
                                 parameterWithName("size").description("한 번에 조회할 리뷰갯수")
                         ),
                         responseFields(
@@ -612,6 +720,9 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                                 parameterWithName("lastId")
                                         .description("이전 요청에서 받은 응답 중 가장 마지막 리뷰 아이디 (첫 요청 시 미전송)")
                                         .optional(),
+                                parameterWithName("cursor")
+                                        .description("이전 요청에서 받은 응답의 nextCursor 값 (첫 요청 시 미전송)")
+                                        .optional(),
                                 parameterWithName("size").description("한 번에 조회할 리뷰갯수")
                         ),
                         responseFields(
@@ -657,7 +768,7 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                 "DIFFICULT", 7, 오늘, new MemberResponse(2L, "끼리코", "default-member-image"),
                 new RoadmapCategoryResponse(2L, "IT"), tags);
         final List<RoadmapForListResponse> responses = List.of(roadmapResponse1, roadmapResponse2);
-        return new RoadmapForListResponses(responses, false);
+        return new RoadmapForListResponses(responses, false, null);
     }
 
     private List<RoadmapCategoryResponse> 로드맵_카테고리_응답_리스트를_반환한다() {
@@ -682,7 +793,7 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                         new RoadmapCategoryResponse(1L, "여행")),
                 new MemberRoadmapResponse(1L, "첫 번째 로드맵", RoadmapDifficulty.DIFFICULT.name(), LocalDateTime.now(),
                         new RoadmapCategoryResponse(1L, "여행")));
-        return new MemberRoadmapResponses(responses, true);
+        return new MemberRoadmapResponses(responses, true, "MjAyMy0wNy0yMFQxMzowMCwx");
     }
 
     private RoadmapGoalRoomResponses 골룸_응답들을_생성한다() {
@@ -696,6 +807,6 @@ class RoadmapReadApiTest extends ControllerTestHelper {
                 new MemberResponse(2L, "시진이", "default-member-image"));
         final List<RoadmapGoalRoomResponse> responses = List.of(roadmapGoalRoomResponse1,
                 roadmapGoalRoomResponse2);
-        return new RoadmapGoalRoomResponses(responses, false);
+        return new RoadmapGoalRoomResponses(responses, false, null);
     }
 }
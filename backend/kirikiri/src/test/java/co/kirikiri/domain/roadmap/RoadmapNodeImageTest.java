@@ -0,0 +1,36 @@
+package co.kirikiri.domain.roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.domain.ImageContentType;
+import org.junit.jupiter.api.Test;
+
+class RoadmapNodeImageTest {
+
+    @Test
+    void 중간_크기_파생_이미지가_있으면_파생_이미지_경로를_반환한다() {
+        //given
+        final RoadmapNodeImage roadmapNodeImage = new RoadmapNodeImage("originalFileName.png", "server/file/path",
+                ImageContentType.PNG);
+        roadmapNodeImage.updateFilePaths("server/file/path", "thumbnail/file/path", "medium/file/path");
+
+        //when
+        final String mediumFilePath = roadmapNodeImage.getMediumFilePath();
+
+        //then
+        assertThat(mediumFilePath).isEqualTo("medium/file/path");
+    }
+
+    @Test
+    void 중간_크기_파생_이미지가_없으면_원본_이미지_경로를_반환한다() {
+        //given
+        final RoadmapNodeImage roadmapNodeImage = new RoadmapNodeImage("originalFileName.png", "server/file/path",
+                ImageContentType.PNG);
+
+        //when
+        final String mediumFilePath = roadmapNodeImage.getMediumFilePath();
+
+        //then
+        assertThat(mediumFilePath).isEqualTo("server/file/path");
+    }
+}
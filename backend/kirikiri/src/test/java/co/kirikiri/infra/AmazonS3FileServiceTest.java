@@ -5,29 +5,39 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import co.kirikiri.exception.ServerException;
+import co.kirikiri.infra.StorageCallGuard.CircuitState;
 import co.kirikiri.service.dto.FileInformation;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.Protocol;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import java.io.FileInputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 class AmazonS3FileServiceTest {
 
     private static final String PATH = "/test/path/originalFilename.png";
+    private static final String PLACEHOLDER_URL = "http://example.com/placeholder.png";
 
     @Mock
     private AmazonS3 amazonS3;
@@ -35,6 +45,12 @@ class AmazonS3FileServiceTest {
     @Mock
     private Environment environment;
 
+    @Spy
+    private PresignedUrlCache presignedUrlCache = new PresignedUrlCache(60000L, 100L, new SimpleMeterRegistry());
+
+    @Spy
+    private StorageCallGuard storageCallGuard = new StorageCallGuard(2, 0L, 2, 60000L, new SimpleMeterRegistry());
+
     @InjectMocks
     private AmazonS3FileService amazonS3FileService;
 
@@ -85,6 +101,35 @@ class AmazonS3FileServiceTest {
                 .isInstanceOf(ServerException.class);
     }
 
+    @Test
+    void 정상적으로_파일을_삭제한다() {
+        //given
+        when(environment.getProperty("cloud.aws.s3.root-directory"))
+                .thenReturn("rootDirectory");
+        when(environment.getProperty("cloud.aws.s3.sub-directory"))
+                .thenReturn("subDirectory");
+        when(environment.getProperty("cloud.aws.s3.bucket"))
+                .thenReturn("bucket");
+
+        //when
+        amazonS3FileService.delete(PATH);
+
+        //then
+        verify(amazonS3).deleteObject("bucket", "rootDirectory/subDirectory" + PATH);
+    }
+
+    @Test
+    void 파일_삭제_시_SDK_CLIENT에서_예외가_발생한_경우_예외가_터진다() {
+        //given
+        doThrow(new SdkClientException("sdk client 원할하지 않습니다."))
+                .when(amazonS3).deleteObject(any(), any());
+
+        //when
+        //then
+        assertThatThrownBy(() -> amazonS3FileService.delete(PATH))
+                .isInstanceOf(ServerException.class);
+    }
+
     @Test
     void 정상적으로_파일_URL을_생성한다() throws MalformedURLException {
         //given
@@ -102,4 +147,152 @@ class AmazonS3FileServiceTest {
         //then
         assertThat(result).isEqualTo(url);
     }
+
+    @Test
+    void 공개_URL은_서명하지_않고_한_번만_생성한다() throws MalformedURLException {
+        //given
+        final URL url = new URL(Protocol.HTTP.toString(), "host", 80, "default-member-image1.png");
+        when(environment.getProperty(anyString()))
+                .thenReturn("bucket");
+        when(amazonS3.getUrl(anyString(), anyString()))
+                .thenReturn(url);
+        amazonS3FileService.generatePublicUrl("/test/member/profile/default/default-member-image1.png");
+
+        //when
+        final URL result = amazonS3FileService.generatePublicUrl(
+                "/test/member/profile/default/default-member-image1.png");
+
+        //then
+        assertThat(result).isEqualTo(url);
+        verify(amazonS3, times(1)).getUrl(anyString(), anyString());
+        verify(amazonS3, times(0)).generatePresignedUrl(any());
+    }
+
+    @Test
+    void 같은_경로의_파일_URL을_다시_요청하면_캐싱된_URL을_반환한다() throws MalformedURLException {
+        //given
+        final URL url = new URL(Protocol.HTTP.toString(), "host", 80, "file");
+        when(environment.getProperty(anyString()))
+                .thenReturn("60000");
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenReturn(url);
+        amazonS3FileService.generateUrl("path", HttpMethod.GET);
+
+        //when
+        final URL result = amazonS3FileService.generateUrl("path", HttpMethod.GET);
+
+        //then
+        assertThat(result).isEqualTo(url);
+        verify(amazonS3, times(1)).generatePresignedUrl(any());
+    }
+
+    @Test
+    void 여러_파일_URL을_한_번에_생성할_때_같은_경로는_한_번만_서명한다() throws MalformedURLException {
+        //given
+        final URL url = new URL(Protocol.HTTP.toString(), "host", 80, "file");
+        when(environment.getProperty(anyString()))
+                .thenReturn("60000");
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenReturn(url);
+
+        //when
+        final Map<String, URL> result = amazonS3FileService.generateUrls(
+                List.of("leader-image", "leader-image", "member-image"), HttpMethod.GET);
+
+        //then
+        assertThat(result).containsOnlyKeys("leader-image", "member-image");
+        verify(amazonS3, times(2)).generatePresignedUrl(any());
+    }
+
+    @Test
+    void 저장소_장애로_파일_URL_생성에_실패하면_대체_URL을_반환한다() throws MalformedURLException {
+        //given
+        환경_변수를_설정한다(PLACEHOLDER_URL);
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenThrow(new SdkClientException("sdk client 원할하지 않습니다."));
+
+        //when
+        final URL result = amazonS3FileService.generateUrl("path", HttpMethod.GET);
+
+        //then
+        assertThat(result).isEqualTo(new URL(PLACEHOLDER_URL));
+    }
+
+    @Test
+    void 업로드_서킷이_열려도_파일_URL은_정상적으로_생성한다() throws MalformedURLException {
+        //given
+        final URL url = new URL(Protocol.HTTP.toString(), "host", 80, "file");
+        when(environment.getProperty(anyString()))
+                .thenReturn("60000");
+        when(amazonS3.putObject(any(), any(), any(), any()))
+                .thenThrow(new SdkClientException("sdk client 원할하지 않습니다."));
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenReturn(url);
+        final FileInformation fileInformation = new FileInformation("originalFileName.png", 100L,
+                "image/png", FileInputStream.nullInputStream());
+        assertThatThrownBy(() -> amazonS3FileService.save(PATH, fileInformation))
+                .isInstanceOf(ServerException.class);
+        assertThatThrownBy(() -> amazonS3FileService.save(PATH, fileInformation))
+                .isInstanceOf(ServerException.class);
+
+        //when
+        final URL result = amazonS3FileService.generateUrl("path", HttpMethod.GET);
+
+        //then
+        assertThat(storageCallGuard.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        assertThat(result).isEqualTo(url);
+    }
+
+    @Test
+    void 여러_파일_URL_생성에_실패하면_캐싱된_URL을_제외한_나머지는_대체_URL을_반환한다() throws MalformedURLException {
+        //given
+        final URL url = new URL(Protocol.HTTP.toString(), "host", 80, "file");
+        환경_변수를_설정한다(PLACEHOLDER_URL);
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenReturn(url)
+                .thenThrow(new SdkClientException("sdk client 원할하지 않습니다."));
+        amazonS3FileService.generateUrl("leader-image", HttpMethod.GET);
+
+        //when
+        final Map<String, URL> result = amazonS3FileService.generateUrls(
+                List.of("leader-image", "member-image"), HttpMethod.GET);
+
+        //then
+        assertThat(result).containsEntry("leader-image", url)
+                .containsEntry("member-image", new URL(PLACEHOLDER_URL));
+    }
+
+    @Test
+    void 대체_URL이_설정되지_않았다면_파일_URL_생성_실패_시_예외가_터진다() {
+        //given
+        환경_변수를_설정한다(null);
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenThrow(new SdkClientException("sdk client 원할하지 않습니다."));
+
+        //when
+        //then
+        assertThatThrownBy(() -> amazonS3FileService.generateUrl("path", HttpMethod.GET))
+                .isInstanceOf(ServerException.class);
+    }
+
+    @Test
+    void 대체_URL_형식이_잘못되었다면_예외가_터진다() {
+        //given
+        환경_변수를_설정한다("wrong-url");
+        when(amazonS3.generatePresignedUrl(any()))
+                .thenThrow(new SdkClientException("sdk client 원할하지 않습니다."));
+
+        //when
+        //then
+        assertThatThrownBy(() -> amazonS3FileService.generateUrl("path", HttpMethod.GET))
+                .isInstanceOf(ServerException.class);
+    }
+
+    private void 환경_변수를_설정한다(final String placeholderUrl) {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("cloud.aws.s3.url-expiration", "60000");
+        properties.put("file.storage.placeholder-url", placeholderUrl);
+        when(environment.getProperty(anyString()))
+                .thenAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+    }
 }
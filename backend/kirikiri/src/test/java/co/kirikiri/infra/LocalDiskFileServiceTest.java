@@ -0,0 +1,184 @@
+package co.kirikiri.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import co.kirikiri.exception.BadRequestException;
+import co.kirikiri.exception.ForbiddenException;
+import co.kirikiri.exception.NotFoundException;
+import co.kirikiri.service.dto.FileInformation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class LocalDiskFileServiceTest {
+
+    private static final String PATH = "/2023/0815/checkFeed/uuid_originalFilename.png";
+    private static final byte[] CONTENT = "image content".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path rootDirectory;
+
+    private LocalDiskFileService localDiskFileService;
+
+    @BeforeEach
+    void setUp() {
+        localDiskFileService = new LocalDiskFileService(rootDirectory.toString(), "http://localhost:8080/api",
+                60000L, new LocalFileUrlSigner("secret-key"));
+    }
+
+    @Test
+    void 정상적으로_파일을_디스크에_저장한다() throws IOException {
+        //given
+        final FileInformation fileInformation = 파일_정보를_생성한다();
+
+        //when
+        localDiskFileService.save(PATH, fileInformation);
+
+        //then
+        assertThat(Files.readAllBytes(rootDirectory.resolve(PATH.substring(1))))
+                .isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 루트_디렉토리_밖의_경로로_저장하면_예외가_발생한다() {
+        //given
+        final FileInformation fileInformation = 파일_정보를_생성한다();
+
+        //when
+        //then
+        assertThatThrownBy(() -> localDiskFileService.save("/../outside.png", fileInformation))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void 저장된_파일을_삭제한다() {
+        //given
+        localDiskFileService.save(PATH, 파일_정보를_생성한다());
+
+        //when
+        localDiskFileService.delete(PATH);
+
+        //then
+        assertThat(rootDirectory.resolve(PATH.substring(1))).doesNotExist();
+    }
+
+    @Test
+    void 존재하지_않는_파일을_삭제해도_예외가_발생하지_않는다() {
+        //when
+        //then
+        assertDoesNotThrow(() -> localDiskFileService.delete(PATH));
+    }
+
+    @Test
+    void 서명된_URL을_생성하고_검증한다() {
+        //given
+        localDiskFileService.save(PATH, 파일_정보를_생성한다());
+
+        //when
+        final URL url = localDiskFileService.generateUrl(PATH, HttpMethod.GET);
+
+        //then
+        final UriComponents uriComponents = UriComponentsBuilder.fromUriString(url.toString()).build();
+        final Path file = localDiskFileService.findFile(PATH,
+                Long.parseLong(uriComponents.getQueryParams().getFirst("expires")),
+                uriComponents.getQueryParams().getFirst("signature"));
+        assertThat(uriComponents.getPath()).isEqualTo("/api/files" + PATH);
+        assertThat(file).isEqualTo(rootDirectory.resolve(PATH.substring(1)));
+    }
+
+    @Test
+    void 만료되지_않는_공개_URL을_생성한다() {
+        //given
+        localDiskFileService.save(PATH, 파일_정보를_생성한다());
+
+        //when
+        final URL url = localDiskFileService.generatePublicUrl(PATH);
+
+        //then
+        final UriComponents uriComponents = UriComponentsBuilder.fromUriString(url.toString()).build();
+        assertThat(uriComponents.getQueryParams().getFirst("expires"))
+                .isEqualTo(String.valueOf(LocalDiskFileService.PUBLIC_EXPIRES));
+        assertThat(localDiskFileService.generatePublicUrl(PATH)).isSameAs(url);
+    }
+
+    @Test
+    void 여러_경로의_URL을_중복없이_한번에_생성한다() {
+        //given
+        final List<String> paths = List.of(PATH, "/2023/0815/roadmapNode/uuid_other.png", PATH);
+
+        //when
+        final Map<String, URL> urls = localDiskFileService.generateUrls(paths, HttpMethod.GET);
+
+        //then
+        assertThat(urls).hasSize(2)
+                .containsOnlyKeys(PATH, "/2023/0815/roadmapNode/uuid_other.png");
+    }
+
+    @Test
+    void 서명이_일치하지_않으면_예외가_발생한다() {
+        //given
+        final long expires = System.currentTimeMillis() + 60000L;
+
+        //when
+        //then
+        assertThatThrownBy(() -> localDiskFileService.findFile(PATH, expires, "invalidSignature"))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void 만료된_URL이면_예외가_발생한다() {
+        //given
+        final LocalFileUrlSigner signer = new LocalFileUrlSigner("secret-key");
+        final long expires = System.currentTimeMillis() - 1000L;
+        final String signature = signer.sign(PATH, HttpMethod.GET, expires);
+
+        //when
+        //then
+        assertThatThrownBy(() -> localDiskFileService.findFile(PATH, expires, signature))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void 다른_HTTP_메서드로_서명된_URL로는_파일을_조회할_수_없다() {
+        //given
+        final LocalFileUrlSigner signer = new LocalFileUrlSigner("secret-key");
+        final long expires = System.currentTimeMillis() + 60000L;
+        final String signature = signer.sign(PATH, HttpMethod.PUT, expires);
+
+        //when
+        //then
+        assertThatThrownBy(() -> localDiskFileService.findFile(PATH, expires, signature))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void 존재하지_않는_파일을_조회하면_예외가_발생한다() {
+        //given
+        final LocalFileUrlSigner signer = new LocalFileUrlSigner("secret-key");
+        final long expires = System.currentTimeMillis() + 60000L;
+        final String signature = signer.sign(PATH, HttpMethod.GET, expires);
+
+        //when
+        //then
+        assertThatThrownBy(() -> localDiskFileService.findFile(PATH, expires, signature))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private FileInformation 파일_정보를_생성한다() {
+        return new FileInformation("originalFilename.png", (long) CONTENT.length, "image/png",
+                new ByteArrayInputStream(CONTENT));
+    }
+}
@@ -0,0 +1,98 @@
+package co.kirikiri.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+class PresignedUrlCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PresignedUrlCache presignedUrlCache = new PresignedUrlCache(60000L, 100L, meterRegistry);
+
+    @Test
+    void 같은_경로와_메서드로_요청하면_URL을_한_번만_생성한다() throws MalformedURLException {
+        //given
+        final URL url = new URL("http://example.com/path");
+        final AtomicInteger generateCount = new AtomicInteger();
+
+        //when
+        presignedUrlCache.get("/path", HttpMethod.GET, () -> {
+            generateCount.incrementAndGet();
+            return url;
+        });
+        final URL result = presignedUrlCache.get("/path", HttpMethod.GET, () -> {
+            generateCount.incrementAndGet();
+            return url;
+        });
+
+        //then
+        assertThat(result).isEqualTo(url);
+        assertThat(generateCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 메서드가_다르면_URL을_따로_생성한다() throws MalformedURLException {
+        //given
+        final URL getUrl = new URL("http://example.com/get");
+        final URL putUrl = new URL("http://example.com/put");
+        presignedUrlCache.get("/path", HttpMethod.GET, () -> getUrl);
+
+        //when
+        final URL result = presignedUrlCache.get("/path", HttpMethod.PUT, () -> putUrl);
+
+        //then
+        assertThat(result).isEqualTo(putUrl);
+    }
+
+    @Test
+    void 여러_경로의_URL을_한_번에_요청하면_중복을_제거하고_캐싱되지_않은_경로만_생성한다() throws MalformedURLException {
+        //given
+        final URL cachedUrl = new URL("http://example.com/cached");
+        presignedUrlCache.get("/cached", HttpMethod.GET, () -> cachedUrl);
+        final List<String> generatedPaths = new ArrayList<>();
+
+        //when
+        final Map<String, URL> result = presignedUrlCache.getAll(List.of("/cached", "/new", "/new"), HttpMethod.GET,
+                path -> {
+                    generatedPaths.add(path);
+                    return cachedUrl;
+                });
+
+        //then
+        assertThat(result).containsOnlyKeys("/cached", "/new");
+        assertThat(generatedPaths).containsExactly("/new");
+    }
+
+    @Test
+    void 캐시_적중과_미스_횟수를_메트릭으로_기록한다() throws MalformedURLException {
+        //given
+        final URL url = new URL("http://example.com/path");
+
+        //when
+        presignedUrlCache.get("/path", HttpMethod.GET, () -> url);
+        presignedUrlCache.get("/path", HttpMethod.GET, () -> url);
+
+        //then
+        final double hitCount = meterRegistry.get("cache.gets")
+                .tag("cache", "presignedUrl")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        final double missCount = meterRegistry.get("cache.gets")
+                .tag("cache", "presignedUrl")
+                .tag("result", "miss")
+                .functionCounter()
+                .count();
+        assertThat(hitCount).isEqualTo(1);
+        assertThat(missCount).isEqualTo(1);
+    }
+}
@@ -0,0 +1,147 @@
+package co.kirikiri.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.infra.StorageCallGuard.CircuitState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class StorageCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 저장소_호출이_성공하면_결과를_반환하고_성공_횟수를_기록한다() {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(2, 0L, 2, 60000L, meterRegistry);
+
+        //when
+        final String result = storageCallGuard.execute(() -> "result");
+        storageCallGuard.run(() -> {
+        });
+
+        //then
+        assertThat(result).isEqualTo("result");
+        assertThat(호출_횟수를_조회한다("success")).isEqualTo(2);
+        assertThat(meterRegistry.get("file.storage.bulkhead.available").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_저장소를_호출하지_않고_즉시_실패한다() throws InterruptedException {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(1, 0L, 2, 60000L, meterRegistry);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(
+                () -> storageCallGuard.execute(지연되는_저장소를_호출한다(started, release)));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        //then
+        assertThatThrownBy(() -> storageCallGuard.execute(() -> "result"))
+                .isInstanceOf(ServerException.class)
+                .hasMessage("파일 저장소 요청이 너무 많습니다.");
+        release.countDown();
+        assertThat(slowCall.join()).isEqualTo("slow");
+        assertThat(호출_횟수를_조회한다("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void 연속_실패_횟수가_임계치에_도달하면_서킷이_열리고_호출을_차단한다() {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(2, 0L, 2, 60000L, meterRegistry);
+        final AtomicInteger callCount = new AtomicInteger();
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+
+        //when
+        //then
+        assertThatThrownBy(() -> storageCallGuard.execute(callCount::incrementAndGet))
+                .isInstanceOf(ServerException.class)
+                .hasMessage("파일 저장소가 일시적으로 응답하지 않습니다.");
+        assertThat(callCount.get()).isEqualTo(2);
+        assertThat(storageCallGuard.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        assertThat(meterRegistry.get("file.storage.circuit.state").gauge().value())
+                .isEqualTo(CircuitState.OPEN.ordinal());
+    }
+
+    @Test
+    void 서킷이_열린_뒤_대기_시간이_지나고_시험_호출이_성공하면_서킷이_닫힌다() throws InterruptedException {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(2, 0L, 1, 10L, meterRegistry);
+        실패하는_저장소를_호출한다(storageCallGuard, new AtomicInteger());
+        Thread.sleep(20);
+
+        //when
+        final String result = storageCallGuard.execute(() -> "result");
+
+        //then
+        assertThat(result).isEqualTo("result");
+        assertThat(storageCallGuard.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void 서킷이_열린_뒤_시험_호출이_실패하면_서킷이_다시_열린다() throws InterruptedException {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(2, 0L, 3, 10L, meterRegistry);
+        final AtomicInteger callCount = new AtomicInteger();
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+        Thread.sleep(20);
+
+        //when
+        실패하는_저장소를_호출한다(storageCallGuard, callCount);
+
+        //then
+        assertThat(callCount.get()).isEqualTo(4);
+        assertThat(storageCallGuard.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        assertThat(호출_횟수를_조회한다("failure")).isEqualTo(4);
+    }
+
+    @Test
+    void 대기_중_인터럽트되면_호출을_거부한다() {
+        //given
+        final StorageCallGuard storageCallGuard = new StorageCallGuard(1, 100L, 2, 60000L, meterRegistry);
+        Thread.currentThread().interrupt();
+
+        //when
+        //then
+        try {
+            assertThatThrownBy(() -> storageCallGuard.execute(() -> "result"))
+                    .isInstanceOf(ServerException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    private Supplier<String> 지연되는_저장소를_호출한다(final CountDownLatch started, final CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        };
+    }
+
+    private void 실패하는_저장소를_호출한다(final StorageCallGuard storageCallGuard, final AtomicInteger callCount) {
+        assertThatThrownBy(() -> storageCallGuard.execute(() -> {
+            callCount.incrementAndGet();
+            throw new ServerException("저장소 장애");
+        })).isInstanceOf(ServerException.class);
+    }
+
+    private double 호출_횟수를_조회한다(final String result) {
+        return meterRegistry.get("file.storage.calls").tag("result", result).counter().count();
+    }
+}
@@ -2,6 +2,7 @@ package co.kirikiri.integration;
 
 import static co.kirikiri.integration.fixture.AuthenticationAPIFixture.로그인;
 import static co.kirikiri.integration.fixture.CommonFixture.BEARER_TOKEN_FORMAT;
+import static co.kirikiri.integration.fixture.CommonFixture.이미지_바이트를_생성한다;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_나가기_요청;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_목록_조회_요청;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_생성;
@@ -347,7 +348,7 @@ class GoalRoomCreateIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/jpeg", "tempImage".getBytes());
+                "image/jpeg", 이미지_바이트를_생성한다("jpeg"));
         final CheckFeedRequest 인증_피드_등록_요청 = new CheckFeedRequest(가짜_이미지_객체, "image description");
 
         //when
@@ -357,7 +358,7 @@ class GoalRoomCreateIntegrationTest extends InitIntegrationTest {
         assertAll(
                 () -> assertThat(인증_피드_등록_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
                 () -> assertThat(인증_피드_등록_응답.response().header("Location"))
-                        .contains("originalFileName.jpeg")
+                        .contains("/test/check-feed/placeholder.png")
         );
     }
 
@@ -434,7 +435,7 @@ class GoalRoomCreateIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/webp", "tempImage".getBytes());
+                "image/webp", 이미지_바이트를_생성한다("webp"));
         final CheckFeedRequest 인증_피드_등록_요청 = new CheckFeedRequest(가짜_이미지_객체, "image description");
         인증_피드_등록(골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청, 기본_로그인_토큰);
 
@@ -469,7 +470,7 @@ class GoalRoomCreateIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/webp", "tempImage".getBytes());
+                "image/webp", 이미지_바이트를_생성한다("webp"));
         final CheckFeedRequest 인증_피드_등록_요청 = new CheckFeedRequest(가짜_이미지_객체, "image description");
         인증_피드_등록(골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청, 기본_로그인_토큰);
 
@@ -2,6 +2,7 @@ package co.kirikiri.integration;
 
 import static co.kirikiri.integration.fixture.AuthenticationAPIFixture.로그인;
 import static co.kirikiri.integration.fixture.CommonFixture.BEARER_TOKEN_FORMAT;
+import static co.kirikiri.integration.fixture.CommonFixture.이미지_바이트를_생성한다;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_노드_조회;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_아이디로_골룸을_조회;
 import static co.kirikiri.integration.fixture.GoalRoomAPIFixture.골룸_아이디와_토큰으로_골룸_정보를_조회;
@@ -64,6 +65,7 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -191,7 +193,7 @@ class GoalRoomReadIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 기본_골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/webp", "tempImage".getBytes());
+                "image/webp", 이미지_바이트를_생성한다("webp"));
         final CheckFeedRequest 인증_피드_등록_요청 = new CheckFeedRequest(가짜_이미지_객체, "image description");
         인증_피드_등록(기본_골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청, 기본_로그인_토큰);
         인증_피드_등록(기본_골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청, 팔로워_액세스_토큰);
@@ -212,8 +214,12 @@ class GoalRoomReadIntegrationTest extends InitIntegrationTest {
 
         assertThat(요청_응답값)
                 .usingRecursiveComparison()
-                .ignoringFields("checkFeeds.imageUrl", "checkFeeds.createdAt")
+                .ignoringFields("goalRoomRoadmapNodes.nodes.id", "goalRoomTodos.id", "checkFeeds.id",
+                        "checkFeeds.imageUrl", "checkFeeds.createdAt")
                 .isEqualTo(예상되는_응답값);
+        assertThat(요청_응답값.checkFeeds())
+                .extracting(CheckFeedResponse::id)
+                .isSortedAccordingTo(Comparator.reverseOrder());
     }
 
     @Test
@@ -400,7 +406,7 @@ class GoalRoomReadIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 기본_골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/jpeg", "tempImage".getBytes());
+                "image/jpeg", 이미지_바이트를_생성한다("jpeg"));
         final CheckFeedRequest 인증_피드_등록_요청1 = new CheckFeedRequest(가짜_이미지_객체, "image description1");
         final CheckFeedRequest 인증_피드_등록_요청2 = new CheckFeedRequest(가짜_이미지_객체, "image description2");
 
@@ -447,7 +453,7 @@ class GoalRoomReadIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 기본_골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/jpeg", "tempImage".getBytes());
+                "image/jpeg", 이미지_바이트를_생성한다("jpeg"));
         final CheckFeedRequest 인증_피드_등록_요청1 = new CheckFeedRequest(가짜_이미지_객체, "image description1");
 
         인증_피드_등록(기본_골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청1, 기본_로그인_토큰);
@@ -488,7 +494,7 @@ class GoalRoomReadIntegrationTest extends InitIntegrationTest {
         골룸을_시작한다(기본_로그인_토큰, 기본_골룸_아이디);
 
         final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile("image", "originalFileName.jpeg",
-                "image/jpeg", "tempImage".getBytes());
+                "image/jpeg", 이미지_바이트를_생성한다("jpeg"));
         final CheckFeedRequest 인증_피드_등록_요청1 = new CheckFeedRequest(가짜_이미지_객체, "image description1");
 
         인증_피드_등록(기본_골룸_아이디, 가짜_이미지_객체, 인증_피드_등록_요청1, 팔로워1_액세스_토큰);
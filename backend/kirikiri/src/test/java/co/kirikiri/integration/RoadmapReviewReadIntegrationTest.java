@@ -78,13 +78,13 @@ class RoadmapReviewReadIntegrationTest extends InitIntegrationTest {
         리뷰를_생성한다(팔로워2_액세스_토큰, 로드맵_아이디, 팔로워2_로드맵_리뷰_생성_요청);
 
         // when
-        final CustomScrollRequest 첫번째_스크롤_요청 = new CustomScrollRequest(null, 2);
+        final CustomScrollRequest 첫번째_스크롤_요청 = new CustomScrollRequest(null, null, 2);
         final ExtractableResponse<Response> 첫번째_로드맵_리뷰_조회_응답 = 로드맵_리뷰를_조회한다(로드맵_아이디, 첫번째_스크롤_요청);
         final List<RoadmapReviewResponse> 첫번째_로드맵_리뷰_조회_응답값 = jsonToClass(첫번째_로드맵_리뷰_조회_응답.asString(),
                 new TypeReference<>() {
                 });
 
-        final CustomScrollRequest 두번째_스크롤_요청 = new CustomScrollRequest(첫번째_로드맵_리뷰_조회_응답값.get(1).id(), 2);
+        final CustomScrollRequest 두번째_스크롤_요청 = new CustomScrollRequest(첫번째_로드맵_리뷰_조회_응답값.get(1).id(), null, 2);
         final ExtractableResponse<Response> 두번째_로드맵_리뷰_조회_응답 = 로드맵_리뷰를_조회한다(로드맵_아이디, 두번째_스크롤_요청);
         final List<RoadmapReviewResponse> 두번째_로드맵_리뷰_조회_응답값 = jsonToClass(두번째_로드맵_리뷰_조회_응답.asString(),
                 new TypeReference<>() {
@@ -138,7 +138,7 @@ class RoadmapReviewReadIntegrationTest extends InitIntegrationTest {
         final GoalRoom 골룸 = testTransactionService.완료한_골룸을_생성한다(로드맵_응답);
         testTransactionService.골룸에_대한_참여자_리스트를_생성한다(리더_정보, 골룸, 팔로워_정보);
 
-        final CustomScrollRequest 스크롤_요청 = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest 스크롤_요청 = new CustomScrollRequest(null, null, 10);
 
         // when
         final ExtractableResponse<Response> 로드맵_리뷰_조회_응답 = 로드맵_리뷰를_조회한다(로드맵_아이디, 스크롤_요청);
@@ -154,7 +154,7 @@ class RoadmapReviewReadIntegrationTest extends InitIntegrationTest {
     @Test
     void 로드맵_리뷰_조회_요청_시_유효하지_않은_로드맵_아이디로_요청_시_예외를_반환한다() throws JsonProcessingException {
         //when
-        final CustomScrollRequest 스크롤_요청 = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest 스크롤_요청 = new CustomScrollRequest(null, null, 10);
 
         // when
         final ExtractableResponse<Response> 로드맵_리뷰_조회_응답 = 로드맵_리뷰를_조회한다(1L, 스크롤_요청);
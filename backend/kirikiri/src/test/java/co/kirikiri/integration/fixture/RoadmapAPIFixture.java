@@ -2,6 +2,7 @@ package co.kirikiri.integration.fixture;
 
 import static co.kirikiri.integration.fixture.CommonFixture.API_PREFIX;
 import static co.kirikiri.integration.fixture.CommonFixture.AUTHORIZATION;
+import static co.kirikiri.integration.fixture.CommonFixture.이미지_바이트를_생성한다;
 import static io.restassured.RestAssured.given;
 
 import co.kirikiri.persistence.dto.RoadmapOrderType;
@@ -58,7 +59,7 @@ public class RoadmapAPIFixture {
         for (final RoadmapNodeSaveRequest roadmapNode : 로드맵_생성_요청값.roadmapNodes()) {
             final String 로드맵_노드_제목 = roadmapNode.getTitle() != null ? roadmapNode.getTitle() : "name";
             final MockMultipartFile 가짜_이미지_객체 = new MockMultipartFile(로드맵_노드_제목, "originalFileName.jpeg",
-                    "image/jpeg", "tempImage".getBytes());
+                    "image/jpeg", 이미지_바이트를_생성한다("jpeg"));
             requestSpecification = requestSpecification
                     .multiPart(가짜_이미지_객체.getName(), 가짜_이미지_객체.getOriginalFilename(),
                             가짜_이미지_객체.getBytes(), 가짜_이미지_객체.getContentType());
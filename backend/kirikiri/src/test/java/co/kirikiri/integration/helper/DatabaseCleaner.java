@@ -26,6 +26,7 @@ public class DatabaseCleaner implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
     private List<String> tableNames;
+    private List<String> identityTableNames;
 
     @Override
     public void afterPropertiesSet() {
@@ -35,6 +36,7 @@ public class DatabaseCleaner implements InitializingBean {
 
     private void extractTableNames(final Connection conn) throws SQLException {
         final List<String> tableNames = new ArrayList<>();
+        final List<String> identityTableNames = new ArrayList<>();
 
         final ResultSet tables = conn.getMetaData()
                 .getTables(conn.getCatalog(), null, "%", new String[]{"TABLE"});
@@ -43,10 +45,21 @@ public class DatabaseCleaner implements InitializingBean {
             final String tableName = tables.getString("TABLE_NAME");
             if (!SYSTEM_TABLE_NAMES.contains(tableName)) {
                 tableNames.add(tableName);
+                addIfIdentityTable(conn, tableName, identityTableNames);
             }
         }
 
         this.tableNames = tableNames;
+        this.identityTableNames = identityTableNames;
+    }
+
+    private void addIfIdentityTable(final Connection conn, final String tableName,
+                                    final List<String> identityTableNames) throws SQLException {
+        final ResultSet columns = conn.getMetaData()
+                .getColumns(conn.getCatalog(), null, tableName, "ID");
+        if (columns.next() && "YES".equals(columns.getString("IS_AUTOINCREMENT"))) {
+            identityTableNames.add(tableName);
+        }
     }
 
     public void execute() {
@@ -60,6 +73,8 @@ public class DatabaseCleaner implements InitializingBean {
 
         for (final String tableName : tableNames) {
             statement.executeUpdate("TRUNCATE TABLE " + tableName);
+        }
+        for (final String tableName : identityTableNames) {
             statement.executeUpdate("ALTER TABLE " + tableName + " ALTER COLUMN id RESTART WITH 1");
         }
 
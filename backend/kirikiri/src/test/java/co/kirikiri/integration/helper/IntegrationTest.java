@@ -1,5 +1,9 @@
 package co.kirikiri.integration.helper;
 
+import co.kirikiri.service.RoadmapSearchIndex;
+import co.kirikiri.service.RoadmapSortKeyIndex;
+import co.kirikiri.service.RoadmapSuggestionIndex;
+import co.kirikiri.service.RoadmapTagIndex;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,6 +39,18 @@ public class IntegrationTest {
     @Autowired
     private DatabaseCleaner databaseCleaner;
 
+    @Autowired
+    private RoadmapSearchIndex roadmapSearchIndex;
+
+    @Autowired
+    private RoadmapTagIndex roadmapTagIndex;
+
+    @Autowired
+    private RoadmapSuggestionIndex roadmapSuggestionIndex;
+
+    @Autowired
+    private RoadmapSortKeyIndex roadmapSortKeyIndex;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -43,6 +59,10 @@ public class IntegrationTest {
     @AfterEach
     void tearDown() {
         databaseCleaner.execute();
+        roadmapSearchIndex.clear();
+        roadmapTagIndex.clear();
+        roadmapSuggestionIndex.clear();
+        roadmapSortKeyIndex.clear();
     }
 
     protected <T> T jsonToClass(final String responseBody, final TypeReference<T> typeReference)
@@ -5,6 +5,10 @@ import co.kirikiri.service.dto.FileInformation;
 import org.springframework.http.HttpMethod;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class TestFileService implements FileService {
 
@@ -12,6 +16,10 @@ public class TestFileService implements FileService {
     public void save(final String path, final FileInformation fileInformation) {
     }
 
+    @Override
+    public void delete(final String path) {
+    }
+
     @Override
     public URL generateUrl(final String path, final HttpMethod httpMethod) {
         try {
@@ -20,4 +28,16 @@ public class TestFileService implements FileService {
             throw new RuntimeException(exception);
         }
     }
+
+    @Override
+    public Map<String, URL> generateUrls(final Collection<String> paths, final HttpMethod httpMethod) {
+        return paths.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), path -> generateUrl(path, httpMethod)));
+    }
+
+    @Override
+    public URL generatePublicUrl(final String path) {
+        return generateUrl(path, HttpMethod.GET);
+    }
 }
@@ -0,0 +1,240 @@
+package co.kirikiri.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.goalroom.GoalRoom;
+import co.kirikiri.domain.goalroom.GoalRoomMember;
+import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
+import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
+import co.kirikiri.domain.goalroom.GoalRoomRole;
+import co.kirikiri.domain.goalroom.GoalRoomToDo;
+import co.kirikiri.domain.goalroom.vo.GoalRoomName;
+import co.kirikiri.domain.goalroom.vo.GoalRoomTodoContent;
+import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
+import co.kirikiri.domain.goalroom.vo.Period;
+import co.kirikiri.domain.member.EncryptedPassword;
+import co.kirikiri.domain.member.Gender;
+import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberImage;
+import co.kirikiri.domain.member.MemberProfile;
+import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.domain.member.vo.Nickname;
+import co.kirikiri.domain.member.vo.Password;
+import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.domain.roadmap.RoadmapCategory;
+import co.kirikiri.domain.roadmap.RoadmapContent;
+import co.kirikiri.domain.roadmap.RoadmapDifficulty;
+import co.kirikiri.domain.roadmap.RoadmapNode;
+import co.kirikiri.domain.roadmap.RoadmapNodeImage;
+import co.kirikiri.domain.roadmap.RoadmapNodeImages;
+import co.kirikiri.domain.roadmap.RoadmapNodes;
+import co.kirikiri.domain.roadmap.RoadmapTag;
+import co.kirikiri.domain.roadmap.RoadmapTags;
+import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.persistence.helper.RepositoryTest;
+import co.kirikiri.persistence.helper.SqlStatementCaptor;
+import co.kirikiri.persistence.member.MemberRepository;
+import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+@RepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "co.kirikiri.persistence.helper.SqlStatementCaptor")
+class BatchInsertRoundTripTest {
+
+    private static final Pattern INSERT_TABLE = Pattern.compile("^insert\\s+into\\s+(\\w+)");
+    private static final Pattern SEQUENCE_CALL = Pattern.compile("next value for (\\w+)");
+    private static final int NODE_COUNT = 30;
+    private static final int IMAGE_COUNT_PER_NODE = 2;
+    private static final int TAG_COUNT = 5;
+    private static final int MEMBER_COUNT = 20;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final TestEntityManager testEntityManager;
+    private final MemberRepository memberRepository;
+    private final RoadmapCategoryRepository roadmapCategoryRepository;
+    private final RoadmapRepository roadmapRepository;
+    private final GoalRoomRepository goalRoomRepository;
+    private final GoalRoomMemberRepository goalRoomMemberRepository;
+
+    public BatchInsertRoundTripTest(final TestEntityManager testEntityManager,
+                                    final MemberRepository memberRepository,
+                                    final RoadmapCategoryRepository roadmapCategoryRepository,
+                                    final RoadmapRepository roadmapRepository,
+                                    final GoalRoomRepository goalRoomRepository,
+                                    final GoalRoomMemberRepository goalRoomMemberRepository) {
+        this.testEntityManager = testEntityManager;
+        this.memberRepository = memberRepository;
+        this.roadmapCategoryRepository = roadmapCategoryRepository;
+        this.roadmapRepository = roadmapRepository;
+        this.goalRoomRepository = goalRoomRepository;
+        this.goalRoomMemberRepository = goalRoomMemberRepository;
+    }
+
+    @Test
+    void 로드맵을_생성할_때_노드와_이미지와_태그를_테이블마다_한_번의_배치로_저장한다() {
+        // given
+        final Member creator = 사용자를_저장한다("creator", "크리에이터");
+        final Roadmap roadmap = 로드맵을_생성한다(creator);
+
+        // when
+        final List<String> statements = 실행된_쿼리들을_수집한다(() -> roadmapRepository.save(roadmap));
+
+        // then
+        assertThat(삽입_쿼리_수를_센다(statements))
+                .containsEntry("roadmap_node", 1L)
+                .containsEntry("roadmap_node_image", 1L)
+                .containsEntry("roadmap_tag", 1L);
+        assertThat(시퀀스_호출_수를_센다(statements).values())
+                .allMatch(count -> count <= 2);
+        assertThat(statements).hasSizeLessThanOrEqualTo(11);
+    }
+
+    @Test
+    void 골룸을_생성할_때_노드와_투두를_테이블마다_한_번의_배치로_저장한다() {
+        // given
+        final Member leader = 사용자를_저장한다("leader", "리더");
+        final RoadmapContent roadmapContent = roadmapRepository.save(로드맵을_생성한다(leader))
+                .getContents()
+                .getValues()
+                .get(0);
+        final GoalRoom goalRoom = 골룸을_생성한다(roadmapContent, leader);
+        testEntityManager.flush();
+
+        // when
+        final List<String> statements = 실행된_쿼리들을_수집한다(() -> goalRoomRepository.save(goalRoom));
+
+        // then
+        assertThat(삽입_쿼리_수를_센다(statements))
+                .containsEntry("goal_room_roadmap_node", 1L)
+                .containsEntry("goal_room_to_do", 1L);
+        assertThat(시퀀스_호출_수를_센다(statements).values())
+                .allMatch(count -> count <= 2);
+        assertThat(statements).hasSizeLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void 골룸을_시작할_때_골룸_대기자들을_한_번의_쿼리로_골룸_사용자로_옮긴다() {
+        // given
+        final Member leader = 사용자를_저장한다("leader", "리더");
+        final RoadmapContent roadmapContent = roadmapRepository.save(로드맵을_생성한다(leader))
+                .getContents()
+                .getValues()
+                .get(0);
+        final GoalRoom goalRoom = 골룸을_생성한다(roadmapContent, leader);
+        IntStream.range(1, MEMBER_COUNT)
+                .forEach(index -> goalRoom.join(사용자를_저장한다("member" + index, "사용자" + index)));
+        goalRoomRepository.save(goalRoom);
+        testEntityManager.flush();
+        final List<Integer> insertedCounts = new ArrayList<>();
+
+        // when
+        final List<String> statements = 실행된_쿼리들을_수집한다(() -> insertedCounts.add(
+                goalRoomMemberRepository.insertAllFromPendingMembers(List.of(goalRoom.getId()))));
+
+        // then
+        assertThat(insertedCounts).containsExactly(MEMBER_COUNT);
+        assertThat(삽입_쿼리_수를_센다(statements))
+                .containsExactly(Map.entry("goal_room_member", 1L));
+        assertThat(statements).hasSize(1);
+        assertThat(goalRoomMemberRepository.findAllByGoalRoom(goalRoom))
+                .extracting(GoalRoomMember::getRole)
+                .containsOnlyOnce(GoalRoomRole.LEADER)
+                .hasSize(MEMBER_COUNT);
+    }
+
+    private List<String> 실행된_쿼리들을_수집한다(final Runnable creation) {
+        SqlStatementCaptor.start();
+        try {
+            creation.run();
+            testEntityManager.flush();
+        } finally {
+            testEntityManager.clear();
+        }
+        return SqlStatementCaptor.stop()
+                .stream()
+                .map(statement -> statement.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private Map<String, Long> 삽입_쿼리_수를_센다(final List<String> statements) {
+        return 이름별로_센다(statements, INSERT_TABLE);
+    }
+
+    private Map<String, Long> 시퀀스_호출_수를_센다(final List<String> statements) {
+        return 이름별로_센다(statements, SEQUENCE_CALL);
+    }
+
+    private Map<String, Long> 이름별로_센다(final List<String> statements, final Pattern pattern) {
+        return statements.stream()
+                .map(pattern::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private Member 사용자를_저장한다(final String identifier, final String nickname) {
+        final MemberImage memberImage = new MemberImage("originalFileName", "serverFilePath", ImageContentType.PNG);
+        final MemberProfile memberProfile = new MemberProfile(Gender.MALE,
+                LocalDate.of(1990, 1, 1), "010-1234-5678");
+        return memberRepository.save(new Member(new Identifier(identifier),
+                new EncryptedPassword(new Password("password1!")), new Nickname(nickname), memberImage,
+                memberProfile));
+    }
+
+    private Roadmap 로드맵을_생성한다(final Member creator) {
+        final RoadmapCategory category = roadmapCategoryRepository.save(new RoadmapCategory("여가"));
+        final List<RoadmapNode> roadmapNodes = IntStream.rangeClosed(1, NODE_COUNT)
+                .mapToObj(this::로드맵_노드를_생성한다)
+                .toList();
+        final RoadmapContent content = new RoadmapContent("로드맵 본문");
+        content.addNodes(new RoadmapNodes(roadmapNodes));
+        final Roadmap roadmap = new Roadmap("로드맵 제목", "로드맵 소개글", 10, RoadmapDifficulty.NORMAL, creator,
+                category);
+        roadmap.addContent(content);
+        roadmap.addTags(new RoadmapTags(IntStream.rangeClosed(1, TAG_COUNT)
+                .mapToObj(index -> new RoadmapTag(new RoadmapTagName("태그" + index)))
+                .toList()));
+        return roadmap;
+    }
+
+    private RoadmapNode 로드맵_노드를_생성한다(final int index) {
+        final RoadmapNode roadmapNode = new RoadmapNode("로드맵 " + index + "주차", "로드맵 " + index + "주차 내용");
+        roadmapNode.addImages(new RoadmapNodeImages(IntStream.rangeClosed(1, IMAGE_COUNT_PER_NODE)
+                .mapToObj(imageIndex -> new RoadmapNodeImage("node-image" + imageIndex + ".png",
+                        "node-image" + index + "-" + imageIndex + "-save-path", ImageContentType.PNG))
+                .toList()));
+        return roadmapNode;
+    }
+
+    private GoalRoom 골룸을_생성한다(final RoadmapContent roadmapContent, final Member leader) {
+        final GoalRoom goalRoom = new GoalRoom(new GoalRoomName("골룸"), new LimitedMemberCount(MEMBER_COUNT),
+                roadmapContent, leader);
+        final List<GoalRoomRoadmapNode> goalRoomRoadmapNodes = IntStream.range(0, NODE_COUNT)
+                .mapToObj(index -> new GoalRoomRoadmapNode(
+                        new Period(TODAY.plusDays(index), TODAY.plusDays(index)), 1,
+                        roadmapContent.getNodes().getValues().get(index)))
+                .toList();
+        goalRoom.addAllGoalRoomRoadmapNodes(new GoalRoomRoadmapNodes(goalRoomRoadmapNodes));
+        IntStream.range(0, NODE_COUNT)
+                .forEach(index -> goalRoom.addGoalRoomTodo(new GoalRoomToDo(new GoalRoomTodoContent("투두" + index),
+                        new Period(TODAY.plusDays(index), TODAY.plusDays(index)))));
+        return goalRoom;
+    }
+}
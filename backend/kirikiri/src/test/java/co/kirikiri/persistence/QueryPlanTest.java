@@ -0,0 +1,781 @@
+package co.kirikiri.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.auth.EncryptedToken;
+import co.kirikiri.domain.auth.RefreshToken;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.domain.goalroom.CheckFeed;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.domain.goalroom.GoalRoom;
+import co.kirikiri.domain.goalroom.GoalRoomMember;
+import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
+import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
+import co.kirikiri.domain.goalroom.GoalRoomRole;
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.domain.goalroom.GoalRoomToDo;
+import co.kirikiri.domain.goalroom.GoalRoomToDoCheck;
+import co.kirikiri.domain.goalroom.vo.GoalRoomName;
+import co.kirikiri.domain.goalroom.vo.GoalRoomTodoContent;
+import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
+import co.kirikiri.domain.goalroom.vo.Period;
+import co.kirikiri.domain.member.EncryptedPassword;
+import co.kirikiri.domain.member.Gender;
+import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberImage;
+import co.kirikiri.domain.member.MemberProfile;
+import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.domain.member.vo.Nickname;
+import co.kirikiri.domain.member.vo.Password;
+import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.domain.roadmap.RoadmapCategory;
+import co.kirikiri.domain.roadmap.RoadmapContent;
+import co.kirikiri.domain.roadmap.RoadmapDifficulty;
+import co.kirikiri.domain.roadmap.RoadmapNode;
+import co.kirikiri.domain.roadmap.RoadmapNodes;
+import co.kirikiri.domain.roadmap.RoadmapReview;
+import co.kirikiri.domain.roadmap.RoadmapStats;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.domain.roadmap.RoadmapTag;
+import co.kirikiri.domain.roadmap.RoadmapTags;
+import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
+import co.kirikiri.persistence.auth.RefreshTokenRepository;
+import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapSearchDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import co.kirikiri.persistence.file.StoredFileRepository;
+import co.kirikiri.persistence.goalroom.CheckFeedRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomToDoCheckRepository;
+import co.kirikiri.persistence.goalroom.dto.GoalRoomMemberSortType;
+import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
+import co.kirikiri.persistence.helper.RepositoryTest;
+import co.kirikiri.persistence.helper.SqlStatementCaptor;
+import co.kirikiri.persistence.member.MemberRepository;
+import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
+import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
+import co.kirikiri.persistence.roadmap.RoadmapNodeRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import co.kirikiri.persistence.roadmap.RoadmapReviewRepository;
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import co.kirikiri.persistence.scheduler.SchedulerLeaseRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.ClassUtils;
+
+@RepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "co.kirikiri.persistence.helper.SqlStatementCaptor")
+class QueryPlanTest {
+
+    private static final String PERSISTENCE_PACKAGE = "co.kirikiri.persistence";
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/*.sql";
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "create\\s+index\\s+(\\w+)\\s+on\\s+(\\w+)\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\"PUBLIC\"\\.\"(\\w+)\"(?: \"(\\w+)\")?\\s*/\\* PUBLIC\\.([\\w.]+?)(?:: (.*?))? \\*/", Pattern.DOTALL);
+    private static final Pattern ORDER_BY = Pattern.compile("\\border by (.*?)(?:\\boffset\\b|\\bfetch\\b|$)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern ORDER_COLUMN = Pattern.compile("(\\w+)\\.(\\w+)(?:\\s+(asc|desc))?",
+            Pattern.CASE_INSENSITIVE);
+    private static final String DESC = "DESC";
+    private static final String TABLE_SCAN = "tableScan";
+    private static final String INDEX_SORTED = "/* index sorted */";
+    private static final String PRIMARY_KEY_COLUMN = "ID";
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final List<Long> UNKNOWN_IDS = List.of(0L);
+    private static final String LEASE_NAME = "query-plan-test." + UUID.randomUUID();
+
+    private static final Map<String, String> ALLOWED_FULL_SCANS = Map.of(
+            "RoadmapStatsRepository.deleteOrphans", "통계 전체를 대상으로 고아 행을 정리하는 배치 쿼리다.",
+            "RoadmapStatsRepository.findMaxRoadmapId", "기본 키의 최댓값만 읽으며, MySQL은 인덱스 끝에서 바로 조회한다."
+    );
+    private static final Map<String, String> ALLOWED_FILESORTS = Map.of(
+            "CheckFeedQueryRepository.findByGoalRoomWithMemberAndMemberImage",
+            "골룸 사용자들의 인증 피드를 합쳐 정렬하며, 정렬 대상은 골룸 하나의 피드로 한정된다.",
+            "CheckFeedRepository.findByGoalRoom",
+            "골룸 사용자들의 인증 피드를 합쳐 정렬하며, 정렬 대상은 골룸 하나의 피드로 한정된다.",
+            "GoalRoomMemberQueryRepository.findByGoalRoomIdOrderedBySortType",
+            "골룸 인원은 최대 20명이고, 달성률은 자주 갱신되어 인덱스로 두지 않는다.",
+            "GoalRoomPendingMemberQueryRepository.findByGoalRoomIdOrderedBySortType",
+            "골룸 인원은 최대 20명이라 정렬 대상이 작다.",
+            "GoalRoomQueryRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond",
+            "대기 사용자를 페치 조인해 페이징을 메모리에서 하므로, 로드맵 본문들의 모집 중인 골룸을 합쳐 정렬한다."
+    );
+
+    private final TestEntityManager testEntityManager;
+    private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final RoadmapCategoryRepository roadmapCategoryRepository;
+    private final RoadmapRepository roadmapRepository;
+    private final RoadmapContentRepository roadmapContentRepository;
+    private final RoadmapNodeRepository roadmapNodeRepository;
+    private final RoadmapReviewRepository roadmapReviewRepository;
+    private final RoadmapStatsRepository roadmapStatsRepository;
+    private final GoalRoomRepository goalRoomRepository;
+    private final GoalRoomMemberRepository goalRoomMemberRepository;
+    private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+    private final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository;
+    private final CheckFeedRepository checkFeedRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private Member member;
+    private RoadmapCategory category;
+    private Roadmap roadmap;
+    private RoadmapContent roadmapContent;
+    private GoalRoom goalRoom;
+    private GoalRoomRoadmapNode goalRoomRoadmapNode;
+    private GoalRoomToDo goalRoomToDo;
+    private GoalRoomMember goalRoomMember;
+    private CheckFeed checkFeed;
+
+    public QueryPlanTest(final TestEntityManager testEntityManager,
+                         final MemberRepository memberRepository,
+                         final RefreshTokenRepository refreshTokenRepository,
+                         final StoredFileRepository storedFileRepository,
+                         final RoadmapCategoryRepository roadmapCategoryRepository,
+                         final RoadmapRepository roadmapRepository,
+                         final RoadmapContentRepository roadmapContentRepository,
+                         final RoadmapNodeRepository roadmapNodeRepository,
+                         final RoadmapReviewRepository roadmapReviewRepository,
+                         final RoadmapStatsRepository roadmapStatsRepository,
+                         final GoalRoomRepository goalRoomRepository,
+                         final GoalRoomMemberRepository goalRoomMemberRepository,
+                         final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository,
+                         final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository,
+                         final CheckFeedRepository checkFeedRepository,
+                         final SchedulerLeaseRepository schedulerLeaseRepository) {
+        this.testEntityManager = testEntityManager;
+        this.memberRepository = memberRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.roadmapCategoryRepository = roadmapCategoryRepository;
+        this.roadmapRepository = roadmapRepository;
+        this.roadmapContentRepository = roadmapContentRepository;
+        this.roadmapNodeRepository = roadmapNodeRepository;
+        this.roadmapReviewRepository = roadmapReviewRepository;
+        this.roadmapStatsRepository = roadmapStatsRepository;
+        this.goalRoomRepository = goalRoomRepository;
+        this.goalRoomMemberRepository = goalRoomMemberRepository;
+        this.goalRoomPendingMemberRepository = goalRoomPendingMemberRepository;
+        this.goalRoomToDoCheckRepository = goalRoomToDoCheckRepository;
+        this.checkFeedRepository = checkFeedRepository;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        마이그레이션의_인덱스를_생성한다();
+        테스트_데이터를_저장한다();
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void 레포지토리에_선언된_모든_메서드에_실행_계획_검증_시나리오가_있다() {
+        // given
+        final Set<String> scenarioNames = 쿼리_시나리오들().keySet();
+
+        // when
+        final Set<String> repositoryMethodNames = 레포지토리_메서드_이름들을_찾는다();
+
+        // then
+        assertThat(scenarioNames).containsExactlyInAnyOrderElementsOf(repositoryMethodNames);
+    }
+
+    @Test
+    void 레포지토리_쿼리가_풀스캔이나_파일정렬_없이_인덱스를_사용한다() {
+        // given
+        final Map<String, Runnable> scenarios = 쿼리_시나리오들();
+        final List<String> violations = new ArrayList<>();
+
+        // when
+        scenarios.forEach((scenarioName, scenario) ->
+                violations.addAll(실행_계획을_검증한다(scenarioName, scenario)));
+
+        // then
+        assertThat(violations).isEmpty();
+    }
+
+    private Map<String, Runnable> 쿼리_시나리오들() {
+        final Map<String, Runnable> scenarios = new LinkedHashMap<>();
+        final Identifier identifier = member.getIdentifier();
+        final ScrollCursor roadmapCursor = ScrollCursor.from(roadmap.getId());
+
+        scenarios.put("RefreshTokenQueryRepository.findByTokenAndIsRevokedFalse",
+                () -> refreshTokenRepository.findByTokenAndIsRevokedFalse(new EncryptedToken("refresh-token")));
+
+        scenarios.put("StoredFileRepository.findByServerFilePath",
+                () -> storedFileRepository.findByServerFilePath("server-file-path"));
+        scenarios.put("StoredFileRepository.increaseReferenceCount",
+                () -> storedFileRepository.increaseReferenceCount("server-file-path"));
+        scenarios.put("StoredFileRepository.decreaseReferenceCount",
+                () -> storedFileRepository.decreaseReferenceCount("server-file-path", LocalDateTime.now()));
+        scenarios.put("StoredFileRepository.updateUploaded",
+                () -> storedFileRepository.updateUploaded("server-file-path", "thumbnail-path", "medium-path"));
+        scenarios.put("StoredFileRepository.findReleasedBefore",
+                () -> storedFileRepository.findReleasedBefore(LocalDateTime.now(), 0L, PageRequest.of(0, 100)));
+        scenarios.put("StoredFileRepository.deleteReleasedBefore",
+                () -> storedFileRepository.deleteReleasedBefore(1L, LocalDateTime.now()));
+
+        scenarios.put("CheckFeedQueryRepository.findByRunningGoalRoomRoadmapNodeWithMemberAndMemberImage",
+                () -> checkFeedRepository.findByRunningGoalRoomRoadmapNodeWithMemberAndMemberImage(
+                        goalRoomRoadmapNode));
+        scenarios.put("CheckFeedQueryRepository.findByRunningGoalRoomRoadmapNode",
+                () -> checkFeedRepository.findByRunningGoalRoomRoadmapNode(goalRoomRoadmapNode));
+        scenarios.put("CheckFeedQueryRepository.findByGoalRoomWithMemberAndMemberImage",
+                () -> checkFeedRepository.findByGoalRoomWithMemberAndMemberImage(goalRoom));
+        scenarios.put("CheckFeedRepository.findByGoalRoomMemberAndDateTime",
+                () -> checkFeedRepository.findByGoalRoomMemberAndDateTime(goalRoomMember, TODAY.atStartOfDay(),
+                        TODAY.plusDays(1).atStartOfDay()));
+        scenarios.put("CheckFeedRepository.countByGoalRoomMember",
+                () -> checkFeedRepository.countByGoalRoomMember(goalRoomMember));
+        scenarios.put("CheckFeedRepository.countByGoalRoomMemberAndGoalRoomRoadmapNode",
+                () -> checkFeedRepository.countByGoalRoomMemberAndGoalRoomRoadmapNode(goalRoomMember,
+                        goalRoomRoadmapNode));
+        scenarios.put("CheckFeedRepository.findByGoalRoom",
+                () -> checkFeedRepository.findByGoalRoom(goalRoom));
+        scenarios.put("CheckFeedRepository.findByGoalRoomRoadmapNode",
+                () -> checkFeedRepository.findByGoalRoomRoadmapNode(goalRoomRoadmapNode));
+        scenarios.put("CheckFeedRepository.updateImageStatus",
+                () -> checkFeedRepository.updateImageStatus(checkFeed.getId(), CheckFeedImageStatus.READY));
+        scenarios.put("CheckFeedRepository.updateDerivativeFilePaths",
+                () -> checkFeedRepository.updateDerivativeFilePaths(checkFeed.getId(), "thumbnail-path",
+                        "medium-path"));
+        scenarios.put("CheckFeedRepository.updateImageStatusCreatedBefore",
+                () -> checkFeedRepository.updateImageStatusCreatedBefore(CheckFeedImageStatus.PENDING,
+                        LocalDateTime.now().minusMinutes(30), CheckFeedImageStatus.FAILED));
+
+        scenarios.put("GoalRoomMemberQueryRepository.findByRoadmapIdAndMemberIdentifierAndGoalRoomStatus",
+                () -> goalRoomMemberRepository.findByRoadmapIdAndMemberIdentifierAndGoalRoomStatus(roadmap.getId(),
+                        identifier, GoalRoomStatus.RUNNING));
+        scenarios.put("GoalRoomMemberQueryRepository.findByGoalRoomIdOrderedBySortType",
+                () -> Arrays.stream(GoalRoomMemberSortType.values())
+                        .forEach(sortType -> goalRoomMemberRepository.findByGoalRoomIdOrderedBySortType(
+                                goalRoom.getId(), sortType)));
+        scenarios.put("GoalRoomMemberQueryRepository.findGoalRoomMember",
+                () -> goalRoomMemberRepository.findGoalRoomMember(goalRoom.getId(), identifier));
+        scenarios.put("GoalRoomMemberRepository.findByGoalRoomAndMemberIdentifier",
+                () -> goalRoomMemberRepository.findByGoalRoomAndMemberIdentifier(goalRoom, identifier));
+        scenarios.put("GoalRoomMemberRepository.findAllByGoalRoom",
+                () -> goalRoomMemberRepository.findAllByGoalRoom(goalRoom));
+        scenarios.put("GoalRoomMemberRepository.findParticipationsAfter",
+                () -> goalRoomMemberRepository.findParticipationsAfter(0L, PageRequest.of(0, 10)));
+        scenarios.put("GoalRoomMemberRepository.insertAllFromPendingMembers",
+                () -> goalRoomMemberRepository.insertAllFromPendingMembers(List.of(goalRoom.getId())));
+
+        scenarios.put("GoalRoomPendingMemberQueryRepository.findByGoalRoomIdOrderedBySortType",
+                () -> Arrays.stream(GoalRoomMemberSortType.values())
+                        .forEach(sortType -> goalRoomPendingMemberRepository.findByGoalRoomIdOrderedBySortType(
+                                goalRoom.getId(), sortType)));
+        scenarios.put("GoalRoomPendingMemberRepository.findByGoalRoomAndMemberIdentifier",
+                () -> goalRoomPendingMemberRepository.findByGoalRoomAndMemberIdentifier(goalRoom, identifier));
+        scenarios.put("GoalRoomPendingMemberRepository.findByGoalRoom",
+                () -> goalRoomPendingMemberRepository.findByGoalRoom(goalRoom));
+        scenarios.put("GoalRoomPendingMemberRepository.findAllByGoalRoom",
+                () -> goalRoomPendingMemberRepository.findAllByGoalRoom(goalRoom));
+        scenarios.put("GoalRoomPendingMemberRepository.deleteAllByGoalRoomIds",
+                () -> goalRoomPendingMemberRepository.deleteAllByGoalRoomIds(List.of(goalRoom.getId())));
+
+        scenarios.put("GoalRoomQueryRepository.findByIdWithRoadmapContent",
+                () -> goalRoomRepository.findByIdWithRoadmapContent(goalRoom.getId()));
+        scenarios.put("GoalRoomQueryRepository.findByIdWithContentAndTodos",
+                () -> goalRoomRepository.findByIdWithContentAndTodos(goalRoom.getId()));
+        scenarios.put("GoalRoomQueryRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond",
+                () -> Arrays.stream(RoadmapGoalRoomsOrderType.values())
+                        .forEach(orderType -> {
+                            goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap, orderType,
+                                    null, 10);
+                            goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap, orderType,
+                                    ScrollCursor.from(goalRoom.getId()), 10);
+                        }));
+        scenarios.put("GoalRoomQueryRepository.findByIdWithTodos",
+                () -> goalRoomRepository.findByIdWithTodos(goalRoom.getId()));
+        scenarios.put("GoalRoomQueryRepository.findByMember",
+                () -> goalRoomRepository.findByMember(member));
+        scenarios.put("GoalRoomQueryRepository.findByMemberAndStatus",
+                () -> goalRoomRepository.findByMemberAndStatus(member, GoalRoomStatus.RECRUITING));
+        scenarios.put("GoalRoomQueryRepository.findByIdWithNodes",
+                () -> goalRoomRepository.findByIdWithNodes(goalRoom.getId()));
+        scenarios.put("GoalRoomQueryRepository.findByRoadmap",
+                () -> goalRoomRepository.findByRoadmap(roadmap));
+        scenarios.put("GoalRoomRepository.findById",
+                () -> goalRoomRepository.findById(goalRoom.getId()));
+        scenarios.put("GoalRoomRepository.findStartTargets",
+                () -> goalRoomRepository.findStartTargets(TODAY, GoalRoomStatus.RECRUITING, PageRequest.of(0, 10)));
+        scenarios.put("GoalRoomRepository.updateStatus",
+                () -> goalRoomRepository.updateStatus(List.of(goalRoom.getId()), GoalRoomStatus.RUNNING,
+                        LocalDateTime.now()));
+        scenarios.put("GoalRoomRepository.findRoadmapIdsByEndDateAndStatusNot",
+                () -> goalRoomRepository.findRoadmapIdsByEndDateAndStatusNot(TODAY, GoalRoomStatus.COMPLETED));
+        scenarios.put("GoalRoomRepository.updateStatusByEndDate",
+                () -> goalRoomRepository.updateStatusByEndDate(TODAY, GoalRoomStatus.COMPLETED, LocalDateTime.now()));
+        scenarios.put("GoalRoomRepository.findIdsByRoadmapIds",
+                () -> goalRoomRepository.findIdsByRoadmapIds(List.of(roadmap.getId())));
+        scenarios.put("GoalRoomRepository.deleteToDoChecksByGoalRoomIds",
+                () -> goalRoomRepository.deleteToDoChecksByGoalRoomIds(UNKNOWN_IDS));
+        scenarios.put("GoalRoomRepository.findCheckFeedFilePathsByGoalRoomIds",
+                () -> goalRoomRepository.findCheckFeedFilePathsByGoalRoomIds(List.of(goalRoom.getId()),
+                        CheckFeedImageStatus.READY));
+        scenarios.put("GoalRoomRepository.deleteCheckFeedsByGoalRoomIds",
+                () -> goalRoomRepository.deleteCheckFeedsByGoalRoomIds(UNKNOWN_IDS));
+        scenarios.put("GoalRoomRepository.deleteMembersByGoalRoomIds",
+                () -> goalRoomRepository.deleteMembersByGoalRoomIds(UNKNOWN_IDS));
+        scenarios.put("GoalRoomRepository.deleteToDosByGoalRoomIds",
+                () -> goalRoomRepository.deleteToDosByGoalRoomIds(UNKNOWN_IDS));
+        scenarios.put("GoalRoomRepository.deleteRoadmapNodesByGoalRoomIds",
+                () -> goalRoomRepository.deleteRoadmapNodesByGoalRoomIds(UNKNOWN_IDS));
+        scenarios.put("GoalRoomRepository.deleteAllByIds",
+                () -> goalRoomRepository.deleteAllByIds(UNKNOWN_IDS));
+
+        scenarios.put("GoalRoomToDoCheckRepository.findByGoalRoomIdAndTodoAndMemberIdentifier",
+                () -> goalRoomToDoCheckRepository.findByGoalRoomIdAndTodoAndMemberIdentifier(goalRoom.getId(),
+                        goalRoomToDo, identifier));
+        scenarios.put("GoalRoomToDoCheckRepository.findByGoalRoomIdAndMemberIdentifier",
+                () -> goalRoomToDoCheckRepository.findByGoalRoomIdAndMemberIdentifier(goalRoom.getId(),
+                        identifier));
+        scenarios.put("GoalRoomToDoCheckRepository.deleteByGoalRoomMemberAndToDoId",
+                () -> goalRoomToDoCheckRepository.deleteByGoalRoomMemberAndToDoId(goalRoomMember,
+                        goalRoomToDo.getId()));
+
+        scenarios.put("MemberQueryRepository.findWithMemberProfileAndImageByIdentifier",
+                () -> memberRepository.findWithMemberProfileAndImageByIdentifier(identifier.getValue()));
+        scenarios.put("MemberQueryRepository.findWithMemberProfileAndImageById",
+                () -> memberRepository.findWithMemberProfileAndImageById(member.getId()));
+        scenarios.put("MemberRepository.findByIdentifier",
+                () -> memberRepository.findByIdentifier(identifier));
+        scenarios.put("MemberRepository.findIdByIdentifier",
+                () -> memberRepository.findIdByIdentifier(identifier));
+        scenarios.put("MemberRepository.findByNickname",
+                () -> memberRepository.findByNickname(member.getNickname()));
+
+        scenarios.put("RoadmapContentRepository.findFirstByRoadmapOrderByCreatedAtDesc",
+                () -> roadmapContentRepository.findFirstByRoadmapOrderByCreatedAtDesc(roadmap));
+        scenarios.put("RoadmapContentRepository.findByIdWithRoadmap",
+                () -> roadmapContentRepository.findByIdWithRoadmap(roadmapContent.getId()));
+        scenarios.put("RoadmapNodeRepository.findAllByRoadmapContent",
+                () -> roadmapNodeRepository.findAllByRoadmapContent(roadmapContent));
+
+        scenarios.put("RoadmapQueryRepository.findRoadmapById",
+                () -> roadmapRepository.findRoadmapById(roadmap.getId()));
+        scenarios.put("RoadmapQueryRepository.findRoadmapsByCategory",
+                () -> Arrays.stream(RoadmapOrderType.values())
+                        .forEach(orderType -> {
+                            roadmapRepository.findRoadmapsByCategory(category, orderType, null, 10);
+                            roadmapRepository.findRoadmapsByCategory(category, orderType, roadmapCursor, 10);
+                            roadmapRepository.findRoadmapsByCategory(null, orderType, roadmapCursor, 10);
+                        }));
+        scenarios.put("RoadmapQueryRepository.findRoadmapsByCond",
+                () -> Arrays.stream(RoadmapOrderType.values())
+                        .forEach(orderType -> {
+                            roadmapRepository.findRoadmapsByCond(RoadmapSearchDto.create("코끼리", null, null),
+                                    orderType, roadmapCursor, 10);
+                            roadmapRepository.findRoadmapsByCond(RoadmapSearchDto.create(null, "로드맵", null)
+                                    .withRoadmapIds(Set.of(roadmap.getId())), orderType, roadmapCursor, 10);
+                        }));
+        scenarios.put("RoadmapQueryRepository.findRoadmapsByIds",
+                () -> roadmapRepository.findRoadmapsByIds(List.of(roadmap.getId())));
+        scenarios.put("RoadmapQueryRepository.findRoadmapsWithCategoryByMemberOrderByLatest",
+                () -> {
+                    roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(member, null, 10);
+                    roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(member, roadmapCursor, 10);
+                });
+        scenarios.put("RoadmapQueryRepository.findByIdAndMemberIdentifier",
+                () -> roadmapRepository.findByIdAndMemberIdentifier(roadmap.getId(), identifier.getValue()));
+        scenarios.put("RoadmapRepository.findSearchDocumentsAfter",
+                () -> roadmapRepository.findSearchDocumentsAfter(RoadmapStatus.CREATED, 0L, PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findSearchDocumentsCreatedSince",
+                () -> roadmapRepository.findSearchDocumentsCreatedSince(RoadmapStatus.CREATED,
+                        LocalDateTime.now().minusMinutes(5), 0L, PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findIdsDeletedSince",
+                () -> roadmapRepository.findIdsDeletedSince(RoadmapStatus.DELETED, LocalDateTime.now().minusMinutes(5),
+                        0L, PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findSimilarityDocumentsAfter",
+                () -> roadmapRepository.findSimilarityDocumentsAfter(RoadmapStatus.CREATED, 0L,
+                        PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findSimilarityDocumentsCreatedSince",
+                () -> roadmapRepository.findSimilarityDocumentsCreatedSince(RoadmapStatus.CREATED,
+                        LocalDateTime.now().minusMinutes(5), 0L, PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findTagNamesByRoadmapIds",
+                () -> roadmapRepository.findTagNamesByRoadmapIds(List.of(roadmap.getId())));
+        scenarios.put("RoadmapRepository.findSuggestionDocumentsByRoadmapIds",
+                () -> roadmapRepository.findSuggestionDocumentsByRoadmapIds(List.of(roadmap.getId())));
+        scenarios.put("RoadmapRepository.findPurgeTargets",
+                () -> roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                        TODAY.minusMonths(3), PageRequest.of(0, 10)));
+        scenarios.put("RoadmapRepository.findNodeImageFilePathsByRoadmapIds",
+                () -> roadmapRepository.findNodeImageFilePathsByRoadmapIds(List.of(roadmap.getId())));
+        scenarios.put("RoadmapRepository.deleteNodeImagesByRoadmapIds",
+                () -> roadmapRepository.deleteNodeImagesByRoadmapIds(UNKNOWN_IDS));
+        scenarios.put("RoadmapRepository.deleteNodesByRoadmapIds",
+                () -> roadmapRepository.deleteNodesByRoadmapIds(UNKNOWN_IDS));
+        scenarios.put("RoadmapRepository.deleteContentsByRoadmapIds",
+                () -> roadmapRepository.deleteContentsByRoadmapIds(UNKNOWN_IDS));
+        scenarios.put("RoadmapRepository.deleteTagsByRoadmapIds",
+                () -> roadmapRepository.deleteTagsByRoadmapIds(UNKNOWN_IDS));
+        scenarios.put("RoadmapRepository.deleteReviewsByRoadmapIds",
+                () -> roadmapRepository.deleteReviewsByRoadmapIds(UNKNOWN_IDS));
+        scenarios.put("RoadmapRepository.deleteAllByIds",
+                () -> roadmapRepository.deleteAllByIds(UNKNOWN_IDS));
+
+        scenarios.put("RoadmapReviewQueryRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest",
+                () -> {
+                    roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(roadmap, null, 10);
+                    roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(roadmap,
+                            ScrollCursor.from(roadmap.getId()), 10);
+                });
+        scenarios.put("RoadmapReviewRepository.findByRoadmapAndMember",
+                () -> roadmapReviewRepository.findByRoadmapAndMember(roadmap, member));
+
+        scenarios.put("RoadmapStatsRepository.increaseGoalRoomCount",
+                () -> roadmapStatsRepository.increaseGoalRoomCount(roadmap.getId()));
+        scenarios.put("RoadmapStatsRepository.increaseParticipantCount",
+                () -> roadmapStatsRepository.increaseParticipantCount(roadmap.getId(), 1L));
+        scenarios.put("RoadmapStatsRepository.addReview",
+                () -> roadmapStatsRepository.addReview(roadmap.getId(), 5.0));
+        scenarios.put("RoadmapStatsRepository.findSortKeysAfter",
+                () -> roadmapStatsRepository.findSortKeysAfter(0L, PageRequest.of(0, 10)));
+        scenarios.put("RoadmapStatsRepository.findRoadmapIdsAfter",
+                () -> roadmapStatsRepository.findRoadmapIdsAfter(0L, roadmap.getId(), PageRequest.of(0, 10)));
+        scenarios.put("RoadmapStatsRepository.insertMissingStats",
+                () -> roadmapStatsRepository.insertMissingStats(0L, roadmap.getId()));
+        scenarios.put("RoadmapStatsRepository.reconcileBetween",
+                () -> roadmapStatsRepository.reconcileBetween(0L, roadmap.getId()));
+        scenarios.put("RoadmapStatsRepository.findMaxRoadmapId",
+                roadmapStatsRepository::findMaxRoadmapId);
+        scenarios.put("RoadmapStatsRepository.deleteOrphans",
+                roadmapStatsRepository::deleteOrphans);
+
+        scenarios.put("SchedulerLeaseRepository.acquire",
+                () -> schedulerLeaseRepository.acquire(LEASE_NAME, "owner", 60_000_000L));
+        scenarios.put("SchedulerLeaseRepository.create",
+                () -> schedulerLeaseRepository.create(LEASE_NAME + "#create", "owner", 60_000_000L));
+        scenarios.put("SchedulerLeaseRepository.release",
+                () -> schedulerLeaseRepository.release(LEASE_NAME, "owner", 0L));
+        return scenarios;
+    }
+
+    private List<String> 실행_계획을_검증한다(final String scenarioName, final Runnable scenario) {
+        SqlStatementCaptor.start();
+        try {
+            scenario.run();
+            testEntityManager.flush();
+        } finally {
+            testEntityManager.clear();
+        }
+        final List<String> executedStatements = SqlStatementCaptor.stop();
+        if (executedStatements.isEmpty()) {
+            return List.of(scenarioName + " : 실행된 쿼리가 없습니다.");
+        }
+        final List<String> statements = executedStatements.stream()
+                .filter(statement -> !statement.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert"))
+                .toList();
+        final List<String> violations = new ArrayList<>();
+        for (final String statement : statements) {
+            final String plan = 실행_계획을_조회한다(statement);
+            final String violation = 실행_계획의_위반_사항을_찾는다(scenarioName, statement, plan);
+            if (violation != null) {
+                violations.add(scenarioName + " : " + violation + System.lineSeparator() + plan);
+            }
+        }
+        return violations;
+    }
+
+    private String 실행_계획의_위반_사항을_찾는다(final String scenarioName, final String sql, final String plan) {
+        final Map<String, String> aliasTables = new HashMap<>();
+        final Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            final String table = matcher.group(1);
+            final String index = matcher.group(3);
+            if (ALLOWED_FULL_SCANS.containsKey(scenarioName)) {
+                continue;
+            }
+            if (index.endsWith(TABLE_SCAN)) {
+                return table + " 테이블을 풀스캔합니다.";
+            }
+            if (matcher.group(4) == null && !plan.contains(INDEX_SORTED)) {
+                return table + " 테이블의 " + index + " 인덱스를 풀스캔합니다.";
+            }
+            aliasTables.putIfAbsent(matcher.group(2) == null ? table : matcher.group(2), table);
+        }
+        if (plan.contains(INDEX_SORTED) || ALLOWED_FILESORTS.containsKey(scenarioName)) {
+            return null;
+        }
+        return 파일정렬_위반_사항을_찾는다(sql, aliasTables);
+    }
+
+    private String 파일정렬_위반_사항을_찾는다(final String sql, final Map<String, String> aliasTables) {
+        final Matcher orderByMatcher = ORDER_BY.matcher(sql);
+        String orderBy = null;
+        while (orderByMatcher.find()) {
+            orderBy = orderByMatcher.group(1);
+        }
+        if (orderBy == null) {
+            return null;
+        }
+        final List<IndexColumn> orderColumns = new ArrayList<>();
+        final Set<String> aliases = new TreeSet<>();
+        for (final String orderItem : orderBy.split(",")) {
+            final Matcher orderColumnMatcher = ORDER_COLUMN.matcher(orderItem.strip());
+            if (!orderColumnMatcher.matches()) {
+                return "정렬식 " + orderItem.strip() + " 때문에 파일정렬이 발생합니다.";
+            }
+            aliases.add(orderColumnMatcher.group(1).toUpperCase(Locale.ROOT));
+            orderColumns.add(new IndexColumn(orderColumnMatcher.group(2).toUpperCase(Locale.ROOT),
+                    DESC.equalsIgnoreCase(orderColumnMatcher.group(3))));
+        }
+        final String alias = aliases.iterator().next();
+        if (aliases.size() != 1 || !aliasTables.containsKey(alias)) {
+            return "여러 테이블의 컬럼 " + orderBy.strip() + " 으로 정렬해 파일정렬이 발생합니다.";
+        }
+        final String table = aliasTables.get(alias);
+        final Set<String> equalityColumns = 상수와_비교하는_컬럼들을_찾는다(sql, alias);
+        final boolean sortable = 인덱스_컬럼들을_조회한다(table).values()
+                .stream()
+                .anyMatch(indexColumns -> 인덱스로_정렬할_수_있다(indexColumns, equalityColumns, orderColumns));
+        if (!sortable) {
+            return table + " 테이블에 " + orderBy.strip() + " 정렬을 대신할 인덱스가 없어 파일정렬이 발생합니다.";
+        }
+        return null;
+    }
+
+    private Set<String> 상수와_비교하는_컬럼들을_찾는다(final String sql, final String alias) {
+        final Pattern equality = Pattern.compile("\\b" + alias + "\\.(\\w+)\\s*=\\s*\\?",
+                Pattern.CASE_INSENSITIVE);
+        final Matcher matcher = equality.matcher(sql);
+        final Set<String> equalityColumns = new TreeSet<>();
+        while (matcher.find()) {
+            equalityColumns.add(matcher.group(1).toUpperCase(Locale.ROOT));
+        }
+        return equalityColumns;
+    }
+
+    private boolean 인덱스로_정렬할_수_있다(final List<IndexColumn> indexColumns, final Set<String> equalityColumns,
+                                 final List<IndexColumn> orderColumns) {
+        for (int start = 0; start + orderColumns.size() <= indexColumns.size(); start++) {
+            if (start > 0 && !equalityColumns.contains(indexColumns.get(start - 1).name())) {
+                return false;
+            }
+            if (같은_순서로_정렬된다(indexColumns.subList(start, start + orderColumns.size()), orderColumns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean 같은_순서로_정렬된다(final List<IndexColumn> indexColumns, final List<IndexColumn> orderColumns) {
+        boolean forward = true;
+        boolean backward = true;
+        for (int index = 0; index < orderColumns.size(); index++) {
+            final IndexColumn indexColumn = indexColumns.get(index);
+            final IndexColumn orderColumn = orderColumns.get(index);
+            if (!indexColumn.name().equals(orderColumn.name())) {
+                return false;
+            }
+            forward &= indexColumn.descending() == orderColumn.descending();
+            backward &= indexColumn.descending() != orderColumn.descending();
+        }
+        return forward || backward;
+    }
+
+    private Map<String, List<IndexColumn>> 인덱스_컬럼들을_조회한다(final String table) {
+        final Map<String, List<IndexColumn>> indexes = testEntityManager.getEntityManager()
+                .unwrap(Session.class)
+                .doReturningWork(connection -> {
+                    final Map<String, List<IndexColumn>> result = new HashMap<>();
+                    try (final PreparedStatement statement = connection.prepareStatement(
+                            "SELECT INDEX_NAME, COLUMN_NAME, ORDERING_SPECIFICATION"
+                                    + " FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                                    + " WHERE TABLE_NAME = ? ORDER BY INDEX_NAME, ORDINAL_POSITION")) {
+                        statement.setString(1, table);
+                        try (final ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                result.computeIfAbsent(resultSet.getString(1), key -> new ArrayList<>())
+                                        .add(new IndexColumn(resultSet.getString(2),
+                                                DESC.equalsIgnoreCase(resultSet.getString(3))));
+                            }
+                        }
+                    }
+                    return result;
+                });
+        indexes.values().forEach(indexColumns -> {
+            if (indexColumns.stream().noneMatch(indexColumn -> indexColumn.name().equals(PRIMARY_KEY_COLUMN))) {
+                indexColumns.add(new IndexColumn(PRIMARY_KEY_COLUMN, false));
+            }
+        });
+        return indexes;
+    }
+
+    private String 실행_계획을_조회한다(final String sql) {
+        return testEntityManager.getEntityManager()
+                .unwrap(Session.class)
+                .doReturningWork(connection -> {
+                    try (final PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                         final ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        return resultSet.getString(1);
+                    }
+                });
+    }
+
+    private void SQL을_실행한다(final String sql) {
+        testEntityManager.getEntityManager()
+                .unwrap(Session.class)
+                .doWork(connection -> {
+                    try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                        statement.execute();
+                    }
+                });
+    }
+
+    private void 마이그레이션의_인덱스를_생성한다() {
+        for (final Resource migration : 마이그레이션_파일들을_찾는다()) {
+            final Matcher matcher = CREATE_INDEX.matcher(마이그레이션을_읽는다(migration));
+            while (matcher.find()) {
+                SQL을_실행한다("CREATE INDEX IF NOT EXISTS " + matcher.group(1)
+                        + " ON " + matcher.group(2) + " (" + matcher.group(3) + ")");
+            }
+        }
+    }
+
+    private List<Resource> 마이그레이션_파일들을_찾는다() {
+        try {
+            return Arrays.stream(new PathMatchingResourcePatternResolver().getResources(MIGRATION_LOCATION))
+                    .sorted(Comparator.comparing(Resource::getFilename))
+                    .toList();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String 마이그레이션을_읽는다(final Resource migration) {
+        try (final InputStream inputStream = migration.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private Set<String> 레포지토리_메서드_이름들을_찾는다() {
+        final ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false) {
+                    @Override
+                    protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+                        return beanDefinition.getMetadata().isInterface();
+                    }
+                };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) ->
+                metadataReader.getClassMetadata().getClassName().endsWith("Repository"));
+        final Set<String> methodNames = new TreeSet<>();
+        for (final BeanDefinition beanDefinition : scanner.findCandidateComponents(PERSISTENCE_PACKAGE)) {
+            final Class<?> repository = ClassUtils.resolveClassName(beanDefinition.getBeanClassName(),
+                    getClass().getClassLoader());
+            for (final Method method : repository.getDeclaredMethods()) {
+                if (!method.isSynthetic() && !method.isDefault()) {
+                    methodNames.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return methodNames;
+    }
+
+    private void 테스트_데이터를_저장한다() {
+        member = 사용자를_저장한다("cokiri", "코끼리");
+        final Member follower = 사용자를_저장한다("follower", "팔로워");
+        refreshTokenRepository.save(new RefreshToken(new EncryptedToken("refresh-token"),
+                LocalDateTime.now().plusDays(1), member));
+        storedFileRepository.save(new StoredFile("digest", "server-file-path", null, null, 1, false));
+
+        category = roadmapCategoryRepository.save(new RoadmapCategory("여가"));
+        roadmap = 로드맵을_저장한다(member, category);
+        roadmapContent = roadmap.getContents().getValues().get(0);
+        final RoadmapReview roadmapReview = new RoadmapReview("리뷰", 5.0, follower);
+        roadmap.addReview(roadmapReview);
+        roadmapReviewRepository.save(roadmapReview);
+        roadmapStatsRepository.save(new RoadmapStats(roadmap.getId()));
+        final Roadmap otherRoadmap = 로드맵을_저장한다(follower, category);
+        roadmapStatsRepository.save(new RoadmapStats(otherRoadmap.getId()));
+
+        goalRoom = 골룸을_저장한다(roadmapContent, member);
+        goalRoomRoadmapNode = goalRoom.getGoalRoomRoadmapNodes().getValues().get(0);
+        goalRoomToDo = goalRoom.findLastGoalRoomTodo();
+        goalRoomMember = goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom, member));
+        goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), goalRoom, follower));
+        goalRoomToDoCheckRepository.save(new GoalRoomToDoCheck(goalRoomMember, goalRoomToDo));
+        checkFeed = checkFeedRepository.save(new CheckFeed("server-file-path", ImageContentType.PNG,
+                "original-file-name", "인증 피드", goalRoomRoadmapNode, goalRoomMember));
+        골룸을_저장한다(otherRoadmap.getContents().getValues().get(0), follower);
+    }
+
+    private Member 사용자를_저장한다(final String identifier, final String nickname) {
+        final MemberImage memberImage = new MemberImage("originalFileName", "serverFilePath", ImageContentType.PNG);
+        final MemberProfile memberProfile = new MemberProfile(Gender.MALE,
+                LocalDate.of(1990, 1, 1), "010-1234-5678");
+        return memberRepository.save(new Member(new Identifier(identifier),
+                new EncryptedPassword(new Password("password1!")), new Nickname(nickname), memberImage,
+                memberProfile));
+    }
+
+    private Roadmap 로드맵을_저장한다(final Member creator, final RoadmapCategory category) {
+        final RoadmapContent content = new RoadmapContent("로드맵 본문");
+        content.addNodes(new RoadmapNodes(List.of(new RoadmapNode("로드맵 1주차", "로드맵 1주차 내용"))));
+        final Roadmap newRoadmap = new Roadmap("로드맵 제목", "로드맵 소개글", 10, RoadmapDifficulty.NORMAL, creator,
+                category);
+        newRoadmap.addContent(content);
+        newRoadmap.addTags(new RoadmapTags(List.of(new RoadmapTag(new RoadmapTagName("자바")))));
+        return roadmapRepository.save(newRoadmap);
+    }
+
+    private GoalRoom 골룸을_저장한다(final RoadmapContent content, final Member leader) {
+        final GoalRoom newGoalRoom = new GoalRoom(new GoalRoomName("골룸"), new LimitedMemberCount(10), content,
+                leader);
+        newGoalRoom.addAllGoalRoomRoadmapNodes(new GoalRoomRoadmapNodes(List.of(
+                new GoalRoomRoadmapNode(new Period(TODAY, TODAY.plusDays(10)), 5,
+                        content.getNodes().getValues().get(0)))));
+        newGoalRoom.addGoalRoomTodo(
+                new GoalRoomToDo(new GoalRoomTodoContent("투두"), new Period(TODAY, TODAY.plusDays(3))));
+        return goalRoomRepository.save(newGoalRoom);
+    }
+
+    private record IndexColumn(
+            String name,
+            boolean descending
+    ) {
+    }
+}
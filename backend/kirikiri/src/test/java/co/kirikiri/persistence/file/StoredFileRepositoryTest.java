@@ -0,0 +1,127 @@
+package co.kirikiri.persistence.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.persistence.helper.RepositoryTest;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+@RepositoryTest
+class StoredFileRepositoryTest {
+
+    private static final String DIGEST = "8be97fc7ef72c3a5fa16d84e62f6a53f6167b8ef1aad6aacf26c025ac1fdcf4a";
+    private static final String SERVER_FILE_PATH = "/content/8b/" + DIGEST + ".jpeg";
+    private static final LocalDateTime RELEASED_AT = LocalDateTime.of(2023, 8, 15, 12, 0);
+
+    private final StoredFileRepository storedFileRepository;
+
+    public StoredFileRepositoryTest(final StoredFileRepository storedFileRepository) {
+        this.storedFileRepository = storedFileRepository;
+    }
+
+    @Test
+    void 저장된_파일을_참조하면_참조_횟수가_증가한다() {
+        //given
+        storedFileRepository.save(new StoredFile(DIGEST, SERVER_FILE_PATH, null, null, 1, false));
+
+        //when
+        final int updatedCount = storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH);
+
+        //then
+        final StoredFile storedFile = storedFileRepository.findByServerFilePath(SERVER_FILE_PATH).get();
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(storedFile.getReferenceCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 저장되지_않은_파일을_참조하면_변경되는_행이_없다() {
+        //given
+        //when
+        final int updatedCount = storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH);
+
+        //then
+        assertThat(updatedCount).isZero();
+    }
+
+    @Test
+    void 참조를_해제하면_참조_횟수가_감소하고_0보다_작아지지_않는다() {
+        //given
+        storedFileRepository.save(new StoredFile(DIGEST, SERVER_FILE_PATH, null, null, 1, false));
+
+        //when
+        storedFileRepository.decreaseReferenceCount(SERVER_FILE_PATH, RELEASED_AT);
+        storedFileRepository.decreaseReferenceCount(SERVER_FILE_PATH, RELEASED_AT.plusMinutes(1));
+
+        //then
+        final StoredFile storedFile = storedFileRepository.findByServerFilePath(SERVER_FILE_PATH).get();
+        assertThat(storedFile.getReferenceCount()).isZero();
+        assertThat(storedFile.getReleasedAt()).isEqualTo(RELEASED_AT);
+    }
+
+    @Test
+    void 유예_기간_전에_참조가_모두_해제된_파일만_조회한다() {
+        //given
+        final StoredFile released = 참조가_해제된_파일을_저장한다(SERVER_FILE_PATH, RELEASED_AT);
+        참조가_해제된_파일을_저장한다("/content/00/released-recently.jpeg", RELEASED_AT.plusHours(2));
+        storedFileRepository.save(new StoredFile(DIGEST, "/content/00/referenced.jpeg", null, null, 1, true));
+
+        //when
+        final List<StoredFile> storedFiles = storedFileRepository.findReleasedBefore(RELEASED_AT.plusHours(1), 0L,
+                PageRequest.of(0, 10));
+
+        //then
+        assertThat(storedFiles).extracting(StoredFile::getServerFilePath)
+                .containsExactly(released.getServerFilePath());
+    }
+
+    @Test
+    void 유예_기간_전에_참조가_모두_해제된_파일을_삭제한다() {
+        //given
+        final StoredFile released = 참조가_해제된_파일을_저장한다(SERVER_FILE_PATH, RELEASED_AT);
+
+        //when
+        final int deletedCount = storedFileRepository.deleteReleasedBefore(released.getId(), RELEASED_AT.plusHours(1));
+
+        //then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH)).isEmpty();
+    }
+
+    @Test
+    void 삭제_전에_다시_참조된_파일은_삭제하지_않는다() {
+        //given
+        final StoredFile released = 참조가_해제된_파일을_저장한다(SERVER_FILE_PATH, RELEASED_AT);
+        storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH);
+
+        //when
+        final int deletedCount = storedFileRepository.deleteReleasedBefore(released.getId(), RELEASED_AT.plusHours(1));
+
+        //then
+        assertThat(deletedCount).isZero();
+        assertThat(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH)).isPresent();
+    }
+
+    @Test
+    void 업로드가_완료되면_파생_이미지_경로와_함께_기록한다() {
+        //given
+        storedFileRepository.save(new StoredFile(DIGEST, SERVER_FILE_PATH, null, null, 1, false));
+
+        //when
+        storedFileRepository.updateUploaded(SERVER_FILE_PATH, "thumbnailFilePath", "mediumFilePath");
+
+        //then
+        final StoredFile storedFile = storedFileRepository.findByServerFilePath(SERVER_FILE_PATH).get();
+        assertThat(storedFile.isUploaded()).isTrue();
+        assertThat(storedFile.getThumbnailFilePath()).isEqualTo("thumbnailFilePath");
+        assertThat(storedFile.getMediumFilePath()).isEqualTo("mediumFilePath");
+    }
+
+    private StoredFile 참조가_해제된_파일을_저장한다(final String serverFilePath, final LocalDateTime releasedAt) {
+        storedFileRepository.save(new StoredFile(DIGEST, serverFilePath, null, null, 1, true));
+        storedFileRepository.decreaseReferenceCount(serverFilePath, releasedAt);
+        return storedFileRepository.findByServerFilePath(serverFilePath).get();
+    }
+}
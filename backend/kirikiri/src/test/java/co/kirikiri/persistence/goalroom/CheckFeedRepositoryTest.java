@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import co.kirikiri.domain.ImageContentType;
 import co.kirikiri.domain.goalroom.CheckFeed;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
 import co.kirikiri.domain.goalroom.GoalRoom;
 import co.kirikiri.domain.goalroom.GoalRoomMember;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
@@ -434,6 +435,35 @@ class CheckFeedRepositoryTest {
                 .isEqualTo(List.of(expected2, expected2, expected2, expected1, expected1, expected1));
     }
 
+    @Test
+    void 기준_시각_이전에_등록된_대기중인_인증_피드_이미지를_실패로_변경한다() {
+        //given
+        final Member creator = 사용자를_저장한다("cokiri", "코끼리");
+        final RoadmapCategory category = 카테고리를_저장한다("여가");
+        final Roadmap roadmap = 로드맵을_저장한다(creator, category);
+
+        final RoadmapContent targetRoadmapContent = roadmap.getContents().getValues().get(0);
+        final GoalRoom goalRoom = 골룸을_저장한다(targetRoadmapContent, creator);
+        final GoalRoomMember leader = goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom, creator));
+        인증_피드를_저장한다(goalRoom.getGoalRoomRoadmapNodes().getValues().get(0), leader);
+
+        //when
+        final int notExpiredCount = checkFeedRepository.updateImageStatusCreatedBefore(CheckFeedImageStatus.PENDING,
+                LocalDateTime.now().minusMinutes(30), CheckFeedImageStatus.FAILED);
+        final int expiredCount = checkFeedRepository.updateImageStatusCreatedBefore(CheckFeedImageStatus.PENDING,
+                LocalDateTime.now().plusMinutes(1), CheckFeedImageStatus.FAILED);
+        final int alreadyFailedCount = checkFeedRepository.updateImageStatusCreatedBefore(
+                CheckFeedImageStatus.PENDING, LocalDateTime.now().plusMinutes(1), CheckFeedImageStatus.FAILED);
+
+        //then
+        assertAll(
+                () -> assertThat(notExpiredCount).isZero(),
+                () -> assertThat(expiredCount).isEqualTo(1),
+                () -> assertThat(alreadyFailedCount).isZero()
+        );
+    }
+
     private Member 사용자를_저장한다(final String identifier, final String nickname) {
         final MemberImage memberImage = new MemberImage("originalFileName", "serverFilePath", ImageContentType.PNG);
         final MemberProfile memberProfile = new MemberProfile(Gender.MALE,
@@ -28,6 +28,7 @@ import co.kirikiri.domain.roadmap.RoadmapNode;
 import co.kirikiri.domain.roadmap.RoadmapNodeImage;
 import co.kirikiri.domain.roadmap.RoadmapNodeImages;
 import co.kirikiri.domain.roadmap.RoadmapNodes;
+import co.kirikiri.persistence.dto.GoalRoomParticipationDto;
 import co.kirikiri.persistence.goalroom.dto.GoalRoomMemberSortType;
 import co.kirikiri.persistence.helper.RepositoryTest;
 import co.kirikiri.persistence.member.MemberRepository;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 @RepositoryTest
 class GoalRoomMemberRepositoryTest {
@@ -293,6 +295,34 @@ class GoalRoomMemberRepositoryTest {
                 .isEqualTo(goalRoomMember);
     }
 
+    @Test
+    void 유사도_계산을_위해_골룸_멤버의_참여_로드맵을_아이디순으로_조회한다() {
+        // given
+        final Member creator = 크리에이터를_저장한다();
+        final Member member = 사용자를_생성한다("identifier1", "password!1", "name1", "01011111111");
+        final RoadmapCategory category = 카테고리를_저장한다("여가");
+        final Roadmap roadmap = 로드맵을_저장한다(creator, category);
+        final RoadmapContent targetRoadmapContent = roadmap.getContents().getValues().get(0);
+
+        final GoalRoom goalRoom = goalRoomRepository.save(골룸을_생성한다(targetRoadmapContent, creator));
+        final GoalRoomMember goalRoomMember1 = goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom, creator));
+        final GoalRoomMember goalRoomMember2 = goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), goalRoom, member));
+
+        // when
+        final List<GoalRoomParticipationDto> firstParticipations = goalRoomMemberRepository.findParticipationsAfter(
+                0L, PageRequest.of(0, 1));
+        final List<GoalRoomParticipationDto> secondParticipations = goalRoomMemberRepository.findParticipationsAfter(
+                goalRoomMember1.getId(), PageRequest.of(0, 1));
+
+        // then
+        assertThat(firstParticipations).isEqualTo(List.of(
+                new GoalRoomParticipationDto(goalRoomMember1.getId(), creator.getId(), roadmap.getId())));
+        assertThat(secondParticipations).isEqualTo(List.of(
+                new GoalRoomParticipationDto(goalRoomMember2.getId(), member.getId(), roadmap.getId())));
+    }
+
     private Member 크리에이터를_저장한다() {
         final MemberImage memberImage = new MemberImage("originalFileName", "serverFilePath", ImageContentType.JPG);
         final MemberProfile memberProfile = new MemberProfile(Gender.MALE, LocalDate.of(1990, 1, 1), "010-1234-5678");
@@ -187,6 +187,32 @@ class GoalRoomPendingMemberRepositoryTest {
         );
     }
 
+    @Test
+    void 골룸_아이디들로_사용자_대기_목록을_삭제한다() {
+        // given
+        final Member creator = 크리에이터를_저장한다();
+        final RoadmapCategory category = 카테고리를_저장한다("게임");
+        final Roadmap roadmap = 로드맵을_저장한다(creator, category);
+        final RoadmapContent targetRoadmapContent = roadmap.getContents().getValues().get(0);
+        final GoalRoom goalRoom1 = goalRoomRepository.save(골룸을_생성한다(targetRoadmapContent, creator));
+        final GoalRoom goalRoom2 = goalRoomRepository.save(골룸을_생성한다(targetRoadmapContent, creator));
+        final GoalRoom goalRoom3 = goalRoomRepository.save(골룸을_생성한다(targetRoadmapContent, creator));
+        final Member follower = 사용자를_생성한다("identifier2", "password!2", "name", "010-1111-1111");
+        goalRoom1.join(follower);
+
+        // when
+        final int deletedCount = goalRoomPendingMemberRepository.deleteAllByGoalRoomIds(
+                List.of(goalRoom1.getId(), goalRoom2.getId()));
+
+        // then
+        Assertions.assertAll(
+                () -> assertThat(deletedCount).isEqualTo(3),
+                () -> assertThat(goalRoomPendingMemberRepository.findAll())
+                        .extracting(GoalRoomPendingMember::getMember)
+                        .containsExactly(creator)
+        );
+    }
+
     @Test
     void 골룸_아이디로_골룸_사용자를_조회하고_들어온지_오래된_순서대로_정렬한다() {
         // given
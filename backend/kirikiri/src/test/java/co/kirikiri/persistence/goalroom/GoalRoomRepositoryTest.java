@@ -3,11 +3,17 @@ package co.kirikiri.persistence.goalroom;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.goalroom.CheckFeed;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
 import co.kirikiri.domain.goalroom.GoalRoom;
+import co.kirikiri.domain.goalroom.GoalRoomMember;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
+import co.kirikiri.domain.goalroom.GoalRoomRole;
 import co.kirikiri.domain.goalroom.GoalRoomStatus;
 import co.kirikiri.domain.goalroom.GoalRoomToDo;
+import co.kirikiri.domain.goalroom.GoalRoomToDoCheck;
 import co.kirikiri.domain.goalroom.vo.GoalRoomName;
 import co.kirikiri.domain.goalroom.vo.GoalRoomTodoContent;
 import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
@@ -25,14 +31,18 @@ import co.kirikiri.domain.roadmap.RoadmapContent;
 import co.kirikiri.domain.roadmap.RoadmapDifficulty;
 import co.kirikiri.domain.roadmap.RoadmapNode;
 import co.kirikiri.domain.roadmap.RoadmapNodes;
+import co.kirikiri.persistence.dto.GoalRoomStartDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
 import co.kirikiri.persistence.helper.RepositoryTest;
 import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
 import co.kirikiri.persistence.roadmap.RoadmapRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 @RepositoryTest
 class GoalRoomRepositoryTest {
@@ -46,15 +56,27 @@ class GoalRoomRepositoryTest {
     private final RoadmapRepository roadmapRepository;
     private final GoalRoomRepository goalRoomRepository;
     private final RoadmapCategoryRepository roadmapCategoryRepository;
+    private final GoalRoomMemberRepository goalRoomMemberRepository;
+    private final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+    private final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository;
+    private final CheckFeedRepository checkFeedRepository;
 
     public GoalRoomRepositoryTest(final MemberRepository memberRepository,
                                   final RoadmapRepository roadmapRepository,
                                   final GoalRoomRepository goalRoomRepository,
-                                  final RoadmapCategoryRepository roadmapCategoryRepository) {
+                                  final RoadmapCategoryRepository roadmapCategoryRepository,
+                                  final GoalRoomMemberRepository goalRoomMemberRepository,
+                                  final GoalRoomPendingMemberRepository goalRoomPendingMemberRepository,
+                                  final GoalRoomToDoCheckRepository goalRoomToDoCheckRepository,
+                                  final CheckFeedRepository checkFeedRepository) {
         this.memberRepository = memberRepository;
         this.roadmapRepository = roadmapRepository;
         this.goalRoomRepository = goalRoomRepository;
         this.roadmapCategoryRepository = roadmapCategoryRepository;
+        this.goalRoomMemberRepository = goalRoomMemberRepository;
+        this.goalRoomPendingMemberRepository = goalRoomPendingMemberRepository;
+        this.goalRoomToDoCheckRepository = goalRoomToDoCheckRepository;
+        this.checkFeedRepository = checkFeedRepository;
     }
 
     @Test
@@ -119,7 +141,7 @@ class GoalRoomRepositoryTest {
         final List<GoalRoom> goalRooms1 = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
                 RoadmapGoalRoomsOrderType.LATEST, null, 1);
         final List<GoalRoom> goalRooms2 = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
-                RoadmapGoalRoomsOrderType.LATEST, goalRoom2.getId(), 10);
+                RoadmapGoalRoomsOrderType.LATEST, ScrollCursor.from(goalRoom2.getId()), 10);
 
         assertThat(goalRooms1)
                 .isEqualTo(List.of(goalRoom2, goalRoom1));
@@ -158,15 +180,47 @@ class GoalRoomRepositoryTest {
         final List<GoalRoom> goalRooms1 = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
                 RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE, null, 1);
         final List<GoalRoom> goalRooms2 = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
-                RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE, goalRoom1.getId(), 10);
+                RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE, ScrollCursor.from(goalRoom1.getId()), 10);
+        final List<GoalRoom> goalRooms3 = goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
+                RoadmapGoalRoomsOrderType.CLOSE_TO_DEADLINE, ScrollCursor.of(TODAY, goalRoom1.getId()), 10);
 
         // then
         assertThat(goalRooms1).isEqualTo(List.of(goalRoom1, goalRoom2));
         assertThat(goalRooms2).isEqualTo(List.of(goalRoom2));
+        assertThat(goalRooms3).isEqualTo(List.of(goalRoom2));
     }
 
     @Test
-    void 골룸의_노드의_시작날짜가_오늘인_골룸을_조회한다() {
+    void 시작날짜가_되었고_모집중인_골룸을_대기_사용자_수와_함께_조회한다() {
+        // given
+        final Member creator = 크리에이터를_저장한다();
+        final RoadmapCategory category = 카테고리를_저장한다("게임");
+        final RoadmapNode roadmapNode1 = 로드맵_노드를_생성한다("로드맵 1주차", "로드맵 1주차 내용");
+        final RoadmapContent roadmapContent = 로드맵_본문을_생성한다(List.of(roadmapNode1));
+        final Roadmap roadmap = 로드맵을_생성한다(creator, category, roadmapContent);
+
+        final GoalRoom goalRoom1 = 골룸을_생성한다("goalroom1", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator);
+        final GoalRoom goalRoom2 = 골룸을_생성한다("goalroom2", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator);
+        final GoalRoom goalRoom3 = 골룸을_생성한다("goalroom3", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TEN_DAY_LATER, TWENTY_DAY_LAYER,
+                        roadmapNode1))), creator);
+        goalRoom1.join(사용자를_생성한다("name2", "01011112222", "identifier2", "password!2"));
+        goalRoom2.start();
+        goalRoomRepository.saveAll(List.of(goalRoom1, goalRoom2, goalRoom3));
+
+        // when
+        final List<GoalRoomStartDto> startTargets = goalRoomRepository.findStartTargets(TODAY,
+                GoalRoomStatus.RECRUITING, PageRequest.ofSize(10));
+
+        // then
+        assertThat(startTargets)
+                .containsExactly(new GoalRoomStartDto(goalRoom1.getId(), roadmap.getId(), 2L));
+    }
+
+    @Test
+    void 골룸_아이디들로_골룸의_상태를_한_번에_변경한다() {
         // given
         final Member creator = 크리에이터를_저장한다();
         final RoadmapCategory category = 카테고리를_저장한다("게임");
@@ -174,32 +228,108 @@ class GoalRoomRepositoryTest {
         final RoadmapContent roadmapContent = 로드맵_본문을_생성한다(List.of(roadmapNode1));
         로드맵을_생성한다(creator, category, roadmapContent);
 
-        final GoalRoomRoadmapNode goalRoomRoadmapNode1 = 골룸_로드맵_노드를_생성한다(TODAY, TODAY.plusDays(10),
-                roadmapNode1);
-        final GoalRoomRoadmapNode goalRoomRoadmapNode2 = 골룸_로드맵_노드를_생성한다(TODAY, TODAY.plusDays(10),
-                roadmapNode1);
-        final GoalRoomRoadmapNode goalRoomRoadmapNode3 = 골룸_로드맵_노드를_생성한다(TODAY.plusDays(10), TODAY.plusDays(20),
-                roadmapNode1);
+        final GoalRoom goalRoom1 = goalRoomRepository.save(골룸을_생성한다("goalroom1", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator));
+        final GoalRoom goalRoom2 = goalRoomRepository.save(골룸을_생성한다("goalroom2", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator));
+
+        // when
+        final int updatedCount = goalRoomRepository.updateStatus(List.of(goalRoom1.getId()), GoalRoomStatus.RUNNING,
+                LocalDateTime.now());
+
+        // then
+        assertAll(
+                () -> assertThat(updatedCount).isEqualTo(1),
+                () -> assertThat(goalRoomRepository.findById(goalRoom1.getId()).get().getStatus())
+                        .isEqualTo(GoalRoomStatus.RUNNING),
+                () -> assertThat(goalRoomRepository.findById(goalRoom2.getId()).get().getStatus())
+                        .isEqualTo(GoalRoomStatus.RECRUITING)
+        );
+    }
+
+    @Test
+    void 종료날짜가_된_골룸들을_한_번에_종료하고_골룸의_로드맵_아이디를_조회한다() {
+        // given
+        final Member creator = 크리에이터를_저장한다();
+        final RoadmapCategory category = 카테고리를_저장한다("게임");
+        final RoadmapNode roadmapNode1 = 로드맵_노드를_생성한다("로드맵 1주차", "로드맵 1주차 내용");
+        final RoadmapContent roadmapContent = 로드맵_본문을_생성한다(List.of(roadmapNode1));
+        final Roadmap roadmap = 로드맵을_생성한다(creator, category, roadmapContent);
 
         final GoalRoom goalRoom1 = 골룸을_생성한다("goalroom1", 20, roadmapContent,
-                new GoalRoomRoadmapNodes(List.of(goalRoomRoadmapNode1)), creator);
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator);
         final GoalRoom goalRoom2 = 골룸을_생성한다("goalroom2", 20, roadmapContent,
-                new GoalRoomRoadmapNodes(List.of(goalRoomRoadmapNode2)), creator);
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator);
         final GoalRoom goalRoom3 = 골룸을_생성한다("goalroom3", 20, roadmapContent,
-                new GoalRoomRoadmapNodes(List.of(goalRoomRoadmapNode3)), creator);
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TWENTY_DAY_LAYER, roadmapNode1))),
+                creator);
+        goalRoom2.start();
+        goalRoomRepository.saveAll(List.of(goalRoom1, goalRoom2, goalRoom3));
 
-        final GoalRoom savedGoalRoom1 = goalRoomRepository.save(goalRoom1);
-        final GoalRoom savedGoalRoom2 = goalRoomRepository.save(goalRoom2);
-        goalRoomRepository.save(goalRoom3);
+        // when
+        final List<Long> roadmapIds = goalRoomRepository.findRoadmapIdsByEndDateAndStatusNot(TEN_DAY_LATER,
+                GoalRoomStatus.COMPLETED);
+        final int updatedCount = goalRoomRepository.updateStatusByEndDate(TEN_DAY_LATER, GoalRoomStatus.COMPLETED,
+                LocalDateTime.now());
+
+        // then
+        assertAll(
+                () -> assertThat(roadmapIds).containsExactly(roadmap.getId()),
+                () -> assertThat(updatedCount).isEqualTo(2),
+                () -> assertThat(goalRoomRepository.findById(goalRoom1.getId()).get().getStatus())
+                        .isEqualTo(GoalRoomStatus.COMPLETED),
+                () -> assertThat(goalRoomRepository.findById(goalRoom2.getId()).get().getStatus())
+                        .isEqualTo(GoalRoomStatus.COMPLETED),
+                () -> assertThat(goalRoomRepository.findById(goalRoom3.getId()).get().getStatus())
+                        .isEqualTo(GoalRoomStatus.RECRUITING)
+        );
+    }
+
+    @Test
+    void 로드맵_아이디들로_골룸_아이디를_조회하고_골룸과_하위_데이터를_한_번에_삭제한다() {
+        // given
+        final Member creator = 크리에이터를_저장한다();
+        final RoadmapCategory category = 카테고리를_저장한다("게임");
+        final RoadmapNode roadmapNode1 = 로드맵_노드를_생성한다("로드맵 1주차", "로드맵 1주차 내용");
+        final RoadmapContent roadmapContent = 로드맵_본문을_생성한다(List.of(roadmapNode1));
+        final Roadmap roadmap = 로드맵을_생성한다(creator, category, roadmapContent);
+
+        final GoalRoom goalRoom = 골룸을_생성한다("goalroom1", 20, roadmapContent,
+                new GoalRoomRoadmapNodes(List.of(골룸_로드맵_노드를_생성한다(TODAY, TEN_DAY_LATER, roadmapNode1))), creator);
+        goalRoom.addGoalRoomTodo(new GoalRoomToDo(new GoalRoomTodoContent("투두"), new Period(TODAY, TEN_DAY_LATER)));
+        goalRoomRepository.save(goalRoom);
+        final GoalRoomMember goalRoomMember = goalRoomMemberRepository.save(
+                new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom, creator));
+        goalRoomToDoCheckRepository.save(new GoalRoomToDoCheck(goalRoomMember, goalRoom.findLastGoalRoomTodo()));
+        checkFeedRepository.save(new CheckFeed("server-file-path", ImageContentType.PNG, "original-file-name",
+                "인증 피드", goalRoom.getGoalRoomRoadmapNodes().getValues().get(0), goalRoomMember));
 
         // when
-        final List<GoalRoom> findGoalRooms = goalRoomRepository.findAllByStartDate(LocalDate.now());
+        final List<Long> goalRoomIds = goalRoomRepository.findIdsByRoadmapIds(List.of(roadmap.getId()));
+        final List<String> pendingFilePaths = goalRoomRepository.findCheckFeedFilePathsByGoalRoomIds(goalRoomIds,
+                CheckFeedImageStatus.PENDING);
+        final List<String> readyFilePaths = goalRoomRepository.findCheckFeedFilePathsByGoalRoomIds(goalRoomIds,
+                CheckFeedImageStatus.READY);
+        goalRoomRepository.deleteToDoChecksByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteCheckFeedsByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteMembersByGoalRoomIds(goalRoomIds);
+        goalRoomPendingMemberRepository.deleteAllByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteToDosByGoalRoomIds(goalRoomIds);
+        goalRoomRepository.deleteRoadmapNodesByGoalRoomIds(goalRoomIds);
+        final int deletedCount = goalRoomRepository.deleteAllByIds(goalRoomIds);
 
         // then
-        assertThat(findGoalRooms)
-                .usingRecursiveComparison()
-                .ignoringFields("id")
-                .isEqualTo(List.of(savedGoalRoom1, savedGoalRoom2));
+        assertAll(
+                () -> assertThat(goalRoomIds).containsExactly(goalRoom.getId()),
+                () -> assertThat(pendingFilePaths).containsExactly("server-file-path"),
+                () -> assertThat(readyFilePaths).isEmpty(),
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(goalRoomRepository.findById(goalRoom.getId())).isEmpty(),
+                () -> assertThat(goalRoomMemberRepository.findAll()).isEmpty(),
+                () -> assertThat(goalRoomPendingMemberRepository.findAll()).isEmpty(),
+                () -> assertThat(goalRoomToDoCheckRepository.findAll()).isEmpty(),
+                () -> assertThat(checkFeedRepository.findAll()).isEmpty()
+        );
     }
 
     @Test
@@ -0,0 +1,32 @@
+package co.kirikiri.persistence.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCaptor implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED_STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        CAPTURED_STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        final List<String> capturedStatements = CAPTURED_STATEMENTS.get();
+        CAPTURED_STATEMENTS.remove();
+        if (capturedStatements == null) {
+            return List.of();
+        }
+        return List.copyOf(capturedStatements);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final List<String> capturedStatements = CAPTURED_STATEMENTS.get();
+        if (capturedStatements != null) {
+            capturedStatements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -53,6 +53,18 @@ class MemberRepositoryTest {
         assertThat(optionalMember).isNotEmpty();
     }
 
+    @Test
+    void 아이디로_사용자의_식별자만_조회한다() {
+        //given
+        final Member savedMember = memberRepository.save(member);
+
+        //when
+        final Optional<Long> memberId = memberRepository.findIdByIdentifier(new Identifier("identifier1"));
+
+        //then
+        assertThat(memberId).contains(savedMember.getId());
+    }
+
     @Test
     void 사용쟈의_아이디로_사용자의_프로필과_이미지를_함께_조회한다() {
         // given
@@ -1,6 +1,7 @@
 package co.kirikiri.persistence.roadmap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import co.kirikiri.domain.ImageContentType;
@@ -9,6 +10,7 @@ import co.kirikiri.domain.goalroom.GoalRoomMember;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
 import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
 import co.kirikiri.domain.goalroom.GoalRoomRole;
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
 import co.kirikiri.domain.goalroom.vo.GoalRoomName;
 import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
 import co.kirikiri.domain.goalroom.vo.Period;
@@ -25,14 +27,24 @@ import co.kirikiri.domain.roadmap.RoadmapCategory;
 import co.kirikiri.domain.roadmap.RoadmapContent;
 import co.kirikiri.domain.roadmap.RoadmapDifficulty;
 import co.kirikiri.domain.roadmap.RoadmapNode;
+import co.kirikiri.domain.roadmap.RoadmapNodeImage;
+import co.kirikiri.domain.roadmap.RoadmapNodeImages;
 import co.kirikiri.domain.roadmap.RoadmapNodes;
 import co.kirikiri.domain.roadmap.RoadmapReview;
+import co.kirikiri.domain.roadmap.RoadmapStats;
 import co.kirikiri.domain.roadmap.RoadmapStatus;
 import co.kirikiri.domain.roadmap.RoadmapTag;
 import co.kirikiri.domain.roadmap.RoadmapTags;
 import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
+import co.kirikiri.exception.BadRequestException;
 import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapScrollDto;
+import co.kirikiri.persistence.dto.RoadmapSearchDocumentDto;
 import co.kirikiri.persistence.dto.RoadmapSearchDto;
+import co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapSuggestionDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.helper.RepositoryTest;
@@ -41,7 +53,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 @RepositoryTest
 class RoadmapRepositoryTest {
@@ -51,17 +65,20 @@ class RoadmapRepositoryTest {
     private final GoalRoomRepository goalRoomRepository;
     private final GoalRoomMemberRepository goalRoomMemberRepository;
     private final RoadmapCategoryRepository roadmapCategoryRepository;
+    private final RoadmapStatsRepository roadmapStatsRepository;
 
     public RoadmapRepositoryTest(final MemberRepository memberRepository,
                                  final RoadmapRepository roadmapRepository,
                                  final GoalRoomRepository goalRoomRepository,
                                  final GoalRoomMemberRepository goalRoomMemberRepository,
-                                 final RoadmapCategoryRepository roadmapCategoryRepository) {
+                                 final RoadmapCategoryRepository roadmapCategoryRepository,
+                                 final RoadmapStatsRepository roadmapStatsRepository) {
         this.memberRepository = memberRepository;
         this.roadmapRepository = roadmapRepository;
         this.goalRoomRepository = goalRoomRepository;
         this.goalRoomMemberRepository = goalRoomMemberRepository;
         this.roadmapCategoryRepository = roadmapCategoryRepository;
+        this.roadmapStatsRepository = roadmapStatsRepository;
     }
 
     @Test
@@ -110,8 +127,8 @@ class RoadmapRepositoryTest {
         final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                null, 2);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, null, 2));
 
         // then
         assertAll(
@@ -137,8 +154,8 @@ class RoadmapRepositoryTest {
         final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(gameCategory, orderType,
-                null, 10);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                gameCategory, orderType, null, 10));
 
         // then
         assertAll(
@@ -165,10 +182,10 @@ class RoadmapRepositoryTest {
         final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                gameRoadmap2.getId(), 10);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.from(gameRoadmap2.getId()), 10));
 
         // then
         assertAll(
@@ -205,14 +222,16 @@ class RoadmapRepositoryTest {
         // travelRoadmap : 골룸 1개
         골룸을_생성한다(travelRoadmap.getContents().getValues().get(0), creator);
 
+        로드맵_통계를_집계한다();
+
         final RoadmapCategory category = null;
         final RoadmapOrderType orderType = RoadmapOrderType.GOAL_ROOM_COUNT;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                travelRoadmap.getId(), 10);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.from(travelRoadmap.getId()), 10));
 
         // then
         assertAll(
@@ -257,14 +276,18 @@ class RoadmapRepositoryTest {
                 new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), travelRoadmapGoalRoom, follower));
         goalRoomMemberRepository.saveAll(travelRoadmapGoalRoomMembers);
 
+        로드맵_통계를_집계한다();
+
         final RoadmapCategory category = null;
         final RoadmapOrderType orderType = RoadmapOrderType.PARTICIPANT_COUNT;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                gameRoadmap2.getId(), 10);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.from(gameRoadmap2.getId()), 10));
+        final List<Roadmap> cursorRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.of(2L, travelRoadmap.getId()), 10));
 
         // then
         assertAll(
@@ -276,10 +299,39 @@ class RoadmapRepositoryTest {
                 () -> assertThat(secondRoadmapRequest.size()).isEqualTo(1),
                 () -> assertThat(secondRoadmapRequest).usingRecursiveComparison()
                         .ignoringFields("id", "createdAt", "updatedAt")
-                        .isEqualTo(List.of(gameRoadmap1))
+                        .isEqualTo(List.of(gameRoadmap1)),
+
+                () -> assertThat(cursorRoadmapRequest).usingRecursiveComparison()
+                        .ignoringFields("id", "createdAt", "updatedAt")
+                        .isEqualTo(List.of(gameRoadmap2, gameRoadmap1))
         );
     }
 
+    @Test
+    void 통계_순으로_조회하면_같은_쿼리에서_읽은_정렬_기준_값으로_커서를_만든다() {
+        // given
+        final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
+        final Member follower = 사용자를_생성한다("cokirikiri2", "코끼리2");
+        final RoadmapCategory gameCategory = 카테고리를_생성한다("게임");
+
+        final Roadmap gameRoadmap1 = 노드_정보를_포함한_로드맵을_생성한다("게임 로드맵", creator, gameCategory);
+        final Roadmap gameRoadmap2 = 노드_정보를_포함한_로드맵을_생성한다("게임 로드맵2", creator, gameCategory);
+        final GoalRoom gameRoadmap2GoalRoom = 골룸을_생성한다(gameRoadmap2.getContents().getValues().get(0), creator);
+        goalRoomMemberRepository.saveAll(List.of(
+                new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), gameRoadmap2GoalRoom, creator),
+                new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), gameRoadmap2GoalRoom, follower)));
+        로드맵_통계를_집계한다();
+
+        // when
+        final List<RoadmapScrollDto> roadmapScrollDtos = roadmapRepository.findRoadmapsByCategory(gameCategory,
+                RoadmapOrderType.PARTICIPANT_COUNT, null, 10);
+
+        // then
+        assertThat(roadmapScrollDtos)
+                .extracting(RoadmapScrollDto::cursor)
+                .containsExactly(ScrollCursor.of(2L, gameRoadmap2.getId()), ScrollCursor.of(0L, gameRoadmap1.getId()));
+    }
+
     @Test
     void 카테고리_조건_없이_주어진_로드맵_이전의_데이터를_평점순으로_조회한다() {
         // given
@@ -308,14 +360,18 @@ class RoadmapRepositoryTest {
         travelRoadmap.addReview(travelRoadmapReview);
         roadmapRepository.save(travelRoadmap);
 
+        로드맵_통계를_집계한다();
+
         final RoadmapCategory category = null;
         final RoadmapOrderType orderType = RoadmapOrderType.REVIEW_RATE;
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCategory(category, orderType,
-                gameRoadmap1.getId(), 10);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.from(gameRoadmap1.getId()), 10));
+        final List<Roadmap> cursorRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCategory(
+                category, orderType, ScrollCursor.of(4.5, gameRoadmap1.getId()), 10));
 
         // then
         assertAll(
@@ -326,13 +382,29 @@ class RoadmapRepositoryTest {
 
                 () -> assertThat(secondRoadmapRequest.size()).isEqualTo(1),
                 () -> assertThat(secondRoadmapRequest).usingRecursiveComparison()
+                        .ignoringFields("id", "createdAt", "updatedAt")
+                        .isEqualTo(List.of(travelRoadmap)),
+
+                () -> assertThat(cursorRoadmapRequest).usingRecursiveComparison()
                         .ignoringFields("id", "createdAt", "updatedAt")
                         .isEqualTo(List.of(travelRoadmap))
         );
     }
 
     @Test
-    void 로드맵을_제목으로_검색한다() {
+    void 커서의_정렬_값이_유효하지_않으면_예외가_발생한다() {
+        // given
+        final ScrollCursor cursor = new ScrollCursor("invalid", 1L);
+
+        // when, then
+        assertThatThrownBy(() -> roadmapRepository.findRoadmapsByCategory(null, RoadmapOrderType.PARTICIPANT_COUNT,
+                cursor, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void 제목으로_검색된_로드맵_아이디들로_삭제되지_않은_로드맵을_조회한다() {
         // given
         final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
         final RoadmapCategory category = 카테고리를_생성한다("여가");
@@ -342,16 +414,18 @@ class RoadmapRepositoryTest {
         final Roadmap roadmap3 = 로드맵을_저장한다("로 드맵짱", creator, category);
         final Roadmap roadmap4 = 로드맵을_저장한다("짱로드 맵짱", creator, category);
         로드맵을_저장한다("로드", creator, category);
-        삭제된_로드맵을_저장한다("로드맵", creator, category);
+        final Roadmap deletedRoadmap = 삭제된_로드맵을_저장한다("로드맵", creator, category);
 
         final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
-        final RoadmapSearchDto searchRequest = RoadmapSearchDto.create(null, " 로 드 맵 ", null);
+        final RoadmapSearchDto searchRequest = RoadmapSearchDto.create(null, " 로 드 맵 ", null)
+                .withRoadmapIds(Set.of(roadmap1.getId(), roadmap2.getId(), roadmap3.getId(), roadmap4.getId(),
+                        deletedRoadmap.getId()));
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                roadmap3.getId(), 3);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCond(
+                searchRequest, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCond(
+                searchRequest, orderType, ScrollCursor.from(roadmap3.getId()), 3));
 
         // then
         assertAll(
@@ -367,6 +441,33 @@ class RoadmapRepositoryTest {
         );
     }
 
+    @Test
+    void 검색_색인을_위해_삭제되지_않은_로드맵의_제목과_소개글을_아이디순으로_조회한다() {
+        // given
+        final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
+        final RoadmapCategory category = 카테고리를_생성한다("여가");
+
+        final Roadmap roadmap1 = 로드맵을_저장한다("로드맵", creator, category);
+        삭제된_로드맵을_저장한다("삭제된 로드맵", creator, category);
+        final Roadmap roadmap3 = 로드맵을_저장한다("짱로드맵", creator, category);
+        final Roadmap roadmap4 = 로드맵을_저장한다("로 드맵짱", creator, category);
+
+        // when
+        final List<RoadmapSearchDocumentDto> firstSearchDocuments = roadmapRepository.findSearchDocumentsAfter(
+                RoadmapStatus.CREATED, 0L, PageRequest.of(0, 2));
+        final List<RoadmapSearchDocumentDto> secondSearchDocuments = roadmapRepository.findSearchDocumentsAfter(
+                RoadmapStatus.CREATED, roadmap3.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertAll(
+                () -> assertThat(firstSearchDocuments).isEqualTo(List.of(
+                        new RoadmapSearchDocumentDto(roadmap1.getId(), "로드맵", roadmap1.getIntroduction()),
+                        new RoadmapSearchDocumentDto(roadmap3.getId(), "짱로드맵", roadmap3.getIntroduction()))),
+                () -> assertThat(secondSearchDocuments).isEqualTo(List.of(
+                        new RoadmapSearchDocumentDto(roadmap4.getId(), "로 드맵짱", roadmap4.getIntroduction())))
+        );
+    }
+
     @Test
     void 로드맵을_크리에이터_닉네임으로_검색한다() {
         // given
@@ -385,10 +486,10 @@ class RoadmapRepositoryTest {
         final RoadmapSearchDto searchRequest = RoadmapSearchDto.create(creator1.getNickname().getValue(), null, null);
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                null, 2);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                roadmap2.getId(), 3);
+        final List<Roadmap> firstRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCond(
+                searchRequest, orderType, null, 2));
+        final List<Roadmap> secondRoadmapRequest = 로드맵만_추출한다(roadmapRepository.findRoadmapsByCond(
+                searchRequest, orderType, ScrollCursor.from(roadmap2.getId()), 3));
 
         // then
         assertAll(
@@ -405,17 +506,16 @@ class RoadmapRepositoryTest {
     }
 
     @Test
-    void 로드맵을_태그_이름으로_검색한다() {
+    void 태그_색인을_위해_로드맵들의_태그_이름을_조회한다() {
         // given
         final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
         final RoadmapCategory category = 카테고리를_생성한다("여가");
 
         final Roadmap roadmap1 = 로드맵을_태그와_저장한다("로드맵", creator, category,
                 new RoadmapTags(List.of(
-                        new RoadmapTag(new RoadmapTagName("자바")),
                         new RoadmapTag(new RoadmapTagName("스프링")))));
 
-        로드맵을_저장한다("로드맵", creator, category);
+        final Roadmap roadmap2 = 로드맵을_저장한다("로드맵", creator, category);
 
         final Roadmap roadmap3 = 로드맵을_태그와_저장한다("로드맵", creator, category,
                 new RoadmapTags(List.of(
@@ -424,27 +524,79 @@ class RoadmapRepositoryTest {
         로드맵을_태그와_저장한다("로드맵", creator, category, new RoadmapTags(List.of(
                 new RoadmapTag(new RoadmapTagName("스프링")))));
 
-        final RoadmapOrderType orderType = RoadmapOrderType.LATEST;
-        final RoadmapSearchDto searchRequest = RoadmapSearchDto.create(null, null, " 자 바 ");
+        // when
+        final List<RoadmapTagNameDto> roadmapTagNames = roadmapRepository.findTagNamesByRoadmapIds(
+                List.of(roadmap1.getId(), roadmap2.getId(), roadmap3.getId()));
+
+        // then
+        assertThat(roadmapTagNames).containsExactlyInAnyOrder(
+                new RoadmapTagNameDto(roadmap1.getId(), "스프링"),
+                new RoadmapTagNameDto(roadmap3.getId(), "자바"));
+    }
+
+    @Test
+    void 검색어_추천을_위해_로드맵들의_크리에이터_닉네임과_참여자_수를_조회한다() {
+        // given
+        final Member creator1 = 사용자를_생성한다("cokirikiri", "코끼리");
+        final Member creator2 = 사용자를_생성한다("cokirikiri2", "끼리코");
+        final RoadmapCategory category = 카테고리를_생성한다("여가");
+
+        final Roadmap roadmap1 = 로드맵을_저장한다("로드맵", creator1, category);
+        final Roadmap roadmap2 = 로드맵을_저장한다("로드맵", creator2, category);
+        로드맵을_저장한다("로드맵", creator1, category);
+
+        final RoadmapStats roadmapStats = new RoadmapStats(roadmap1.getId());
+        roadmapStats.update(1L, 4L, 0.0, 0L);
+        roadmapStatsRepository.save(roadmapStats);
 
         // when
-        final List<Roadmap> firstRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                null, 1);
-        final List<Roadmap> secondRoadmapRequest = roadmapRepository.findRoadmapsByCond(searchRequest, orderType,
-                roadmap3.getId(), 1);
+        final List<RoadmapSuggestionDocumentDto> suggestionDocuments = roadmapRepository
+                .findSuggestionDocumentsByRoadmapIds(List.of(roadmap1.getId(), roadmap2.getId()));
 
         // then
-        assertAll(
-                () -> assertThat(firstRoadmapRequest.size()).isEqualTo(2),
-                () -> assertThat(firstRoadmapRequest).usingRecursiveComparison()
-                        .ignoringFields("id", "createdAt", "updatedAt")
-                        .isEqualTo(List.of(roadmap3, roadmap1)),
+        assertThat(suggestionDocuments).containsExactlyInAnyOrder(
+                new RoadmapSuggestionDocumentDto(roadmap1.getId(), "코끼리", 4L),
+                new RoadmapSuggestionDocumentDto(roadmap2.getId(), "끼리코", 0L));
+    }
 
-                () -> assertThat(secondRoadmapRequest.size()).isEqualTo(1),
-                () -> assertThat(secondRoadmapRequest).usingRecursiveComparison()
-                        .ignoringFields("id", "createdAt", "updatedAt")
-                        .isEqualTo(List.of(roadmap1))
-        );
+    @Test
+    void 유사도_계산을_위해_삭제되지_않은_로드맵의_카테고리를_아이디순으로_조회한다() {
+        // given
+        final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
+        final RoadmapCategory category1 = 카테고리를_생성한다("여가");
+        final RoadmapCategory category2 = 카테고리를_생성한다("운동");
+
+        final Roadmap roadmap1 = 로드맵을_저장한다("로드맵1", creator, category1);
+        삭제된_로드맵을_저장한다("삭제된 로드맵", creator, category1);
+        final Roadmap roadmap3 = 로드맵을_저장한다("로드맵3", creator, category2);
+
+        // when
+        final List<RoadmapSimilarityDocumentDto> similarityDocuments = roadmapRepository.findSimilarityDocumentsAfter(
+                RoadmapStatus.CREATED, 0L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(similarityDocuments).isEqualTo(List.of(
+                new RoadmapSimilarityDocumentDto(roadmap1.getId(), category1.getId()),
+                new RoadmapSimilarityDocumentDto(roadmap3.getId(), category2.getId())));
+    }
+
+    @Test
+    void 아이디_목록으로_삭제되지_않은_로드맵들을_조회한다() {
+        // given
+        final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
+        final RoadmapCategory category = 카테고리를_생성한다("여가");
+
+        final Roadmap roadmap1 = 로드맵을_저장한다("로드맵1", creator, category);
+        final Roadmap deletedRoadmap = 삭제된_로드맵을_저장한다("삭제된 로드맵", creator, category);
+        final Roadmap roadmap3 = 로드맵을_저장한다("로드맵3", creator, category);
+        로드맵을_저장한다("로드맵4", creator, category);
+
+        // when
+        final List<Roadmap> roadmaps = roadmapRepository.findRoadmapsByIds(
+                List.of(roadmap3.getId(), deletedRoadmap.getId(), roadmap1.getId()));
+
+        // then
+        assertThat(roadmaps).containsExactlyInAnyOrder(roadmap1, roadmap3);
     }
 
     @Test
@@ -465,7 +617,7 @@ class RoadmapRepositoryTest {
         final List<Roadmap> roadmapsFirstPage = roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(creator,
                 null, 2);
         final List<Roadmap> roadmapsSecondPage = roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(
-                creator, roadmapsFirstPage.get(1).getId(), 2);
+                creator, ScrollCursor.from(roadmapsFirstPage.get(1).getId()), 2);
 
         // then
         assertAll(
@@ -524,27 +676,82 @@ class RoadmapRepositoryTest {
     }
 
     @Test
-    void 삭제된_로드맵을_로드맵_본문과_함께_조회한다() {
+    void 골룸이_모두_삭제_가능한_종료일_이전에_종료된_삭제된_로드맵의_아이디를_조회한다() {
         // given
         final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
-        final RoadmapCategory gameCategory = 카테고리를_생성한다("게임");
-        final RoadmapCategory travelCategory = 카테고리를_생성한다("여행");
+        final RoadmapCategory category = 카테고리를_생성한다("여행");
 
-        로드맵을_저장한다("로드맵1", creator, gameCategory);
-        로드맵을_저장한다("로드맵2", creator, travelCategory);
-        final Roadmap deletedRoadmap = 삭제된_로드맵을_저장한다("로드맵", creator, travelCategory);
+        로드맵을_저장한다("로드맵", creator, category);
+        final Roadmap roadmapWithoutGoalRoom = 삭제된_로드맵을_저장한다("골룸이 없는 로드맵", creator, category);
+        final Roadmap roadmapWithCompletedGoalRoom = 노드_정보를_포함한_삭제된_로드맵을_저장한다("종료된 골룸이 있는 로드맵",
+                creator, category);
+        final Roadmap roadmapWithRunningGoalRoom = 노드_정보를_포함한_삭제된_로드맵을_저장한다("진행중인 골룸이 있는 로드맵",
+                creator, category);
+        final GoalRoom completedGoalRoom = 골룸을_생성한다(roadmapWithCompletedGoalRoom.getContents().getValues().get(0),
+                creator);
+        completedGoalRoom.complete();
+        final GoalRoom runningGoalRoom = 골룸을_생성한다(roadmapWithRunningGoalRoom.getContents().getValues().get(0),
+                creator);
+        runningGoalRoom.start();
 
         // when
-        final List<Roadmap> roadmapsByStatus = roadmapRepository.findWithRoadmapContentByStatus(RoadmapStatus.DELETED);
+        final List<Long> purgeTargets = roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED,
+                GoalRoomStatus.COMPLETED, LocalDate.now().plusDays(30), PageRequest.ofSize(10));
+
+        // then
+        assertThat(purgeTargets)
+                .containsExactlyInAnyOrder(roadmapWithoutGoalRoom.getId(), roadmapWithCompletedGoalRoom.getId());
+    }
+
+    @Test
+    void 로드맵_아이디들로_로드맵과_하위_데이터를_한_번에_삭제한다() {
+        // given
+        final Member creator = 사용자를_생성한다("cokirikiri", "코끼리");
+        final Member reviewer = 사용자를_생성한다("reviewer", "리뷰어");
+        final RoadmapCategory category = 카테고리를_생성한다("여행");
+        final Roadmap roadmap = 노드_정보를_포함한_로드맵을_생성한다("남는 로드맵", creator, category);
+
+        final RoadmapNode roadmapNode = 로드맵_노드를_생성한다("로드맵 1주차", "로드맵 1주차 내용");
+        roadmapNode.addImages(new RoadmapNodeImages(List.of(
+                new RoadmapNodeImage("node-image.png", "node-image-save-path", ImageContentType.PNG))));
+        final Roadmap deletedRoadmap = new Roadmap("삭제될 로드맵", "로드맵 소개글", 10, RoadmapDifficulty.NORMAL, creator,
+                category);
+        deletedRoadmap.addContent(로드맵_본문을_생성한다(List.of(roadmapNode)));
+        deletedRoadmap.addTags(new RoadmapTags(List.of(new RoadmapTag(new RoadmapTagName("태그")))));
+        deletedRoadmap.addReview(new RoadmapReview("리뷰", 5.0, reviewer));
+        roadmapRepository.save(deletedRoadmap);
+        final List<Long> roadmapIds = List.of(deletedRoadmap.getId());
+
+        // when
+        final List<String> nodeImageFilePaths = roadmapRepository.findNodeImageFilePathsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteNodeImagesByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteNodesByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteContentsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteTagsByRoadmapIds(roadmapIds);
+        roadmapRepository.deleteReviewsByRoadmapIds(roadmapIds);
+        final int deletedCount = roadmapRepository.deleteAllByIds(roadmapIds);
 
         // then
         assertAll(
-                () -> assertThat(roadmapsByStatus).isEqualTo(List.of(deletedRoadmap)),
-                () -> assertThat(roadmapsByStatus.get(0).getContents().getValues().get(0).getContent())
-                        .isEqualTo("로드맵 본문2")
+                () -> assertThat(nodeImageFilePaths).containsExactly("node-image-save-path"),
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(roadmapRepository.findById(deletedRoadmap.getId())).isEmpty(),
+                () -> assertThat(roadmapRepository.findRoadmapById(roadmap.getId()).get().getContents().getValues()
+                        .get(0).getNodes().getValues()).hasSize(2)
         );
     }
 
+    private List<Roadmap> 로드맵만_추출한다(final List<RoadmapScrollDto> roadmapScrollDtos) {
+        return roadmapScrollDtos.stream()
+                .map(RoadmapScrollDto::roadmap)
+                .toList();
+    }
+
+    private void 로드맵_통계를_집계한다() {
+        roadmapStatsRepository.insertMissingStats(0L, Long.MAX_VALUE);
+        roadmapStatsRepository.reconcileBetween(0L, Long.MAX_VALUE);
+    }
+
     private Member 사용자를_생성한다(final String identifier, final String nickname) {
         final MemberProfile memberProfile = new MemberProfile(Gender.MALE, LocalDate.of(1990, 1, 1), "010-1234-5678");
         final MemberImage memberImage = new MemberImage("file-name", "file-path", ImageContentType.PNG);
@@ -19,6 +19,7 @@ import co.kirikiri.domain.roadmap.RoadmapDifficulty;
 import co.kirikiri.domain.roadmap.RoadmapNode;
 import co.kirikiri.domain.roadmap.RoadmapNodes;
 import co.kirikiri.domain.roadmap.RoadmapReview;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.helper.RepositoryTest;
 import co.kirikiri.persistence.member.MemberRepository;
 import java.time.LocalDate;
@@ -108,7 +109,7 @@ class RoadmapReviewRepositoryTest {
                 roadmap, null, 2);
 
         final List<RoadmapReview> roadmapReviewsSecondPage = roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(
-                roadmap, roadmapReviewsFirstPage.get(1).getId(), 2);
+                roadmap, ScrollCursor.from(roadmapReviewsFirstPage.get(1).getId()), 2);
 
         // then
         assertAll(
@@ -119,6 +120,34 @@ class RoadmapReviewRepositoryTest {
         );
     }
 
+    @Test
+    void 커서로_로드맵_리뷰를_조회하면_생성시간이_같은_리뷰는_아이디로_구분한다() {
+        // given
+        final Member member = 사용자를_저장한다("코끼리", "cokirikiri");
+        final Member member2 = 사용자를_저장한다("끼리코", "kirikirico");
+        final Member member3 = 사용자를_저장한다("리끼코", "rikirikico");
+        final RoadmapCategory category = 카테고리를_저장한다("게임");
+        final Roadmap roadmap = 로드맵을_저장한다(member, category);
+
+        final RoadmapReview roadmapReview1 = new RoadmapReview("리뷰1", 2.5, member);
+        final RoadmapReview roadmapReview2 = new RoadmapReview("리뷰2", 4.0, member2);
+        final RoadmapReview roadmapReview3 = new RoadmapReview("리뷰3", 5.0, member3);
+        roadmapReview1.updateRoadmap(roadmap);
+        roadmapReview2.updateRoadmap(roadmap);
+        roadmapReview3.updateRoadmap(roadmap);
+        roadmapReviewRepository.save(roadmapReview1);
+        roadmapReviewRepository.save(roadmapReview2);
+        roadmapReviewRepository.save(roadmapReview3);
+
+        // when
+        final List<RoadmapReview> roadmapReviews = roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(
+                roadmap, ScrollCursor.of(roadmapReview1.getCreatedAt(), roadmapReview2.getId()), 2);
+
+        // then
+        assertThat(roadmapReviews)
+                .isEqualTo(List.of(roadmapReview1));
+    }
+
     @Test
     void 로드맵에_대한_리뷰_정보가_없으면_빈_값을_반환한다() {
         // given
@@ -0,0 +1,141 @@
+package co.kirikiri.persistence.roadmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import co.kirikiri.domain.roadmap.RoadmapStats;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import co.kirikiri.persistence.helper.RepositoryTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@RepositoryTest
+class RoadmapStatsRepositoryTest {
+
+    private static final Long ROADMAP_ID = 1L;
+
+    private final RoadmapStatsRepository roadmapStatsRepository;
+    private final TestEntityManager testEntityManager;
+
+    public RoadmapStatsRepositoryTest(final RoadmapStatsRepository roadmapStatsRepository,
+                                      final TestEntityManager testEntityManager) {
+        this.roadmapStatsRepository = roadmapStatsRepository;
+        this.testEntityManager = testEntityManager;
+    }
+
+    @Test
+    void 골룸이_생성되면_골룸_수가_증가한다() {
+        //given
+        roadmapStatsRepository.save(new RoadmapStats(ROADMAP_ID));
+
+        //when
+        final int updatedCount = roadmapStatsRepository.increaseGoalRoomCount(ROADMAP_ID);
+
+        //then
+        final RoadmapStats roadmapStats = roadmapStatsRepository.findById(ROADMAP_ID).get();
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(roadmapStats.getGoalRoomCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 골룸이_시작되면_참여자_수만큼_참여_인원이_증가한다() {
+        //given
+        roadmapStatsRepository.save(new RoadmapStats(ROADMAP_ID));
+
+        //when
+        roadmapStatsRepository.increaseParticipantCount(ROADMAP_ID, 3);
+        roadmapStatsRepository.increaseParticipantCount(ROADMAP_ID, 2);
+
+        //then
+        final RoadmapStats roadmapStats = roadmapStatsRepository.findById(ROADMAP_ID).get();
+        assertThat(roadmapStats.getParticipantCount()).isEqualTo(5L);
+    }
+
+    @Test
+    void 리뷰가_추가되면_평점의_합과_개수로_평균_평점을_갱신한다() {
+        //given
+        roadmapStatsRepository.save(new RoadmapStats(ROADMAP_ID));
+
+        //when
+        roadmapStatsRepository.addReview(ROADMAP_ID, 4.0);
+        roadmapStatsRepository.addReview(ROADMAP_ID, 5.0);
+
+        //then
+        final RoadmapStats roadmapStats = roadmapStatsRepository.findById(ROADMAP_ID).get();
+        assertAll(
+                () -> assertThat(roadmapStats.getReviewSum()).isEqualTo(9.0),
+                () -> assertThat(roadmapStats.getReviewCount()).isEqualTo(2L),
+                () -> assertThat(roadmapStats.getReviewRate()).isEqualTo(4.5)
+        );
+    }
+
+    @Test
+    void 마지막_아이디_이후의_정렬_키를_로드맵_아이디_순으로_나누어_조회한다() {
+        //given
+        final RoadmapStats firstStats = new RoadmapStats(1L);
+        firstStats.update(1L, 3L, 9.0, 2L);
+        roadmapStatsRepository.save(firstStats);
+        roadmapStatsRepository.save(new RoadmapStats(2L));
+        roadmapStatsRepository.save(new RoadmapStats(3L));
+
+        //when
+        final List<RoadmapSortKeyDto> firstChunk = roadmapStatsRepository.findSortKeysAfter(0L,
+                PageRequest.of(0, 2));
+        final List<RoadmapSortKeyDto> secondChunk = roadmapStatsRepository.findSortKeysAfter(2L,
+                PageRequest.of(0, 2));
+
+        //then
+        assertAll(
+                () -> assertThat(firstChunk).containsExactly(new RoadmapSortKeyDto(1L, 1L, 3L, 9.0, 2L, 4.5),
+                        new RoadmapSortKeyDto(2L, 0L, 0L, 0.0, 0L, 0.0)),
+                () -> assertThat(secondChunk).extracting(RoadmapSortKeyDto::roadmapId).containsExactly(3L)
+        );
+    }
+
+    @Test
+    void 통계가_없는_로드맵이라면_변경되는_행이_없다() {
+        //given
+        //when
+        final int updatedCount = roadmapStatsRepository.increaseGoalRoomCount(ROADMAP_ID);
+
+        //then
+        assertThat(updatedCount).isZero();
+    }
+
+    @Test
+    void 존재하지_않는_로드맵의_통계를_삭제한다() {
+        //given
+        roadmapStatsRepository.save(new RoadmapStats(ROADMAP_ID));
+
+        //when
+        final int deletedCount = roadmapStatsRepository.deleteOrphans();
+
+        //then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(roadmapStatsRepository.findById(ROADMAP_ID)).isEmpty();
+    }
+
+    @Test
+    void 어긋난_통계를_실제_집계값으로_한_번에_보정한다() {
+        //given
+        final RoadmapStats driftedStats = new RoadmapStats(ROADMAP_ID);
+        driftedStats.update(10L, 10L, 10.0, 10L);
+        roadmapStatsRepository.save(driftedStats);
+
+        //when
+        final int updatedCount = roadmapStatsRepository.reconcileBetween(0L, ROADMAP_ID);
+        testEntityManager.clear();
+
+        //then
+        final RoadmapStats roadmapStats = roadmapStatsRepository.findById(ROADMAP_ID).get();
+        assertAll(
+                () -> assertThat(updatedCount).isEqualTo(1),
+                () -> assertThat(roadmapStats.getGoalRoomCount()).isZero(),
+                () -> assertThat(roadmapStats.getParticipantCount()).isZero(),
+                () -> assertThat(roadmapStats.getReviewCount()).isZero(),
+                () -> assertThat(roadmapStats.getReviewRate()).isZero()
+        );
+    }
+}
@@ -0,0 +1,127 @@
+package co.kirikiri.persistence.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import co.kirikiri.domain.scheduler.SchedulerLease;
+import co.kirikiri.persistence.helper.RepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@RepositoryTest
+class SchedulerLeaseRepositoryTest {
+
+    private static final String OWNER = "instance-1";
+    private static final String OTHER_OWNER = "instance-2";
+    private static final long ONE_MINUTE_MICROS = 60_000_000L;
+    private static final long ONE_HOUR_MICROS = 60 * ONE_MINUTE_MICROS;
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    public SchedulerLeaseRepositoryTest(final SchedulerLeaseRepository schedulerLeaseRepository) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+    }
+
+    @Test
+    void 작업_임대는_데이터베이스_시간을_기준으로_생성한다() {
+        //given
+        final String name = "lease-test.create";
+
+        //when
+        final int createdCount = schedulerLeaseRepository.create(name, OWNER, ONE_MINUTE_MICROS);
+
+        //then
+        final SchedulerLease schedulerLease = schedulerLeaseRepository.findById(name).get();
+        assertAll(
+                () -> assertThat(createdCount).isEqualTo(1),
+                () -> assertThat(schedulerLease.getOwner()).isEqualTo(OWNER),
+                () -> assertThat(schedulerLease.getLockedUntil())
+                        .isEqualTo(schedulerLease.getLockedAt().plusMinutes(1))
+        );
+    }
+
+    @Test
+    void 임대_시간이_남아있는_작업은_다른_인스턴스가_선점할_수_없다() {
+        //given
+        final String name = "lease-test.acquire-locked";
+        schedulerLeaseRepository.create(name, OWNER, ONE_MINUTE_MICROS);
+
+        //when
+        final int acquiredCount = schedulerLeaseRepository.acquire(name, OTHER_OWNER, ONE_MINUTE_MICROS);
+
+        //then
+        assertThat(acquiredCount).isZero();
+    }
+
+    @Test
+    void 임대_시간이_지난_작업은_다른_인스턴스가_선점한다() {
+        //given
+        final String name = "lease-test.acquire-expired";
+        schedulerLeaseRepository.create(name, OWNER, 0L);
+
+        //when
+        final int acquiredCount = schedulerLeaseRepository.acquire(name, OTHER_OWNER, ONE_MINUTE_MICROS);
+
+        //then
+        final SchedulerLease schedulerLease = schedulerLeaseRepository.findById(name).get();
+        assertAll(
+                () -> assertThat(acquiredCount).isEqualTo(1),
+                () -> assertThat(schedulerLease.getOwner()).isEqualTo(OTHER_OWNER),
+                () -> assertThat(schedulerLease.getLockedUntil())
+                        .isEqualTo(schedulerLease.getLockedAt().plusMinutes(1))
+        );
+    }
+
+    @Test
+    void 이미_생성된_작업_임대를_다시_생성하면_예외가_발생한다() {
+        //given
+        final String name = "lease-test.create-duplicated";
+        schedulerLeaseRepository.create(name, OWNER, ONE_MINUTE_MICROS);
+
+        //when
+        //then
+        assertThatThrownBy(() -> schedulerLeaseRepository.create(name, OTHER_OWNER, ONE_MINUTE_MICROS))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 작업_임대는_선점한_인스턴스만_반납하고_최소_유지_시간까지_유지한다() {
+        //given
+        final String name = "lease-test.release";
+        schedulerLeaseRepository.create(name, OWNER, ONE_HOUR_MICROS);
+
+        //when
+        final int otherReleasedCount = schedulerLeaseRepository.release(name, OTHER_OWNER, 0L);
+        final int releasedCount = schedulerLeaseRepository.release(name, OWNER, ONE_MINUTE_MICROS);
+
+        //then
+        final SchedulerLease schedulerLease = schedulerLeaseRepository.findById(name).get();
+        assertAll(
+                () -> assertThat(otherReleasedCount).isZero(),
+                () -> assertThat(releasedCount).isEqualTo(1),
+                () -> assertThat(schedulerLease.getLockedUntil())
+                        .isEqualTo(schedulerLease.getLockedAt().plusMinutes(1))
+        );
+    }
+
+    @Test
+    void 최소_유지_시간이_지난_작업_임대는_반납한_시각까지만_유지한다() {
+        //given
+        final String name = "lease-test.release-after-minimum";
+        schedulerLeaseRepository.create(name, OWNER, ONE_HOUR_MICROS);
+
+        //when
+        schedulerLeaseRepository.release(name, OWNER, 0L);
+
+        //then
+        final SchedulerLease schedulerLease = schedulerLeaseRepository.findById(name).get();
+        assertAll(
+                () -> assertThat(schedulerLease.getLockedUntil()).isAfterOrEqualTo(schedulerLease.getLockedAt()),
+                () -> assertThat(schedulerLease.getLockedUntil())
+                        .isBefore(schedulerLease.getLockedAt().plusMinutes(1)),
+                () -> assertThat(schedulerLeaseRepository.acquire(name, OTHER_OWNER, ONE_MINUTE_MICROS))
+                        .isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import co.kirikiri.service.dto.UploadedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class AsyncFileUploaderTest {
+
+    private static final String PATH = "/2023/0815/roadmapNode/uuid_originalFileName.jpeg";
+    private static final String CONTENT_DIGEST = "8be97fc7ef72c3a5fa16d84e62f6a53f6167b8ef1aad6aacf26c025ac1fdcf4a";
+    private static final String CONTENT_PATH = "/content/8b/" + CONTENT_DIGEST + ".jpeg";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FileService fileService = mock(FileService.class);
+    private final ImageDerivativeGenerator imageDerivativeGenerator = mock(ImageDerivativeGenerator.class);
+    private final ContentAddressedFileStore contentAddressedFileStore = mock(ContentAddressedFileStore.class);
+    private ThreadPoolTaskExecutor fileUploadExecutor;
+    private AsyncFileUploader asyncFileUploader;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadExecutor = new ThreadPoolTaskExecutor();
+        fileUploadExecutor.setCorePoolSize(2);
+        fileUploadExecutor.setMaxPoolSize(2);
+        fileUploadExecutor.setQueueCapacity(10);
+        fileUploadExecutor.initialize();
+        asyncFileUploader = new AsyncFileUploader(fileService, imageDerivativeGenerator, contentAddressedFileStore,
+                fileUploadExecutor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileUploadExecutor.shutdown();
+    }
+
+    @Test
+    void 파일_업로드_스레드풀에서_이미지를_저장하고_파생_이미지를_생성한다() {
+        //given
+        final ImageDerivatives expected = new ImageDerivatives("thumbnailFilePath", "mediumFilePath");
+        when(imageDerivativeGenerator.generate(eq(PATH), eq(ImageDirType.ROADMAP_NODE), eq(ImageContentType.JPEG),
+                any()))
+                .thenReturn(expected);
+
+        //when
+        final UploadedImage uploadedImage = asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join();
+
+        //then
+        verify(fileService).save(eq(PATH), any(FileInformation.class));
+        assertThat(uploadedImage).isEqualTo(new UploadedImage(PATH, expected));
+        assertThat(meterRegistry.get("file.upload.in-flight").gauge().value()).isZero();
+        assertThat(meterRegistry.get("file.upload.queued").gauge().value()).isZero();
+    }
+
+    @Test
+    void 파일_저장에_실패하면_실패한_결과를_반환한다() {
+        //given
+        doThrow(new ServerException("업로드 실패"))
+                .when(fileService).save(any(), any());
+
+        //when
+        //then
+        assertThatThrownBy(() -> asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServerException.class);
+        assertThat(meterRegistry.get("file.upload.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void 업로드_스레드풀이_작업을_거부하면_호출_스레드에서_실행하지_않고_실패한_결과를_반환한다() {
+        //given
+        fileUploadExecutor.shutdown();
+
+        //when
+        //then
+        assertThatThrownBy(() -> asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServerException.class);
+        verify(fileService, never()).save(any(), any());
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_이미_업로드된_이미지면_저장을_생략한다() {
+        //given
+        when(contentAddressedFileStore.isEnabled())
+                .thenReturn(true);
+        when(contentAddressedFileStore.makeFilePath(CONTENT_DIGEST, ImageContentType.JPEG))
+                .thenReturn(CONTENT_PATH);
+        when(contentAddressedFileStore.acquire(CONTENT_DIGEST, CONTENT_PATH))
+                .thenReturn(new StoredFile(CONTENT_DIGEST, CONTENT_PATH, "thumbnailFilePath", "mediumFilePath", 2,
+                        true));
+
+        //when
+        final UploadedImage uploadedImage = asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join();
+
+        //then
+        verify(fileService, never()).save(any(), any());
+        assertThat(uploadedImage).isEqualTo(new UploadedImage(CONTENT_PATH,
+                new ImageDerivatives("thumbnailFilePath", "mediumFilePath")));
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_처음_업로드하는_이미지면_다이제스트_경로에_저장한다() {
+        //given
+        final ImageDerivatives expected = new ImageDerivatives("thumbnailFilePath", "mediumFilePath");
+        when(contentAddressedFileStore.isEnabled())
+                .thenReturn(true);
+        when(contentAddressedFileStore.makeFilePath(CONTENT_DIGEST, ImageContentType.JPEG))
+                .thenReturn(CONTENT_PATH);
+        when(contentAddressedFileStore.acquire(CONTENT_DIGEST, CONTENT_PATH))
+                .thenReturn(new StoredFile(CONTENT_DIGEST, CONTENT_PATH, null, null, 1, false));
+        when(imageDerivativeGenerator.generate(eq(CONTENT_PATH), eq(ImageDirType.ROADMAP_NODE),
+                eq(ImageContentType.JPEG), any()))
+                .thenReturn(expected);
+
+        //when
+        final UploadedImage uploadedImage = asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join();
+
+        //then
+        verify(fileService).save(eq(CONTENT_PATH), any(FileInformation.class));
+        verify(contentAddressedFileStore).markUploaded(CONTENT_PATH, expected);
+        assertThat(uploadedImage).isEqualTo(new UploadedImage(CONTENT_PATH, expected));
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_저장에_실패하면_참조를_해제한다() {
+        //given
+        when(contentAddressedFileStore.isEnabled())
+                .thenReturn(true);
+        when(contentAddressedFileStore.makeFilePath(CONTENT_DIGEST, ImageContentType.JPEG))
+                .thenReturn(CONTENT_PATH);
+        when(contentAddressedFileStore.acquire(CONTENT_DIGEST, CONTENT_PATH))
+                .thenReturn(new StoredFile(CONTENT_DIGEST, CONTENT_PATH, null, null, 1, false));
+        doThrow(new ServerException("업로드 실패"))
+                .when(fileService).save(any(), any());
+
+        //when
+        //then
+        assertThatThrownBy(() -> asyncFileUploader.uploadImage(PATH, ImageDirType.ROADMAP_NODE,
+                ImageContentType.JPEG, 파일_정보를_생성한다()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServerException.class);
+        verify(contentAddressedFileStore).release(CONTENT_PATH);
+    }
+
+    private FileInformation 파일_정보를_생성한다() {
+        final byte[] content = "tempImage".getBytes();
+        return new FileInformation("originalFileName.jpeg", content.length, "image/jpeg",
+                new ByteArrayInputStream(content));
+    }
+}
@@ -0,0 +1,100 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.persistence.goalroom.CheckFeedRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CheckFeedImageSchedulerTest {
+
+    private static final long PENDING_TIMEOUT_MINUTES = 30;
+
+    @Mock
+    private CheckFeedRepository checkFeedRepository;
+
+    @Mock
+    private FileSpooler fileSpooler;
+
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CheckFeedImageScheduler checkFeedImageScheduler;
+
+    @BeforeEach
+    void setUp() {
+        checkFeedImageScheduler = new CheckFeedImageScheduler(checkFeedRepository, fileSpooler,
+                schedulerLeaseManager, PENDING_TIMEOUT_MINUTES, meterRegistry);
+    }
+
+    @Test
+    void 업로드_제한_시간이_지난_대기중인_인증_피드_이미지를_실패로_변경하고_만료된_임시_파일을_삭제한다() {
+        // given
+        작업_실행_권한을_얻는다();
+        given(checkFeedRepository.updateImageStatusCreatedBefore(eq(CheckFeedImageStatus.PENDING), any(),
+                eq(CheckFeedImageStatus.FAILED)))
+                .willReturn(2);
+        given(fileSpooler.deleteExpired(any()))
+                .willReturn(1);
+
+        // when
+        final LocalDateTime before = LocalDateTime.now();
+        checkFeedImageScheduler.cleanUpPendingImages();
+
+        // then
+        final ArgumentCaptor<LocalDateTime> createdAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        final ArgumentCaptor<Instant> expiredAtCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(checkFeedRepository).updateImageStatusCreatedBefore(eq(CheckFeedImageStatus.PENDING),
+                createdAtCaptor.capture(), eq(CheckFeedImageStatus.FAILED));
+        verify(fileSpooler).deleteExpired(expiredAtCaptor.capture());
+        assertAll(
+                () -> assertThat(createdAtCaptor.getValue())
+                        .isBeforeOrEqualTo(LocalDateTime.now().minusMinutes(PENDING_TIMEOUT_MINUTES))
+                        .isAfterOrEqualTo(before.minusMinutes(PENDING_TIMEOUT_MINUTES)),
+                () -> assertThat(expiredAtCaptor.getValue())
+                        .isBefore(Instant.now().minusSeconds(PENDING_TIMEOUT_MINUTES * 60 - 1)),
+                () -> assertThat(meterRegistry.get("check-feed.image-failed").counter().count()).isEqualTo(2),
+                () -> assertThat(meterRegistry.get("scheduler.job.duration")
+                        .tag("job", "check-feed.fail-pending-images").timer().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 다른_인스턴스가_작업을_선점했더라도_이_인스턴스의_만료된_임시_파일은_삭제한다() {
+        // given
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willReturn(false);
+
+        // when
+        checkFeedImageScheduler.cleanUpPendingImages();
+
+        // then
+        verify(checkFeedRepository, never()).updateImageStatusCreatedBefore(any(), any(), any());
+        verify(fileSpooler).deleteExpired(any());
+    }
+
+    private void 작업_실행_권한을_얻는다() {
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+    }
+}
@@ -0,0 +1,224 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.persistence.goalroom.CheckFeedRepository;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import co.kirikiri.service.dto.SpooledFile;
+import co.kirikiri.service.event.CheckFeedImageUploadEvent;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+
+class CheckFeedImageUploadEventListenerTest {
+
+    private static final String SERVER_FILE_PATH = "/2023/0815/checkFeed/uuid_originalFileName.jpeg";
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private FileService fileService;
+    private CheckFeedRepository checkFeedRepository;
+    private FileSpooler fileSpooler;
+    private ImageDerivativeGenerator imageDerivativeGenerator;
+    private ContentAddressedFileStore contentAddressedFileStore;
+    private CheckFeedImageUploadEventListener checkFeedImageUploadEventListener;
+
+    @BeforeEach
+    void setUp() {
+        fileService = mock(FileService.class);
+        checkFeedRepository = mock(CheckFeedRepository.class);
+        fileSpooler = new FileSpooler(spoolDirectory.toString());
+        imageDerivativeGenerator = mock(ImageDerivativeGenerator.class);
+        contentAddressedFileStore = mock(ContentAddressedFileStore.class);
+        given(imageDerivativeGenerator.generate(any(), any(), any(), any()))
+                .willReturn(ImageDerivatives.empty());
+        checkFeedImageUploadEventListener = new CheckFeedImageUploadEventListener(fileService, fileSpooler,
+                imageDerivativeGenerator, checkFeedRepository, contentAddressedFileStore, Runnable::run, 3, 0L);
+    }
+
+    @Test
+    void 임시_저장된_인증_피드_이미지를_업로드하고_READY_상태로_변경한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService).save(eq(SERVER_FILE_PATH), any(FileInformation.class));
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.READY);
+        assertThat(Files.exists(event.spooledFile().path())).isFalse();
+    }
+
+    @Test
+    void 업로드가_완료되면_파생_이미지_경로를_저장한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        given(imageDerivativeGenerator.generate(eq(SERVER_FILE_PATH), eq(ImageDirType.CHECK_FEED),
+                eq(ImageContentType.JPEG), any()))
+                .willReturn(new ImageDerivatives("thumbnailFilePath", "mediumFilePath"));
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(checkFeedRepository).updateDerivativeFilePaths(1L, "thumbnailFilePath", "mediumFilePath");
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.READY);
+    }
+
+    @Test
+    void 업로드에_실패하면_재시도한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        doThrow(new ServerException("업로드 실패"))
+                .doNothing()
+                .when(fileService).save(any(), any());
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService, times(2)).save(eq(SERVER_FILE_PATH), any(FileInformation.class));
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.READY);
+    }
+
+    @Test
+    void 최대_시도_횟수만큼_실패하면_FAILED_상태로_변경한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        doThrow(new ServerException("업로드 실패"))
+                .when(fileService).save(any(), any());
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService, times(3)).save(eq(SERVER_FILE_PATH), any(FileInformation.class));
+        verify(imageDerivativeGenerator, never()).generate(any(), any(), any(), any());
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.FAILED);
+        assertThat(Files.exists(event.spooledFile().path())).isFalse();
+    }
+
+    @Test
+    void 업로드_대기열이_가득_차면_FAILED_상태로_변경하고_임시_파일을_삭제한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        final CheckFeedImageUploadEventListener rejectingListener = new CheckFeedImageUploadEventListener(
+                fileService, fileSpooler, imageDerivativeGenerator, checkFeedRepository, contentAddressedFileStore,
+                task -> {
+                    throw new TaskRejectedException("업로드 대기열이 가득 찼습니다.");
+                }, 3, 0L);
+
+        //when
+        rejectingListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService, never()).save(any(), any());
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.FAILED);
+        assertThat(Files.exists(event.spooledFile().path())).isFalse();
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_임시_파일만_삭제한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        doNothing().when(fileService).save(any(), any());
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedRollback(event);
+
+        //then
+        verify(fileService, never()).save(any(), any());
+        verify(checkFeedRepository, never()).updateImageStatus(any(), any());
+        assertThat(Files.exists(event.spooledFile().path())).isFalse();
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_이미_업로드된_이미지면_업로드를_생략하고_READY_상태로_변경한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        given(contentAddressedFileStore.isEnabled())
+                .willReturn(true);
+        given(contentAddressedFileStore.acquire(event.spooledFile().digest(), SERVER_FILE_PATH))
+                .willReturn(new StoredFile(event.spooledFile().digest(), SERVER_FILE_PATH, "thumbnailFilePath",
+                        "mediumFilePath", 2, true));
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService, never()).save(any(), any());
+        verify(imageDerivativeGenerator, never()).generate(any(), any(), any(), any());
+        verify(checkFeedRepository).updateDerivativeFilePaths(1L, "thumbnailFilePath", "mediumFilePath");
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.READY);
+        assertThat(Files.exists(event.spooledFile().path())).isFalse();
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_처음_업로드하는_이미지면_업로드_후_업로드_완료로_기록한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        final ImageDerivatives imageDerivatives = new ImageDerivatives("thumbnailFilePath", "mediumFilePath");
+        given(contentAddressedFileStore.isEnabled())
+                .willReturn(true);
+        given(contentAddressedFileStore.acquire(event.spooledFile().digest(), SERVER_FILE_PATH))
+                .willReturn(new StoredFile(event.spooledFile().digest(), SERVER_FILE_PATH, null, null, 1, false));
+        given(imageDerivativeGenerator.generate(eq(SERVER_FILE_PATH), eq(ImageDirType.CHECK_FEED),
+                eq(ImageContentType.JPEG), any()))
+                .willReturn(imageDerivatives);
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(fileService).save(eq(SERVER_FILE_PATH), any(FileInformation.class));
+        verify(contentAddressedFileStore).markUploaded(SERVER_FILE_PATH, imageDerivatives);
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.READY);
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_업로드에_실패하면_참조를_해제한다() {
+        //given
+        final CheckFeedImageUploadEvent event = 인증_피드_이미지_업로드_이벤트를_생성한다();
+        given(contentAddressedFileStore.isEnabled())
+                .willReturn(true);
+        given(contentAddressedFileStore.acquire(event.spooledFile().digest(), SERVER_FILE_PATH))
+                .willReturn(new StoredFile(event.spooledFile().digest(), SERVER_FILE_PATH, null, null, 1, false));
+        doThrow(new ServerException("업로드 실패"))
+                .when(fileService).save(any(), any());
+
+        //when
+        checkFeedImageUploadEventListener.handleCheckFeedImageUpload(event);
+
+        //then
+        verify(contentAddressedFileStore).release(SERVER_FILE_PATH);
+        verify(contentAddressedFileStore, never()).markUploaded(any(), any());
+        verify(checkFeedRepository).updateImageStatus(1L, CheckFeedImageStatus.FAILED);
+    }
+
+    private CheckFeedImageUploadEvent 인증_피드_이미지_업로드_이벤트를_생성한다() {
+        final byte[] content = "tempImage".getBytes();
+        final SpooledFile spooledFile = fileSpooler.spool(new FileInformation("originalFileName.jpeg",
+                content.length, "image/jpeg", new ByteArrayInputStream(content)));
+        return new CheckFeedImageUploadEvent(1L, SERVER_FILE_PATH, spooledFile);
+    }
+}
@@ -0,0 +1,32 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.kirikiri.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+class CheckFeedPlaceholderImageTest {
+
+    @Test
+    void 인증_피드_대체_이미지_경로를_반환한다() {
+        //given
+        final CheckFeedPlaceholderImage checkFeedPlaceholderImage = new CheckFeedPlaceholderImage(
+                "/check-feed/placeholder.png");
+
+        //when
+        final String serverFilePath = checkFeedPlaceholderImage.getServerFilePath();
+
+        //then
+        assertThat(serverFilePath).isEqualTo("/check-feed/placeholder.png");
+    }
+
+    @Test
+    void 인증_피드_대체_이미지_경로가_비어있으면_예외가_발생한다() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> new CheckFeedPlaceholderImage(" "))
+                .isInstanceOf(ServerException.class);
+    }
+}
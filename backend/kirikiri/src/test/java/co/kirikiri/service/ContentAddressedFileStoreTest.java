@@ -0,0 +1,135 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.persistence.file.StoredFileRepository;
+import co.kirikiri.service.dto.ImageDerivatives;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ContentAddressedFileStoreTest {
+
+    private static final String DIGEST = "8be97fc7ef72c3a5fa16d84e62f6a53f6167b8ef1aad6aacf26c025ac1fdcf4a";
+    private static final String SERVER_FILE_PATH = "/content/8b/" + DIGEST + ".jpeg";
+
+    private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+    private final ContentAddressedFileStore contentAddressedFileStore =
+            new ContentAddressedFileStore(storedFileRepository, true);
+
+    @Test
+    void 파일_내용의_SHA_256_다이제스트를_계산한다() {
+        //given
+        final MessageDigest messageDigest = ContentAddressedFileStore.createMessageDigest();
+        messageDigest.update("tempImage".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        final String digest = ContentAddressedFileStore.toDigest(messageDigest);
+
+        //then
+        assertThat(digest).isEqualTo(DIGEST);
+    }
+
+    @Test
+    void 다이제스트와_확장자로_파일_경로를_생성한다() {
+        //given
+        //when
+        final String filePath = contentAddressedFileStore.makeFilePath(DIGEST, ImageContentType.JPEG);
+
+        //then
+        assertThat(filePath).isEqualTo(SERVER_FILE_PATH);
+        assertThat(contentAddressedFileStore.isEnabled()).isTrue();
+    }
+
+    @Test
+    void 저장된_파일을_참조하면_참조_횟수를_증가시키고_저장된_파일_정보를_반환한다() {
+        //given
+        final StoredFile storedFile = new StoredFile(DIGEST, SERVER_FILE_PATH, "thumbnailFilePath",
+                "mediumFilePath", 2, true);
+        given(storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH))
+                .willReturn(1);
+        given(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH))
+                .willReturn(Optional.of(storedFile));
+
+        //when
+        final StoredFile result = contentAddressedFileStore.acquire(DIGEST, SERVER_FILE_PATH);
+
+        //then
+        verify(storedFileRepository, never()).saveAndFlush(any());
+        assertThat(result).isEqualTo(storedFile);
+    }
+
+    @Test
+    void 처음_참조하는_파일이면_참조_횟수_1로_저장한다() {
+        //given
+        final StoredFile storedFile = new StoredFile(DIGEST, SERVER_FILE_PATH, null, null, 1, false);
+        given(storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH))
+                .willReturn(0);
+        given(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH))
+                .willReturn(Optional.of(storedFile));
+
+        //when
+        final StoredFile result = contentAddressedFileStore.acquire(DIGEST, SERVER_FILE_PATH);
+
+        //then
+        verify(storedFileRepository).saveAndFlush(any(StoredFile.class));
+        assertThat(result.isUploaded()).isFalse();
+    }
+
+    @Test
+    void 동시에_같은_파일이_저장되면_참조_횟수를_증가시킨다() {
+        //given
+        final StoredFile storedFile = new StoredFile(DIGEST, SERVER_FILE_PATH, null, null, 2, false);
+        given(storedFileRepository.increaseReferenceCount(SERVER_FILE_PATH))
+                .willReturn(0, 1);
+        given(storedFileRepository.saveAndFlush(any(StoredFile.class)))
+                .willThrow(new DataIntegrityViolationException("중복된 파일"));
+        given(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH))
+                .willReturn(Optional.of(storedFile));
+
+        //when
+        final StoredFile result = contentAddressedFileStore.acquire(DIGEST, SERVER_FILE_PATH);
+
+        //then
+        verify(storedFileRepository, times(2)).increaseReferenceCount(SERVER_FILE_PATH);
+        assertThat(result).isEqualTo(storedFile);
+    }
+
+    @Test
+    void 참조_후_저장된_파일_정보가_없으면_예외가_발생한다() {
+        //given
+        given(storedFileRepository.findByServerFilePath(SERVER_FILE_PATH))
+                .willReturn(Optional.empty());
+
+        //when
+        //then
+        assertThatThrownBy(() -> contentAddressedFileStore.acquire(DIGEST, SERVER_FILE_PATH))
+                .isInstanceOf(ServerException.class);
+    }
+
+    @Test
+    void 업로드_완료와_참조_해제를_기록한다() {
+        //given
+        //when
+        contentAddressedFileStore.markUploaded(SERVER_FILE_PATH,
+                new ImageDerivatives("thumbnailFilePath", "mediumFilePath"));
+        contentAddressedFileStore.release(SERVER_FILE_PATH);
+
+        //then
+        verify(storedFileRepository).updateUploaded(SERVER_FILE_PATH, "thumbnailFilePath", "mediumFilePath");
+        verify(storedFileRepository).decreaseReferenceCount(eq(SERVER_FILE_PATH), any());
+    }
+}
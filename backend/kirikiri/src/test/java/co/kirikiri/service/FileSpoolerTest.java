@@ -0,0 +1,110 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.SpooledFile;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSpoolerTest {
+
+    private static final byte[] CONTENT = "tempImage".getBytes();
+
+    @TempDir
+    private Path spoolDirectory;
+
+    @Test
+    void 파일을_임시_디렉토리에_저장하고_다시_읽는다() throws IOException {
+        //given
+        final FileSpooler fileSpooler = new FileSpooler(spoolDirectory.toString());
+
+        //when
+        final SpooledFile spooledFile = fileSpooler.spool(파일_정보를_생성한다());
+
+        //then
+        final FileInformation fileInformation = fileSpooler.open(spooledFile);
+        try (final InputStream inputStream = fileInformation.inputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+        assertThat(fileInformation.originalFileName()).isEqualTo("originalFileName.jpeg");
+        assertThat(spooledFile.digest())
+                .isEqualTo("8be97fc7ef72c3a5fa16d84e62f6a53f6167b8ef1aad6aacf26c025ac1fdcf4a");
+    }
+
+    @Test
+    void 임시_디렉토리를_만들_수_없으면_예외가_발생한다() throws IOException {
+        //given
+        final Path file = Files.createFile(spoolDirectory.resolve("file"));
+        final FileSpooler fileSpooler = new FileSpooler(file.toString());
+
+        //when
+        //then
+        assertThatThrownBy(() -> fileSpooler.spool(파일_정보를_생성한다()))
+                .isInstanceOf(ServerException.class);
+    }
+
+    @Test
+    void 임시_파일을_삭제한다() {
+        //given
+        final FileSpooler fileSpooler = new FileSpooler(spoolDirectory.toString());
+        final SpooledFile spooledFile = fileSpooler.spool(파일_정보를_생성한다());
+
+        //when
+        fileSpooler.delete(spooledFile);
+
+        //then
+        assertThat(Files.exists(spooledFile.path())).isFalse();
+    }
+
+    @Test
+    void 만료_시각_이전에_만들어진_임시_파일만_삭제한다() throws IOException {
+        //given
+        final FileSpooler fileSpooler = new FileSpooler(spoolDirectory.toString());
+        final SpooledFile expiredFile = fileSpooler.spool(파일_정보를_생성한다());
+        final SpooledFile activeFile = fileSpooler.spool(파일_정보를_생성한다());
+        final Path otherFile = Files.createFile(spoolDirectory.resolve("other"));
+        final Instant expiredAt = Instant.now().minus(Duration.ofMinutes(30));
+        Files.setLastModifiedTime(expiredFile.path(), FileTime.from(expiredAt.minusSeconds(1)));
+        Files.setLastModifiedTime(otherFile, FileTime.from(expiredAt.minusSeconds(1)));
+
+        //when
+        final int deletedCount = fileSpooler.deleteExpired(expiredAt);
+
+        //then
+        assertAll(
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(Files.exists(expiredFile.path())).isFalse(),
+                () -> assertThat(Files.exists(activeFile.path())).isTrue(),
+                () -> assertThat(Files.exists(otherFile)).isTrue()
+        );
+    }
+
+    @Test
+    void 임시_디렉토리가_없으면_삭제할_파일이_없다() {
+        //given
+        final FileSpooler fileSpooler = new FileSpooler(spoolDirectory.resolve("missing").toString());
+
+        //when
+        final int deletedCount = fileSpooler.deleteExpired(Instant.now());
+
+        //then
+        assertThat(deletedCount).isZero();
+    }
+
+    private FileInformation 파일_정보를_생성한다() {
+        return new FileInformation("originalFileName.jpeg", CONTENT.length, "image/jpeg",
+                new ByteArrayInputStream(CONTENT));
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,15 +50,17 @@ import co.kirikiri.persistence.goalroom.CheckFeedRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomToDoCheckRepository;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
+import co.kirikiri.service.dto.SpooledFile;
 import co.kirikiri.service.dto.goalroom.request.CheckFeedRequest;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomCreateRequest;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomRoadmapNodeRequest;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomTodoRequest;
 import co.kirikiri.service.dto.goalroom.response.GoalRoomToDoCheckResponse;
+import co.kirikiri.service.event.CheckFeedImageUploadEvent;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -69,6 +72,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -106,7 +110,7 @@ class GoalRoomCreateServiceTest {
     private RoadmapContentRepository roadmapContentRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberReferenceResolver memberReferenceResolver;
 
     @Mock
     private GoalRoomToDoCheckRepository goalRoomToDoCheckRepository;
@@ -120,6 +124,21 @@ class GoalRoomCreateServiceTest {
     @Mock
     private FilePathGenerator filePathGenerator;
 
+    @Mock
+    private FileSpooler fileSpooler;
+
+    @Mock
+    private ContentAddressedFileStore contentAddressedFileStore;
+
+    @Mock
+    private ImageHeaderValidator imageHeaderValidator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private CheckFeedPlaceholderImage checkFeedPlaceholderImage;
+
     @InjectMocks
     private GoalRoomCreateService goalRoomCreateService;
 
@@ -146,7 +165,7 @@ class GoalRoomCreateServiceTest {
 
         given(roadmapContentRepository.findByIdWithRoadmap(anyLong()))
                 .willReturn(Optional.of(ROADMAP_CONTENT));
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(goalRoomRepository.save(any()))
                 .willReturn(new GoalRoom(1L, null, null, null, null));
@@ -232,7 +251,7 @@ class GoalRoomCreateServiceTest {
 
         given(roadmapContentRepository.findByIdWithRoadmap(anyLong()))
                 .willReturn(Optional.of(ROADMAP_CONTENT));
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.empty());
 
         //when
@@ -252,7 +271,7 @@ class GoalRoomCreateServiceTest {
         final GoalRoom goalRoom = 골룸을_생성한다(1L, creator, targetRoadmapContent, limitedMemberCount);
         final Member follower = 사용자를_생성한다(2L, "identifier2", "password1!", "팔로워", "010-1234-5678");
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(follower));
         when(goalRoomRepository.findById(anyLong()))
                 .thenReturn(Optional.of(goalRoom));
@@ -268,7 +287,7 @@ class GoalRoomCreateServiceTest {
     @Test
     void 골룸_참가_요청시_유효한_사용자_아이디가_아니면_예외가_발생한다() {
         //given
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.empty());
 
         //when, then
@@ -282,7 +301,7 @@ class GoalRoomCreateServiceTest {
         //given
         final Member follower = 사용자를_생성한다(1L, "identifier1", "password1!", "팔로워", "010-1234-5678");
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(follower));
         when(goalRoomRepository.findById(anyLong()))
                 .thenReturn(Optional.empty());
@@ -304,7 +323,7 @@ class GoalRoomCreateServiceTest {
         final GoalRoom goalRoom = 골룸을_생성한다(1L, creator, targetRoadmapContent, limitedMemberCount);
         final Member follower = 사용자를_생성한다(1L, "identifier2", "password1!", "팔로워", "010-1234-5678");
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(follower));
         when(goalRoomRepository.findById(anyLong()))
                 .thenReturn(Optional.of(goalRoom));
@@ -326,7 +345,7 @@ class GoalRoomCreateServiceTest {
         final Member follower = 사용자를_생성한다(2L, "identifier2", "password2!", "팔로워", "010-1111-2222");
         goalRoom.start();
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(follower));
         when(goalRoomRepository.findById(anyLong()))
                 .thenReturn(Optional.of(goalRoom));
@@ -350,7 +369,7 @@ class GoalRoomCreateServiceTest {
         goalRoom.addGoalRoomTodo(
                 new GoalRoomToDo(new GoalRoomTodoContent("goalRoomTodoContent"), new Period(TODAY, TEN_DAY_LATER)));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(creator));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -366,7 +385,7 @@ class GoalRoomCreateServiceTest {
     @Test
     void 골룸에_투두리스트_추가시_회원을_찾지_못할_경우_예외를_던진다() {
         //given
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.empty());
 
         final GoalRoomTodoRequest goalRoomTodoRequest = new GoalRoomTodoRequest("goalRoomContent", TODAY,
@@ -391,7 +410,7 @@ class GoalRoomCreateServiceTest {
         goalRoom.addGoalRoomTodo(
                 new GoalRoomToDo(new GoalRoomTodoContent("goalRoomTodoContent"), new Period(TODAY, TEN_DAY_LATER)));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(creator));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.empty());
@@ -419,7 +438,7 @@ class GoalRoomCreateServiceTest {
                 new GoalRoomToDo(new GoalRoomTodoContent("goalRoomTodoContent"), new Period(TODAY, TEN_DAY_LATER)));
         goalRoom.complete();
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(creator));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -446,7 +465,7 @@ class GoalRoomCreateServiceTest {
         goalRoom.addGoalRoomTodo(
                 new GoalRoomToDo(new GoalRoomTodoContent("goalRoomTodoContent"), new Period(TODAY, TEN_DAY_LATER)));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -473,7 +492,7 @@ class GoalRoomCreateServiceTest {
         goalRoom.addGoalRoomTodo(
                 new GoalRoomToDo(new GoalRoomTodoContent("goalRoomTodoContent"), new Period(TODAY, TEN_DAY_LATER)));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(creator));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -498,7 +517,7 @@ class GoalRoomCreateServiceTest {
         final RoadmapContent targetRoadmapContent = roadmapContents.getValues().get(0);
         final GoalRoom goalRoom = 골룸을_생성한다(1L, creator, targetRoadmapContent, 10);
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(creator));
         when(goalRoomRepository.findById(any()))
                 .thenReturn(Optional.of(goalRoom));
@@ -513,7 +532,7 @@ class GoalRoomCreateServiceTest {
     @Test
     void 골룸_시작시_존재하지_않는_사용자면_예외가_발생한다() {
         // given
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.empty());
 
         // expected
@@ -526,7 +545,7 @@ class GoalRoomCreateServiceTest {
         // given
         final Member member = 사용자를_생성한다(1L, "cokirikiri", "password1!", "코끼리", "010-1234-5678");
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(goalRoomRepository.findById(any()))
                 .thenReturn(Optional.empty());
@@ -547,7 +566,7 @@ class GoalRoomCreateServiceTest {
         final RoadmapContent targetRoadmapContent = roadmapContents.getValues().get(0);
         final GoalRoom goalRoom = 골룸을_생성한다(1L, creator, targetRoadmapContent, 10);
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(follower));
         when(goalRoomRepository.findById(any()))
                 .thenReturn(Optional.of(goalRoom));
@@ -567,7 +586,7 @@ class GoalRoomCreateServiceTest {
         final RoadmapContent targetRoadmapContent = roadmapContents.getValues().get(0);
         final GoalRoom goalRoom = 시작_날짜가_미래인_골룸을_생성한다(1L, creator, targetRoadmapContent, 10);
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(creator));
         when(goalRoomRepository.findById(any()))
                 .thenReturn(Optional.of(goalRoom));
@@ -606,8 +625,15 @@ class GoalRoomCreateServiceTest {
                 .thenReturn(checkFeed);
         when(filePathGenerator.makeFilePath(any(), any()))
                 .thenReturn("originalFileName.jpeg");
+        when(imageHeaderValidator.validate(any()))
+                .thenReturn(ImageContentType.JPEG);
+        when(fileSpooler.spool(any()))
+                .thenReturn(new SpooledFile(Path.of("spool-file"), "originalFileName.jpeg", 100L, "image/jpeg",
+                        "digest"));
+        when(checkFeedPlaceholderImage.getServerFilePath())
+                .thenReturn("placeholder.png");
         when(fileService.generateUrl(anyString(), any()))
-                .thenReturn(makeUrl("originalFileName.jpeg"));
+                .thenReturn(makeUrl("placeholder.png"));
 
         // when
         final String response = goalRoomCreateService.createCheckFeed("identifier", 1L, request);
@@ -615,8 +641,10 @@ class GoalRoomCreateServiceTest {
         // then
         assertAll(
                 () -> assertThat(goalRoomLeader.getAccomplishmentRate()).isEqualTo(100 / (double) 10),
-                () -> assertThat(response).contains("originalFileName")
+                () -> assertThat(response).contains("placeholder.png")
         );
+        verify(fileService, never()).save(any(), any());
+        verify(applicationEventPublisher).publishEvent(any(CheckFeedImageUploadEvent.class));
     }
 
     @Test
@@ -727,6 +755,8 @@ class GoalRoomCreateServiceTest {
                 .thenReturn(Optional.of(goalRoom));
         when(goalRoomMemberRepository.findByGoalRoomAndMemberIdentifier(any(), any()))
                 .thenReturn(Optional.of(goalRoomLeader));
+        when(imageHeaderValidator.validate(any()))
+                .thenThrow(new BadRequestException("허용되지 않는 확장자입니다."));
 
         // when
         assertThatThrownBy(
@@ -915,7 +945,7 @@ class GoalRoomCreateServiceTest {
         final GoalRoom goalRoom = new GoalRoom(1L, new GoalRoomName("골룸"), new LimitedMemberCount(3),
                 new RoadmapContent("content"), MEMBER);
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(MEMBER));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -929,7 +959,7 @@ class GoalRoomCreateServiceTest {
     @Test
     void 골룸을_나갈때_존재하지_않는_회원일_경우_예외가_발생한다() {
         // given
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.empty());
 
         // when
@@ -941,7 +971,7 @@ class GoalRoomCreateServiceTest {
     @Test
     void 골룸을_나갈때_존재하지_않는_골룸일_경우_예외가_발생한다() {
         // given
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.empty());
@@ -958,7 +988,7 @@ class GoalRoomCreateServiceTest {
         final GoalRoom goalRoom = new GoalRoom(1L, new GoalRoomName("골룸"), new LimitedMemberCount(3),
                 new RoadmapContent("content"), MEMBER);
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -977,7 +1007,7 @@ class GoalRoomCreateServiceTest {
         final GoalRoom goalRoom = new GoalRoom(1L, new GoalRoomName("골룸"), new LimitedMemberCount(3),
                 new RoadmapContent("content"), MEMBER);
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(goalRoomRepository.findById(anyLong()))
                 .willReturn(Optional.of(goalRoom));
@@ -0,0 +1,68 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class GoalRoomEnderTest {
+
+    private static final LocalDate YESTERDAY = LocalDate.now().minusDays(1);
+
+    @Mock
+    private GoalRoomRepository goalRoomRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private GoalRoomEnder goalRoomEnder;
+
+    @Test
+    void 종료날짜가_지난_골룸들을_한_번에_종료하고_로드맵_변경_이벤트를_발행한다() {
+        // given
+        given(goalRoomRepository.findRoadmapIdsByEndDateAndStatusNot(YESTERDAY, GoalRoomStatus.COMPLETED))
+                .willReturn(List.of(1L, 2L));
+        given(goalRoomRepository.updateStatusByEndDate(eq(YESTERDAY), eq(GoalRoomStatus.COMPLETED), any()))
+                .willReturn(3);
+
+        // when
+        final int completedCount = goalRoomEnder.endGoalRooms(YESTERDAY);
+
+        // then
+        assertThat(completedCount).isEqualTo(3);
+        verify(applicationEventPublisher).publishEvent(new RoadmapChangedEvent(1L));
+        verify(applicationEventPublisher).publishEvent(new RoadmapChangedEvent(2L));
+    }
+
+    @Test
+    void 종료할_골룸이_없으면_로드맵_변경_이벤트를_발행하지_않는다() {
+        // given
+        given(goalRoomRepository.findRoadmapIdsByEndDateAndStatusNot(YESTERDAY, GoalRoomStatus.COMPLETED))
+                .willReturn(Collections.emptyList());
+
+        // when
+        final int completedCount = goalRoomEnder.endGoalRooms(YESTERDAY);
+
+        // then
+        assertThat(completedCount).isZero();
+        verify(goalRoomRepository).updateStatusByEndDate(eq(YESTERDAY), eq(GoalRoomStatus.COMPLETED), any());
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+}
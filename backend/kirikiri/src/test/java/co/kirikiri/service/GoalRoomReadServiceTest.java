@@ -3,6 +3,7 @@ package co.kirikiri.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -48,7 +49,6 @@ import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomToDoCheckRepository;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.service.dto.goalroom.GoalRoomMemberSortTypeDto;
 import co.kirikiri.service.dto.goalroom.request.GoalRoomStatusTypeRequest;
 import co.kirikiri.service.dto.goalroom.response.CheckFeedResponse;
@@ -67,11 +67,15 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -85,7 +89,7 @@ class GoalRoomReadServiceTest {
     private static final LocalDate THIRTY_DAY_LATER = TODAY.plusDays(30);
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberReferenceResolver memberReferenceResolver;
 
     @Mock
     private GoalRoomRepository goalRoomRepository;
@@ -102,9 +106,12 @@ class GoalRoomReadServiceTest {
     @Mock
     private CheckFeedRepository checkFeedRepository;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private FileService fileService;
 
+    @Mock
+    private CheckFeedPlaceholderImage checkFeedPlaceholderImage;
+
     @InjectMocks
     private GoalRoomReadService goalRoomReadService;
 
@@ -485,10 +492,12 @@ class GoalRoomReadServiceTest {
         final List<CheckFeed> checkFeeds = 인증_피드_목록을_생성한다(goalRoomRoadmapNode1, member, goalRoom);
         given(goalRoomRepository.findByIdWithContentAndTodos(anyLong()))
                 .willReturn(Optional.of(goalRoom));
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(checkFeedRepository.findByRunningGoalRoomRoadmapNode(any()))
                 .willReturn(checkFeeds);
+        given(checkFeedPlaceholderImage.getServerFilePath())
+                .willReturn("/placeholder.png");
         given(fileService.generateUrl(anyString(), any()))
                 .willReturn(new URL("http://example.com/serverFilePath"));
 
@@ -551,7 +560,7 @@ class GoalRoomReadServiceTest {
 
         given(goalRoomRepository.findByIdWithContentAndTodos(anyLong()))
                 .willReturn(Optional.of(goalRoom));
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
 
         final MemberGoalRoomResponse expected = new MemberGoalRoomResponse(goalRoom.getName().getValue(),
@@ -608,10 +617,12 @@ class GoalRoomReadServiceTest {
         final List<CheckFeed> checkFeeds = 인증_피드_목록을_생성한다(goalRoomRoadmapNode1, member, goalRoom);
         given(goalRoomRepository.findByIdWithContentAndTodos(anyLong()))
                 .willReturn(Optional.of(goalRoom));
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(member));
         given(checkFeedRepository.findByGoalRoom(any()))
                 .willReturn(checkFeeds);
+        given(checkFeedPlaceholderImage.getServerFilePath())
+                .willReturn("/placeholder.png");
         given(fileService.generateUrl(anyString(), any()))
                 .willReturn(new URL("http://example.com/serverFilePath"));
 
@@ -669,7 +680,7 @@ class GoalRoomReadServiceTest {
 
         when(goalRoomRepository.findByIdWithContentAndTodos(anyLong()))
                 .thenReturn(Optional.of(goalRoom));
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenThrow(new NotFoundException("존재하지 않는 회원입니다."));
 
         // when, then
@@ -691,7 +702,7 @@ class GoalRoomReadServiceTest {
 
         when(goalRoomRepository.findByIdWithContentAndTodos(anyLong()))
                 .thenReturn(Optional.of(goalRoom));
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
 
         // when, then
@@ -717,7 +728,7 @@ class GoalRoomReadServiceTest {
         goalRoom1.join(member);
         goalRoom3.join(member);
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(goalRoomRepository.findByMember(any()))
                 .thenReturn(List.of(goalRoom1, goalRoom3));
@@ -749,7 +760,7 @@ class GoalRoomReadServiceTest {
         // given
         final Member creator = 크리에이터를_생성한다();
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(creator));
         when(goalRoomRepository.findByMember(any()))
                 .thenReturn(Collections.emptyList());
@@ -782,7 +793,7 @@ class GoalRoomReadServiceTest {
         goalRoom3.start();
         goalRoom4.complete();
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(goalRoomRepository.findByMemberAndStatus(any(), any()))
                 .thenReturn(List.of(goalRoom1, goalRoom2));
@@ -839,7 +850,7 @@ class GoalRoomReadServiceTest {
                 new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom3, creator),
                 new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), goalRoom3, member)));
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(goalRoomRepository.findByMemberAndStatus(any(), any()))
                 .thenReturn(List.of(goalRoom3, goalRoom4));
@@ -896,7 +907,7 @@ class GoalRoomReadServiceTest {
                 new GoalRoomMember(GoalRoomRole.LEADER, LocalDateTime.now(), goalRoom3, creator),
                 new GoalRoomMember(GoalRoomRole.FOLLOWER, LocalDateTime.now(), goalRoom3, member)));
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(goalRoomRepository.findByMemberAndStatus(any(), any()))
                 .thenReturn(List.of(goalRoom3, goalRoom4));
@@ -1009,8 +1020,10 @@ class GoalRoomReadServiceTest {
                 .willReturn(Optional.of(goalRoomMember1));
         given(checkFeedRepository.findByRunningGoalRoomRoadmapNodeWithMemberAndMemberImage(any()))
                 .willReturn(List.of(checkFeed3, checkFeed2, checkFeed1));
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+        given(checkFeedPlaceholderImage.getServerFilePath())
+                .willReturn("/placeholder.png");
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         // when
         final List<GoalRoomCheckFeedResponse> responses = goalRoomReadService.findGoalRoomCheckFeeds("cokirikiri", 1L);
@@ -1087,8 +1100,10 @@ class GoalRoomReadServiceTest {
                 .willReturn(Optional.of(goalRoomMember1));
         given(checkFeedRepository.findByGoalRoomWithMemberAndMemberImage(any()))
                 .willReturn(List.of(checkFeed3, checkFeed2, checkFeed1));
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+        given(checkFeedPlaceholderImage.getServerFilePath())
+                .willReturn("/placeholder.png");
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         // when
         final List<GoalRoomCheckFeedResponse> responses = goalRoomReadService.findGoalRoomCheckFeeds("cokirikiri", 1L);
@@ -1298,4 +1313,12 @@ class GoalRoomReadServiceTest {
                         LocalDateTime.now())
         );
     }
+
+    private Map<String, URL> 파일_URL들을_생성한다(final Collection<String> paths) throws MalformedURLException {
+        final Map<String, URL> urls = new HashMap<>();
+        for (final String path : paths) {
+            urls.put(path, new URL("http://example.com/serverFilePath"));
+        }
+        return urls;
+    }
 }
@@ -1,200 +1,130 @@
 package co.kirikiri.service;
 
-import static co.kirikiri.domain.goalroom.GoalRoomStatus.RECRUITING;
-import static co.kirikiri.domain.goalroom.GoalRoomStatus.RUNNING;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-
-import co.kirikiri.domain.ImageContentType;
-import co.kirikiri.domain.goalroom.GoalRoom;
-import co.kirikiri.domain.goalroom.GoalRoomPendingMember;
-import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
-import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
-import co.kirikiri.domain.goalroom.GoalRoomRole;
-import co.kirikiri.domain.goalroom.vo.GoalRoomName;
-import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
-import co.kirikiri.domain.goalroom.vo.Period;
-import co.kirikiri.domain.member.EncryptedPassword;
-import co.kirikiri.domain.member.Gender;
-import co.kirikiri.domain.member.Member;
-import co.kirikiri.domain.member.MemberProfile;
-import co.kirikiri.domain.member.vo.Identifier;
-import co.kirikiri.domain.member.vo.Nickname;
-import co.kirikiri.domain.member.vo.Password;
-import co.kirikiri.domain.roadmap.Roadmap;
-import co.kirikiri.domain.roadmap.RoadmapCategory;
-import co.kirikiri.domain.roadmap.RoadmapContent;
-import co.kirikiri.domain.roadmap.RoadmapContents;
-import co.kirikiri.domain.roadmap.RoadmapDifficulty;
-import co.kirikiri.domain.roadmap.RoadmapNode;
-import co.kirikiri.domain.roadmap.RoadmapNodeImage;
-import co.kirikiri.domain.roadmap.RoadmapNodeImages;
-import co.kirikiri.domain.roadmap.RoadmapNodes;
-import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
-import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
-import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
-public class GoalRoomSchedulerTest {
+class GoalRoomSchedulerTest {
 
     private static final LocalDate TODAY = LocalDate.now();
-    private static final LocalDate TEN_DAY_LATER = TODAY.plusDays(10);
-    private static final LocalDate TWENTY_DAY_LATER = TODAY.plusDays(20);
+    private static final int CHUNK_SIZE = 2;
 
     @Mock
-    private GoalRoomRepository goalRoomRepository;
+    private GoalRoomStarter goalRoomStarter;
 
     @Mock
-    private GoalRoomMemberRepository goalRoomMemberRepository;
+    private GoalRoomEnder goalRoomEnder;
 
     @Mock
-    private GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+    private SchedulerLeaseManager schedulerLeaseManager;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private GoalRoomScheduler goalRoomScheduler;
 
+    @BeforeEach
+    void setUp() {
+        goalRoomScheduler = new GoalRoomScheduler(goalRoomStarter, goalRoomEnder, schedulerLeaseManager, CHUNK_SIZE,
+                meterRegistry);
+    }
+
     @Test
-    void 골룸의_시작날짜가_되면_골룸의_상태가_진행중으로_변경된다() {
+    void 시작할_골룸이_없을_때까지_청크_단위로_골룸을_시작한다() {
         // given
-        final Member creator = 사용자를_생성한다(1L, "cokirikiri", "password1!", "코끼리", "010-1234-5678");
-        final Roadmap roadmap = 로드맵을_생성한다(creator);
-
-        final RoadmapContents roadmapContents = roadmap.getContents();
-        final RoadmapContent targetRoadmapContent = roadmapContents.getValues().get(0);
-        final GoalRoom goalRoom1 = 골룸을_생성한다(1L, creator, targetRoadmapContent, 10);
-        final GoalRoom goalRoom2 = 골룸을_생성한다(2L, creator, targetRoadmapContent, 10);
-
-        final Member follower1 = 사용자를_생성한다(2L, "identifier1", "password2!", "name1", "010-1111-1111");
-        final Member follower2 = 사용자를_생성한다(3L, "identifier2", "password3!", "name2", "010-1111-1112");
-        final Member follower3 = 사용자를_생성한다(4L, "identifier3", "password4!", "name3", "010-1111-1113");
-
-        final GoalRoomPendingMember goalRoomPendingMember = 골룸_대기자를_생성한다(goalRoom2, creator, GoalRoomRole.FOLLOWER);
-        final GoalRoomPendingMember goalRoomPendingMember1 = 골룸_대기자를_생성한다(goalRoom1, follower1, GoalRoomRole.FOLLOWER);
-        final GoalRoomPendingMember goalRoomPendingMember2 = 골룸_대기자를_생성한다(goalRoom1, follower2, GoalRoomRole.FOLLOWER);
-
-        goalRoom1.join(follower1);
-        goalRoom1.join(follower2);
-        goalRoom2.join(follower3);
-
-        when(goalRoomRepository.findAllByStartDate(LocalDate.now()))
-                .thenReturn(List.of(goalRoom1));
+        작업_실행_권한을_얻는다();
+        given(goalRoomStarter.startNextChunk(TODAY, CHUNK_SIZE))
+                .willReturn(2, 1, 0);
 
         // when
         goalRoomScheduler.startGoalRooms();
 
         // then
+        verify(goalRoomStarter, times(3)).startNextChunk(TODAY, CHUNK_SIZE);
         assertAll(
-                () -> assertThat(goalRoom1.getStatus()).isEqualTo(RUNNING),
-                () -> assertThat(goalRoom2.getStatus()).isEqualTo(RECRUITING)
+                () -> assertThat(meterRegistry.get("goal-room.started").counter().count()).isEqualTo(3),
+                () -> assertThat(meterRegistry.get("scheduler.job.duration").tag("job", "goal-room.start").timer()
+                        .count()).isEqualTo(1)
         );
     }
 
     @Test
-    void 골룸의_시작날짜가_아직_지나지_않았다면_골룸의_상태가_변경되지_않는다() {
+    void 시작할_골룸이_없으면_청크를_한_번만_조회한다() {
         // given
-        final Member creator = 사용자를_생성한다(1L, "cokirikiri", "password1!", "코끼리", "010-1234-5678");
-        final Roadmap roadmap = 로드맵을_생성한다(creator);
-
-        final RoadmapContents roadmapContents = roadmap.getContents();
-        final RoadmapContent targetRoadmapContent = roadmapContents.getValues().get(0);
-        final GoalRoom goalRoom1 = 골룸을_생성한다(1L, creator, targetRoadmapContent, 10);
-        final GoalRoom goalRoom2 = 골룸을_생성한다(2L, creator, targetRoadmapContent, 10);
+        작업_실행_권한을_얻는다();
+        given(goalRoomStarter.startNextChunk(TODAY, CHUNK_SIZE))
+                .willReturn(0);
 
-        final Member follower1 = 사용자를_생성한다(2L, "identifier1", "password2!", "name1", "010-1111-1111");
-        final Member follower2 = 사용자를_생성한다(3L, "identifier2", "password3!", "name2", "010-1111-1112");
-        final Member follower3 = 사용자를_생성한다(4L, "identifier3", "password4!", "name3", "010-1111-1113");
+        // when
+        goalRoomScheduler.startGoalRooms();
 
-        goalRoom1.join(follower1);
-        goalRoom1.join(follower2);
-        goalRoom2.join(follower3);
+        // then
+        verify(goalRoomStarter, times(1)).startNextChunk(TODAY, CHUNK_SIZE);
+    }
 
-        when(goalRoomRepository.findAllByStartDate(LocalDate.now()))
-                .thenReturn(Collections.emptyList());
+    @Test
+    void 어제_종료된_골룸들을_종료하고_종료한_골룸_수를_기록한다() {
+        // given
+        작업_실행_권한을_얻는다();
+        given(goalRoomEnder.endGoalRooms(TODAY.minusDays(1)))
+                .willReturn(3);
 
         // when
-        goalRoomScheduler.startGoalRooms();
+        goalRoomScheduler.endGoalRooms();
 
         // then
-        verify(goalRoomPendingMemberRepository, times(0)).findAllByGoalRoom(any());
-        verify(goalRoomMemberRepository, times(0)).saveAll(anyList());
-        verify(goalRoomPendingMemberRepository, times(0)).deleteAll(anyList());
-
+        verify(goalRoomEnder).endGoalRooms(TODAY.minusDays(1));
         assertAll(
-                () -> assertThat(goalRoom1.getStatus()).isEqualTo(RECRUITING),
-                () -> assertThat(goalRoom2.getStatus()).isEqualTo(RECRUITING)
+                () -> assertThat(meterRegistry.get("goal-room.completed").counter().count()).isEqualTo(3),
+                () -> assertThat(meterRegistry.get("scheduler.job.duration").tag("job", "goal-room.end").timer()
+                        .count()).isEqualTo(1)
         );
     }
 
-    private Member 사용자를_생성한다(final Long memberId, final String identifier, final String password, final String nickname,
-                             final String phoneNumber) {
-        final MemberProfile memberProfile = new MemberProfile(Gender.MALE,
-                LocalDate.of(1995, 9, 30), phoneNumber);
-
-        return new Member(memberId, new Identifier(identifier), new EncryptedPassword(new Password(password)),
-                new Nickname(nickname), null, memberProfile);
-    }
-
-    private Roadmap 로드맵을_생성한다(final Member creator) {
-        final RoadmapCategory category = new RoadmapCategory("게임");
-        final List<RoadmapNode> roadmapNodes = 로드맵_노드들을_생성한다();
-        final RoadmapContent roadmapContent = 로드맵_본문을_생성한다(roadmapNodes);
-        final Roadmap roadmap = new Roadmap("로드맵 제목", "로드맵 소개글", 10, RoadmapDifficulty.NORMAL, creator, category);
-        roadmap.addContent(roadmapContent);
-        return roadmap;
-    }
+    @Test
+    void 다른_인스턴스가_골룸_종료_작업을_선점했다면_골룸을_종료하지_않는다() {
+        // given
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willReturn(false);
 
-    private List<RoadmapNode> 로드맵_노드들을_생성한다() {
-        final RoadmapNode roadmapNode1 = new RoadmapNode("로드맵 1주차", "로드맵 1주차 내용");
-        roadmapNode1.addImages(new RoadmapNodeImages(노드_이미지들을_생성한다()));
-        final RoadmapNode roadmapNode2 = new RoadmapNode("로드맵 2주차", "로드맵 2주차 내용");
-        return List.of(roadmapNode1, roadmapNode2);
-    }
+        // when
+        goalRoomScheduler.endGoalRooms();
 
-    private RoadmapContent 로드맵_본문을_생성한다(final List<RoadmapNode> roadmapNodes) {
-        final RoadmapContent roadmapContent = new RoadmapContent("로드맵 본문");
-        roadmapContent.addNodes(new RoadmapNodes(roadmapNodes));
-        return roadmapContent;
+        // then
+        verify(goalRoomEnder, never()).endGoalRooms(any());
     }
 
-    private List<RoadmapNodeImage> 노드_이미지들을_생성한다() {
-        return List.of(
-                new RoadmapNodeImage("node-image1.png", "node-image1-save-path", ImageContentType.PNG),
-                new RoadmapNodeImage("node-image2.png", "node-image2-save-path", ImageContentType.PNG)
-        );
-    }
+    @Test
+    void 다른_인스턴스가_골룸_시작_작업을_선점했다면_골룸을_시작하지_않는다() {
+        // given
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willReturn(false);
 
-    private GoalRoom 골룸을_생성한다(final Long goalRoomId, final Member creator, final RoadmapContent roadmapContent,
-                              final Integer limitedMemberCount) {
-        final GoalRoom goalRoom = new GoalRoom(goalRoomId, new GoalRoomName("골룸 이름"),
-                new LimitedMemberCount(limitedMemberCount), roadmapContent, creator);
-        goalRoom.addAllGoalRoomRoadmapNodes(골룸_로드맵_노드들을_생성한다(roadmapContent.getNodes()));
-        return goalRoom;
-    }
+        // when
+        goalRoomScheduler.startGoalRooms();
 
-    private GoalRoomRoadmapNodes 골룸_로드맵_노드들을_생성한다(final RoadmapNodes roadmapNodes) {
-        return new GoalRoomRoadmapNodes(List.of(
-                new GoalRoomRoadmapNode(new Period(TODAY, TEN_DAY_LATER), 5, roadmapNodes.getValues().get(0)),
-                new GoalRoomRoadmapNode(new Period(TEN_DAY_LATER.plusDays(1), TWENTY_DAY_LATER), 5,
-                        roadmapNodes.getValues().get(1)))
-        );
+        // then
+        verify(goalRoomStarter, never()).startNextChunk(any(), anyInt());
     }
 
-    private GoalRoomPendingMember 골룸_대기자를_생성한다(final GoalRoom goalRoom, final Member follower,
-                                               final GoalRoomRole role) {
-        return new GoalRoomPendingMember(role, LocalDateTime.of(2023, 7, 19, 12, 0, 0), goalRoom, follower);
+    private void 작업_실행_권한을_얻는다() {
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
     }
 }
@@ -0,0 +1,83 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.persistence.dto.GoalRoomStartDto;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class GoalRoomStarterTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private GoalRoomRepository goalRoomRepository;
+
+    @Mock
+    private GoalRoomMemberRepository goalRoomMemberRepository;
+
+    @Mock
+    private GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private GoalRoomStarter goalRoomStarter;
+
+    @Test
+    void 청크의_골룸_대기자들을_골룸_사용자로_옮기고_골룸을_진행중으로_변경한다() {
+        // given
+        given(goalRoomRepository.findStartTargets(eq(TODAY), eq(GoalRoomStatus.RECRUITING), any()))
+                .willReturn(List.of(new GoalRoomStartDto(1L, 10L, 2L), new GoalRoomStartDto(2L, 10L, 1L)));
+
+        // when
+        final int startedCount = goalRoomStarter.startNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        assertThat(startedCount).isEqualTo(2);
+        verify(goalRoomMemberRepository).insertAllFromPendingMembers(List.of(1L, 2L));
+        verify(goalRoomPendingMemberRepository).deleteAllByGoalRoomIds(List.of(1L, 2L));
+        verify(goalRoomRepository).updateStatus(eq(List.of(1L, 2L)), eq(GoalRoomStatus.RUNNING), any());
+        verify(applicationEventPublisher).publishEvent(new GoalRoomStartedEvent(10L, 3));
+        verify(applicationEventPublisher).publishEvent(new RoadmapChangedEvent(10L));
+    }
+
+    @Test
+    void 시작할_골룸이_없으면_아무것도_변경하지_않는다() {
+        // given
+        given(goalRoomRepository.findStartTargets(eq(TODAY), eq(GoalRoomStatus.RECRUITING), any()))
+                .willReturn(List.of());
+
+        // when
+        final int startedCount = goalRoomStarter.startNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        assertThat(startedCount).isZero();
+        verify(goalRoomMemberRepository, never()).insertAllFromPendingMembers(anyList());
+        verify(goalRoomPendingMemberRepository, never()).deleteAllByGoalRoomIds(anyList());
+        verify(goalRoomRepository, never()).updateStatus(anyList(), any(), any());
+        verify(applicationEventPublisher, times(0)).publishEvent(any());
+    }
+}
@@ -0,0 +1,145 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.exception.ServerException;
+import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ImageDerivativeGeneratorTest {
+
+    private static final String PATH = "/2023/0815/goalroom/checkfeed/uuid_originalFileName.jpeg";
+
+    private final FileService fileService = mock(FileService.class);
+    private final ImageDerivativeGenerator imageDerivativeGenerator = new ImageDerivativeGenerator(fileService);
+
+    @Test
+    void 썸네일과_중간_크기_이미지를_생성하여_저장한다() throws IOException {
+        //given
+        final byte[] source = 이미지를_생성한다(2000, 1000, "jpg");
+
+        //when
+        final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate(PATH, ImageDirType.CHECK_FEED,
+                ImageContentType.JPEG, source);
+
+        //then
+        final ArgumentCaptor<FileInformation> captor = ArgumentCaptor.forClass(FileInformation.class);
+        verify(fileService, times(2)).save(any(), captor.capture());
+        final List<FileInformation> derivatives = captor.getAllValues();
+        final BufferedImage thumbnail = ImageIO.read(derivatives.get(0).inputStream());
+        final BufferedImage medium = ImageIO.read(derivatives.get(1).inputStream());
+        assertAll(
+                () -> assertThat(imageDerivatives.thumbnailFilePath())
+                        .isEqualTo("/2023/0815/goalroom/checkfeed/uuid_originalFileName_thumbnail.jpeg"),
+                () -> assertThat(imageDerivatives.mediumFilePath())
+                        .isEqualTo("/2023/0815/goalroom/checkfeed/uuid_originalFileName_medium.jpeg"),
+                () -> assertThat(derivatives.get(0).contentType()).isEqualTo("image/jpeg"),
+                () -> assertThat(thumbnail.getWidth()).isEqualTo(240),
+                () -> assertThat(thumbnail.getHeight()).isEqualTo(120),
+                () -> assertThat(medium.getWidth()).isEqualTo(960)
+        );
+    }
+
+    @Test
+    void 원본보다_큰_파생_이미지는_만들지_않는다() throws IOException {
+        //given
+        final byte[] source = 이미지를_생성한다(100, 50, "png");
+
+        //when
+        imageDerivativeGenerator.generate("/path/image.png", ImageDirType.ROADMAP_NODE, ImageContentType.PNG, source);
+
+        //then
+        final ArgumentCaptor<FileInformation> captor = ArgumentCaptor.forClass(FileInformation.class);
+        verify(fileService, times(2)).save(any(), captor.capture());
+        final BufferedImage thumbnail = ImageIO.read(captor.getAllValues().get(0).inputStream());
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    void 순수_자바로_디코딩할_수_없는_WEBP는_파생_이미지를_만들지_않는다() {
+        //given
+        final byte[] source = new byte[]{1, 2, 3};
+
+        //when
+        final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate("/path/image.webp",
+                ImageDirType.CHECK_FEED, ImageContentType.WEBP, source);
+
+        //then
+        assertThat(imageDerivatives.isEmpty()).isTrue();
+        verify(fileService, never()).save(any(), any());
+    }
+
+    @Test
+    void 파생_이미지_대상이_아닌_디렉토리는_파생_이미지를_만들지_않는다() throws IOException {
+        //given
+        final byte[] source = 이미지를_생성한다(500, 500, "png");
+
+        //when
+        final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate("/path/image.png",
+                ImageDirType.USER_PROFILE, ImageContentType.PNG, source);
+
+        //then
+        assertThat(imageDerivatives.isEmpty()).isTrue();
+        verify(fileService, never()).save(any(), any());
+    }
+
+    @Test
+    void 이미지로_읽을_수_없으면_파생_이미지를_만들지_않는다() {
+        //given
+        final byte[] source = "not image".getBytes();
+
+        //when
+        final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate(PATH, ImageDirType.CHECK_FEED,
+                ImageContentType.JPEG, source);
+
+        //then
+        assertThat(imageDerivatives.isEmpty()).isTrue();
+        verify(fileService, never()).save(any(), any());
+    }
+
+    @Test
+    void 파생_이미지_저장에_실패하면_빈_결과를_반환한다() throws IOException {
+        //given
+        final byte[] source = 이미지를_생성한다(500, 500, "jpg");
+        doThrow(new ServerException("저장 실패"))
+                .when(fileService).save(any(), any());
+
+        //when
+        final ImageDerivatives imageDerivatives = imageDerivativeGenerator.generate(PATH, ImageDirType.CHECK_FEED,
+                ImageContentType.JPEG, source);
+
+        //then
+        assertThat(imageDerivatives.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 확장자가_없는_경로는_끝에_파생_이미지_이름을_붙인다() {
+        //when
+        final String filePath = ImageDerivativeType.THUMBNAIL.makeFilePath("/2023.08/path/image");
+
+        //then
+        assertThat(filePath).isEqualTo("/2023.08/path/image_thumbnail");
+    }
+
+    private byte[] 이미지를_생성한다(final int width, final int height, final String formatName) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,152 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.exception.BadRequestException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ImageHeaderValidatorTest {
+
+    private final ImageHeaderValidator imageHeaderValidator = new ImageHeaderValidator(10_000, 400);
+
+    @Test
+    void JPEG_이미지의_헤더를_검증한다() throws IOException {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/jpeg", 이미지_바이트를_생성한다("jpg", 20, 20));
+
+        //when
+        final ImageContentType imageContentType = imageHeaderValidator.validate(image);
+
+        //then
+        assertThat(imageContentType).isEqualTo(ImageContentType.JPEG);
+    }
+
+    @Test
+    void PNG_이미지의_헤더를_검증한다() throws IOException {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/png", 이미지_바이트를_생성한다("png", 20, 20));
+
+        //when
+        final ImageContentType imageContentType = imageHeaderValidator.validate(image);
+
+        //then
+        assertThat(imageContentType).isEqualTo(ImageContentType.PNG);
+    }
+
+    @Test
+    void WEBP_이미지는_시그니처만_검증한다() {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/webp",
+                "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII));
+
+        //when
+        final ImageContentType imageContentType = imageHeaderValidator.validate(image);
+
+        //then
+        assertThat(imageContentType).isEqualTo(ImageContentType.WEBP);
+    }
+
+    @Test
+    void 허용되지_않는_확장자라면_예외가_발생한다() {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/gif", "GIF89a".getBytes());
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("허용되지 않는 확장자입니다.");
+    }
+
+    @Test
+    void 최대_크기를_넘는_파일이라면_예외가_발생한다() {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/jpeg", new byte[10_001]);
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 파일의 크기가 너무 큽니다. 최대 크기 = 10000bytes");
+    }
+
+    @Test
+    void 이미지_시그니처가_없다면_예외가_발생한다() {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/jpeg", "tempImage".getBytes());
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 파일의 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    void 헤더보다_짧은_파일이라면_예외가_발생한다() {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/jpeg", new byte[]{(byte) 0xFF});
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 파일의 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    void 선언된_형식과_실제_형식이_다르다면_예외가_발생한다() throws IOException {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/jpeg", 이미지_바이트를_생성한다("png", 20, 20));
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 파일의 형식이 확장자와 일치하지 않습니다.");
+    }
+
+    @Test
+    void 최대_픽셀_수를_넘는_이미지라면_예외가_발생한다() throws IOException {
+        //given
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/png", 이미지_바이트를_생성한다("png", 21, 20));
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지의 해상도가 허용 범위를 벗어났습니다. 최대 픽셀 수 = 400");
+    }
+
+    @Test
+    void 헤더를_읽을_수_없는_이미지라면_예외가_발생한다() {
+        //given
+        final byte[] brokenPng = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0};
+        final MockMultipartFile image = 이미지_파일을_생성한다("image/png", brokenPng);
+
+        //when
+        //then
+        assertThatThrownBy(() -> imageHeaderValidator.validate(image))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미지 파일을 읽을 수 없습니다.");
+    }
+
+    private MockMultipartFile 이미지_파일을_생성한다(final String contentType, final byte[] content) {
+        return new MockMultipartFile("image", "originalFileName", contentType, content);
+    }
+
+    private byte[] 이미지_바이트를_생성한다(final String formatName, final int width, final int height)
+            throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), formatName, outputStream);
+        return outputStream.toByteArray();
+    }
+}
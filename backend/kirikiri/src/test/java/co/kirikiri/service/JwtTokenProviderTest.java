@@ -8,6 +8,7 @@ import co.kirikiri.exception.AuthenticationException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -15,7 +16,7 @@ import org.junit.jupiter.api.Test;
 class JwtTokenProviderTest {
 
     private static final String secretKey = "9zrOjg1kDd2gUp6KBbElGJj5GHP5BnneDs3nXEhdztHAUjKBX7l69JXUErBovPLn7TVWV0UCfejYZyxIjIMC5KPfSvBzo9C1gJ2";
-    TokenProvider tokenProvider = new JwtTokenProvider(secretKey, 1_800_000L, 86_400_000L);
+    TokenProvider tokenProvider = new JwtTokenProvider(secretKey, 1_800_000L, 86_400_000L, 100L, 60_000L);
 
     @Test
     void 정상적으로_subject와_claims를_포함한_ACCESS_TOKEN을_생성한다() {
@@ -78,7 +79,7 @@ class JwtTokenProviderTest {
         //given
         final String subject = "subject";
         final Map<String, Object> claims = new HashMap<>(Map.of("test1", "test1", "test2", "test2"));
-        final TokenProvider tokenProvider = new JwtTokenProvider(secretKey, 0L, 0L);
+        final TokenProvider tokenProvider = new JwtTokenProvider(secretKey, 0L, 0L, 100L, 60_000L);
         final String accessToken = tokenProvider.createAccessToken(subject, claims);
 
         //when
@@ -122,4 +123,32 @@ class JwtTokenProviderTest {
         //then
         assertThat(result).isEqualTo(subject);
     }
+
+    @Test
+    void 토큰에서_만료_시간을_가져온다() {
+        //given
+        final String accessToken = tokenProvider.createAccessToken("subject", Map.of());
+
+        //when
+        final LocalDateTime result = tokenProvider.findTokenExpiredAt(accessToken);
+
+        //then
+        assertThat(result).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void 검증된_토큰도_만료_시간이_지나면_다시_검증해_예외를_던진다() throws InterruptedException {
+        //given
+        final TokenProvider tokenProvider = new JwtTokenProvider(secretKey, 1_000L, 1_000L, 100L, 60_000L);
+        final String accessToken = tokenProvider.createAccessToken("subject", Map.of());
+        tokenProvider.isValidToken(accessToken);
+
+        //when
+        Thread.sleep(1_100L);
+
+        //then
+        assertThatThrownBy(() -> tokenProvider.findSubject(accessToken))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Expired Token");
+    }
 }
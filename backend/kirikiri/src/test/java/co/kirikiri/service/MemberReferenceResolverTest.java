@@ -0,0 +1,67 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.kirikiri.domain.ImageContentType;
+import co.kirikiri.domain.member.EncryptedPassword;
+import co.kirikiri.domain.member.Gender;
+import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberImage;
+import co.kirikiri.domain.member.MemberProfile;
+import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.domain.member.vo.Nickname;
+import co.kirikiri.domain.member.vo.Password;
+import co.kirikiri.persistence.member.MemberRepository;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReferenceResolverTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberReferenceResolver memberReferenceResolver;
+
+    @Test
+    void 아이디로_조회한_식별자로_회원_참조를_반환한다() {
+        //given
+        final Member member = new Member(1L, new Identifier("identifier1"),
+                new EncryptedPassword(new Password("password1!")), new Nickname("nickname"),
+                new MemberImage("originalFileName", "serverFilePath", ImageContentType.PNG),
+                new MemberProfile(Gender.MALE, LocalDate.now(), "010-1234-5678"));
+        when(memberRepository.findIdByIdentifier(new Identifier("identifier1")))
+                .thenReturn(Optional.of(1L));
+        when(memberRepository.getReferenceById(1L))
+                .thenReturn(member);
+
+        //when
+        final Optional<Member> result = memberReferenceResolver.findByIdentifier(new Identifier("identifier1"));
+
+        //then
+        assertThat(result).contains(member);
+    }
+
+    @Test
+    void 존재하지_않는_아이디면_빈_값을_반환한다() {
+        //given
+        when(memberRepository.findIdByIdentifier(new Identifier("identifier1")))
+                .thenReturn(Optional.empty());
+
+        //when
+        final Optional<Member> result = memberReferenceResolver.findByIdentifier(new Identifier("identifier1"));
+
+        //then
+        assertThat(result).isEmpty();
+        verify(memberRepository, never()).getReferenceById(1L);
+    }
+}
@@ -5,12 +5,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import co.kirikiri.domain.ImageContentType;
 import co.kirikiri.domain.member.EncryptedPassword;
 import co.kirikiri.domain.member.Gender;
 import co.kirikiri.domain.member.Member;
 import co.kirikiri.domain.member.MemberImage;
+import co.kirikiri.domain.member.MemberImageType;
 import co.kirikiri.domain.member.MemberProfile;
 import co.kirikiri.domain.member.vo.Identifier;
 import co.kirikiri.domain.member.vo.Nickname;
@@ -28,6 +31,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -49,7 +53,7 @@ class MemberServiceTest {
     @Mock
     private NumberGenerator numberGenerator;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private FileService fileService;
 
     @InjectMocks
@@ -186,6 +190,31 @@ class MemberServiceTest {
         assertThat(response).isEqualTo(expected);
     }
 
+    @Test
+    void 기본_프로필_이미지를_사용하는_사용자의_정보는_서명하지_않은_공개_URL로_조회한다() throws MalformedURLException {
+        // given
+        final MemberImage memberImage = new MemberImage("default-member-image", "default-member-image1.png",
+                ImageContentType.PNG, MemberImageType.DEFAULT);
+        final Member member = new Member(new Identifier("identifier1"),
+                new EncryptedPassword(new Password("password1!")), new Nickname("nickname"), memberImage,
+                new MemberProfile(Gender.MALE, LocalDate.now(), "010-1234-5678"));
+
+        given(memberRepository.findWithMemberProfileAndImageById(any()))
+                .willReturn(Optional.of(member));
+        given(fileService.generatePublicUrl(anyString()))
+                .willReturn(new URL("http://example.com/default-member-image1.png"));
+
+        // when
+        final MemberInformationForPublicResponse response = memberService.findMemberInformationForPublic(1L);
+
+        // then
+        final MemberInformationForPublicResponse expected = new MemberInformationForPublicResponse("nickname",
+                "http://example.com/default-member-image1.png", Gender.MALE.name());
+
+        assertThat(response).isEqualTo(expected);
+        verify(fileService, never()).generateUrl(anyString(), any());
+    }
+
     @Test
     void 특정_사용자의_정보를_조회할때_로그인한_사용자가_존재하지_않는_회원이면_예외가_발생한다() {
         // given
@@ -1,8 +1,11 @@
 package co.kirikiri.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import co.kirikiri.domain.member.EncryptedPassword;
 import co.kirikiri.domain.member.Gender;
@@ -21,6 +24,8 @@ import co.kirikiri.exception.BadRequestException;
 import co.kirikiri.exception.ServerException;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
 import co.kirikiri.service.dto.FileInformation;
+import co.kirikiri.service.dto.ImageDerivatives;
+import co.kirikiri.service.dto.UploadedImage;
 import co.kirikiri.service.dto.roadmap.RoadmapNodeSaveDto;
 import co.kirikiri.service.dto.roadmap.RoadmapSaveDto;
 import co.kirikiri.service.dto.roadmap.RoadmapTagSaveDto;
@@ -31,11 +36,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @ExtendWith(MockitoExtension.class)
 class RoadmapCreateEventListenerTest {
@@ -51,7 +58,10 @@ class RoadmapCreateEventListenerTest {
     private FilePathGenerator pathGenerator;
 
     @Mock
-    private FileService fileService;
+    private AsyncFileUploader asyncFileUploader;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private RoadmapCreateEventListener roadmapCreateEventListener;
@@ -79,13 +89,53 @@ class RoadmapCreateEventListenerTest {
 
         final RoadmapCreateEvent roadmapCreateEvent = new RoadmapCreateEvent(roadmap, roadmapSaveDto);
 
+        when(asyncFileUploader.uploadImage(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new UploadedImage("serverFilePath",
+                                new ImageDerivatives("thumbnailFilePath", "mediumFilePath"))));
+
         // When
         roadmapCreateEventListener.handleRoadmapCreate(roadmapCreateEvent);
 
         // Then
+        verify(asyncFileUploader, times(1)).uploadImage(any(), any(), any(), any());
         verify(roadmapContentRepository, times(1)).save(roadmapContent);
     }
 
+    @Test
+    void 로드맵_노드_이미지_업로드에_실패하면_로드맵_컨텐츠를_저장하지_않는다() throws IOException {
+        //given
+        final RoadmapContent roadmapContent = new RoadmapContent("roadmapContent");
+        final RoadmapNode roadmapNode = new RoadmapNode("roadmapNodeTitle", "roadmapNodeContent");
+        roadmapContent.addNodes(new RoadmapNodes(List.of(roadmapNode)));
+
+        final Roadmap roadmap = new Roadmap("roadmapTitle", "inroduction", 10,
+                RoadmapDifficulty.DIFFICULT, member, new RoadmapCategory("category"));
+
+        final MultipartFile imageFile = new MockMultipartFile(roadmapNode.getTitle(),
+                "originalFileName.jpeg", "image/jpeg", "tempImage".getBytes());
+        final FileInformation fileInformation = new FileInformation(imageFile.getOriginalFilename(),
+                imageFile.getSize(), imageFile.getContentType(), imageFile.getInputStream());
+        final RoadmapNodeSaveDto roadmapNodeSaveDto = new RoadmapNodeSaveDto(roadmapNode.getTitle(),
+                roadmapNode.getContent(), List.of(fileInformation));
+        final RoadmapSaveDto roadmapSaveDto = new RoadmapSaveDto(1L, roadmap.getTitle(), roadmap.getIntroduction(),
+                roadmapContent.getContent(), RoadmapDifficultyType.DIFFICULT, 10, List.of(roadmapNodeSaveDto),
+                List.of(new RoadmapTagSaveDto("tag")));
+
+        roadmap.addContent(roadmapContent);
+
+        final RoadmapCreateEvent roadmapCreateEvent = new RoadmapCreateEvent(roadmap, roadmapSaveDto);
+
+        when(asyncFileUploader.uploadImage(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ServerException("업로드 실패")));
+
+        //when
+        //then
+        assertThatThrownBy(() -> roadmapCreateEventListener.handleRoadmapCreate(roadmapCreateEvent))
+                .isInstanceOf(ServerException.class);
+        verify(roadmapContentRepository, never()).save(any());
+    }
+
     @Test
     void 로드맵에_컨텐츠가_존재하지_않을_경우_예외를_던진다() throws IOException {
         //given
@@ -36,7 +36,6 @@ import co.kirikiri.exception.ForbiddenException;
 import co.kirikiri.exception.NotFoundException;
 import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
 import co.kirikiri.persistence.roadmap.RoadmapRepository;
 import co.kirikiri.persistence.roadmap.RoadmapReviewRepository;
@@ -66,7 +65,7 @@ class RoadmapCreateServiceTest {
             new MemberProfile(Gender.FEMALE, LocalDate.of(1999, 6, 8), "010-1234-5678"));
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberReferenceResolver memberReferenceResolver;
 
     @Mock
     private RoadmapRepository roadmapRepository;
@@ -86,6 +85,9 @@ class RoadmapCreateServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private ImageHeaderValidator imageHeaderValidator;
+
     @InjectMocks
     private RoadmapCreateService roadmapService;
 
@@ -110,7 +112,7 @@ class RoadmapCreateServiceTest {
         given(roadmapRepository.save(any()))
                 .willReturn(new Roadmap(1L, roadmapTitle, roadmapIntroduction, requiredPeriod,
                         RoadmapDifficulty.valueOf(difficulty.name()), MEMBER, category));
-        when(memberRepository.findByIdentifier(MEMBER.getIdentifier()))
+        when(memberReferenceResolver.findByIdentifier(MEMBER.getIdentifier()))
                 .thenReturn(Optional.of(MEMBER));
 
         // expect
@@ -125,7 +127,7 @@ class RoadmapCreateServiceTest {
                 List.of(new RoadmapNodeSaveRequest("로드맵 노드1", "로드맵 노드1 설명", Collections.emptyList())),
                 List.of(new RoadmapTagSaveRequest("태그 1")));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.empty());
 
         // expect
@@ -141,7 +143,7 @@ class RoadmapCreateServiceTest {
                 List.of(new RoadmapNodeSaveRequest("로드맵 노드1", "로드맵 노드1 설명", Collections.emptyList())),
                 List.of(new RoadmapTagSaveRequest("태그 1")));
 
-        given(memberRepository.findByIdentifier(any()))
+        given(memberReferenceResolver.findByIdentifier(any()))
                 .willReturn(Optional.of(MEMBER));
         given(roadmapCategoryRepository.findById(any()))
                 .willReturn(Optional.empty());
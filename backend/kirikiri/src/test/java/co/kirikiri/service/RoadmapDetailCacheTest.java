@@ -0,0 +1,94 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import co.kirikiri.common.cache.CacheInvalidationBus;
+import co.kirikiri.common.cache.CacheInvalidationMessage;
+import co.kirikiri.common.cache.InMemoryCacheInvalidationBus;
+import co.kirikiri.common.cache.InMemorySharedCacheStore;
+import co.kirikiri.common.cache.TwoTierCacheManager;
+import co.kirikiri.service.dto.roadmap.CachedRoadmapDto;
+import co.kirikiri.service.event.RoadmapChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RoadmapDetailCacheTest {
+
+    @Autowired
+    private RoadmapDetailCache roadmapDetailCache;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Test
+    void 로드맵_단일_조회를_반복하면_캐싱된_로드맵을_반환한다() {
+        //given
+        final AtomicInteger loadCount = new AtomicInteger();
+        roadmapDetailCache.get(1L, roadmapId -> 로드맵을_불러온다(roadmapId, loadCount));
+
+        //when
+        final CachedRoadmapDto cachedRoadmapDto = roadmapDetailCache.get(1L,
+                roadmapId -> 로드맵을_불러온다(roadmapId, loadCount));
+
+        //then
+        assertThat(cachedRoadmapDto.roadmapId()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 로드맵이_변경되면_캐시를_비우고_다른_노드에_무효화를_전파한다() {
+        //given
+        final AtomicInteger loadCount = new AtomicInteger();
+        final List<CacheInvalidationMessage> messages = new ArrayList<>();
+        cacheInvalidationBus.subscribe(messages::add);
+        roadmapDetailCache.get(1L, roadmapId -> 로드맵을_불러온다(roadmapId, loadCount));
+
+        //when
+        roadmapDetailCache.evict(new RoadmapChangedEvent(1L));
+        roadmapDetailCache.get(1L, roadmapId -> 로드맵을_불러온다(roadmapId, loadCount));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(messages).extracting(CacheInvalidationMessage::cacheName, CacheInvalidationMessage::key)
+                .containsExactly(tuple(RoadmapDetailCache.ROADMAP_DETAIL_CACHE, 1L));
+    }
+
+    private CachedRoadmapDto 로드맵을_불러온다(final Long roadmapId, final AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return new CachedRoadmapDto(roadmapId, null, "로드맵 제목", "로드맵 소개글", 1L, "닉네임", null, true, 1L,
+                "로드맵 본문", List.of(), "DIFFICULT", 30, null, List.of(), null);
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import(RoadmapDetailCache.class)
+    static class RoadmapDetailCacheTestConfig {
+
+        @Bean
+        public CacheInvalidationBus cacheInvalidationBus() {
+            return new InMemoryCacheInvalidationBus();
+        }
+
+        @Bean
+        public CacheManager cacheManager(final CacheInvalidationBus cacheInvalidationBus) {
+            return new TwoTierCacheManager(100, Duration.ofMinutes(1),
+                    new InMemorySharedCacheStore(100, Duration.ofMinutes(10)), cacheInvalidationBus,
+                    new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.goalroom.CheckFeedImageStatus;
+import co.kirikiri.domain.goalroom.GoalRoomStatus;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.goalroom.GoalRoomPendingMemberRepository;
+import co.kirikiri.persistence.goalroom.GoalRoomRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class RoadmapPurgerTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate DELETABLE_END_DATE = TODAY.minusMonths(3);
+    private static final int CHUNK_SIZE = 100;
+    private static final List<Long> ROADMAP_IDS = List.of(1L, 2L);
+    private static final List<Long> GOAL_ROOM_IDS = List.of(10L, 11L, 12L);
+
+    @Mock
+    private RoadmapRepository roadmapRepository;
+
+    @Mock
+    private GoalRoomRepository goalRoomRepository;
+
+    @Mock
+    private GoalRoomPendingMemberRepository goalRoomPendingMemberRepository;
+
+    @Mock
+    private ContentAddressedFileStore contentAddressedFileStore;
+
+    @InjectMocks
+    private RoadmapPurger roadmapPurger;
+
+    @Test
+    void 삭제_대상_로드맵의_골룸과_로드맵을_하위_테이블부터_한_번에_삭제한다() {
+        // given
+        given(roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                DELETABLE_END_DATE, PageRequest.ofSize(CHUNK_SIZE)))
+                .willReturn(ROADMAP_IDS);
+        given(goalRoomRepository.findIdsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(GOAL_ROOM_IDS);
+
+        // when
+        final int purgedCount = roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        assertThat(purgedCount).isEqualTo(2);
+        final InOrder inOrder = inOrder(goalRoomRepository, goalRoomPendingMemberRepository, roadmapRepository);
+        inOrder.verify(goalRoomRepository).deleteToDoChecksByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomRepository).deleteCheckFeedsByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomRepository).deleteMembersByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomPendingMemberRepository).deleteAllByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomRepository).deleteToDosByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomRepository).deleteRoadmapNodesByGoalRoomIds(GOAL_ROOM_IDS);
+        inOrder.verify(goalRoomRepository).deleteAllByIds(GOAL_ROOM_IDS);
+        inOrder.verify(roadmapRepository).deleteNodeImagesByRoadmapIds(ROADMAP_IDS);
+        inOrder.verify(roadmapRepository).deleteNodesByRoadmapIds(ROADMAP_IDS);
+        inOrder.verify(roadmapRepository).deleteContentsByRoadmapIds(ROADMAP_IDS);
+        inOrder.verify(roadmapRepository).deleteTagsByRoadmapIds(ROADMAP_IDS);
+        inOrder.verify(roadmapRepository).deleteReviewsByRoadmapIds(ROADMAP_IDS);
+        inOrder.verify(roadmapRepository).deleteAllByIds(ROADMAP_IDS);
+        verify(contentAddressedFileStore, never()).release(any());
+    }
+
+    @Test
+    void 골룸이_없는_로드맵은_골룸_삭제_쿼리_없이_삭제한다() {
+        // given
+        given(roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                DELETABLE_END_DATE, PageRequest.ofSize(CHUNK_SIZE)))
+                .willReturn(ROADMAP_IDS);
+        given(goalRoomRepository.findIdsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(Collections.emptyList());
+
+        // when
+        roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        verify(goalRoomRepository, never()).deleteAllByIds(anyList());
+        verify(goalRoomPendingMemberRepository, never()).deleteAllByGoalRoomIds(anyList());
+        verify(roadmapRepository).deleteAllByIds(ROADMAP_IDS);
+    }
+
+    @Test
+    void 삭제할_로드맵이_없으면_0을_반환하고_아무것도_삭제하지_않는다() {
+        // given
+        given(roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                DELETABLE_END_DATE, PageRequest.ofSize(CHUNK_SIZE)))
+                .willReturn(Collections.emptyList());
+
+        // when
+        final int purgedCount = roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        assertThat(purgedCount).isZero();
+        verify(goalRoomRepository, never()).findIdsByRoadmapIds(anyList());
+        verify(roadmapRepository, never()).deleteAllByIds(anyList());
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_로드맵을_삭제하면_노드_이미지의_참조를_해제한다() {
+        // given
+        given(roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                DELETABLE_END_DATE, PageRequest.ofSize(CHUNK_SIZE)))
+                .willReturn(ROADMAP_IDS);
+        given(goalRoomRepository.findIdsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(Collections.emptyList());
+        given(contentAddressedFileStore.isEnabled())
+                .willReturn(true);
+        given(roadmapRepository.findNodeImageFilePathsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(List.of("/content/8b/digest.jpeg", "/content/8b/digest.jpeg"));
+
+        // when
+        roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        final InOrder inOrder = inOrder(contentAddressedFileStore, roadmapRepository);
+        inOrder.verify(contentAddressedFileStore, times(2)).release("/content/8b/digest.jpeg");
+        inOrder.verify(roadmapRepository).deleteNodeImagesByRoadmapIds(ROADMAP_IDS);
+    }
+
+    @Test
+    void 콘텐츠_주소_저장_모드에서_골룸을_삭제하면_업로드된_인증_피드_이미지의_참조를_해제한다() {
+        // given
+        given(roadmapRepository.findPurgeTargets(RoadmapStatus.DELETED, GoalRoomStatus.COMPLETED,
+                DELETABLE_END_DATE, PageRequest.ofSize(CHUNK_SIZE)))
+                .willReturn(ROADMAP_IDS);
+        given(goalRoomRepository.findIdsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(GOAL_ROOM_IDS);
+        given(contentAddressedFileStore.isEnabled())
+                .willReturn(true);
+        given(goalRoomRepository.findCheckFeedFilePathsByGoalRoomIds(GOAL_ROOM_IDS, CheckFeedImageStatus.READY))
+                .willReturn(List.of("/content/3f/feed.png"));
+        given(roadmapRepository.findNodeImageFilePathsByRoadmapIds(ROADMAP_IDS))
+                .willReturn(Collections.emptyList());
+
+        // when
+        roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE);
+
+        // then
+        final InOrder inOrder = inOrder(contentAddressedFileStore, goalRoomRepository);
+        inOrder.verify(contentAddressedFileStore).release("/content/3f/feed.png");
+        inOrder.verify(goalRoomRepository).deleteCheckFeedsByGoalRoomIds(GOAL_ROOM_IDS);
+    }
+}
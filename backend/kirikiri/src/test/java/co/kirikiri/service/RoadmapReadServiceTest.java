@@ -2,11 +2,17 @@ package co.kirikiri.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import co.kirikiri.domain.ImageContentType;
@@ -34,10 +40,13 @@ import co.kirikiri.domain.roadmap.RoadmapReview;
 import co.kirikiri.domain.roadmap.RoadmapTag;
 import co.kirikiri.domain.roadmap.RoadmapTags;
 import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
+import co.kirikiri.exception.BadRequestException;
 import co.kirikiri.exception.NotFoundException;
+import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapScrollDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
 import co.kirikiri.persistence.goalroom.GoalRoomRepository;
 import co.kirikiri.persistence.goalroom.dto.RoadmapGoalRoomsOrderType;
-import co.kirikiri.persistence.member.MemberRepository;
 import co.kirikiri.persistence.roadmap.RoadmapCategoryRepository;
 import co.kirikiri.persistence.roadmap.RoadmapContentRepository;
 import co.kirikiri.persistence.roadmap.RoadmapRepository;
@@ -58,18 +67,27 @@ import co.kirikiri.service.dto.roadmap.response.RoadmapGoalRoomResponses;
 import co.kirikiri.service.dto.roadmap.response.RoadmapNodeResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapReviewResponse;
+import co.kirikiri.service.dto.roadmap.response.RoadmapSearchSuggestionResponse;
 import co.kirikiri.service.dto.roadmap.response.RoadmapTagResponse;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,14 +114,32 @@ class RoadmapReadServiceTest {
     private GoalRoomRepository goalRoomRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberReferenceResolver memberReferenceResolver;
 
     @Mock
     private RoadmapReviewRepository roadmapReviewRepository;
 
     @Mock
+    private RoadmapSearchIndex roadmapSearchIndex;
+
+    @Mock
+    private RoadmapTagIndex roadmapTagIndex;
+
+    @Mock
+    private RoadmapSuggestionIndex roadmapSuggestionIndex;
+
+    @Mock
+    private RoadmapSimilarityIndex roadmapSimilarityIndex;
+
+    @Mock
+    private RoadmapSortKeyIndex roadmapSortKeyIndex;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private FileService fileService;
 
+    @Spy
+    private RoadmapDetailCache roadmapDetailCache = new RoadmapDetailCache();
+
     @InjectMocks
     private RoadmapReadService roadmapService;
 
@@ -168,7 +204,7 @@ class RoadmapReadServiceTest {
 
         final Long categoryId = 1L;
         final RoadmapOrderTypeRequest filterType = RoadmapOrderTypeRequest.LATEST;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
 
         // expected
         assertThatThrownBy(() -> roadmapService.findRoadmapsByOrderType(categoryId, filterType, scrollRequest))
@@ -186,13 +222,13 @@ class RoadmapReadServiceTest {
         when(roadmapCategoryRepository.findById(any()))
                 .thenReturn(Optional.of(category));
         when(roadmapRepository.findRoadmapsByCategory(any(), any(), any(), anyInt()))
-                .thenReturn(roadmaps);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         final Long categoryId = 1L;
         final RoadmapOrderTypeRequest filterType = null;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
 
         // when
         final RoadmapForListResponses roadmapResponses = roadmapService.findRoadmapsByOrderType(
@@ -216,7 +252,7 @@ class RoadmapReadServiceTest {
                         new RoadmapTagResponse(2L, "태그2")));
 
         final List<RoadmapForListResponse> responses = List.of(firstRoadmapResponse, secondRoadmapResponse);
-        final RoadmapForListResponses expected = new RoadmapForListResponses(responses, false);
+        final RoadmapForListResponses expected = new RoadmapForListResponses(responses, false, null);
 
         assertThat(roadmapResponses)
                 .usingRecursiveComparison()
@@ -235,13 +271,13 @@ class RoadmapReadServiceTest {
         when(roadmapCategoryRepository.findById(any()))
                 .thenReturn(Optional.of(category));
         when(roadmapRepository.findRoadmapsByCategory(any(), any(), any(), anyInt()))
-                .thenReturn(roadmaps);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         final Long categoryId = 1L;
         final RoadmapOrderTypeRequest filterType = null;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 1);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 1);
 
         // when
         final RoadmapForListResponses roadmapResponses = roadmapService.findRoadmapsByOrderType(
@@ -257,12 +293,45 @@ class RoadmapReadServiceTest {
                         new RoadmapTagResponse(2L, "태그2")));
 
         final List<RoadmapForListResponse> responses = List.of(firstRoadmapResponse);
-        final RoadmapForListResponses expected = new RoadmapForListResponses(responses, true);
+        final RoadmapForListResponses expected = new RoadmapForListResponses(responses, true, null);
 
         assertThat(roadmapResponses)
                 .usingRecursiveComparison()
-                .ignoringFields("responses.createdAt")
+                .ignoringFields("responses.createdAt", "nextCursor")
                 .isEqualTo(expected);
+        assertThat(roadmapResponses.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void 로드맵_목록_조회시_커서가_주어지면_커서_위치부터_조회한다() {
+        // given
+        when(roadmapRepository.findRoadmapsByCategory(any(), any(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        final String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2023-07-20T13:00,3".getBytes(StandardCharsets.UTF_8));
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, cursor, 10);
+
+        // when
+        final RoadmapForListResponses roadmapResponses = roadmapService.findRoadmapsByOrderType(
+                null, null, scrollRequest);
+
+        // then
+        verify(roadmapRepository).findRoadmapsByCategory(null, RoadmapOrderType.LATEST,
+                new ScrollCursor("2023-07-20T13:00", 3L), 10);
+        assertThat(roadmapResponses)
+                .isEqualTo(new RoadmapForListResponses(Collections.emptyList(), false, null));
+    }
+
+    @Test
+    void 로드맵_목록_조회시_커서가_유효하지_않으면_예외가_발생한다() {
+        // given
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, "잘못된 커서", 10);
+
+        // when, then
+        assertThatThrownBy(() -> roadmapService.findRoadmapsByOrderType(null, null, scrollRequest))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
     }
 
     @Test
@@ -272,13 +341,13 @@ class RoadmapReadServiceTest {
         final List<Roadmap> roadmaps = List.of(로드맵을_생성한다("첫 번째 로드맵", category), 로드맵을_생성한다("두 번째 로드맵", category));
 
         when(roadmapRepository.findRoadmapsByCategory(any(), any(), any(), anyInt()))
-                .thenReturn(roadmaps);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         final Long categoryId = null;
         final RoadmapOrderTypeRequest filterType = RoadmapOrderTypeRequest.LATEST;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
 
         // when
         final RoadmapForListResponses roadmapResponses = roadmapService.findRoadmapsByOrderType(
@@ -302,7 +371,7 @@ class RoadmapReadServiceTest {
                         new RoadmapTagResponse(2L, "태그2")));
 
         final RoadmapForListResponses expected = new RoadmapForListResponses(
-                List.of(firstRoadmapResponse, secondRoadmapResponse), false);
+                List.of(firstRoadmapResponse, secondRoadmapResponse), false, null);
 
         assertThat(roadmapResponses)
                 .usingRecursiveComparison()
@@ -319,13 +388,13 @@ class RoadmapReadServiceTest {
         when(roadmapCategoryRepository.findById(any()))
                 .thenReturn(Optional.of(new RoadmapCategory("여행")));
         when(roadmapRepository.findRoadmapsByCategory(any(), any(), any(), anyInt()))
-                .thenReturn(roadmaps);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         final Long categoryId = 1L;
         final RoadmapOrderTypeRequest filterType = RoadmapOrderTypeRequest.LATEST;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
 
         // when
         final RoadmapForListResponses roadmapResponses = roadmapService.findRoadmapsByOrderType(
@@ -340,7 +409,7 @@ class RoadmapReadServiceTest {
                         new RoadmapTagResponse(1L, "태그1"),
                         new RoadmapTagResponse(2L, "태그2")));
 
-        final RoadmapForListResponses expected = new RoadmapForListResponses(List.of(roadmapResponse), false);
+        final RoadmapForListResponses expected = new RoadmapForListResponses(List.of(roadmapResponse), false, null);
 
         assertThat(roadmapResponses)
                 .usingRecursiveComparison()
@@ -373,13 +442,13 @@ class RoadmapReadServiceTest {
                 로드맵을_생성한다("두 번째 로드맵", category));
 
         when(roadmapRepository.findRoadmapsByCond(any(), any(), any(), anyInt()))
-                .thenReturn(roadmaps);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
-        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest("로드맵", "닉네임", "태그");
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest("로드맵", "닉네임", List.of("태그"));
         final RoadmapOrderTypeRequest filterType = RoadmapOrderTypeRequest.LATEST;
-        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, 10);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
 
         // when
         final RoadmapForListResponses roadmapResponses = roadmapService.search(
@@ -403,7 +472,7 @@ class RoadmapReadServiceTest {
                         new RoadmapTagResponse(2L, "태그2")));
 
         final RoadmapForListResponses expected = new RoadmapForListResponses(
-                List.of(firstRoadmapResponse, secondRoadmapResponse), false);
+                List.of(firstRoadmapResponse, secondRoadmapResponse), false, null);
 
         assertThat(roadmapResponses)
                 .usingRecursiveComparison()
@@ -411,6 +480,190 @@ class RoadmapReadServiceTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void 로드맵을_제목으로_검색하면_검색_색인에서_찾은_로드맵만_조회한다() throws MalformedURLException {
+        // given
+        final RoadmapCategory category = new RoadmapCategory(1L, "여행");
+        final List<Roadmap> roadmaps = List.of(로드맵을_생성한다("첫 번째 로드맵", category));
+
+        when(roadmapSearchIndex.search("로드맵"))
+                .thenReturn(Set.of(1L));
+        when(roadmapRepository.findRoadmapsByCond(argThat(searchDto -> Set.of(1L).equals(searchDto.getRoadmapIds())),
+                any(), any(), anyInt()))
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
+
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest(" 로드 맵", null, null);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
+
+        // when
+        final RoadmapForListResponses roadmapResponses = roadmapService.search(
+                RoadmapOrderTypeRequest.LATEST, roadmapSearchRequest, scrollRequest);
+
+        // then
+        assertThat(roadmapResponses.responses())
+                .extracting("roadmapTitle")
+                .containsExactly("첫 번째 로드맵");
+    }
+
+    @Test
+    void 최신순_색인_검색은_커서_이전_아이디를_페이지_크기만큼_나눠_조회한다() {
+        // given
+        when(roadmapSearchIndex.search("로드맵"))
+                .thenReturn(Set.of(1L, 2L, 3L, 4L, 5L));
+        when(roadmapRepository.findRoadmapsByCond(any(), any(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest("로드맵", null, null);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(4L, null, 1);
+
+        // when
+        roadmapService.search(RoadmapOrderTypeRequest.LATEST, roadmapSearchRequest, scrollRequest);
+
+        // then
+        verify(roadmapRepository).findRoadmapsByCond(
+                argThat(searchDto -> Set.of(3L, 2L).equals(searchDto.getRoadmapIds())),
+                eq(RoadmapOrderType.LATEST), any(), eq(1));
+        verify(roadmapRepository).findRoadmapsByCond(
+                argThat(searchDto -> Set.of(1L).equals(searchDto.getRoadmapIds())),
+                eq(RoadmapOrderType.LATEST), any(), eq(1));
+    }
+
+    @Test
+    void 통계순_색인_검색은_메모리의_정렬_키로_고른_한_페이지의_로드맵만_조회한다() {
+        // given
+        when(roadmapSearchIndex.search("로드맵"))
+                .thenReturn(Set.of(1L, 2L, 3L));
+        when(roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L, 3L), RoadmapOrderType.REVIEW_RATE, null, 2))
+                .thenReturn(List.of(2L, 3L));
+        when(roadmapRepository.findRoadmapsByCond(any(), any(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest("로드맵", null, null);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 1);
+
+        // when
+        roadmapService.search(RoadmapOrderTypeRequest.REVIEW_RATE, roadmapSearchRequest, scrollRequest);
+
+        // then
+        verify(roadmapRepository).findRoadmapsByCond(
+                argThat(searchDto -> Set.of(2L, 3L).equals(searchDto.getRoadmapIds())),
+                eq(RoadmapOrderType.REVIEW_RATE), any(), eq(1));
+    }
+
+    @Test
+    void 제목_검색_결과가_검색_색인에_없으면_로드맵을_조회하지_않는다() {
+        // given
+        when(roadmapSearchIndex.search("없는로드맵"))
+                .thenReturn(Collections.emptySet());
+
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest("없는 로드맵", null, null);
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
+
+        // when
+        final RoadmapForListResponses roadmapResponses = roadmapService.search(
+                RoadmapOrderTypeRequest.LATEST, roadmapSearchRequest, scrollRequest);
+
+        // then
+        verify(roadmapRepository, never()).findRoadmapsByCond(any(), any(), any(), anyInt());
+        assertThat(roadmapResponses)
+                .isEqualTo(new RoadmapForListResponses(Collections.emptyList(), false, null));
+    }
+
+    @Test
+    void 로드맵을_태그로_검색하면_모든_태그를_가진_로드맵만_조회한다() throws MalformedURLException {
+        // given
+        final RoadmapCategory category = new RoadmapCategory(1L, "여행");
+        final List<Roadmap> roadmaps = List.of(로드맵을_생성한다("첫 번째 로드맵", category));
+
+        when(roadmapTagIndex.search(List.of("태그1", "태그2")))
+                .thenReturn(Set.of(1L));
+        when(roadmapRepository.findRoadmapsByCond(argThat(searchDto -> Set.of(1L).equals(searchDto.getRoadmapIds())),
+                any(), any(), anyInt()))
+                .thenReturn(로드맵_스크롤_목록을_생성한다(roadmaps));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
+
+        final RoadmapSearchRequest roadmapSearchRequest = new RoadmapSearchRequest(null, null,
+                List.of("태그1", " 태그 2"));
+        final CustomScrollRequest scrollRequest = new CustomScrollRequest(null, null, 10);
+
+        // when
+        final RoadmapForListResponses roadmapResponses = roadmapService.search(
+                RoadmapOrderTypeRequest.LATEST, roadmapSearchRequest, scrollRequest);
+
+        // then
+        assertThat(roadmapResponses.responses())
+                .extracting("roadmapTitle")
+                .containsExactly("첫 번째 로드맵");
+    }
+
+    @Test
+    void 검색어로_시작하는_태그와_크리에이터_닉네임을_추천한다() {
+        // given
+        when(roadmapSuggestionIndex.findTagNames("자"))
+                .thenReturn(List.of("자바", "자바스크립트"));
+        when(roadmapSuggestionIndex.findCreatorNicknames("자"))
+                .thenReturn(List.of("자바왕"));
+
+        // when
+        final RoadmapSearchSuggestionResponse response = roadmapService.findSearchSuggestions("자");
+
+        // then
+        assertThat(response)
+                .isEqualTo(new RoadmapSearchSuggestionResponse(List.of("자바", "자바스크립트"), List.of("자바왕")));
+    }
+
+    @Test
+    void 검색어_없이_추천을_요청하면_빈_추천을_반환한다() {
+        // when
+        final RoadmapSearchSuggestionResponse response = roadmapService.findSearchSuggestions(null);
+
+        // then
+        assertThat(response)
+                .isEqualTo(new RoadmapSearchSuggestionResponse(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    void 유사한_로드맵을_유사도_순서대로_조회한다() throws MalformedURLException {
+        // given
+        final RoadmapCategory category = new RoadmapCategory(1L, "여행");
+        final Roadmap roadmap2 = new Roadmap(2L, "두 번째 로드맵", "로드맵 소개글", 30, RoadmapDifficulty.NORMAL, member,
+                category);
+        final Roadmap roadmap3 = new Roadmap(3L, "세 번째 로드맵", "로드맵 소개글", 30, RoadmapDifficulty.NORMAL, member,
+                category);
+
+        when(roadmapSimilarityIndex.findSimilarRoadmapIds(1L))
+                .thenReturn(List.of(3L, 4L, 2L));
+        when(roadmapRepository.findRoadmapsByIds(List.of(3L, 4L, 2L)))
+                .thenReturn(List.of(roadmap2, roadmap3));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
+
+        // when
+        final List<RoadmapForListResponse> responses = roadmapService.findSimilarRoadmaps(1L);
+
+        // then
+        assertThat(responses)
+                .extracting("roadmapId", "roadmapTitle")
+                .containsExactly(tuple(3L, "세 번째 로드맵"), tuple(2L, "두 번째 로드맵"));
+    }
+
+    @Test
+    void 유사한_로드맵이_없으면_로드맵을_조회하지_않는다() {
+        // given
+        when(roadmapSimilarityIndex.findSimilarRoadmapIds(1L))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        final List<RoadmapForListResponse> responses = roadmapService.findSimilarRoadmaps(1L);
+
+        // then
+        verify(roadmapRepository, never()).findRoadmapsByIds(any());
+        assertThat(responses).isEmpty();
+    }
+
     @Test
     void 사용자가_생성한_로드맵을_조회한다() {
         // given
@@ -420,21 +673,21 @@ class RoadmapReadServiceTest {
         final Roadmap roadmap1 = 로드맵을_생성한다("로드맵1", category1);
         final Roadmap roadmap2 = 로드맵을_생성한다("로드맵2", category2);
 
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.of(member));
         when(roadmapRepository.findRoadmapsWithCategoryByMemberOrderByLatest(any(), any(), anyInt()))
                 .thenReturn(List.of(roadmap2, roadmap1));
 
         // when
         final MemberRoadmapResponses memberRoadmapResponse = roadmapService.findAllMemberRoadmaps(
-                "identifier1", new CustomScrollRequest(null, 10));
+                "identifier1", new CustomScrollRequest(null, null, 10));
 
         // then
         final MemberRoadmapResponses expected = new MemberRoadmapResponses(List.of(
                 new MemberRoadmapResponse(2L, "로드맵2", RoadmapDifficulty.DIFFICULT.name(), LocalDateTime.now(),
                         new RoadmapCategoryResponse(2L, "여가")),
                 new MemberRoadmapResponse(1L, "로드맵1", RoadmapDifficulty.DIFFICULT.name(), LocalDateTime.now(),
-                        new RoadmapCategoryResponse(1L, "운동"))), false);
+                        new RoadmapCategoryResponse(1L, "운동"))), false, null);
 
         assertThat(memberRoadmapResponse)
                 .usingRecursiveComparison()
@@ -445,13 +698,13 @@ class RoadmapReadServiceTest {
     @Test
     void 사용자가_생성한_로드맵을_조회할때_존재하지_않는_회원이면_예외가_발생한다() {
         // given
-        when(memberRepository.findByIdentifier(any()))
+        when(memberReferenceResolver.findByIdentifier(any()))
                 .thenReturn(Optional.empty());
 
         // when
         // then
         assertThatThrownBy(() -> roadmapService.findAllMemberRoadmaps("identifier1",
-                new CustomScrollRequest(null, 10))).isInstanceOf(NotFoundException.class)
+                new CustomScrollRequest(null, null, 10))).isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 회원입니다.");
     }
 
@@ -494,12 +747,12 @@ class RoadmapReadServiceTest {
         given(goalRoomRepository.findGoalRoomsWithPendingMembersByRoadmapAndCond(roadmap,
                 RoadmapGoalRoomsOrderType.LATEST, null, 10))
                 .willReturn(goalRooms);
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         // when
         final RoadmapGoalRoomResponses result = roadmapService.findRoadmapGoalRoomsByOrderType(1L,
-                RoadmapGoalRoomsOrderTypeDto.LATEST, new CustomScrollRequest(null, 10));
+                RoadmapGoalRoomsOrderTypeDto.LATEST, new CustomScrollRequest(null, null, 10));
 
         final RoadmapGoalRoomResponses expected =
                 new RoadmapGoalRoomResponses(List.of(
@@ -510,7 +763,7 @@ class RoadmapReadServiceTest {
                         new RoadmapGoalRoomResponse(1L, "goalroom1", 1, 10, LocalDateTime.now(),
                                 TODAY, TODAY.plusDays(20),
                                 new MemberResponse(member2.getId(), member2.getNickname().getValue(),
-                                        "http://example.com/serverFilePath"))), false);
+                                        "http://example.com/serverFilePath"))), false, null);
 
         assertThat(result)
                 .usingRecursiveComparison()
@@ -528,7 +781,7 @@ class RoadmapReadServiceTest {
         // then
         assertThatThrownBy(
                 () -> roadmapService.findRoadmapGoalRoomsByOrderType(1L,
-                        RoadmapGoalRoomsOrderTypeDto.LATEST, new CustomScrollRequest(null, 10)))
+                        RoadmapGoalRoomsOrderTypeDto.LATEST, new CustomScrollRequest(null, null, 10)))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 로드맵입니다. roadmapId = 1");
     }
@@ -554,12 +807,12 @@ class RoadmapReadServiceTest {
         when(roadmapRepository.findRoadmapById(anyLong())).thenReturn(Optional.of(roadmap));
         when(roadmapReviewRepository.findRoadmapReviewWithMemberByRoadmapOrderByLatest(any(), any(), anyInt()))
                 .thenReturn(List.of(roadmapReview2, roadmapReview1));
-        given(fileService.generateUrl(anyString(), any()))
-                .willReturn(new URL("http://example.com/serverFilePath"));
+        given(fileService.generateUrls(anyCollection(), any()))
+                .willAnswer(invocation -> 파일_URL들을_생성한다(invocation.getArgument(0)));
 
         // when
         final List<RoadmapReviewResponse> response = roadmapService.findRoadmapReviews(1L,
-                new CustomScrollRequest(null, 10));
+                new CustomScrollRequest(null, null, 10));
 
         final List<RoadmapReviewResponse> expect = List.of(
                 new RoadmapReviewResponse(2L, new MemberResponse(2L, "리뷰어2", "http://example.com/serverFilePath"),
@@ -581,7 +834,7 @@ class RoadmapReadServiceTest {
                 .thenThrow(new NotFoundException("존재하지 않는 로드맵입니다. roadmapId = 1"));
 
         // when, then
-        assertThatThrownBy(() -> roadmapService.findRoadmapReviews(1L, new CustomScrollRequest(null, 2)))
+        assertThatThrownBy(() -> roadmapService.findRoadmapReviews(1L, new CustomScrollRequest(null, null, 2)))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 로드맵입니다. roadmapId = 1");
     }
@@ -612,6 +865,12 @@ class RoadmapReadServiceTest {
         return roadmap;
     }
 
+    private List<RoadmapScrollDto> 로드맵_스크롤_목록을_생성한다(final List<Roadmap> roadmaps) {
+        return roadmaps.stream()
+                .map(roadmap -> new RoadmapScrollDto(roadmap, ScrollCursor.of(roadmap.getCreatedAt(), roadmap.getId())))
+                .toList();
+    }
+
     private RoadmapCategory 로드맵_카테고리를_생성한다(final Long id, final String title) {
         return new RoadmapCategory(id, title);
     }
@@ -671,4 +930,12 @@ class RoadmapReadServiceTest {
         return List.of(recruitedGoalRoom1, recruitedGoalRoom2, runningGoalRoom1, runningGoalRoom2,
                 completedGoalRoom1, completedGoalRoom2);
     }
+
+    private Map<String, URL> 파일_URL들을_생성한다(final Collection<String> paths) throws MalformedURLException {
+        final Map<String, URL> urls = new HashMap<>();
+        for (final String path : paths) {
+            urls.put(path, new URL("http://example.com/serverFilePath"));
+        }
+        return urls;
+    }
 }
@@ -1,38 +1,20 @@
 package co.kirikiri.service;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import co.kirikiri.domain.goalroom.GoalRoom;
-import co.kirikiri.domain.goalroom.GoalRoomRoadmapNode;
-import co.kirikiri.domain.goalroom.GoalRoomRoadmapNodes;
-import co.kirikiri.domain.goalroom.vo.GoalRoomName;
-import co.kirikiri.domain.goalroom.vo.LimitedMemberCount;
-import co.kirikiri.domain.goalroom.vo.Period;
-import co.kirikiri.domain.member.EncryptedPassword;
-import co.kirikiri.domain.member.Gender;
-import co.kirikiri.domain.member.Member;
-import co.kirikiri.domain.member.MemberProfile;
-import co.kirikiri.domain.member.vo.Identifier;
-import co.kirikiri.domain.member.vo.Nickname;
-import co.kirikiri.domain.member.vo.Password;
-import co.kirikiri.domain.roadmap.Roadmap;
-import co.kirikiri.domain.roadmap.RoadmapCategory;
-import co.kirikiri.domain.roadmap.RoadmapContent;
-import co.kirikiri.domain.roadmap.RoadmapDifficulty;
-import co.kirikiri.domain.roadmap.RoadmapNode;
-import co.kirikiri.domain.roadmap.RoadmapNodes;
-import co.kirikiri.persistence.goalroom.GoalRoomRepository;
-import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -40,133 +22,75 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class RoadmapSchedulerTest {
 
     private static final LocalDate TODAY = LocalDate.now();
-    private static final LocalDate TEN_DAY_LATER = TODAY.plusDays(10);
+    private static final int CHUNK_SIZE = 2;
 
     @Mock
-    private RoadmapRepository roadmapRepository;
+    private RoadmapPurger roadmapPurger;
 
     @Mock
-    private GoalRoomRepository goalRoomRepository;
+    private SchedulerLeaseManager schedulerLeaseManager;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private RoadmapScheduler roadmapScheduler;
 
+    @BeforeEach
+    void setUp() {
+        roadmapScheduler = new RoadmapScheduler(roadmapPurger, schedulerLeaseManager, CHUNK_SIZE, meterRegistry);
+    }
+
     @Test
-    void 삭제된_상태의_로드맵_삭제시_종료되지_않은_골룸이_있으면_삭제되지_않는다() {
+    void 삭제할_로드맵이_없을_때까지_청크_단위로_로드맵을_삭제한다() {
         // given
-        final Member member1 = new Member(new Identifier("identifier1"),
-                new EncryptedPassword(new Password("password1!")), new Nickname("name1"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-1111"));
-        final Member member2 = new Member(new Identifier("identifier2"),
-                new EncryptedPassword(new Password("password2!")), new Nickname("name2"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-2222"));
-
-        final RoadmapCategory category = new RoadmapCategory("여행");
-        final RoadmapContent roadmapContent1_1 = new RoadmapContent("로드맵 본문2");
-        final RoadmapContent roadmapContent1_2 = new RoadmapContent("로드맵 본문2 - 수정본");
-        final RoadmapNode roadmapNode1 = new RoadmapNode("로드맵1 노드", "로드맵 노드 내용");
-        roadmapContent1_1.addNodes(new RoadmapNodes(List.of(roadmapNode1)));
-        roadmapContent1_2.addNodes(new RoadmapNodes(List.of(roadmapNode1)));
-        final Roadmap roadmap1 = new Roadmap("로드맵2", "로드맵 설명2", 30, RoadmapDifficulty.DIFFICULT, member1, category);
-        roadmap1.addContent(roadmapContent1_1);
-        roadmap1.addContent(roadmapContent1_2);
-
-        final GoalRoom goalRoom1_1 = new GoalRoom(new GoalRoomName("골룸2"), new LimitedMemberCount(10),
-                roadmapContent1_1, member2);
-        final GoalRoom goalRoom1_2 = new GoalRoom(new GoalRoomName("골룸2-1"), new LimitedMemberCount(10),
-                roadmapContent1_2, member2);
-
-        final GoalRoomRoadmapNodes goalRoomRoadmapNodes1 = new GoalRoomRoadmapNodes(List.of(
-                new GoalRoomRoadmapNode(new Period(TODAY, TEN_DAY_LATER), 5, roadmapNode1)));
-        goalRoom1_1.addAllGoalRoomRoadmapNodes(goalRoomRoadmapNodes1);
-        goalRoom1_2.addAllGoalRoomRoadmapNodes(goalRoomRoadmapNodes1);
-
-        given(roadmapRepository.findWithRoadmapContentByStatus(any()))
-                .willReturn(List.of(roadmap1));
-        given(goalRoomRepository.findByRoadmap(roadmap1))
-                .willReturn(List.of(goalRoom1_1, goalRoom1_2));
+        작업_실행_권한을_얻는다();
+        given(roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE))
+                .willReturn(2, 2, 1, 0);
 
         // when
-        roadmap1.delete();
-        goalRoom1_1.complete();
+        roadmapScheduler.deleteRoadmaps();
 
         // then
-        assertDoesNotThrow(() -> roadmapScheduler.deleteRoadmaps());
-        verify(goalRoomRepository, never()).deleteAll(any());
-        verify(roadmapRepository, never()).delete(any());
+        verify(roadmapPurger, times(4)).purgeNextChunk(TODAY, CHUNK_SIZE);
+        assertAll(
+                () -> assertThat(meterRegistry.get("roadmap.purged").counter().count()).isEqualTo(5),
+                () -> assertThat(meterRegistry.get("scheduler.job.duration").tag("job", "roadmap.purge").timer()
+                        .count()).isEqualTo(1)
+        );
     }
 
     @Test
-    void 삭제된_상태의_로드맵_삭제시_골룸이_종료된지_3개월이_지나지_않으면_삭제되지_않는다() {
+    void 삭제할_로드맵이_없으면_청크를_한_번만_조회한다() {
         // given
-        final Member member1 = new Member(new Identifier("identifier1"),
-                new EncryptedPassword(new Password("password1!")), new Nickname("name1"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-1111"));
-        final Member member2 = new Member(new Identifier("identifier2"),
-                new EncryptedPassword(new Password("password2!")), new Nickname("name2"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-2222"));
-
-        final RoadmapCategory category = new RoadmapCategory("여행");
-        final RoadmapContent roadmapContent1 = new RoadmapContent("로드맵 본문1");
-        final RoadmapNode roadmapNode1 = new RoadmapNode("로드맵1 노드", "로드맵 노드 내용");
-        roadmapContent1.addNodes(new RoadmapNodes(List.of(roadmapNode1)));
-
-        final Roadmap roadmap1 = new Roadmap("로드맵1", "로드맵 설명1", 30, RoadmapDifficulty.DIFFICULT, member1, category);
-        roadmap1.addContent(roadmapContent1);
-
-        final GoalRoom goalRoom1 = new GoalRoom(new GoalRoomName("골룸1"), new LimitedMemberCount(10), roadmapContent1,
-                member2);
-        final GoalRoomRoadmapNodes goalRoomRoadmapNodes1 = new GoalRoomRoadmapNodes(List.of(
-                new GoalRoomRoadmapNode(new Period(TODAY, TEN_DAY_LATER), 5, roadmapNode1)));
-        goalRoom1.addAllGoalRoomRoadmapNodes(goalRoomRoadmapNodes1);
-
-        given(roadmapRepository.findWithRoadmapContentByStatus(any()))
-                .willReturn(List.of(roadmap1));
-        given(goalRoomRepository.findByRoadmap(roadmap1))
-                .willReturn(List.of(goalRoom1));
+        작업_실행_권한을_얻는다();
+        given(roadmapPurger.purgeNextChunk(TODAY, CHUNK_SIZE))
+                .willReturn(0);
 
         // when
-        roadmap1.delete();
-        goalRoom1.complete();
+        roadmapScheduler.deleteRoadmaps();
 
         // then
-        assertDoesNotThrow(() -> roadmapScheduler.deleteRoadmaps());
-        verify(goalRoomRepository, never()).deleteAll(any());
-        verify(roadmapRepository, never()).delete(any());
+        verify(roadmapPurger, times(1)).purgeNextChunk(TODAY, CHUNK_SIZE);
     }
 
     @Test
-    void 삭제된_상태의_로드맵이_없는_경우_삭제되지_않는다() {
+    void 다른_인스턴스가_로드맵_삭제_작업을_선점했다면_로드맵을_삭제하지_않는다() {
         // given
-        final Member member1 = new Member(new Identifier("identifier1"),
-                new EncryptedPassword(new Password("password1!")), new Nickname("name1"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-1111"));
-        final Member member2 = new Member(new Identifier("identifier2"),
-                new EncryptedPassword(new Password("password2!")), new Nickname("name2"), null,
-                new MemberProfile(Gender.FEMALE, LocalDate.of(1900, 1, 1), "010-1111-2222"));
-
-        final RoadmapCategory category = new RoadmapCategory("여행");
-        final RoadmapContent roadmapContent1 = new RoadmapContent("로드맵 본문1");
-        final RoadmapNode roadmapNode = new RoadmapNode("로드맵 노드", "로드맵 노드 내용");
-        final Roadmap roadmap1 = new Roadmap("로드맵1", "로드맵 설명1", 30, RoadmapDifficulty.DIFFICULT, member1, category);
-        roadmapContent1.addNodes(new RoadmapNodes(List.of(roadmapNode)));
-        roadmap1.addContent(roadmapContent1);
-
-        final GoalRoom goalRoom1 = new GoalRoom(new GoalRoomName("골룸1"), new LimitedMemberCount(10), roadmapContent1,
-                member2);
-
-        final GoalRoomRoadmapNodes goalRoomRoadmapNodes = new GoalRoomRoadmapNodes(List.of(
-                new GoalRoomRoadmapNode(new Period(TODAY, TEN_DAY_LATER), 5, roadmapNode)));
-        goalRoom1.addAllGoalRoomRoadmapNodes(goalRoomRoadmapNodes);
-        goalRoom1.complete();
-
-        given(roadmapRepository.findWithRoadmapContentByStatus(any()))
-                .willReturn(Collections.emptyList());
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willReturn(false);
 
         // when
+        roadmapScheduler.deleteRoadmaps();
+
         // then
-        assertDoesNotThrow(() -> roadmapScheduler.deleteRoadmaps());
-        verify(goalRoomRepository, never()).findByRoadmap(any());
-        verify(roadmapRepository, never()).deleteAll(any());
+        verify(roadmapPurger, never()).purgeNextChunk(any(), anyInt());
+        assertThat(meterRegistry.get("scheduler.job.duration").tag("job", "roadmap.purge").timer().count())
+                .isZero();
+    }
+
+    private void 작업_실행_권한을_얻는다() {
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
     }
 }
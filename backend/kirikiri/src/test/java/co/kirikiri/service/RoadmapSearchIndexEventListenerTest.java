@@ -0,0 +1,205 @@
+package co.kirikiri.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import co.kirikiri.domain.member.EncryptedPassword;
+import co.kirikiri.domain.member.Gender;
+import co.kirikiri.domain.member.Member;
+import co.kirikiri.domain.member.MemberProfile;
+import co.kirikiri.domain.member.vo.Identifier;
+import co.kirikiri.domain.member.vo.Nickname;
+import co.kirikiri.domain.member.vo.Password;
+import co.kirikiri.domain.roadmap.Roadmap;
+import co.kirikiri.domain.roadmap.RoadmapCategory;
+import co.kirikiri.domain.roadmap.RoadmapDifficulty;
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.domain.roadmap.RoadmapTag;
+import co.kirikiri.domain.roadmap.RoadmapTags;
+import co.kirikiri.domain.roadmap.vo.RoadmapTagName;
+import co.kirikiri.persistence.dto.RoadmapSearchDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import co.kirikiri.persistence.dto.RoadmapSuggestionDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import co.kirikiri.service.event.GoalRoomCreatedEvent;
+import co.kirikiri.service.event.GoalRoomStartedEvent;
+import co.kirikiri.service.event.RoadmapCreateEvent;
+import co.kirikiri.service.event.RoadmapDeletedEvent;
+import co.kirikiri.service.event.RoadmapReviewCreatedEvent;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RoadmapSearchIndexEventListenerTest {
+
+    @Mock
+    private RoadmapRepository roadmapRepository;
+
+    @Mock
+    private RoadmapStatsRepository roadmapStatsRepository;
+
+    @Mock
+    private RoadmapSearchIndex roadmapSearchIndex;
+
+    @Mock
+    private RoadmapTagIndex roadmapTagIndex;
+
+    @Mock
+    private RoadmapSuggestionIndex roadmapSuggestionIndex;
+
+    @Mock
+    private RoadmapSimilarityIndex roadmapSimilarityIndex;
+
+    @Mock
+    private RoadmapSortKeyIndex roadmapSortKeyIndex;
+
+    @InjectMocks
+    private RoadmapSearchIndexEventListener roadmapSearchIndexEventListener;
+
+    @Test
+    void 애플리케이션이_시작되면_삭제되지_않은_로드맵을_나누어_색인한다() {
+        // given
+        given(roadmapRepository.findSearchDocumentsAfter(eq(RoadmapStatus.CREATED), eq(0L), any()))
+                .willReturn(List.of(new RoadmapSearchDocumentDto(1L, "로드맵1", "소개글1"),
+                        new RoadmapSearchDocumentDto(3L, "로드맵3", "소개글3")));
+        given(roadmapRepository.findSearchDocumentsAfter(eq(RoadmapStatus.CREATED), eq(3L), any()))
+                .willReturn(List.of());
+        given(roadmapRepository.findTagNamesByRoadmapIds(List.of(1L, 3L)))
+                .willReturn(List.of(new RoadmapTagNameDto(1L, "자바"), new RoadmapTagNameDto(1L, "스프링")));
+        given(roadmapRepository.findSuggestionDocumentsByRoadmapIds(List.of(1L, 3L)))
+                .willReturn(List.of(new RoadmapSuggestionDocumentDto(1L, "코끼리", 5L),
+                        new RoadmapSuggestionDocumentDto(3L, "끼리코", 0L)));
+        final RoadmapSortKeyDto sortKey = new RoadmapSortKeyDto(1L, 2L, 5L, 9.0, 2L, 4.5);
+        given(roadmapStatsRepository.findSortKeysAfter(eq(0L), any()))
+                .willReturn(List.of(sortKey));
+        given(roadmapStatsRepository.findSortKeysAfter(eq(1L), any()))
+                .willReturn(List.of());
+
+        // when
+        roadmapSearchIndexEventListener.loadRoadmapSearchIndex();
+
+        // then
+        verify(roadmapSearchIndex).add(1L, "로드맵1", "소개글1");
+        verify(roadmapSearchIndex).add(3L, "로드맵3", "소개글3");
+        verify(roadmapTagIndex).addAll(Map.of(1L, List.of("자바", "스프링")));
+        verify(roadmapSuggestionIndex).add(1L, "코끼리", List.of("자바", "스프링"), 5L);
+        verify(roadmapSuggestionIndex).add(3L, "끼리코", List.of(), 0L);
+        verify(roadmapSortKeyIndex).replaceAll(List.of(sortKey));
+    }
+
+    @Test
+    void 초기_색인_전에는_재동기화하지_않는다() {
+        // when
+        roadmapSearchIndexEventListener.resyncRoadmapSearchIndex();
+
+        // then
+        verifyNoInteractions(roadmapRepository);
+    }
+
+    @Test
+    void 재동기화하면_다른_인스턴스에서_생성된_로드맵을_색인하고_삭제된_로드맵을_제거한다() {
+        // given
+        given(roadmapRepository.findSearchDocumentsAfter(eq(RoadmapStatus.CREATED), eq(0L), any()))
+                .willReturn(List.of());
+        roadmapSearchIndexEventListener.loadRoadmapSearchIndex();
+
+        given(roadmapRepository.findSearchDocumentsCreatedSince(eq(RoadmapStatus.CREATED), any(), eq(0L), any()))
+                .willReturn(List.of(new RoadmapSearchDocumentDto(5L, "로드맵5", "소개글5")));
+        given(roadmapRepository.findSearchDocumentsCreatedSince(eq(RoadmapStatus.CREATED), any(), eq(5L), any()))
+                .willReturn(List.of());
+        given(roadmapRepository.findTagNamesByRoadmapIds(List.of(5L)))
+                .willReturn(List.of(new RoadmapTagNameDto(5L, "자바")));
+        given(roadmapRepository.findSuggestionDocumentsByRoadmapIds(List.of(5L)))
+                .willReturn(List.of(new RoadmapSuggestionDocumentDto(5L, "코끼리", 2L)));
+        given(roadmapRepository.findIdsDeletedSince(eq(RoadmapStatus.DELETED), any(), eq(0L), any()))
+                .willReturn(List.of(2L));
+        given(roadmapRepository.findIdsDeletedSince(eq(RoadmapStatus.DELETED), any(), eq(2L), any()))
+                .willReturn(List.of());
+
+        // when
+        roadmapSearchIndexEventListener.resyncRoadmapSearchIndex();
+
+        // then
+        verify(roadmapSearchIndex).add(5L, "로드맵5", "소개글5");
+        verify(roadmapTagIndex).addAll(Map.of(5L, List.of("자바")));
+        verify(roadmapSuggestionIndex).add(5L, "코끼리", List.of("자바"), 2L);
+        verify(roadmapSortKeyIndex).add(5L);
+        verify(roadmapSearchIndex).remove(2L);
+        verify(roadmapTagIndex).remove(2L);
+        verify(roadmapSuggestionIndex).remove(2L);
+        verify(roadmapSimilarityIndex).remove(2L);
+        verify(roadmapSortKeyIndex).remove(2L);
+    }
+
+    @Test
+    void 로드맵이_생성되면_색인에_추가한다() {
+        // given
+        final Member creator = new Member(1L, new Identifier("cokirikiri"),
+                new EncryptedPassword(new Password("password1!")), new Nickname("코끼리"), null,
+                new MemberProfile(Gender.MALE, LocalDate.of(1999, 6, 8), "010-1234-5678"));
+        final Roadmap roadmap = new Roadmap(1L, "로드맵 제목", "로드맵 소개글", 30, RoadmapDifficulty.NORMAL, creator,
+                new RoadmapCategory(1L, "여행"));
+        roadmap.addTags(new RoadmapTags(List.of(new RoadmapTag(new RoadmapTagName("자바")))));
+
+        // when
+        roadmapSearchIndexEventListener.handleRoadmapCreate(new RoadmapCreateEvent(roadmap, null));
+
+        // then
+        verify(roadmapSearchIndex).add(1L, "로드맵 제목", "로드맵 소개글");
+        verify(roadmapTagIndex).add(1L, List.of("자바"));
+        verify(roadmapSuggestionIndex).add(1L, "코끼리", List.of("자바"), 0L);
+        verify(roadmapSortKeyIndex).add(1L);
+    }
+
+    @Test
+    void 로드맵이_삭제되면_색인에서_제거한다() {
+        // when
+        roadmapSearchIndexEventListener.handleRoadmapDeleted(new RoadmapDeletedEvent(1L));
+
+        // then
+        verify(roadmapSearchIndex).remove(1L);
+        verify(roadmapTagIndex).remove(1L);
+        verify(roadmapSuggestionIndex).remove(1L);
+        verify(roadmapSimilarityIndex).remove(1L);
+        verify(roadmapSortKeyIndex).remove(1L);
+    }
+
+    @Test
+    void 골룸이_시작되면_참여자_수만큼_로드맵_인기도를_높인다() {
+        // when
+        roadmapSearchIndexEventListener.handleGoalRoomStarted(new GoalRoomStartedEvent(1L, 3));
+
+        // then
+        verify(roadmapSuggestionIndex).increasePopularity(1L, 3L);
+        verify(roadmapSortKeyIndex).increaseParticipantCount(1L, 3L);
+    }
+
+    @Test
+    void 골룸이_생성되면_로드맵의_골룸_수_정렬_키를_높인다() {
+        // when
+        roadmapSearchIndexEventListener.handleGoalRoomCreated(new GoalRoomCreatedEvent(1L));
+
+        // then
+        verify(roadmapSortKeyIndex).increaseGoalRoomCount(1L);
+    }
+
+    @Test
+    void 리뷰가_작성되면_로드맵의_평점_정렬_키에_반영한다() {
+        // when
+        roadmapSearchIndexEventListener.handleRoadmapReviewCreated(new RoadmapReviewCreatedEvent(1L, 4.5));
+
+        // then
+        verify(roadmapSortKeyIndex).addReview(1L, 4.5);
+    }
+}
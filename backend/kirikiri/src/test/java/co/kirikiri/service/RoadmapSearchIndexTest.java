@@ -0,0 +1,107 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoadmapSearchIndexTest {
+
+    private final RoadmapSearchIndex roadmapSearchIndex = new RoadmapSearchIndex();
+
+    @Test
+    void 공백과_대소문자를_무시하고_제목에_검색어가_포함된_로드맵을_찾는다() {
+        // given
+        roadmapSearchIndex.add(1L, "로드맵", "소개글");
+        roadmapSearchIndex.add(2L, "짱로드맵", "소개글");
+        roadmapSearchIndex.add(3L, "로 드맵짱", "소개글");
+        roadmapSearchIndex.add(4L, "Spring RoadMap", "소개글");
+        roadmapSearchIndex.add(5L, "로드", "소개글");
+
+        // when
+        final Set<Long> koreanResult = roadmapSearchIndex.search(" 로 드 맵 ");
+        final Set<Long> englishResult = roadmapSearchIndex.search("roadmap");
+
+        // then
+        assertThat(koreanResult).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(englishResult).containsExactly(4L);
+    }
+
+    @Test
+    void 소개글에_검색어가_포함된_로드맵도_찾는다() {
+        // given
+        roadmapSearchIndex.add(1L, "자바 입문", "스프링 부트까지 한 번에");
+        roadmapSearchIndex.add(2L, "파이썬 입문", "데이터 분석 기초");
+
+        // when
+        final Set<Long> result = roadmapSearchIndex.search("스프링부트");
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    void 검색어의_음절이_모두_있어도_연속되지_않으면_찾지_않는다() {
+        // given
+        roadmapSearchIndex.add(1L, "로드 맵로", "소개글");
+        roadmapSearchIndex.add(2L, "맵로드", "소개글");
+
+        // when
+        final Set<Long> result = roadmapSearchIndex.search("로드맵로드");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 한_글자로_검색하면_해당_글자가_포함된_로드맵을_찾는다() {
+        // given
+        roadmapSearchIndex.add(1L, "운동", "소개글");
+        roadmapSearchIndex.add(2L, "여행", "소개글");
+
+        // when
+        final Set<Long> result = roadmapSearchIndex.search("행");
+
+        // then
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    void 삭제된_로드맵은_찾지_않는다() {
+        // given
+        roadmapSearchIndex.add(1L, "로드맵", "소개글");
+        roadmapSearchIndex.add(2L, "로드맵2", "소개글");
+
+        // when
+        roadmapSearchIndex.remove(1L);
+
+        // then
+        assertThat(roadmapSearchIndex.search("로드맵")).containsExactly(2L);
+    }
+
+    @Test
+    void 같은_로드맵을_다시_색인하면_이전_내용으로는_찾지_않는다() {
+        // given
+        roadmapSearchIndex.add(1L, "이전 제목", "소개글");
+
+        // when
+        roadmapSearchIndex.add(1L, "새 제목", "소개글");
+
+        // then
+        assertThat(roadmapSearchIndex.search("이전")).isEmpty();
+        assertThat(roadmapSearchIndex.search("새제목")).containsExactly(1L);
+    }
+
+    @Test
+    void 색인을_비우면_아무것도_찾지_않는다() {
+        // given
+        roadmapSearchIndex.add(1L, "로드맵", "소개글");
+
+        // when
+        roadmapSearchIndex.clear();
+
+        // then
+        assertThat(roadmapSearchIndex.search("로드맵")).isEmpty();
+        assertThat(roadmapSearchIndex.search(" ")).isEmpty();
+    }
+}
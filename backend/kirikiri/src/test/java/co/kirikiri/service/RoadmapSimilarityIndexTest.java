@@ -0,0 +1,171 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class RoadmapSimilarityIndexTest {
+
+    private final RoadmapSimilarityIndex roadmapSimilarityIndex = new RoadmapSimilarityIndex();
+
+    @Test
+    void 공유하는_태그가_많을수록_더_유사한_로드맵이다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바", "스프링", "JPA"));
+        roadmapSimilarityIndex.addRoadmap(2L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(3L, 1L, List.of("J PA", "스프링"));
+        roadmapSimilarityIndex.addRoadmap(4L, 1L, List.of("파이썬"));
+
+        // when
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).containsExactly(3L, 2L);
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(2L)).containsExactly(1L);
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(4L)).isEmpty();
+    }
+
+    @Test
+    void 같은_카테고리와_함께_참여한_사용자가_있으면_더_유사한_로드맵이다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(2L, 2L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(3L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(4L, 2L, List.of("자바"));
+        roadmapSimilarityIndex.addParticipant(1L, 10L);
+        roadmapSimilarityIndex.addParticipant(4L, 10L);
+        roadmapSimilarityIndex.addParticipant(5L, 10L);
+
+        // when
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    void 새로_추가된_로드맵만_다시_계산해도_기존_로드맵의_유사_로드맵에_반영된다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바", "스프링"));
+        roadmapSimilarityIndex.addRoadmap(2L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.refresh();
+
+        // when
+        roadmapSimilarityIndex.addRoadmap(3L, 1L, List.of("자바", "스프링"));
+        roadmapSimilarityIndex.addParticipant(2L, 10L);
+        roadmapSimilarityIndex.addParticipant(2L, 10L);
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).containsExactly(3L, 2L);
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(2L)).containsExactly(1L, 3L);
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(3L)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 유사한_로드맵은_최대_10개까지_보관한다() {
+        // given
+        LongStream.rangeClosed(1L, 15L)
+                .forEach(id -> roadmapSimilarityIndex.addRoadmap(id, 1L, List.of("자바")));
+
+        // when
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(15L))
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void 삭제된_로드맵은_유사한_로드맵에서_제외한다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(2L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(3L, 1L, List.of("스프링"));
+        roadmapSimilarityIndex.addParticipant(2L, 10L);
+        roadmapSimilarityIndex.addParticipant(3L, 10L);
+        roadmapSimilarityIndex.refresh();
+
+        // when
+        roadmapSimilarityIndex.remove(2L);
+        roadmapSimilarityIndex.remove(4L);
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).isEmpty();
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(2L)).isEmpty();
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(3L)).isEmpty();
+    }
+
+    @Test
+    void 태그가_바뀐_로드맵을_다시_추가하면_이전_태그로는_유사하지_않다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(2L, 2L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(3L, 2L, List.of("파이썬"));
+        roadmapSimilarityIndex.refresh();
+
+        // when
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("파이썬"));
+        roadmapSimilarityIndex.refresh();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).containsExactly(3L);
+    }
+
+    @Test
+    void 재구성한_색인으로_교체하면_더이상_참여하지_않는_사용자의_유사도는_사라진다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(2L, 2L, List.of("파이썬"));
+        roadmapSimilarityIndex.addParticipant(1L, 10L);
+        roadmapSimilarityIndex.addParticipant(2L, 10L);
+        roadmapSimilarityIndex.refresh();
+        final RoadmapSimilarityIndex rebuiltIndex = new RoadmapSimilarityIndex();
+        rebuiltIndex.addRoadmap(1L, 1L, List.of("자바"));
+        rebuiltIndex.addRoadmap(2L, 2L, List.of("파이썬"));
+        rebuiltIndex.refresh();
+
+        // when
+        roadmapSimilarityIndex.startRebuild();
+        roadmapSimilarityIndex.replaceWith(rebuiltIndex);
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).isEmpty();
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(2L)).isEmpty();
+    }
+
+    @Test
+    void 재구성_중에_삭제된_로드맵은_교체한_색인에서도_제외한다() {
+        // given
+        final RoadmapSimilarityIndex rebuiltIndex = new RoadmapSimilarityIndex();
+        roadmapSimilarityIndex.startRebuild();
+        rebuiltIndex.addRoadmap(1L, 1L, List.of("자바"));
+        rebuiltIndex.addRoadmap(2L, 1L, List.of("자바"));
+        rebuiltIndex.refresh();
+        roadmapSimilarityIndex.remove(2L);
+
+        // when
+        roadmapSimilarityIndex.replaceWith(rebuiltIndex);
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).isEmpty();
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(2L)).isEmpty();
+    }
+
+    @Test
+    void 색인을_비우면_유사한_로드맵을_찾지_않는다() {
+        // given
+        roadmapSimilarityIndex.addRoadmap(1L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.addRoadmap(2L, 1L, List.of("자바"));
+        roadmapSimilarityIndex.refresh();
+
+        // when
+        roadmapSimilarityIndex.clear();
+
+        // then
+        assertThat(roadmapSimilarityIndex.findSimilarRoadmapIds(1L)).isEmpty();
+    }
+}
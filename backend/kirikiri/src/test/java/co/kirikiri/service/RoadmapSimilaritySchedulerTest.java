@@ -0,0 +1,121 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import co.kirikiri.domain.roadmap.RoadmapStatus;
+import co.kirikiri.persistence.dto.GoalRoomParticipationDto;
+import co.kirikiri.persistence.dto.RoadmapSimilarityDocumentDto;
+import co.kirikiri.persistence.dto.RoadmapTagNameDto;
+import co.kirikiri.persistence.goalroom.GoalRoomMemberRepository;
+import co.kirikiri.persistence.roadmap.RoadmapRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RoadmapSimilaritySchedulerTest {
+
+    @Mock
+    private RoadmapRepository roadmapRepository;
+
+    @Mock
+    private GoalRoomMemberRepository goalRoomMemberRepository;
+
+    @Mock
+    private RoadmapSimilarityIndex roadmapSimilarityIndex;
+
+    @InjectMocks
+    private RoadmapSimilarityScheduler roadmapSimilarityScheduler;
+
+    @Test
+    void 전체_재구성은_새_색인을_만들어_기존_색인과_교체한다() {
+        // given
+        given(roadmapRepository.findSimilarityDocumentsAfter(eq(RoadmapStatus.CREATED), eq(0L), any()))
+                .willReturn(List.of(new RoadmapSimilarityDocumentDto(1L, 1L),
+                        new RoadmapSimilarityDocumentDto(2L, 2L)));
+        given(roadmapRepository.findSimilarityDocumentsAfter(eq(RoadmapStatus.CREATED), eq(2L), any()))
+                .willReturn(List.of());
+        given(roadmapRepository.findTagNamesByRoadmapIds(List.of(1L, 2L)))
+                .willReturn(List.of(new RoadmapTagNameDto(1L, "자바"), new RoadmapTagNameDto(2L, "자바")));
+        given(goalRoomMemberRepository.findParticipationsAfter(eq(0L), any()))
+                .willReturn(List.of(new GoalRoomParticipationDto(5L, 10L, 1L)));
+        given(goalRoomMemberRepository.findParticipationsAfter(eq(5L), any()))
+                .willReturn(List.of());
+
+        // when
+        roadmapSimilarityScheduler.rebuildRoadmapSimilarities();
+
+        // then
+        final ArgumentCaptor<RoadmapSimilarityIndex> rebuiltIndexCaptor =
+                ArgumentCaptor.forClass(RoadmapSimilarityIndex.class);
+        final InOrder inOrder = inOrder(roadmapSimilarityIndex);
+        inOrder.verify(roadmapSimilarityIndex).startRebuild();
+        inOrder.verify(roadmapSimilarityIndex).replaceWith(rebuiltIndexCaptor.capture());
+        verify(roadmapSimilarityIndex, never()).addRoadmap(anyLong(), anyLong(), any());
+        verify(roadmapSimilarityIndex, never()).refresh();
+        assertThat(rebuiltIndexCaptor.getValue().findSimilarRoadmapIds(1L)).containsExactly(2L);
+    }
+
+    @Test
+    void 전체_재구성_전에는_갱신하지_않는다() {
+        // when
+        roadmapSimilarityScheduler.refreshRoadmapSimilarities();
+
+        // then
+        verifyNoInteractions(roadmapRepository, goalRoomMemberRepository, roadmapSimilarityIndex);
+    }
+
+    @Test
+    void 갱신은_마지막_동기화_이후_생성된_로드맵과_직전_갱신_구간부터의_참여_정보를_다시_색인한다() {
+        // given
+        given(roadmapRepository.findSimilarityDocumentsAfter(eq(RoadmapStatus.CREATED), eq(0L), any()))
+                .willReturn(List.of());
+        given(goalRoomMemberRepository.findParticipationsAfter(eq(0L), any()))
+                .willReturn(List.of(new GoalRoomParticipationDto(3L, 10L, 1L)));
+        given(goalRoomMemberRepository.findParticipationsAfter(eq(3L), any()))
+                .willReturn(List.of())
+                .willReturn(List.of(new GoalRoomParticipationDto(4L, 11L, 7L)));
+        given(goalRoomMemberRepository.findParticipationsAfter(eq(4L), any()))
+                .willReturn(List.of());
+        given(roadmapRepository.findSimilarityDocumentsCreatedSince(eq(RoadmapStatus.CREATED), any(), eq(0L),
+                any()))
+                .willReturn(List.of(new RoadmapSimilarityDocumentDto(7L, 1L)))
+                .willReturn(List.of());
+        given(roadmapRepository.findSimilarityDocumentsCreatedSince(eq(RoadmapStatus.CREATED), any(), eq(7L),
+                any()))
+                .willReturn(List.of());
+        given(roadmapRepository.findTagNamesByRoadmapIds(List.of(7L)))
+                .willReturn(List.of());
+        roadmapSimilarityScheduler.rebuildRoadmapSimilarities();
+
+        // when
+        roadmapSimilarityScheduler.refreshRoadmapSimilarities();
+        roadmapSimilarityScheduler.refreshRoadmapSimilarities();
+
+        // then
+        final ArgumentCaptor<LocalDateTime> createdSinceCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(roadmapRepository, times(2)).findSimilarityDocumentsCreatedSince(eq(RoadmapStatus.CREATED),
+                createdSinceCaptor.capture(), eq(0L), any());
+        assertThat(createdSinceCaptor.getAllValues().get(0))
+                .isBeforeOrEqualTo(LocalDateTime.now().minusMinutes(5));
+        verify(roadmapSimilarityIndex).addRoadmap(7L, 1L, List.of());
+        verify(roadmapSimilarityIndex, times(2)).addParticipant(7L, 11L);
+        verify(roadmapSimilarityIndex, times(2)).refresh();
+        verify(goalRoomMemberRepository, times(3)).findParticipationsAfter(eq(3L), any());
+    }
+}
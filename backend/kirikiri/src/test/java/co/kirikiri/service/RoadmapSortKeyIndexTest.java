@@ -0,0 +1,97 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.kirikiri.persistence.dto.RoadmapOrderType;
+import co.kirikiri.persistence.dto.RoadmapSortKeyDto;
+import co.kirikiri.persistence.dto.ScrollCursor;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoadmapSortKeyIndexTest {
+
+    private final RoadmapSortKeyIndex roadmapSortKeyIndex = new RoadmapSortKeyIndex();
+
+    @Test
+    void 후보_로드맵_중_정렬_키가_큰_순서로_개수만큼_고르고_같으면_아이디_순으로_고른다() {
+        // given
+        roadmapSortKeyIndex.replaceAll(List.of(
+                new RoadmapSortKeyDto(1L, 3L, 0L, 0.0, 0L, 0.0),
+                new RoadmapSortKeyDto(2L, 5L, 0L, 0.0, 0L, 0.0),
+                new RoadmapSortKeyDto(3L, 3L, 0L, 0.0, 0L, 0.0),
+                new RoadmapSortKeyDto(4L, 9L, 0L, 0.0, 0L, 0.0)));
+
+        // when
+        final List<Long> result = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L, 3L),
+                RoadmapOrderType.GOAL_ROOM_COUNT, null, 2);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 커서의_정렬_키와_아이디_다음_순서의_로드맵만_고른다() {
+        // given
+        roadmapSortKeyIndex.replaceAll(List.of(
+                new RoadmapSortKeyDto(1L, 0L, 3L, 0.0, 0L, 0.0),
+                new RoadmapSortKeyDto(2L, 0L, 5L, 0.0, 0L, 0.0),
+                new RoadmapSortKeyDto(3L, 0L, 3L, 0.0, 0L, 0.0)));
+
+        // when
+        final List<Long> sortKeyCursorResult = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L, 3L),
+                RoadmapOrderType.PARTICIPANT_COUNT, ScrollCursor.of(3L, 1L), 10);
+        final List<Long> idCursorResult = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L, 3L),
+                RoadmapOrderType.PARTICIPANT_COUNT, ScrollCursor.from(2L), 10);
+        final List<Long> unknownCursorResult = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L, 3L),
+                RoadmapOrderType.PARTICIPANT_COUNT, ScrollCursor.from(4L), 10);
+
+        // then
+        assertThat(sortKeyCursorResult).containsExactly(3L);
+        assertThat(idCursorResult).containsExactly(1L, 3L);
+        assertThat(unknownCursorResult).isEmpty();
+    }
+
+    @Test
+    void 골룸_참여자_리뷰가_추가되면_정렬_키를_갱신한다() {
+        // given
+        roadmapSortKeyIndex.add(1L);
+        roadmapSortKeyIndex.add(2L);
+
+        // when
+        roadmapSortKeyIndex.increaseGoalRoomCount(2L);
+        roadmapSortKeyIndex.increaseParticipantCount(2L, 3L);
+        roadmapSortKeyIndex.addReview(1L, 4.0);
+        roadmapSortKeyIndex.addReview(1L, 5.0);
+        roadmapSortKeyIndex.addReview(2L, 4.0);
+        roadmapSortKeyIndex.increaseGoalRoomCount(3L);
+
+        // then
+        assertThat(roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L), RoadmapOrderType.GOAL_ROOM_COUNT,
+                null, 10)).containsExactly(2L, 1L);
+        assertThat(roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L), RoadmapOrderType.PARTICIPANT_COUNT,
+                null, 10)).containsExactly(2L, 1L);
+        assertThat(roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L), RoadmapOrderType.REVIEW_RATE,
+                ScrollCursor.of(4.5, 1L), 10)).containsExactly(2L);
+    }
+
+    @Test
+    void 삭제하거나_비우면_정렬_키가_없는_로드맵으로_취급한다() {
+        // given
+        roadmapSortKeyIndex.replaceAll(List.of(
+                new RoadmapSortKeyDto(1L, 0L, 0L, 5.0, 1L, 5.0),
+                new RoadmapSortKeyDto(2L, 0L, 0L, 3.0, 1L, 3.0)));
+
+        // when
+        roadmapSortKeyIndex.remove(1L);
+        final List<Long> removedResult = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L),
+                RoadmapOrderType.REVIEW_RATE, null, 10);
+        roadmapSortKeyIndex.clear();
+        final List<Long> clearedResult = roadmapSortKeyIndex.findTopRoadmapIds(Set.of(1L, 2L),
+                RoadmapOrderType.REVIEW_RATE, ScrollCursor.from(2L), 10);
+
+        // then
+        assertThat(removedResult).containsExactly(2L, 1L);
+        assertThat(clearedResult).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.persistence.roadmap.RoadmapStatsRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RoadmapStatsReconcilerTest {
+
+    private static final long MAX_ID = 100L;
+    private static final int CHUNK_SIZE = 500;
+
+    @Mock
+    private RoadmapStatsRepository roadmapStatsRepository;
+
+    @InjectMocks
+    private RoadmapStatsReconciler roadmapStatsReconciler;
+
+    @Test
+    void 조회한_로드맵_구간의_통계를_한_번의_쿼리로_보정한다() {
+        // given
+        given(roadmapStatsRepository.findRoadmapIdsAfter(eq(0L), eq(MAX_ID), any()))
+                .willReturn(List.of(1L, 2L));
+
+        // when
+        final long reconciledId = roadmapStatsReconciler.reconcileNextChunk(0L, MAX_ID, CHUNK_SIZE);
+
+        // then
+        assertThat(reconciledId).isEqualTo(2L);
+        verify(roadmapStatsRepository).insertMissingStats(0L, 2L);
+        verify(roadmapStatsRepository).reconcileBetween(0L, 2L);
+    }
+
+    @Test
+    void 구간에_로드맵이_없으면_보정할_통계가_없고_마지막_아이디를_그대로_반환한다() {
+        // given
+        given(roadmapStatsRepository.findRoadmapIdsAfter(eq(2L), eq(MAX_ID), any()))
+                .willReturn(List.of());
+
+        // when
+        final long reconciledId = roadmapStatsReconciler.reconcileNextChunk(2L, MAX_ID, CHUNK_SIZE);
+
+        // then
+        assertThat(reconciledId).isEqualTo(2L);
+        verify(roadmapStatsRepository, never()).reconcileBetween(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,88 @@
+package co.kirikiri.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.service.dto.IdRange;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RoadmapStatsSchedulerTest {
+
+    private static final long PARTITION_SIZE = 1000L;
+    private static final long MAX_ROADMAP_ID = 1500L;
+    private static final int CHUNK_SIZE = 500;
+
+    @Mock
+    private RoadmapStatsReconciler roadmapStatsReconciler;
+
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    private RoadmapStatsScheduler roadmapStatsScheduler;
+
+    @BeforeEach
+    void setUp() {
+        roadmapStatsScheduler = new RoadmapStatsScheduler(roadmapStatsReconciler, schedulerLeaseManager,
+                PARTITION_SIZE);
+    }
+
+    @Test
+    void 고아_통계를_정리하고_선점한_구간의_로드맵_통계를_끝까지_보정한다() {
+        // given
+        final IdRange idRange = new IdRange(1000L, Long.MAX_VALUE);
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+        given(roadmapStatsReconciler.findMaxRoadmapId())
+                .willReturn(MAX_ROADMAP_ID);
+        given(schedulerLeaseManager.runPartitioned(anyString(), eq(MAX_ROADMAP_ID), eq(PARTITION_SIZE), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Consumer<IdRange>>getArgument(3).accept(idRange);
+                    return 1;
+                });
+        given(roadmapStatsReconciler.reconcileNextChunk(1000L, Long.MAX_VALUE, CHUNK_SIZE))
+                .willReturn(1500L);
+        given(roadmapStatsReconciler.reconcileNextChunk(1500L, Long.MAX_VALUE, CHUNK_SIZE))
+                .willReturn(1500L);
+
+        // when
+        roadmapStatsScheduler.reconcileRoadmapStats();
+
+        // then
+        verify(roadmapStatsReconciler).deleteOrphans();
+        verify(roadmapStatsReconciler, times(2)).reconcileNextChunk(anyLong(), eq(Long.MAX_VALUE), eq(CHUNK_SIZE));
+    }
+
+    @Test
+    void 다른_인스턴스가_모든_작업을_선점했다면_통계를_보정하지_않는다() {
+        // given
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willReturn(false);
+        given(roadmapStatsReconciler.findMaxRoadmapId())
+                .willReturn(MAX_ROADMAP_ID);
+        given(schedulerLeaseManager.runPartitioned(anyString(), eq(MAX_ROADMAP_ID), eq(PARTITION_SIZE), any()))
+                .willReturn(0);
+
+        // when
+        roadmapStatsScheduler.reconcileRoadmapStats();
+
+        // then
+        verify(roadmapStatsReconciler, never()).deleteOrphans();
+        verify(roadmapStatsReconciler, never()).reconcileNextChunk(anyLong(), anyLong(), anyInt());
+    }
+}
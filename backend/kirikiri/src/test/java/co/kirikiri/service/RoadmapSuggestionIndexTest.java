@@ -0,0 +1,120 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RoadmapSuggestionIndexTest {
+
+    private final RoadmapSuggestionIndex roadmapSuggestionIndex = new RoadmapSuggestionIndex();
+
+    @Test
+    void 공백과_대소문자를_무시하고_검색어로_시작하는_태그를_인기순으로_추천한다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("Java", "자바"), 0L);
+        roadmapSuggestionIndex.add(2L, "끼리코", List.of("JavaScript"), 5L);
+        roadmapSuggestionIndex.add(3L, "리코끼", List.of("java", "JPA"), 0L);
+        roadmapSuggestionIndex.add(4L, "코끼리짱", List.of("Kotlin"), 10L);
+
+        // when
+        final List<String> result = roadmapSuggestionIndex.findTagNames(" JA ");
+
+        // then
+        assertThat(result).containsExactly("JavaScript", "Java");
+    }
+
+    @Test
+    void 검색어로_시작하는_크리에이터_닉네임을_인기순으로_추천한다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of(), 0L);
+        roadmapSuggestionIndex.add(2L, "코끼리짱", List.of(), 2L);
+        roadmapSuggestionIndex.add(3L, "코알라", List.of(), 0L);
+        roadmapSuggestionIndex.add(4L, "끼리코", List.of(), 10L);
+
+        // when
+        final List<String> twoLetterResult = roadmapSuggestionIndex.findCreatorNicknames("코끼");
+        final List<String> oneLetterResult = roadmapSuggestionIndex.findCreatorNicknames("코");
+        final List<String> exactResult = roadmapSuggestionIndex.findCreatorNicknames("코끼리짱");
+        final List<String> unknownResult = roadmapSuggestionIndex.findCreatorNicknames("코끼리왕");
+
+        // then
+        assertThat(twoLetterResult).containsExactly("코끼리짱", "코끼리");
+        assertThat(oneLetterResult).containsExactly("코끼리짱", "코끼리", "코알라");
+        assertThat(exactResult).containsExactly("코끼리짱");
+        assertThat(unknownResult).isEmpty();
+    }
+
+    @Test
+    void 골룸이_시작되면_로드맵의_인기도가_반영된다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("자바"), 0L);
+        roadmapSuggestionIndex.add(2L, "코알라", List.of("자바스크립트"), 1L);
+
+        // when
+        roadmapSuggestionIndex.increasePopularity(1L, 3L);
+        roadmapSuggestionIndex.increasePopularity(3L, 3L);
+
+        // then
+        assertThat(roadmapSuggestionIndex.findTagNames("자바")).containsExactly("자바", "자바스크립트");
+        assertThat(roadmapSuggestionIndex.findCreatorNicknames("코")).containsExactly("코끼리", "코알라");
+    }
+
+    @Test
+    void 추천은_최대_10개까지_반환한다() {
+        // given
+        IntStream.rangeClosed(1, 15)
+                .forEach(id -> roadmapSuggestionIndex.add((long) id, "코끼리" + id, List.of("태그" + id), id));
+
+        // when
+        final List<String> result = roadmapSuggestionIndex.findTagNames("태그");
+
+        // then
+        assertThat(result).hasSize(10)
+                .startsWith("태그15", "태그14")
+                .endsWith("태그6");
+    }
+
+    @Test
+    void 삭제된_로드맵만_가진_태그와_닉네임은_추천하지_않는다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("자바"), 0L);
+        roadmapSuggestionIndex.add(2L, "코끼리짱", List.of("자바스크립트", "자바"), 0L);
+
+        // when
+        roadmapSuggestionIndex.remove(2L);
+        roadmapSuggestionIndex.remove(3L);
+
+        // then
+        assertThat(roadmapSuggestionIndex.findTagNames("자")).containsExactly("자바");
+        assertThat(roadmapSuggestionIndex.findCreatorNicknames("코")).containsExactly("코끼리");
+    }
+
+    @Test
+    void 같은_로드맵을_다시_색인하면_이전_태그는_추천하지_않는다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("자바"), 0L);
+
+        // when
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("자바스크립트"), 0L);
+
+        // then
+        assertThat(roadmapSuggestionIndex.findTagNames("자")).containsExactly("자바스크립트");
+    }
+
+    @Test
+    void 색인을_비우거나_검색어가_비어있으면_아무것도_추천하지_않는다() {
+        // given
+        roadmapSuggestionIndex.add(1L, "코끼리", List.of("자바"), 0L);
+
+        // when
+        final List<String> blankResult = roadmapSuggestionIndex.findTagNames(" ");
+        roadmapSuggestionIndex.clear();
+
+        // then
+        assertThat(blankResult).isEmpty();
+        assertThat(roadmapSuggestionIndex.findTagNames("자")).isEmpty();
+        assertThat(roadmapSuggestionIndex.findCreatorNicknames("코")).isEmpty();
+    }
+}
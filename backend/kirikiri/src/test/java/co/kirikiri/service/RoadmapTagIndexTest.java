@@ -0,0 +1,122 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoadmapTagIndexTest {
+
+    private final RoadmapTagIndex roadmapTagIndex = new RoadmapTagIndex();
+
+    @Test
+    void 공백과_대소문자를_무시하고_태그가_일치하는_로드맵을_아이디순으로_찾는다() {
+        // given
+        roadmapTagIndex.add(3L, List.of("Java", "스프링"));
+        roadmapTagIndex.add(1L, List.of("java"));
+        roadmapTagIndex.add(2L, List.of("자바스크립트"));
+
+        // when
+        final Set<Long> result = roadmapTagIndex.search(List.of(" JA VA "));
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 여러_태그로_검색하면_모든_태그를_가진_로드맵만_찾는다() {
+        // given
+        roadmapTagIndex.add(1L, List.of("자바", "스프링", "JPA"));
+        roadmapTagIndex.add(2L, List.of("자바", "스프링"));
+        roadmapTagIndex.add(3L, List.of("자바"));
+        roadmapTagIndex.add(4L, List.of("스프링", "JPA"));
+
+        // when
+        final Set<Long> twoTagsResult = roadmapTagIndex.search(List.of("자바", "스프링"));
+        final Set<Long> threeTagsResult = roadmapTagIndex.search(List.of("jpa", "자바", "스프링"));
+        final Set<Long> unknownTagResult = roadmapTagIndex.search(List.of("자바", "코틀린"));
+
+        // then
+        assertThat(twoTagsResult).containsExactly(1L, 2L);
+        assertThat(threeTagsResult).containsExactly(1L);
+        assertThat(unknownTagResult).isEmpty();
+    }
+
+    @Test
+    void 삭제된_로드맵은_찾지_않는다() {
+        // given
+        roadmapTagIndex.add(1L, List.of("자바"));
+        roadmapTagIndex.add(2L, List.of("자바", "스프링"));
+
+        // when
+        roadmapTagIndex.remove(1L);
+        roadmapTagIndex.remove(2L);
+        roadmapTagIndex.remove(3L);
+
+        // then
+        assertThat(roadmapTagIndex.search(List.of("자바"))).isEmpty();
+        assertThat(roadmapTagIndex.search(List.of("스프링"))).isEmpty();
+    }
+
+    @Test
+    void 같은_로드맵을_다시_색인하면_이전_태그로는_찾지_않는다() {
+        // given
+        roadmapTagIndex.add(1L, List.of("자바"));
+        roadmapTagIndex.add(2L, List.of("자바"));
+
+        // when
+        roadmapTagIndex.add(1L, List.of("코틀린"));
+
+        // then
+        assertThat(roadmapTagIndex.search(List.of("자바"))).containsExactly(2L);
+        assertThat(roadmapTagIndex.search(List.of("코틀린"))).containsExactly(1L);
+    }
+
+    @Test
+    void 여러_로드맵을_한_번에_색인하면_태그마다_아이디순으로_찾는다() {
+        // given
+        final Map<Long, List<String>> tagNamesByRoadmapId = new LinkedHashMap<>();
+        tagNamesByRoadmapId.put(3L, List.of("자바", "스프링"));
+        tagNamesByRoadmapId.put(1L, List.of("Java", "자바"));
+        tagNamesByRoadmapId.put(2L, List.of("스프링"));
+
+        // when
+        roadmapTagIndex.addAll(tagNamesByRoadmapId);
+
+        // then
+        assertThat(roadmapTagIndex.search(List.of("자바"))).containsExactly(1L, 3L);
+        assertThat(roadmapTagIndex.search(List.of("스프링"))).containsExactly(2L, 3L);
+        assertThat(roadmapTagIndex.search(List.of("java"))).containsExactly(1L);
+    }
+
+    @Test
+    void 이미_색인된_로드맵을_한_번에_다시_색인하면_이전_태그로는_찾지_않는다() {
+        // given
+        roadmapTagIndex.add(1L, List.of("자바"));
+        roadmapTagIndex.add(2L, List.of("자바", "스프링"));
+
+        // when
+        roadmapTagIndex.addAll(Map.of(1L, List.of("코틀린"), 2L, List.of("자바")));
+
+        // then
+        assertThat(roadmapTagIndex.search(List.of("자바"))).containsExactly(2L);
+        assertThat(roadmapTagIndex.search(List.of("코틀린"))).containsExactly(1L);
+        assertThat(roadmapTagIndex.search(List.of("스프링"))).isEmpty();
+    }
+
+    @Test
+    void 색인을_비우면_아무것도_찾지_않는다() {
+        // given
+        roadmapTagIndex.add(1L, List.of("자바"));
+
+        // when
+        roadmapTagIndex.clear();
+
+        // then
+        assertThat(roadmapTagIndex.search(List.of("자바"))).isEmpty();
+        assertThat(roadmapTagIndex.search(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,179 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.persistence.scheduler.SchedulerLeaseRepository;
+import co.kirikiri.service.dto.IdRange;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaseManagerTest {
+
+    private static final String JOB_NAME = "job";
+    private static final long LOCK_AT_MOST_FOR = 3_600_000L;
+    private static final long LOCK_AT_LEAST_FOR = 60_000L;
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLeaseManager = new SchedulerLeaseManager(schedulerLeaseRepository, LOCK_AT_MOST_FOR,
+                LOCK_AT_LEAST_FOR);
+    }
+
+    @Test
+    void 만료된_작업_임대를_선점하면_작업을_실행하고_최소_유지_시간까지_임대를_유지한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME), anyString(), eq(LOCK_AT_MOST_FOR * 1000)))
+                .willReturn(1);
+        final List<String> executedJobs = new ArrayList<>();
+
+        // when
+        final boolean executed = schedulerLeaseManager.runExclusively(JOB_NAME, () -> executedJobs.add(JOB_NAME));
+
+        // then
+        final ArgumentCaptor<String> acquiredOwnerCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<String> releasedOwnerCaptor = ArgumentCaptor.forClass(String.class);
+        verify(schedulerLeaseRepository).acquire(eq(JOB_NAME), acquiredOwnerCaptor.capture(), anyLong());
+        verify(schedulerLeaseRepository).release(eq(JOB_NAME), releasedOwnerCaptor.capture(),
+                eq(LOCK_AT_LEAST_FOR * 1000));
+        assertAll(
+                () -> assertThat(executed).isTrue(),
+                () -> assertThat(executedJobs).containsExactly(JOB_NAME),
+                () -> assertThat(releasedOwnerCaptor.getValue()).isEqualTo(acquiredOwnerCaptor.getValue())
+        );
+    }
+
+    @Test
+    void 작업을_실행할_때마다_다른_소유자로_작업_임대를_선점한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME), anyString(), anyLong()))
+                .willReturn(1);
+
+        // when
+        schedulerLeaseManager.runExclusively(JOB_NAME, () -> {
+        });
+        schedulerLeaseManager.runExclusively(JOB_NAME, () -> {
+        });
+
+        // then
+        final ArgumentCaptor<String> ownerCaptor = ArgumentCaptor.forClass(String.class);
+        verify(schedulerLeaseRepository, times(2)).acquire(eq(JOB_NAME), ownerCaptor.capture(), anyLong());
+        assertThat(ownerCaptor.getAllValues()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 처음_실행하는_작업이라면_작업_임대를_생성하고_실행한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME), anyString(), anyLong()))
+                .willReturn(0);
+        given(schedulerLeaseRepository.create(eq(JOB_NAME), anyString(), anyLong()))
+                .willReturn(1);
+        final List<String> executedJobs = new ArrayList<>();
+
+        // when
+        final boolean executed = schedulerLeaseManager.runExclusively(JOB_NAME, () -> executedJobs.add(JOB_NAME));
+
+        // then
+        assertAll(
+                () -> assertThat(executed).isTrue(),
+                () -> assertThat(executedJobs).containsExactly(JOB_NAME)
+        );
+    }
+
+    @Test
+    void 다른_인스턴스가_작업_임대를_가지고_있다면_작업을_실행하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME), anyString(), anyLong()))
+                .willReturn(0);
+        given(schedulerLeaseRepository.create(eq(JOB_NAME), anyString(), anyLong()))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        final List<String> executedJobs = new ArrayList<>();
+
+        // when
+        final boolean executed = schedulerLeaseManager.runExclusively(JOB_NAME, () -> executedJobs.add(JOB_NAME));
+
+        // then
+        assertAll(
+                () -> assertThat(executed).isFalse(),
+                () -> assertThat(executedJobs).isEmpty()
+        );
+        verify(schedulerLeaseRepository, never()).release(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void 작업이_실패해도_작업_임대를_반납한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME), anyString(), anyLong()))
+                .willReturn(1);
+
+        // when
+        // then
+        assertThatThrownBy(() -> schedulerLeaseManager.runExclusively(JOB_NAME, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        verify(schedulerLeaseRepository).release(eq(JOB_NAME), anyString(), anyLong());
+    }
+
+    @Test
+    void 아이디_범위를_나눠_선점한_구간만_실행하고_마지막_구간은_끝까지_포함한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME + "#0"), anyString(), anyLong()))
+                .willReturn(1);
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME + "#1"), anyString(), anyLong()))
+                .willReturn(0);
+        given(schedulerLeaseRepository.create(eq(JOB_NAME + "#1"), anyString(), anyLong()))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME + "#2"), anyString(), anyLong()))
+                .willReturn(1);
+        final List<IdRange> executedRanges = new ArrayList<>();
+
+        // when
+        final int executedCount = schedulerLeaseManager.runPartitioned(JOB_NAME, 2500L, 1000L,
+                executedRanges::add);
+
+        // then
+        assertAll(
+                () -> assertThat(executedCount).isEqualTo(2),
+                () -> assertThat(executedRanges).containsExactly(new IdRange(0L, 1000L),
+                        new IdRange(2000L, Long.MAX_VALUE))
+        );
+    }
+
+    @Test
+    void 아이디가_없다면_전체를_하나의_구간으로_실행한다() {
+        // given
+        given(schedulerLeaseRepository.acquire(eq(JOB_NAME + "#0"), anyString(), anyLong()))
+                .willReturn(1);
+        final List<IdRange> executedRanges = new ArrayList<>();
+
+        // when
+        final int executedCount = schedulerLeaseManager.runPartitioned(JOB_NAME, 0L, 1000L, executedRanges::add);
+
+        // then
+        assertAll(
+                () -> assertThat(executedCount).isEqualTo(1),
+                () -> assertThat(executedRanges).containsExactly(new IdRange(0L, Long.MAX_VALUE))
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.persistence.file.StoredFileRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class StoredFileCollectorTest {
+
+    private static final LocalDateTime RELEASED_BEFORE = LocalDateTime.of(2023, 8, 15, 12, 0);
+    private static final String SERVER_FILE_PATH = "/content/8b/8be97fc7.jpeg";
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    @Mock
+    private FileService fileService;
+
+    @InjectMocks
+    private StoredFileCollector storedFileCollector;
+
+    @Test
+    void 유예_기간이_지난_참조되지_않는_파일을_조회한다() {
+        // given
+        final StoredFile storedFile = mock(StoredFile.class);
+        given(storedFileRepository.findReleasedBefore(RELEASED_BEFORE, 0L, PageRequest.ofSize(100)))
+                .willReturn(List.of(storedFile));
+
+        // when
+        final List<StoredFile> storedFiles = storedFileCollector.findCollectTargets(RELEASED_BEFORE, 0L, 100);
+
+        // then
+        assertThat(storedFiles).containsExactly(storedFile);
+    }
+
+    @Test
+    void 파일_정보를_삭제한_뒤_원본과_파생_이미지를_저장소에서_삭제한다() {
+        // given
+        final StoredFile storedFile = 저장된_파일을_생성한다("/content/8b/thumbnail.jpeg", "/content/8b/medium.jpeg");
+        given(storedFileRepository.deleteReleasedBefore(1L, RELEASED_BEFORE))
+                .willReturn(1);
+
+        // when
+        final boolean collected = storedFileCollector.collect(storedFile, RELEASED_BEFORE);
+
+        // then
+        assertThat(collected).isTrue();
+        final InOrder inOrder = inOrder(storedFileRepository, fileService);
+        inOrder.verify(storedFileRepository).deleteReleasedBefore(1L, RELEASED_BEFORE);
+        inOrder.verify(fileService).delete(SERVER_FILE_PATH);
+        inOrder.verify(fileService).delete("/content/8b/thumbnail.jpeg");
+        inOrder.verify(fileService).delete("/content/8b/medium.jpeg");
+    }
+
+    @Test
+    void 파생_이미지가_없으면_원본만_삭제한다() {
+        // given
+        final StoredFile storedFile = 저장된_파일을_생성한다(null, null);
+        given(storedFileRepository.deleteReleasedBefore(1L, RELEASED_BEFORE))
+                .willReturn(1);
+
+        // when
+        storedFileCollector.collect(storedFile, RELEASED_BEFORE);
+
+        // then
+        verify(fileService).delete(SERVER_FILE_PATH);
+        verify(fileService, never()).delete(null);
+    }
+
+    @Test
+    void 그_사이_다시_참조된_파일은_저장소에서_삭제하지_않는다() {
+        // given
+        final StoredFile storedFile = mock(StoredFile.class);
+        given(storedFile.getId())
+                .willReturn(1L);
+        given(storedFileRepository.deleteReleasedBefore(1L, RELEASED_BEFORE))
+                .willReturn(0);
+
+        // when
+        final boolean collected = storedFileCollector.collect(storedFile, RELEASED_BEFORE);
+
+        // then
+        assertThat(collected).isFalse();
+        verify(fileService, never()).delete(anyString());
+    }
+
+    private StoredFile 저장된_파일을_생성한다(final String thumbnailFilePath, final String mediumFilePath) {
+        final StoredFile storedFile = mock(StoredFile.class);
+        given(storedFile.getId())
+                .willReturn(1L);
+        given(storedFile.getServerFilePath())
+                .willReturn(SERVER_FILE_PATH);
+        given(storedFile.getThumbnailFilePath())
+                .willReturn(thumbnailFilePath);
+        given(storedFile.getMediumFilePath())
+                .willReturn(mediumFilePath);
+        return storedFile;
+    }
+}
@@ -0,0 +1,119 @@
+package co.kirikiri.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import co.kirikiri.domain.file.StoredFile;
+import co.kirikiri.exception.ServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoredFileSchedulerTest {
+
+    private static final long GRACE_PERIOD_MINUTES = 60;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private StoredFileCollector storedFileCollector;
+
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StoredFileScheduler storedFileScheduler;
+
+    @BeforeEach
+    void setUp() {
+        storedFileScheduler = new StoredFileScheduler(storedFileCollector, schedulerLeaseManager,
+                GRACE_PERIOD_MINUTES, CHUNK_SIZE, meterRegistry);
+    }
+
+    @Test
+    void 유예_기간이_지난_참조되지_않는_파일을_나누어_삭제한다() {
+        // given
+        작업_실행_권한을_얻는다();
+        final StoredFile first = mock(StoredFile.class);
+        final StoredFile second = 저장된_파일을_생성한다(2L);
+        final StoredFile third = 저장된_파일을_생성한다(3L);
+        given(storedFileCollector.findCollectTargets(any(), eq(0L), eq(CHUNK_SIZE)))
+                .willReturn(List.of(first, second));
+        given(storedFileCollector.findCollectTargets(any(), eq(2L), eq(CHUNK_SIZE)))
+                .willReturn(List.of(third));
+        given(storedFileCollector.findCollectTargets(any(), eq(3L), eq(CHUNK_SIZE)))
+                .willReturn(List.of());
+        given(storedFileCollector.collect(eq(first), any()))
+                .willReturn(true);
+        given(storedFileCollector.collect(eq(second), any()))
+                .willReturn(false);
+        given(storedFileCollector.collect(eq(third), any()))
+                .willReturn(true);
+
+        // when
+        final LocalDateTime before = LocalDateTime.now();
+        storedFileScheduler.collectStoredFiles();
+
+        // then
+        final ArgumentCaptor<LocalDateTime> releasedBeforeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(storedFileCollector).findCollectTargets(releasedBeforeCaptor.capture(), eq(0L), eq(CHUNK_SIZE));
+        assertAll(
+                () -> assertThat(releasedBeforeCaptor.getValue())
+                        .isBeforeOrEqualTo(LocalDateTime.now().minusMinutes(GRACE_PERIOD_MINUTES))
+                        .isAfterOrEqualTo(before.minusMinutes(GRACE_PERIOD_MINUTES)),
+                () -> assertThat(meterRegistry.get("stored-file.collected").counter().count()).isEqualTo(2),
+                () -> assertThat(meterRegistry.get("scheduler.job.duration")
+                        .tag("job", "stored-file.collect").timer().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 저장소_삭제에_실패한_파일은_건너뛰고_다음_파일을_삭제한다() {
+        // given
+        작업_실행_권한을_얻는다();
+        final StoredFile failed = mock(StoredFile.class);
+        final StoredFile collected = 저장된_파일을_생성한다(2L);
+        given(storedFileCollector.findCollectTargets(any(), eq(0L), eq(CHUNK_SIZE)))
+                .willReturn(List.of(failed, collected));
+        given(storedFileCollector.findCollectTargets(any(), eq(2L), eq(CHUNK_SIZE)))
+                .willReturn(List.of());
+        given(storedFileCollector.collect(eq(failed), any()))
+                .willThrow(new ServerException("저장소에 연결할 수 없습니다."));
+        given(storedFileCollector.collect(eq(collected), any()))
+                .willReturn(true);
+
+        // when
+        storedFileScheduler.collectStoredFiles();
+
+        // then
+        verify(storedFileCollector).collect(eq(collected), any());
+        assertThat(meterRegistry.get("stored-file.collected").counter().count()).isEqualTo(1);
+    }
+
+    private StoredFile 저장된_파일을_생성한다(final Long id) {
+        final StoredFile storedFile = mock(StoredFile.class);
+        given(storedFile.getId())
+                .willReturn(id);
+        return storedFile;
+    }
+
+    private void 작업_실행_권한을_얻는다() {
+        given(schedulerLeaseManager.runExclusively(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+    }
+}